@@ -105,6 +105,7 @@ import com.hedera.node.app.tss.TssBaseService;
 import com.hedera.node.app.version.HederaSoftwareVersion;
 import com.hedera.node.app.version.ServicesSoftwareVersion;
 import com.hedera.node.app.workflows.handle.HandleWorkflow;
+import com.hedera.node.app.workflows.handle.metric.ReadWriteSetListener;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
 import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.node.config.Utils;
@@ -305,6 +306,12 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener, A
      */
     private final KVStateChangeListener kvStateChangeListener = new KVStateChangeListener();
 
+    /**
+     * A {@link StateChangeListener} that records the keys each user transaction reads and writes, registered with
+     * every {@link MerkleStateRoot} only if transaction conflicts are tracked.
+     */
+    private final ReadWriteSetListener readWriteSetListener = new ReadWriteSetListener();
+
     /**
      * The state root supplier to use for creating a new state root.
      */
@@ -407,7 +414,12 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener, A
             final Supplier<MerkleStateRoot> baseSupplier =
                     () -> new MerkleStateRoot(new MerkleStateLifecyclesImpl(this), ServicesSoftwareVersion::new);
             final var blockStreamsEnabled = isBlockStreamEnabled();
-            stateRootSupplier = blockStreamsEnabled ? () -> withListeners(baseSupplier.get()) : baseSupplier;
+            final Supplier<MerkleStateRoot> blockStreamsSupplier =
+                    blockStreamsEnabled ? () -> withListeners(baseSupplier.get()) : baseSupplier;
+            stateRootSupplier =
+                    bootstrapConfig.getConfigData(HederaConfig.class).workflowConflictTrackingEnabled()
+                            ? () -> withReadWriteSetListener(blockStreamsSupplier.get())
+                            : blockStreamsSupplier;
             onSealConsensusRound = blockStreamsEnabled ? this::manageBlockEndRound : (round, state) -> {};
             // And the factory for the MerkleStateRoot class id must be our constructor
             constructableRegistry.registerConstructable(
@@ -515,6 +527,7 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener, A
         this.platform = requireNonNull(platform);
         this.metrics = platform.getContext().getMetrics();
         this.configProvider = new ConfigProviderImpl(trigger == GENESIS, metrics);
+        contractServiceImpl.registerMetrics(metrics);
         logger.info(
                 "Initializing Hedera state version {} in {} mode with trigger {} and previous version {}",
                 version,
@@ -968,6 +981,7 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener, A
                 .instantSource(instantSource)
                 .metrics(metrics)
                 .kvStateChangeListener(kvStateChangeListener)
+                .readWriteSetListener(readWriteSetListener)
                 .boundaryStateChangeListener(boundaryStateChangeListener)
                 .migrationStateChanges(migrationStateChanges)
                 .initialStateHash(initialStateHash)
@@ -1111,6 +1125,11 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener, A
         return root;
     }
 
+    private MerkleStateRoot withReadWriteSetListener(@NonNull final MerkleStateRoot root) {
+        root.registerCommitListener(readWriteSetListener);
+        return root;
+    }
+
     private void manageBlockEndRound(@NonNull final Round round, @NonNull final State state) {
         daggerApp.blockStreamManager().endRound(state, round.getRoundNum());
     }
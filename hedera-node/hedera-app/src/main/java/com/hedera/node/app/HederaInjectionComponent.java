@@ -52,6 +52,7 @@ import com.hedera.node.app.tss.TssBaseService;
 import com.hedera.node.app.workflows.FacilityInitModule;
 import com.hedera.node.app.workflows.WorkflowsInjectionModule;
 import com.hedera.node.app.workflows.handle.HandleWorkflow;
+import com.hedera.node.app.workflows.handle.metric.ReadWriteSetListener;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
 import com.hedera.node.app.workflows.ingest.SubmissionManager;
 import com.hedera.node.app.workflows.prehandle.PreHandleWorkflow;
@@ -191,6 +192,9 @@ public interface HederaInjectionComponent {
         @BindsInstance
         Builder kvStateChangeListener(KVStateChangeListener kvStateChangeListener);
 
+        @BindsInstance
+        Builder readWriteSetListener(ReadWriteSetListener readWriteSetListener);
+
         @BindsInstance
         Builder migrationStateChanges(List<StateChanges.Builder> migrationStateChanges);
 
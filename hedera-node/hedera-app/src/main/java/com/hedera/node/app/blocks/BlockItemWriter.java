@@ -51,7 +51,8 @@ public interface BlockItemWriter {
     BlockItemWriter writeItem(@NonNull byte[] bytes);
 
     /**
-     * Writes a pre-serialized sequence of items to the destination stream.
+     * Writes a pre-serialized sequence of items to the destination stream. The buffer backing the data may be
+     * reused once this method returns, so an implementation must not retain a reference to it.
      *
      * @param data the serialized item to write
      */
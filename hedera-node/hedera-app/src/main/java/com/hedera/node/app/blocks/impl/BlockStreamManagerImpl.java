@@ -26,7 +26,6 @@ import static com.hedera.node.app.blocks.BlockStreamManager.PendingWork.POST_UPG
 import static com.hedera.node.app.blocks.impl.BlockImplUtils.appendHash;
 import static com.hedera.node.app.blocks.impl.BlockImplUtils.combine;
 import static com.hedera.node.app.blocks.schemas.V0560BlockStreamSchema.BLOCK_STREAM_INFO_KEY;
-import static com.hedera.node.app.hapi.utils.CommonUtils.sha384DigestOrThrow;
 import static com.hedera.node.app.records.BlockRecordService.EPOCH;
 import static com.hedera.node.app.records.impl.BlockRecordInfoUtils.HASH_SIZE;
 import static com.hedera.pbj.runtime.ProtoConstants.WIRE_TYPE_DELIMITED;
@@ -84,6 +83,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -106,6 +106,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
 
     private final BlockHashManager blockHashManager;
     private final RunningHashManager runningHashManager;
+    private final SerializationBufferPool bufferPool = new SerializationBufferPool();
 
     // The status of pending work
     private PendingWork pendingWork = NONE;
@@ -297,7 +298,8 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
             ((CommittableWritableStates) writableState).commit();
 
             // Serialize and hash the final block item
-            final var finalWork = new ScheduledWork(List.of(boundaryStateChangeListener.flushChanges()));
+            final var finalWork =
+                    new ScheduledWork(List.of(boundaryStateChangeListener.flushChanges()), bufferPool);
             final var finalOutput = finalWork.computeOutput();
             // Ensure we only write and incorporate the final hash after all preceding work is done
             writeFuture.join();
@@ -430,7 +432,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
     }
 
     private void schedulePendingWork() {
-        final var scheduledWork = new ScheduledWork(pendingItems);
+        final var scheduledWork = new ScheduledWork(pendingItems, bufferPool);
         final var pendingOutput = CompletableFuture.supplyAsync(scheduledWork::computeOutput, executor);
         writeFuture = writeFuture.thenCombine(pendingOutput, this::combineOutput);
         pendingItems = new ArrayList<>();
@@ -468,16 +470,26 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
      * </ol>
      */
     private static class ScheduledWork {
+        private static final ThreadLocal<MessageDigest> DIGESTS =
+                ThreadLocal.withInitial(CommonUtils::sha384DigestOrThrow);
+
         private final List<BlockItem> items;
+        private final SerializationBufferPool bufferPool;
 
+        /**
+         * The output of a {@link ScheduledWork}; its {@code serializedItems} buffer backs the {@code data} and
+         * must be returned to the pool it came from once the data is written.
+         */
         public record Output(
+                @NonNull ByteBuffer serializedItems,
                 @NonNull BufferedData data,
                 @NonNull ByteBuffer inputHashes,
                 @NonNull ByteBuffer outputHashes,
                 @NonNull ByteBuffer resultHashes) {}
 
-        public ScheduledWork(@NonNull final List<BlockItem> items) {
+        public ScheduledWork(@NonNull final List<BlockItem> items, @NonNull final SerializationBufferPool bufferPool) {
             this.items = requireNonNull(items);
+            this.bufferPool = requireNonNull(bufferPool);
         }
 
         /**
@@ -513,9 +525,9 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
             final var inputHashes = new byte[numInputs * HASH_SIZE];
             final var outputHashes = new byte[numOutputs * HASH_SIZE];
             final var resultHashes = ByteBuffer.allocate(numResults * HASH_SIZE);
-            final var serializedItems = ByteBuffer.allocate(size);
+            final var serializedItems = bufferPool.acquire(size);
             final var data = BufferedData.wrap(serializedItems);
-            final var digest = sha384DigestOrThrow();
+            final var digest = DIGESTS.get();
             var j = 0;
             var k = 0;
             for (var i = 0; i < n; i++) {
@@ -544,7 +556,12 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                 }
             }
             data.flip();
-            return new Output(data, ByteBuffer.wrap(inputHashes), ByteBuffer.wrap(outputHashes), resultHashes.flip());
+            return new Output(
+                    serializedItems,
+                    data,
+                    ByteBuffer.wrap(inputHashes),
+                    ByteBuffer.wrap(outputHashes),
+                    resultHashes.flip());
         }
 
         private void finish(@NonNull final MessageDigest digest, final byte[] hashes, final int offset) {
@@ -566,6 +583,8 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
      */
     private Void combineOutput(@Nullable Void ignore, @NonNull final ScheduledWork.Output output) {
         writer.writeItems(output.data());
+        // The writer is done with the serialized items, so their buffer can be reused by later work
+        bufferPool.release(output.serializedItems());
         while (output.inputHashes().hasRemaining()) {
             inputTreeHasher.addLeaf(output.inputHashes());
         }
@@ -582,6 +601,55 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
         return config.getConfigData(VersionConfig.class).hapiVersion();
     }
 
+    /**
+     * A pool of the heap buffers that batches of items are serialized into. Batches are of similar sizes, so
+     * reusing their buffers saves allocating (and zeroing) a fresh buffer of tens of kilobytes for every batch.
+     * Buffers are acquired on the threads computing the {@link ScheduledWork} and released on the thread
+     * combining its output, so the pool is thread-safe; at most {@link #MAX_POOLED_BUFFERS} idle buffers are kept.
+     */
+    @VisibleForTesting
+    static class SerializationBufferPool {
+        static final int MAX_POOLED_BUFFERS = 16;
+
+        private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger numPooled = new AtomicInteger();
+
+        /**
+         * Returns a cleared buffer with at least the given capacity, reusing a pooled buffer if possible.
+         *
+         * @param capacity the minimum capacity of the buffer
+         * @return the buffer
+         */
+        ByteBuffer acquire(final int capacity) {
+            final var buffer = buffers.poll();
+            if (buffer == null) {
+                return ByteBuffer.allocate(capacity);
+            }
+            numPooled.decrementAndGet();
+            // A pooled buffer that is too small is dropped, so the pool grows to fit the largest batches
+            return buffer.capacity() >= capacity ? buffer.clear() : ByteBuffer.allocate(capacity);
+        }
+
+        /**
+         * Returns a buffer to the pool; the caller must not use it afterward.
+         *
+         * @param buffer the buffer to return
+         */
+        void release(@NonNull final ByteBuffer buffer) {
+            requireNonNull(buffer);
+            if (numPooled.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+                buffers.add(buffer);
+            } else {
+                numPooled.decrementAndGet();
+            }
+        }
+
+        @VisibleForTesting
+        int size() {
+            return numPooled.get();
+        }
+    }
+
     private static class RunningHashManager {
         private static final ThreadLocal<byte[]> HASHES = ThreadLocal.withInitial(() -> new byte[HASH_SIZE]);
         private static final ThreadLocal<MessageDigest> DIGESTS =
@@ -21,6 +21,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.block.stream.schema.BlockSchema;
 import com.hedera.node.app.blocks.BlockItemWriter;
+import com.hedera.node.app.util.ParallelGzipOutputStream;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.pbj.runtime.ProtoConstants;
@@ -37,6 +38,7 @@ import java.math.BigInteger;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 import java.util.zip.GZIPOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -57,6 +59,15 @@ public class FileBlockItemWriter implements BlockItemWriter {
     /** Whether to compress the block files. */
     private final boolean compressFiles;
 
+    /** If greater than one, the number of gzip members of a block file compressed concurrently. */
+    private final int compressionParallelism;
+
+    /** The size in bytes of the data compressed into each gzip member when compressing concurrently. */
+    private final int compressionMemberSize;
+
+    /** The executor on which gzip members are compressed when compressing concurrently. */
+    private final Executor compressionExecutor;
+
     /** The node-specific path to the directory where block files are written */
     private final Path nodeScopedBlockDir;
 
@@ -84,19 +95,25 @@ public class FileBlockItemWriter implements BlockItemWriter {
      * @param configProvider configuration provider
      * @param nodeInfo information about the current node
      * @param fileSystem the file system to use for writing block files
+     * @param compressionExecutor the executor on which block files are compressed in parallel
      */
     public FileBlockItemWriter(
             @NonNull final ConfigProvider configProvider,
             @NonNull final NodeInfo nodeInfo,
-            @NonNull final FileSystem fileSystem) {
+            @NonNull final FileSystem fileSystem,
+            @NonNull final Executor compressionExecutor) {
         requireNonNull(configProvider, "The supplied argument 'configProvider' cannot be null!");
         requireNonNull(nodeInfo, "The supplied argument 'nodeInfo' cannot be null!");
         requireNonNull(fileSystem, "The supplied argument 'fileSystem' cannot be null!");
+        this.compressionExecutor =
+                requireNonNull(compressionExecutor, "The supplied argument 'compressionExecutor' cannot be null!");
 
         this.state = State.UNINITIALIZED;
         final var config = configProvider.getConfiguration();
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
         this.compressFiles = blockStreamConfig.compressFilesOnCreation();
+        this.compressionParallelism = blockStreamConfig.compressionParallelism();
+        this.compressionMemberSize = blockStreamConfig.compressionMemberSizeKb() * 1024;
 
         // Compute directory for block files
         final Path blockDir = fileSystem.getPath(blockStreamConfig.blockFileDir());
@@ -122,7 +139,12 @@ public class FileBlockItemWriter implements BlockItemWriter {
         try {
             out = Files.newOutputStream(blockFilePath);
             out = new BufferedOutputStream(out, 1024 * 1024); // 1 MB
-            if (compressFiles) {
+            if (compressFiles && compressionParallelism > 1) {
+                // Compresses independent gzip members on the common pool, while the members are written in order;
+                // this stream buffers a whole member itself, and its writes are not synchronized
+                out = new ParallelGzipOutputStream(
+                        out, compressionExecutor, compressionMemberSize, compressionParallelism);
+            } else if (compressFiles) {
                 out = new GZIPOutputStream(out, 1024 * 256); // 256 KB
                 // By wrapping the GZIPOutputStream in a BufferedOutputStream, the code reduces the number of write
                 // operations to the GZIPOutputStream, and therefore the number of synchronized calls. Instead of
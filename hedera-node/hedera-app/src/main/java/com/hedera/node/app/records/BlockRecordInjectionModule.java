@@ -28,12 +28,16 @@ import com.hedera.node.app.records.impl.producers.formats.v7.BlockRecordFormatV7
 import com.hedera.node.app.state.WorkingStateAccessor;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockRecordStreamConfig;
+import com.hedera.node.config.data.BlockStreamConfig;
 import dagger.Binds;
 import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 /** A Dagger module for facilities in the {@link com.hedera.node.app.records} package. */
@@ -51,6 +55,25 @@ public abstract class BlockRecordInjectionModule {
         return FileSystems.getDefault();
     }
 
+    /**
+     * Provides the bounded executor on which record and block stream files are gzip-compressed in parallel; it is
+     * sized by the larger of the two streams' compression parallelism, and kept apart from the common pool.
+     */
+    @Provides
+    @Singleton
+    @Named("StreamCompression")
+    static Executor provideStreamCompressionExecutor(@NonNull final ConfigProvider configProvider) {
+        final var config = configProvider.getConfiguration();
+        final int parallelism = Math.max(
+                config.getConfigData(BlockRecordStreamConfig.class).compressionParallelism(),
+                config.getConfigData(BlockStreamConfig.class).compressionParallelism());
+        return new ForkJoinPool(
+                parallelism,
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+                Thread.getDefaultUncaughtExceptionHandler(),
+                true);
+    }
+
     /**
      * Provides a {@link BlockRecordStreamProducer} based on the configuration. It is possible to use a concurrent producer,
      * or a single-threaded producer, based on configuration.
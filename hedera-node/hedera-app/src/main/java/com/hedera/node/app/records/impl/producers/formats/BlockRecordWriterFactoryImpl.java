@@ -27,7 +27,9 @@ import com.swirlds.common.stream.Signer;
 import com.swirlds.state.spi.info.NodeInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.FileSystem;
+import java.util.concurrent.Executor;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 @Singleton
@@ -36,23 +38,27 @@ public class BlockRecordWriterFactoryImpl implements BlockRecordWriterFactory {
     private final Signer signer;
     private final NodeInfo selfNodeInfo;
     private final FileSystem fileSystem;
+    private final Executor compressionExecutor;
 
     /**
      *
      * @param configProvider
      * @param fileSystem the file system to use, needed for testing to be able to use a non-standard file
      *                   system. If null default is used.
+     * @param compressionExecutor the executor on which record files are compressed in parallel
      */
     @Inject
     public BlockRecordWriterFactoryImpl(
             @NonNull final ConfigProvider configProvider,
             @NonNull final NodeInfo selfNodeInfo,
             @NonNull final Signer signer,
-            @NonNull final FileSystem fileSystem) {
+            @NonNull final FileSystem fileSystem,
+            @NonNull @Named("StreamCompression") final Executor compressionExecutor) {
         this.configProvider = requireNonNull(configProvider);
         this.fileSystem = requireNonNull(fileSystem);
         this.selfNodeInfo = requireNonNull(selfNodeInfo);
         this.signer = requireNonNull(signer);
+        this.compressionExecutor = requireNonNull(compressionExecutor);
     }
 
     @Override
@@ -68,7 +74,8 @@ public class BlockRecordWriterFactoryImpl implements BlockRecordWriterFactory {
                     configProvider.getConfiguration().getConfigData(BlockRecordStreamConfig.class),
                     selfNodeInfo,
                     signer,
-                    fileSystem);
+                    fileSystem,
+                    compressionExecutor);
             case 7 -> throw new IllegalArgumentException("Record file version 7 is not yet supported");
             default -> throw new IllegalArgumentException("Unknown record file version: " + recordFileVersion);
         };
@@ -39,6 +39,7 @@ import com.hedera.hapi.streams.RecordStreamItem;
 import com.hedera.hapi.streams.SidecarMetadata;
 import com.hedera.node.app.records.impl.producers.BlockRecordWriter;
 import com.hedera.node.app.records.impl.producers.SerializedSingleTransactionRecord;
+import com.hedera.node.app.util.ParallelGzipOutputStream;
 import com.hedera.node.config.data.BlockRecordStreamConfig;
 import com.hedera.pbj.runtime.ProtoWriterTools;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -61,6 +62,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.zip.GZIPOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -91,6 +93,12 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     private final int maxSideCarSizeInBytes;
     /** Whether to compress the record file and sidecar files. */
     private final boolean compressFiles;
+    /** If greater than one, the number of gzip members of the record file compressed concurrently. */
+    private final int compressionParallelism;
+    /** The size in bytes of the data compressed into each gzip member when compressing concurrently. */
+    private final int compressionMemberSize;
+    /** The executor on which gzip members are compressed when compressing concurrently. */
+    private final Executor compressionExecutor;
     /** The node-specific path to the directory where record files are written */
     private final Path nodeScopedRecordDir;
     /**
@@ -134,8 +142,11 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     private Path recordFilePath;
     /** The file output stream we are writing to, which writes to {@link #recordFilePath} */
     private OutputStream fileOutputStream;
-    /** The gzip output stream we are writing to, wraps {@link #fileOutputStream} */
-    private GZIPOutputStream gzipOutputStream = null;
+    /**
+     * The gzip output stream we are writing to, wraps {@link #fileOutputStream}; either a {@link GZIPOutputStream}
+     * or a {@link ParallelGzipOutputStream}
+     */
+    private OutputStream gzipOutputStream = null;
     /** HashingOutputStream for hashing the file contents, wraps {@link #gzipOutputStream} or {@link #fileOutputStream} */
     private HashingOutputStream hashingOutputStream;
     /** The buffered output stream we are writing to, wraps {@link #hashingOutputStream} */
@@ -154,12 +165,14 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
      *                 where the file will be written.
      * @param signer The signer to use to sign the file bytes to produce the signature file
      * @param fileSystem The file system to use to write the file
+     * @param compressionExecutor The executor on which the record file is compressed in parallel
      */
     public BlockRecordWriterV6(
             @NonNull final BlockRecordStreamConfig config,
             @NonNull final NodeInfo nodeInfo,
             @NonNull final Signer signer,
-            @NonNull final FileSystem fileSystem) {
+            @NonNull final FileSystem fileSystem,
+            @NonNull final Executor compressionExecutor) {
 
         if (config.recordFileVersion() != 6) {
             logger.fatal(
@@ -177,7 +190,10 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
 
         this.state = State.UNINITIALIZED;
         this.signer = requireNonNull(signer);
+        this.compressionExecutor = requireNonNull(compressionExecutor);
         this.compressFiles = config.compressFilesOnCreation();
+        this.compressionParallelism = config.compressionParallelism();
+        this.compressionMemberSize = config.compressionMemberSizeKb() * 1024;
         this.maxSideCarSizeInBytes = config.sidecarMaxSizeMb() * 1024 * 1024;
 
         // Compute directories for record and sidecar files
@@ -224,7 +240,13 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
         try {
             fileOutputStream = Files.newOutputStream(recordFilePath);
             if (compressFiles) {
-                gzipOutputStream = new GZIPOutputStream(fileOutputStream);
+                gzipOutputStream = compressionParallelism > 1
+                        ? new ParallelGzipOutputStream(
+                                fileOutputStream,
+                                compressionExecutor,
+                                compressionMemberSize,
+                                compressionParallelism)
+                        : new GZIPOutputStream(fileOutputStream);
                 hashingOutputStream = new HashingOutputStream(createWholeFileMessageDigest(), gzipOutputStream);
             } else {
                 hashingOutputStream = new HashingOutputStream(createWholeFileMessageDigest(), fileOutputStream);
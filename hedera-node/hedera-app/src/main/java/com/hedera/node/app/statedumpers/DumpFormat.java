@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Enumerates the formats in which the network state can be dumped.
+ */
+public enum DumpFormat {
+    /**
+     * Sorted, human-readable text reports, one per child.
+     */
+    TEXT,
+    /**
+     * Memory-mappable columnar segments, queryable offline with
+     * {@link com.hedera.node.app.statedumpers.columnar.ColumnarDumpQuery}; only
+     * written for the large on-disk children (accounts, NFTs, tokens and token
+     * relations).
+     */
+    COLUMNAR;
+
+    /**
+     * Returns the formats selected by the {@code dumpFormats} system property,
+     * or just {@link #TEXT} if it is not set.
+     *
+     * @return the selected formats
+     */
+    public static Set<DumpFormat> selectedDumpFormats() {
+        if (formats == null) {
+            final var literalSelection =
+                    Optional.ofNullable(System.getProperty("dumpFormats")).orElse("");
+            formats = literalSelection.isEmpty()
+                    ? EnumSet.of(TEXT)
+                    : Arrays.stream(literalSelection.split(","))
+                            .map(DumpFormat::valueOf)
+                            .collect(Collectors.toCollection(() -> EnumSet.noneOf(DumpFormat.class)));
+            System.out.println("Dumping in formats: " + formats);
+        }
+        return formats;
+    }
+
+    private static Set<DumpFormat> formats = null;
+}
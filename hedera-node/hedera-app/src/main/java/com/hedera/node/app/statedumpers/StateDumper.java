@@ -31,6 +31,7 @@ import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TO
 import static com.hedera.node.app.state.recordcache.schemas.V0490RecordCacheSchema.TXN_RECORD_QUEUE;
 import static com.hedera.node.app.statedumpers.accounts.AccountDumpUtils.dumpModAccounts;
 import static com.hedera.node.app.statedumpers.associations.TokenAssociationsDumpUtils.dumpModTokenRelations;
+import static com.hedera.node.app.statedumpers.columnar.ColumnarDumpUtils.dumpColumnar;
 import static com.hedera.node.app.statedumpers.contracts.ContractBytecodesDumpUtils.dumpModContractBytecodes;
 import static com.hedera.node.app.statedumpers.files.FilesDumpUtils.dumpModFiles;
 import static com.hedera.node.app.statedumpers.nfts.UniqueTokenDumpUtils.dumpModUniqueTokens;
@@ -82,6 +83,7 @@ import com.hedera.node.app.service.file.FileService;
 import com.hedera.node.app.service.file.impl.schemas.V0490FileSchema;
 import com.hedera.node.app.service.schedule.ScheduleService;
 import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.statedumpers.columnar.ColumnarDumpUtils;
 import com.hedera.node.app.state.recordcache.RecordCacheService;
 import com.hedera.node.app.throttle.CongestionThrottleService;
 import com.swirlds.platform.state.MerkleStateRoot;
@@ -95,6 +97,7 @@ import com.swirlds.virtualmap.VirtualMap;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.File;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.Optional;
@@ -119,6 +122,9 @@ public class StateDumper {
     private static final String SEMANTIC_TXN_RECORD_QUEUE = "transactionRecords.txt";
     private static final String SEMANTIC_CONGESTION = "congestion.txt";
 
+    private static final String COLUMNAR_DIR = "columnar";
+    private static final int COLUMNAR_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
     public static void dumpModChildrenFrom(
             @NonNull final State state,
             @NonNull final DumpCheckpoint checkpoint,
@@ -134,14 +140,16 @@ public class StateDumper {
                 Optional.ofNullable(blockInfo.consTimeOfLastHandledTxn())
                         .map(then -> Instant.ofEpochSecond(then.seconds(), then.nanos()))
                         .orElse(null));
+        final var formats = DumpFormat.selectedDumpFormats();
+        final var dumpText = formats.contains(DumpFormat.TEXT);
 
-        if (childrenToDump.contains(MerkleStateChild.NFTS)) {
+        if (dumpText && childrenToDump.contains(MerkleStateChild.NFTS)) {
             final VirtualMap<OnDiskKey<NftID>, OnDiskValue<Nft>> uniqueTokens =
                     requireNonNull(merkleState.getChild(merkleState.findNodeIndex(TokenService.NAME, NFTS_KEY)));
             dumpModUniqueTokens(Paths.get(dumpLoc, SEMANTIC_UNIQUE_TOKENS), uniqueTokens, checkpoint);
         }
 
-        if (childrenToDump.contains(MerkleStateChild.TOKEN_RELS)) {
+        if (dumpText && childrenToDump.contains(MerkleStateChild.TOKEN_RELS)) {
             final VirtualMap<OnDiskKey<EntityIDPair>, OnDiskValue<TokenRelation>> tokenRelations =
                     requireNonNull(merkleState.getChild(merkleState.findNodeIndex(TokenService.NAME, TOKEN_RELS_KEY)));
             dumpModTokenRelations(Paths.get(dumpLoc, SEMANTIC_TOKEN_RELATIONS), tokenRelations, checkpoint);
@@ -154,7 +162,7 @@ public class StateDumper {
             dumpModFiles(Paths.get(dumpLoc, SEMANTIC_FILES), files, checkpoint);
         }
 
-        if (childrenToDump.contains(MerkleStateChild.ACCOUNTS)) {
+        if (dumpText && childrenToDump.contains(MerkleStateChild.ACCOUNTS)) {
             final VirtualMap<OnDiskKey<AccountID>, OnDiskValue<Account>> accounts =
                     requireNonNull(merkleState.getChild(merkleState.findNodeIndex(TokenService.NAME, ACCOUNTS_KEY)));
             dumpModAccounts(Paths.get(dumpLoc, SEMANTIC_ACCOUNTS), accounts, checkpoint);
@@ -197,7 +205,7 @@ public class StateDumper {
                     scheduledTransactionsByExpiry);
         }
 
-        if (childrenToDump.contains(MerkleStateChild.TOKENS)) {
+        if (dumpText && childrenToDump.contains(MerkleStateChild.TOKENS)) {
             final VirtualMap<OnDiskKey<TokenID>, OnDiskValue<Token>> tokenTypes =
                     requireNonNull(merkleState.getChild(merkleState.findNodeIndex(TokenService.NAME, TOKENS_KEY)));
             dumpModTokenType(Paths.get(dumpLoc, SEMANTIC_TOKEN_TYPE), tokenTypes, checkpoint);
@@ -248,6 +256,64 @@ public class StateDumper {
                     congestionLevelStartsSingletonNode.getValue(),
                     throttleUsageSnapshotsSingletonNode.getValue());
         }
+
+        if (formats.contains(DumpFormat.COLUMNAR)) {
+            dumpColumnarChildrenFrom(merkleState, Paths.get(dumpLoc, COLUMNAR_DIR), checkpoint, childrenToDump);
+        }
+    }
+
+    private static void dumpColumnarChildrenFrom(
+            @NonNull final MerkleStateRoot merkleState,
+            @NonNull final Path dir,
+            @NonNull final DumpCheckpoint checkpoint,
+            @NonNull final Set<MerkleStateChild> childrenToDump) {
+        if (childrenToDump.contains(MerkleStateChild.NFTS)) {
+            final VirtualMap<OnDiskKey<NftID>, OnDiskValue<Nft>> uniqueTokens =
+                    requireNonNull(merkleState.getChild(merkleState.findNodeIndex(TokenService.NAME, NFTS_KEY)));
+            dumpColumnar(
+                    dir,
+                    ColumnarDumpUtils.NFTS_TABLE,
+                    uniqueTokens,
+                    ColumnarDumpUtils.NFT_COLUMNS,
+                    COLUMNAR_THREAD_COUNT,
+                    checkpoint);
+        }
+
+        if (childrenToDump.contains(MerkleStateChild.TOKEN_RELS)) {
+            final VirtualMap<OnDiskKey<EntityIDPair>, OnDiskValue<TokenRelation>> tokenRelations =
+                    requireNonNull(merkleState.getChild(merkleState.findNodeIndex(TokenService.NAME, TOKEN_RELS_KEY)));
+            dumpColumnar(
+                    dir,
+                    ColumnarDumpUtils.TOKEN_RELS_TABLE,
+                    tokenRelations,
+                    ColumnarDumpUtils.TOKEN_REL_COLUMNS,
+                    COLUMNAR_THREAD_COUNT,
+                    checkpoint);
+        }
+
+        if (childrenToDump.contains(MerkleStateChild.ACCOUNTS)) {
+            final VirtualMap<OnDiskKey<AccountID>, OnDiskValue<Account>> accounts =
+                    requireNonNull(merkleState.getChild(merkleState.findNodeIndex(TokenService.NAME, ACCOUNTS_KEY)));
+            dumpColumnar(
+                    dir,
+                    ColumnarDumpUtils.ACCOUNTS_TABLE,
+                    accounts,
+                    ColumnarDumpUtils.ACCOUNT_COLUMNS,
+                    COLUMNAR_THREAD_COUNT,
+                    checkpoint);
+        }
+
+        if (childrenToDump.contains(MerkleStateChild.TOKENS)) {
+            final VirtualMap<OnDiskKey<TokenID>, OnDiskValue<Token>> tokenTypes =
+                    requireNonNull(merkleState.getChild(merkleState.findNodeIndex(TokenService.NAME, TOKENS_KEY)));
+            dumpColumnar(
+                    dir,
+                    ColumnarDumpUtils.TOKENS_TABLE,
+                    tokenTypes,
+                    ColumnarDumpUtils.TOKEN_COLUMNS,
+                    COLUMNAR_THREAD_COUNT,
+                    checkpoint);
+        }
     }
 
     private static String getExtantDumpLoc(
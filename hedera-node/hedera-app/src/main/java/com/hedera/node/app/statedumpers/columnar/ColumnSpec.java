@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Describes one column of a columnar dump, and how to extract its value from a row of type {@code T}.
+ *
+ * @param name the column name, as written in the segment header
+ * @param type the column type
+ * @param longValue the extractor for a {@link ColumnType#LONG} column, otherwise null
+ * @param bytesValue the extractor for a {@link ColumnType#BYTES} column, otherwise null
+ * @param <T> the type of the rows
+ */
+public record ColumnSpec<T>(
+        @NonNull String name,
+        @NonNull ColumnType type,
+        @Nullable ToLongFunction<T> longValue,
+        @Nullable Function<T, byte[]> bytesValue) {
+    public ColumnSpec {
+        requireNonNull(name);
+        requireNonNull(type);
+        if ((type == ColumnType.LONG) != (longValue != null) || (type == ColumnType.BYTES) != (bytesValue != null)) {
+            throw new IllegalArgumentException("Column " + name + " must have exactly the extractor for its type");
+        }
+    }
+
+    /**
+     * Returns a {@link ColumnType#LONG} column.
+     *
+     * @param name the column name
+     * @param value the value extractor
+     * @return the column
+     * @param <T> the type of the rows
+     */
+    public static <T> ColumnSpec<T> longColumn(@NonNull final String name, @NonNull final ToLongFunction<T> value) {
+        return new ColumnSpec<>(name, ColumnType.LONG, requireNonNull(value), null);
+    }
+
+    /**
+     * Returns a {@link ColumnType#LONG} column holding {@code 1} for rows matching the given predicate
+     * and {@code 0} otherwise.
+     *
+     * @param name the column name
+     * @param value the predicate
+     * @return the column
+     * @param <T> the type of the rows
+     */
+    public static <T> ColumnSpec<T> flagColumn(@NonNull final String name, @NonNull final Predicate<T> value) {
+        requireNonNull(value);
+        return longColumn(name, row -> value.test(row) ? 1L : 0L);
+    }
+
+    /**
+     * Returns a {@link ColumnType#BYTES} column. The extractor may return null, which is stored as an
+     * empty value.
+     *
+     * @param name the column name
+     * @param value the value extractor
+     * @return the column
+     * @param <T> the type of the rows
+     */
+    public static <T> ColumnSpec<T> bytesColumn(@NonNull final String name, @NonNull final Function<T, byte[]> value) {
+        return new ColumnSpec<>(name, ColumnType.BYTES, null, requireNonNull(value));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+/**
+ * The types of column in a columnar dump segment.
+ */
+public enum ColumnType {
+    /**
+     * A fixed-width column of big-endian 8-byte signed values, one per row. Booleans, enums, and entity
+     * numbers are all stored as longs.
+     */
+    LONG,
+    /**
+     * A variable-width column, stored as {@code rowCount + 1} big-endian 8-byte offsets into the data
+     * that follows them; the value of row {@code i} is the data between offsets {@code i} and {@code i + 1}.
+     */
+    BYTES;
+
+    /**
+     * Returns the type with the given ordinal, as written in a segment header.
+     *
+     * @param ordinal the ordinal
+     * @return the type
+     * @throws IllegalArgumentException if there is no such type
+     */
+    public static ColumnType fromOrdinal(final int ordinal) {
+        final var types = values();
+        if (ordinal < 0 || ordinal >= types.length) {
+            throw new IllegalArgumentException("Unknown column type " + ordinal);
+        }
+        return types[ordinal];
+    }
+}
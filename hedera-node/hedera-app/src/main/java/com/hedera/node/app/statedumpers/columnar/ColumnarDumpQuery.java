@@ -0,0 +1,372 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * A small offline query engine over the memory-mapped segments of a columnar dump written by
+ * {@link ColumnarDumpUtils}. A query keeps the rows matching all of its filters, and then either
+ * <ul>
+ *     <li>groups them by a column, reporting the count (and optionally a sum) of each group, largest first;</li>
+ *     <li>or reports the top-N rows by a {@link ColumnType#LONG} column, largest first;</li>
+ *     <li>or just counts them.</li>
+ * </ul>
+ * Segments are scanned in parallel, each touching only the columns the query uses. For example,
+ * <pre>
+ *     ColumnarDumpQuery mod-2024-06-01T00_00_00Z/columnar tokenRelations \
+ *         --where balance>0 --group-by tokenNum --top 20
+ * </pre>
+ * lists the twenty tokens with the most non-zero balances.
+ */
+public class ColumnarDumpQuery {
+    private static final Pattern FILTER_PATTERN = Pattern.compile("^(\\w+)(<=|>=|!=|=|<|>)(-?\\d+)$");
+    private static final String USAGE = "Usage: ColumnarDumpQuery <dumpDir> <table> [--where <column><op><value>]..."
+            + " [--group-by <column> [--sum <column>]] [--order-by <column>] [--top <n>] [--columns <c1,c2,...>]";
+
+    /**
+     * The comparison operators a filter can apply to a {@link ColumnType#LONG} column.
+     */
+    public enum Op {
+        EQ,
+        NE,
+        LT,
+        LE,
+        GT,
+        GE;
+
+        private boolean test(final long actual, final long expected) {
+            return switch (this) {
+                case EQ -> actual == expected;
+                case NE -> actual != expected;
+                case LT -> actual < expected;
+                case LE -> actual <= expected;
+                case GT -> actual > expected;
+                case GE -> actual >= expected;
+            };
+        }
+
+        private static Op fromSymbol(@NonNull final String symbol) {
+            return switch (symbol) {
+                case "=" -> EQ;
+                case "!=" -> NE;
+                case "<" -> LT;
+                case "<=" -> LE;
+                case ">" -> GT;
+                case ">=" -> GE;
+                default -> throw new IllegalArgumentException("Unknown operator '" + symbol + "'");
+            };
+        }
+    }
+
+    /**
+     * A filter on a {@link ColumnType#LONG} column.
+     *
+     * @param column the column name
+     * @param op the comparison
+     * @param value the value to compare against
+     */
+    public record Filter(@NonNull String column, @NonNull Op op, long value) {
+        public Filter {
+            requireNonNull(column);
+            requireNonNull(op);
+        }
+    }
+
+    /**
+     * The count and sum of one group of a group-by query.
+     *
+     * @param key the rendered value of the group-by column
+     * @param count the number of matching rows in the group
+     * @param sum the sum of the sum column over those rows, or zero if there is none
+     */
+    public record Group(@NonNull String key, long count, long sum) {}
+
+    /**
+     * The result of a query.
+     *
+     * @param matched the number of rows matching the filters
+     * @param groups the groups, largest first, if the query has a group-by column
+     * @param rows the rendered values of the selected columns of the reported rows
+     */
+    public record Result(long matched, @NonNull List<Group> groups, @NonNull List<List<String>> rows) {}
+
+    private record RowRef(@NonNull ColumnarSegment segment, long row, long orderValue) {}
+
+    private static final Comparator<RowRef> BY_ORDER_VALUE = Comparator.comparingLong(RowRef::orderValue);
+
+    private final List<Filter> filters;
+    private final String groupBy;
+    private final String sumColumn;
+    private final String orderBy;
+    private final int limit;
+    private final List<String> columns;
+
+    /**
+     * Creates a query.
+     *
+     * @param filters the filters a row must all match
+     * @param groupBy the column to group matching rows by, if any
+     * @param sumColumn the {@link ColumnType#LONG} column to sum within each group, if any
+     * @param orderBy the {@link ColumnType#LONG} column to rank matching rows by, if any
+     * @param limit the maximum number of groups or rows to report, or zero for all groups (rows need a limit)
+     * @param columns the columns to report for each row, or empty for all of them
+     */
+    public ColumnarDumpQuery(
+            @NonNull final List<Filter> filters,
+            @Nullable final String groupBy,
+            @Nullable final String sumColumn,
+            @Nullable final String orderBy,
+            final int limit,
+            @NonNull final List<String> columns) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be non-negative");
+        }
+        if (sumColumn != null && groupBy == null) {
+            throw new IllegalArgumentException("--sum requires --group-by");
+        }
+        this.filters = List.copyOf(filters);
+        this.groupBy = groupBy;
+        this.sumColumn = sumColumn;
+        this.orderBy = orderBy;
+        this.limit = limit;
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * Runs this query over the given segments.
+     *
+     * @param segments the segments of one table
+     * @return the result
+     */
+    public Result run(@NonNull final List<ColumnarSegment> segments) {
+        final var partial = IntStream.range(0, segments.size())
+                .parallel()
+                .mapToObj(i -> scan(i, segments.get(i)))
+                .reduce(this::merge)
+                .orElseGet(Partial::new);
+
+        final List<Group> groups = partial.groups.values().stream()
+                .sorted(Comparator.comparingLong(Group::count)
+                        .reversed()
+                        .thenComparing(Group::key))
+                .limit(limit == 0 ? Long.MAX_VALUE : limit)
+                .toList();
+
+        final List<List<String>> rows = new ArrayList<>();
+        if (groupBy == null) {
+            final var top = new ArrayList<>(partial.top);
+            top.sort(BY_ORDER_VALUE.reversed());
+            for (final var ref : top) {
+                rows.add(render(ref.segment(), ref.row()));
+            }
+        }
+        return new Result(partial.matched, groups, rows);
+    }
+
+    /**
+     * Prints the given result of this query.
+     *
+     * @param result the result
+     * @param headers the names of all columns of the queried table
+     * @param out the stream to print to
+     */
+    public void print(
+            @NonNull final Result result, @NonNull final List<String> headers, @NonNull final PrintStream out) {
+        out.printf("matched=%d%n", result.matched());
+        if (groupBy != null) {
+            out.println(groupBy + ";count" + (sumColumn == null ? "" : ";sum(" + sumColumn + ")"));
+            for (final var group : result.groups()) {
+                out.println(group.key() + ";" + group.count() + (sumColumn == null ? "" : ";" + group.sum()));
+            }
+        } else if (!result.rows().isEmpty()) {
+            out.println(String.join(";", columns.isEmpty() ? headers : columns));
+            result.rows().forEach(row -> out.println(String.join(";", row)));
+        }
+    }
+
+    private static final class Partial {
+        private long matched;
+        private final Map<String, Group> groups = new HashMap<>();
+        private final PriorityQueue<RowRef> top = new PriorityQueue<>(BY_ORDER_VALUE);
+    }
+
+    private Partial scan(final int segmentIndex, @NonNull final ColumnarSegment segment) {
+        final var partial = new Partial();
+        final int[] filterColumns = new int[filters.size()];
+        for (int i = 0; i < filterColumns.length; i++) {
+            filterColumns[i] = segment.columnIndex(filters.get(i).column());
+        }
+        final int groupColumn = groupBy == null ? -1 : segment.columnIndex(groupBy);
+        final int summedColumn = sumColumn == null ? -1 : segment.columnIndex(sumColumn);
+        final int orderColumn = orderBy == null ? -1 : segment.columnIndex(orderBy);
+        final boolean keepRows = groupBy == null && limit > 0;
+
+        for (long row = 0, n = segment.rowCount(); row < n; row++) {
+            if (!matches(segment, filterColumns, row)) {
+                continue;
+            }
+            partial.matched++;
+            if (groupColumn >= 0) {
+                final var key = renderValue(segment, groupColumn, row);
+                final long addend = summedColumn >= 0 ? segment.getLong(summedColumn, row) : 0L;
+                partial.groups.merge(key, new Group(key, 1, addend), ColumnarDumpQuery::combine);
+            } else if (keepRows) {
+                // Without an order-by column, the first rows in segment order are reported
+                final long orderValue =
+                        orderColumn >= 0 ? segment.getLong(orderColumn, row) : -(((long) segmentIndex << 40) | row);
+                offer(partial.top, new RowRef(segment, row, orderValue));
+            }
+        }
+        return partial;
+    }
+
+    private Partial merge(@NonNull final Partial a, @NonNull final Partial b) {
+        a.matched += b.matched;
+        b.groups.forEach((key, group) -> a.groups.merge(key, group, ColumnarDumpQuery::combine));
+        b.top.forEach(ref -> offer(a.top, ref));
+        return a;
+    }
+
+    private void offer(@NonNull final PriorityQueue<RowRef> top, @NonNull final RowRef ref) {
+        if (top.size() < limit) {
+            top.add(ref);
+        } else if (requireNonNull(top.peek()).orderValue() < ref.orderValue()) {
+            top.poll();
+            top.add(ref);
+        }
+    }
+
+    private boolean matches(
+            @NonNull final ColumnarSegment segment, @NonNull final int[] filterColumns, final long row) {
+        for (int i = 0; i < filterColumns.length; i++) {
+            final var filter = filters.get(i);
+            if (!filter.op().test(segment.getLong(filterColumns[i], row), filter.value())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<String> render(@NonNull final ColumnarSegment segment, final long row) {
+        final var names = columns.isEmpty() ? segment.columnNames() : columns;
+        final List<String> values = new ArrayList<>(names.size());
+        for (final var name : names) {
+            values.add(renderValue(segment, segment.columnIndex(name), row));
+        }
+        return values;
+    }
+
+    private static Group combine(@NonNull final Group a, @NonNull final Group b) {
+        return new Group(a.key(), a.count() + b.count(), a.sum() + b.sum());
+    }
+
+    private static String renderValue(@NonNull final ColumnarSegment segment, final int column, final long row) {
+        if (segment.columnType(column) == ColumnType.LONG) {
+            return Long.toString(segment.getLong(column, row));
+        }
+        final var bytes = segment.getBytes(column, row);
+        try {
+            final var text = StandardCharsets.UTF_8
+                    .newDecoder()
+                    .decode(ByteBuffer.wrap(bytes))
+                    .toString();
+            if (text.chars().allMatch(c -> c >= 0x20 && c != ';' && c != 0x7f)) {
+                return text;
+            }
+        } catch (final CharacterCodingException ignore) {
+            // Fall through to hex
+        }
+        return "0x" + HexFormat.of().formatHex(bytes);
+    }
+
+    /**
+     * Runs a query given on the command line against a columnar dump directory, printing the result.
+     *
+     * @param args the dump directory, the table name, and the query options
+     */
+    public static void main(final String... args) {
+        if (args.length < 2) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        final var dir = Path.of(args[0]);
+        final var table = args[1];
+        final List<Filter> filters = new ArrayList<>();
+        String groupBy = null;
+        String sumColumn = null;
+        String orderBy = null;
+        int limit = 0;
+        List<String> columns = List.of();
+        try {
+            for (int i = 2; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                final var value = args[i + 1];
+                switch (args[i]) {
+                    case "--where" -> filters.add(parseFilter(value));
+                    case "--group-by" -> groupBy = value;
+                    case "--sum" -> sumColumn = value;
+                    case "--order-by" -> orderBy = value;
+                    case "--top" -> limit = Integer.parseInt(value);
+                    case "--columns" -> columns = List.of(value.split(","));
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            final var query = new ColumnarDumpQuery(filters, groupBy, sumColumn, orderBy, limit, columns);
+            final List<ColumnarSegment> segments = new ArrayList<>();
+            for (final var path : ColumnarDumpUtils.segmentsOf(dir, table)) {
+                segments.add(ColumnarSegment.open(path));
+            }
+            if (segments.isEmpty()) {
+                throw new IllegalArgumentException("No segments of table " + table + " in " + dir);
+            }
+            query.print(query.run(segments), segments.get(0).columnNames(), System.out);
+        } catch (final IllegalArgumentException | IOException e) {
+            System.err.println("*** " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+    }
+
+    private static Filter parseFilter(@NonNull final String literal) {
+        final var matcher = FILTER_PATTERN.matcher(literal);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid filter '" + literal + "'");
+        }
+        return new Filter(matcher.group(1), Op.fromSymbol(matcher.group(2)), Long.parseLong(matcher.group(3)));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static com.hedera.node.app.statedumpers.columnar.ColumnSpec.bytesColumn;
+import static com.hedera.node.app.statedumpers.columnar.ColumnSpec.flagColumn;
+import static com.hedera.node.app.statedumpers.columnar.ColumnSpec.longColumn;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.NftID;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.state.token.Nft;
+import com.hedera.hapi.node.state.token.Token;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.node.app.statedumpers.DumpCheckpoint;
+import com.swirlds.state.merkle.disk.OnDiskKey;
+import com.swirlds.state.merkle.disk.OnDiskValue;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.VirtualMapMigration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Dumps on-disk state as columnar segments that can be queried offline with {@link ColumnarDumpQuery}.
+ *
+ * <p>Unlike the text dumpers, which gather every entity into memory and sort it before writing, a
+ * columnar dump reads each virtual map exactly once, with one thread per contiguous range of leaf paths,
+ * and each thread streams its rows straight into its own segment file {@code <table>-<range>.col}. The
+ * rows of a table are therefore in path order within a segment, not in entity order.
+ */
+public class ColumnarDumpUtils {
+    /**
+     * The table name of the accounts dump.
+     */
+    public static final String ACCOUNTS_TABLE = "accounts";
+    /**
+     * The table name of the unique tokens dump.
+     */
+    public static final String NFTS_TABLE = "uniqueTokens";
+    /**
+     * The table name of the token types dump.
+     */
+    public static final String TOKENS_TABLE = "tokenTypes";
+    /**
+     * The table name of the token relations dump.
+     */
+    public static final String TOKEN_RELS_TABLE = "tokenRelations";
+
+    static final String SEGMENT_SUFFIX = ".col";
+
+    // spotless:off
+    public static final List<ColumnSpec<Account>> ACCOUNT_COLUMNS = List.of(
+            longColumn("accountNum", a -> accountNum(a.accountId())),
+            longColumn("tinybarBalance", Account::tinybarBalance),
+            flagColumn("deleted", Account::deleted),
+            flagColumn("smartContract", Account::smartContract),
+            longColumn("expirationSecond", Account::expirationSecond),
+            longColumn("stakedNodeId", a -> a.stakedNodeIdOrElse(-1L)),
+            longColumn("stakedAccountNum", a -> accountNum(a.stakedAccountId())),
+            longColumn("numberOwnedNfts", Account::numberOwnedNfts),
+            longColumn("numberAssociations", Account::numberAssociations),
+            longColumn("numberPositiveBalances", Account::numberPositiveBalances),
+            longColumn("numberTreasuryTitles", Account::numberTreasuryTitles),
+            longColumn("contractKvPairsNumber", Account::contractKvPairsNumber),
+            longColumn("ethereumNonce", Account::ethereumNonce),
+            bytesColumn("alias", a -> a.alias().toByteArray()),
+            bytesColumn("memo", a -> a.memo().getBytes(UTF_8)));
+
+    public static final List<ColumnSpec<Nft>> NFT_COLUMNS = List.of(
+            longColumn("tokenNum", n -> tokenNum(n.nftId() == null ? null : n.nftId().tokenId())),
+            longColumn("serialNum", n -> n.nftIdOrElse(NftID.DEFAULT).serialNumber()),
+            longColumn("ownerNum", n -> accountNum(n.ownerId())),
+            longColumn("spenderNum", n -> accountNum(n.spenderId())),
+            longColumn("mintSecond", n -> n.mintTime() == null ? 0L : n.mintTime().seconds()),
+            bytesColumn("metadata", n -> n.metadata().toByteArray()));
+
+    public static final List<ColumnSpec<Token>> TOKEN_COLUMNS = List.of(
+            longColumn("tokenNum", t -> tokenNum(t.tokenId())),
+            longColumn("tokenType", t -> t.tokenType().protoOrdinal()),
+            longColumn("supplyType", t -> t.supplyType().protoOrdinal()),
+            longColumn("treasuryNum", t -> accountNum(t.treasuryAccountId())),
+            longColumn("totalSupply", Token::totalSupply),
+            longColumn("maxSupply", Token::maxSupply),
+            longColumn("decimals", Token::decimals),
+            longColumn("expirationSecond", Token::expirationSecond),
+            flagColumn("deleted", Token::deleted),
+            flagColumn("paused", Token::paused),
+            bytesColumn("symbol", t -> t.symbol().getBytes(UTF_8)),
+            bytesColumn("name", t -> t.name().getBytes(UTF_8)));
+
+    public static final List<ColumnSpec<TokenRelation>> TOKEN_REL_COLUMNS = List.of(
+            longColumn("tokenNum", r -> tokenNum(r.tokenId())),
+            longColumn("accountNum", r -> accountNum(r.accountId())),
+            longColumn("balance", TokenRelation::balance),
+            flagColumn("frozen", TokenRelation::frozen),
+            flagColumn("kycGranted", TokenRelation::kycGranted),
+            flagColumn("automaticAssociation", TokenRelation::automaticAssociation));
+    // spotless:on
+
+    private ColumnarDumpUtils() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * Dumps the values of the given virtual map as the segments of a columnar table in the given directory,
+     * replacing any segments of a previous dump of the same table.
+     *
+     * @param dir the directory to write the segments to
+     * @param table the table name
+     * @param source the virtual map to dump
+     * @param columns the columns to extract from each value
+     * @param threadCount the number of path ranges, each read by its own thread into its own segment
+     * @param checkpoint the checkpoint at which the dump is taken
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     */
+    public static <K, V> void dumpColumnar(
+            @NonNull final Path dir,
+            @NonNull final String table,
+            @NonNull final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> source,
+            @NonNull final List<ColumnSpec<V>> columns,
+            final int threadCount,
+            @NonNull final DumpCheckpoint checkpoint) {
+        final List<ColumnarSegmentWriter<V>> writers = new ArrayList<>(threadCount);
+        try {
+            Files.createDirectories(dir);
+            for (final var stale : segmentsOf(dir, table)) {
+                Files.delete(stale);
+            }
+            for (int i = 0; i < threadCount; i++) {
+                writers.add(new ColumnarSegmentWriter<>(segmentPath(dir, table, i), columns));
+            }
+            VirtualMapMigration.extractVirtualMapDataByPathRange(
+                    getStaticThreadManager(),
+                    source,
+                    range -> {
+                        final var writer = writers.get(range);
+                        return p -> writer.append(p.right().getValue());
+                    },
+                    threadCount);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final InterruptedException ex) {
+            System.err.println("*** Traversal of " + table + " virtual map interrupted!");
+            Thread.currentThread().interrupt();
+        } finally {
+            writers.forEach(ColumnarSegmentWriter::close);
+        }
+        final long rows = writers.stream().mapToLong(ColumnarSegmentWriter::getRowCount).sum();
+        System.out.printf(
+                "=== mod  %s columnar dump is %d rows in %d segments at checkpoint %s%n",
+                table, rows, writers.size(), checkpoint.name());
+    }
+
+    /**
+     * Returns the segment files of the given table in the given directory, in range order.
+     *
+     * @param dir the dump directory
+     * @param table the table name
+     * @return the segment files
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> segmentsOf(@NonNull final Path dir, @NonNull final String table) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (final Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> {
+                        final var name = file.getFileName().toString();
+                        return name.startsWith(table + "-") && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static Path segmentPath(@NonNull final Path dir, @NonNull final String table, final int range) {
+        return dir.resolve(String.format("%s-%04d%s", table, range, SEGMENT_SUFFIX));
+    }
+
+    private static long accountNum(@Nullable final AccountID accountId) {
+        return accountId == null ? 0L : accountId.accountNumOrElse(0L);
+    }
+
+    private static long tokenNum(@Nullable final TokenID tokenId) {
+        return tokenId == null ? 0L : tokenId.tokenNum();
+    }
+}
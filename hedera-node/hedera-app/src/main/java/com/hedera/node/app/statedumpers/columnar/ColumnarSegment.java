@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only, memory-mapped view of one segment of a columnar dump, as written by
+ * {@link ColumnarSegmentWriter}.
+ *
+ * <p>A segment file is a schema header followed by one section per column:
+ * <pre>
+ *     int    magic ("HCOL")
+ *     int    format version
+ *     long   row count
+ *     int    column count
+ *     for each column: UTF name, byte type ordinal, long section offset, long section length
+ *     column sections, in header order (see {@link ColumnType} for their layout)
+ * </pre>
+ * Each column section is mapped separately, so a query only pages in the columns it touches; a single
+ * section may not exceed 2GB, which a segment per path range keeps well clear of.
+ */
+public class ColumnarSegment {
+    /**
+     * The first four bytes of every segment file.
+     */
+    static final int MAGIC = 0x48434F4C;
+    /**
+     * The version of the segment layout.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private final Path path;
+    private final long rowCount;
+    private final List<String> names;
+    private final List<ColumnType> types;
+    private final List<MappedByteBuffer> sections;
+
+    private ColumnarSegment(
+            @NonNull final Path path,
+            final long rowCount,
+            @NonNull final List<String> names,
+            @NonNull final List<ColumnType> types,
+            @NonNull final List<MappedByteBuffer> sections) {
+        this.path = path;
+        this.rowCount = rowCount;
+        this.names = names;
+        this.types = types;
+        this.sections = sections;
+    }
+
+    /**
+     * Maps the segment at the given path.
+     *
+     * @param path the segment file
+     * @return the mapped segment
+     * @throws IOException if the file cannot be read or is not a valid segment
+     */
+    public static ColumnarSegment open(@NonNull final Path path) throws IOException {
+        requireNonNull(path);
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The stream is not closed on its own, since that would close the channel before mapping
+            final var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not a columnar dump segment");
+            }
+            final int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported columnar dump version " + version + " in " + path);
+            }
+            final long rowCount = in.readLong();
+            final int columnCount = in.readInt();
+            final List<String> names = new ArrayList<>(columnCount);
+            final List<ColumnType> types = new ArrayList<>(columnCount);
+            final long[] offsets = new long[columnCount];
+            final long[] lengths = new long[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                names.add(in.readUTF());
+                types.add(ColumnType.fromOrdinal(in.readByte()));
+                offsets[i] = in.readLong();
+                lengths[i] = in.readLong();
+                if (lengths[i] > Integer.MAX_VALUE || offsets[i] + lengths[i] > channel.size()) {
+                    throw new IOException("Column " + names.get(i) + " of " + path + " cannot be mapped");
+                }
+            }
+            final List<MappedByteBuffer> sections = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                sections.add(channel.map(FileChannel.MapMode.READ_ONLY, offsets[i], lengths[i]));
+            }
+            return new ColumnarSegment(path, rowCount, List.copyOf(names), List.copyOf(types), sections);
+        }
+    }
+
+    /**
+     * Returns the path of this segment.
+     *
+     * @return the path
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Returns the number of rows in this segment.
+     *
+     * @return the row count
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the names of the columns in this segment, in schema order.
+     *
+     * @return the column names
+     */
+    public List<String> columnNames() {
+        return names;
+    }
+
+    /**
+     * Returns the type of the given column.
+     *
+     * @param column the column index
+     * @return the column type
+     */
+    public ColumnType columnType(final int column) {
+        return types.get(column);
+    }
+
+    /**
+     * Returns the index of the column with the given name.
+     *
+     * @param name the column name
+     * @return the column index
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public int columnIndex(@NonNull final String name) {
+        final int index = names.indexOf(requireNonNull(name));
+        if (index < 0) {
+            throw new IllegalArgumentException("No column '" + name + "' in " + path + " (has " + names + ")");
+        }
+        return index;
+    }
+
+    /**
+     * Returns the value of a {@link ColumnType#LONG} column in the given row.
+     *
+     * @param column the column index
+     * @param row the row
+     * @return the value
+     */
+    public long getLong(final int column, final long row) {
+        checkType(column, ColumnType.LONG);
+        return sections.get(column).getLong(Math.toIntExact(row * Long.BYTES));
+    }
+
+    /**
+     * Returns the value of a {@link ColumnType#BYTES} column in the given row.
+     *
+     * @param column the column index
+     * @param row the row
+     * @return the value, empty if none was written
+     */
+    public byte[] getBytes(final int column, final long row) {
+        checkType(column, ColumnType.BYTES);
+        final var section = sections.get(column);
+        final int dataStart = Math.toIntExact((rowCount + 1) * Long.BYTES);
+        final int start = Math.toIntExact(section.getLong(Math.toIntExact(row * Long.BYTES)));
+        final int end = Math.toIntExact(section.getLong(Math.toIntExact((row + 1) * Long.BYTES)));
+        final var bytes = new byte[end - start];
+        section.get(dataStart + start, bytes);
+        return bytes;
+    }
+
+    private void checkType(final int column, @NonNull final ColumnType type) {
+        if (types.get(column) != type) {
+            throw new IllegalArgumentException("Column '" + names.get(column) + "' is not of type " + type);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static com.hedera.node.app.statedumpers.columnar.ColumnarSegment.FORMAT_VERSION;
+import static com.hedera.node.app.statedumpers.columnar.ColumnarSegment.MAGIC;
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the rows of one columnar dump segment. Each column is streamed to its own temporary file while
+ * rows are appended, so memory use does not depend on the number of rows; {@link #close()} then writes
+ * the segment file as a schema header followed by the column sections, in the layout read by
+ * {@link ColumnarSegment}.
+ *
+ * <p>A writer is not thread-safe; a parallel dump uses one writer per path range.
+ *
+ * @param <T> the type of the rows
+ */
+public class ColumnarSegmentWriter<T> implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final List<ColumnSpec<T>> columns;
+    private final List<Path> tempFiles = new ArrayList<>();
+    private final List<DataOutputStream> values = new ArrayList<>();
+    private final List<DataOutputStream> offsets = new ArrayList<>();
+    private final long[] dataLengths;
+    private long rowCount = 0;
+    private boolean closed = false;
+
+    /**
+     * Creates a writer for the segment at the given path.
+     *
+     * @param path the segment file to write
+     * @param columns the columns of the segment
+     */
+    public ColumnarSegmentWriter(@NonNull final Path path, @NonNull final List<ColumnSpec<T>> columns) {
+        this.path = requireNonNull(path);
+        this.columns = List.copyOf(columns);
+        this.dataLengths = new long[this.columns.size()];
+        try {
+            for (final var column : this.columns) {
+                values.add(tempStream(column.name() + ".values"));
+                offsets.add(column.type() == ColumnType.BYTES ? tempStream(column.name() + ".offsets") : null);
+            }
+            for (final var offsetStream : offsets) {
+                if (offsetStream != null) {
+                    offsetStream.writeLong(0L);
+                }
+            }
+        } catch (final IOException e) {
+            deleteTempFiles();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a row to the segment.
+     *
+     * @param row the row
+     */
+    public void append(@NonNull final T row) {
+        requireNonNull(row);
+        if (closed) {
+            throw new IllegalStateException("Segment " + path + " is already closed");
+        }
+        try {
+            for (int i = 0, n = columns.size(); i < n; i++) {
+                final var column = columns.get(i);
+                if (column.type() == ColumnType.LONG) {
+                    values.get(i).writeLong(requireNonNull(column.longValue()).applyAsLong(row));
+                } else {
+                    final var bytes = requireNonNull(column.bytesValue()).apply(row);
+                    if (bytes != null) {
+                        values.get(i).write(bytes);
+                        dataLengths[i] += bytes.length;
+                    }
+                    offsets.get(i).writeLong(dataLengths[i]);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rowCount++;
+    }
+
+    /**
+     * Returns the number of rows appended so far.
+     *
+     * @return the row count
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Writes the segment file and deletes the temporary column files.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            for (final var stream : values) {
+                stream.close();
+            }
+            for (final var stream : offsets) {
+                if (stream != null) {
+                    stream.close();
+                }
+            }
+            final var header = header();
+            try (final OutputStream out = Files.newOutputStream(path)) {
+                out.write(header);
+                for (int i = 0, n = columns.size(); i < n; i++) {
+                    // Variable-width sections start with their offsets, so a reader can index them directly
+                    if (columns.get(i).type() == ColumnType.BYTES) {
+                        Files.copy(tempFileFor(i, true), out);
+                    }
+                    Files.copy(tempFileFor(i, false), out);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteTempFiles();
+        }
+    }
+
+    private byte[] header() throws IOException {
+        // The header holds the section offsets, so its own size must be known first
+        final var names = new ByteArrayOutputStream();
+        try (final var namesOut = new DataOutputStream(names)) {
+            for (final var column : columns) {
+                namesOut.writeUTF(column.name());
+            }
+        }
+        final long headerSize = 4 + 4 + 8 + 4 + names.size() + (long) columns.size() * (1 + 8 + 8);
+
+        final var header = new ByteArrayOutputStream((int) headerSize);
+        try (final var out = new DataOutputStream(header)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(rowCount);
+            out.writeInt(columns.size());
+            long offset = headerSize;
+            for (int i = 0, n = columns.size(); i < n; i++) {
+                final var column = columns.get(i);
+                final long length = column.type() == ColumnType.LONG
+                        ? rowCount * Long.BYTES
+                        : (rowCount + 1) * Long.BYTES + dataLengths[i];
+                out.writeUTF(column.name());
+                out.writeByte(column.type().ordinal());
+                out.writeLong(offset);
+                out.writeLong(length);
+                offset += length;
+            }
+        }
+        return header.toByteArray();
+    }
+
+    private DataOutputStream tempStream(@NonNull final String suffix) throws IOException {
+        final var tempFile = path.resolveSibling(path.getFileName() + "." + suffix + ".tmp");
+        tempFiles.add(tempFile);
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE));
+    }
+
+    private Path tempFileFor(final int column, final boolean offsetsFile) {
+        return path.resolveSibling(path.getFileName() + "." + columns.get(column).name()
+                + (offsetsFile ? ".offsets" : ".values") + ".tmp");
+    }
+
+    private void deleteTempFiles() {
+        for (final var tempFile : tempFiles) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (final IOException ignore) {
+                // Best effort; a leftover temp file does not affect the segment
+            }
+        }
+    }
+}
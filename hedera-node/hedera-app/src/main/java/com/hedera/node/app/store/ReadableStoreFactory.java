@@ -50,6 +50,7 @@ import com.hedera.node.app.service.token.ReadableStakingInfoStore;
 import com.hedera.node.app.service.token.ReadableTokenRelationStore;
 import com.hedera.node.app.service.token.ReadableTokenStore;
 import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.service.token.impl.CachingReadableTokenRelationStore;
 import com.hedera.node.app.service.token.impl.ReadableAccountStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableAirdropStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableNetworkStakingRewardsStoreImpl;
@@ -68,6 +69,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -120,13 +122,51 @@ public class ReadableStoreFactory {
     private final State state;
     private final Function<SemanticVersion, SoftwareVersion> versionFactory;
 
+    /**
+     * If not null, the stores already created by this factory, which are shared by all threads using the factory.
+     */
+    @Nullable
+    private final Map<Class<?>, Object> storeCache;
+
+    /** If positive, the number of token relation lists the token relation store keeps */
+    private final int maxTokenRelationLists;
+
     /**
      * Constructor of {@code ReadableStoreFactory}
      *
      * @param state the {@link State} to use
      */
     public ReadableStoreFactory(@NonNull final State state) {
+        this(state, false);
+    }
+
+    /**
+     * Constructor of {@code ReadableStoreFactory} that optionally reuses the stores it creates. Stores created by a
+     * caching factory keep the readable states they were created with, so caching must only be used for immutable
+     * states, or by readers that tolerate stale values, like the cache warmer.
+     *
+     * @param state the {@link State} to use
+     * @param cacheStores whether to create each store only once
+     */
+    public ReadableStoreFactory(@NonNull final State state, final boolean cacheStores) {
+        this(state, cacheStores, 0);
+    }
+
+    /**
+     * Constructor of {@code ReadableStoreFactory} that optionally reuses the stores it creates, and whose token
+     * relation store keeps up to {@code maxTokenRelationLists} token relation lists. Keeping token relation lists is
+     * only possible if the stores are cached, since the lists are kept by the cached store.
+     *
+     * @param state the {@link State} to use
+     * @param cacheStores whether to create each store only once
+     * @param maxTokenRelationLists if positive and {@code cacheStores} is set, the number of token relation lists
+     * the token relation store keeps
+     */
+    public ReadableStoreFactory(
+            @NonNull final State state, final boolean cacheStores, final int maxTokenRelationLists) {
         this.state = requireNonNull(state, "The supplied argument 'state' cannot be null!");
+        this.storeCache = cacheStores ? new ConcurrentHashMap<>() : null;
+        this.maxTokenRelationLists = cacheStores ? maxTokenRelationLists : 0;
         if (state instanceof MerkleStateRoot merkleStateRoot) {
             this.versionFactory = merkleStateRoot.getVersionFactory();
         } else {
@@ -146,6 +186,14 @@ public class ReadableStoreFactory {
     @NonNull
     public <C> C getStore(@NonNull final Class<C> storeInterface) throws IllegalArgumentException {
         requireNonNull(storeInterface, "The supplied argument 'storeInterface' cannot be null!");
+        if (storeCache != null) {
+            return storeInterface.cast(storeCache.computeIfAbsent(storeInterface, this::createStore));
+        }
+        return createStore(storeInterface);
+    }
+
+    @NonNull
+    private <C> C createStore(@NonNull final Class<C> storeInterface) {
         final var entry = STORE_FACTORY.get(storeInterface);
         if (entry != null) {
             final var readableStates = state.getReadableStates(entry.name);
@@ -157,6 +205,10 @@ public class ReadableStoreFactory {
             if (store instanceof ReadablePlatformStateStore readablePlatformStateStore) {
                 readablePlatformStateStore.setVersionFactory(versionFactory);
             }
+            if (maxTokenRelationLists > 0 && store instanceof ReadableTokenRelationStore tokenRelationStore) {
+                return storeInterface.cast(
+                        new CachingReadableTokenRelationStore(tokenRelationStore, maxTokenRelationLists));
+            }
             return storeInterface.cast(store);
         }
         throw new IllegalArgumentException("No store of class " + storeInterface + " is available");
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.store;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.swirlds.platform.state.MerkleStateRoot;
+import com.swirlds.state.State;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Keeps one {@link ReadableStoreFactory} per immutable state, so that all threads reading the same state version
+ * (queries, the cache warmer, ...) share the same store instances and with them the read caches of the underlying
+ * readable states.
+ *
+ * <p>Only immutable {@link MerkleStateRoot}s are cached. For any other state a fresh, non-caching factory is
+ * returned, because the readable states of a mutable state are replaced whenever a service commits its changes.
+ * Factories of states that were released are evicted on the next lookup, and at most
+ * {@link CacheConfig#maxImmutableStoreFactories()} factories are kept at any time. The token relation stores of
+ * these factories also keep up to {@link CacheConfig#maxImmutableTokenRelationLists()} assembled token relation
+ * lists, which the balance and info queries of accounts with many associations would otherwise read one relation
+ * at a time.
+ */
+@Singleton
+public class ReadableStoreFactoryCache {
+
+    private final ConfigProvider configProvider;
+
+    /** The cached factories, ordered from the least to the most recently created. Guarded by {@code this}. */
+    private final Deque<Entry> entries = new ArrayDeque<>();
+
+    /**
+     * Constructor of {@code ReadableStoreFactoryCache}
+     *
+     * @param configProvider the {@link ConfigProvider} to get the maximum number of cached factories
+     */
+    @Inject
+    public ReadableStoreFactoryCache(@NonNull final ConfigProvider configProvider) {
+        this.configProvider = requireNonNull(configProvider);
+    }
+
+    /**
+     * Returns a {@link ReadableStoreFactory} for the given state. If the state is immutable, the same factory is
+     * returned for every call with this state until the state is released.
+     *
+     * @param state the {@link State} to create stores for
+     * @return the factory for the state
+     */
+    @NonNull
+    public ReadableStoreFactory factoryFor(@NonNull final State state) {
+        requireNonNull(state);
+        if (!(state instanceof MerkleStateRoot root) || root.isMutable() || root.isDestroyed()) {
+            return new ReadableStoreFactory(state);
+        }
+        final var cacheConfig = configProvider.getConfiguration().getConfigData(CacheConfig.class);
+        final int maxFactories = cacheConfig.maxImmutableStoreFactories();
+        synchronized (this) {
+            entries.removeIf(entry -> entry.state().isDestroyed());
+            for (final var entry : entries) {
+                if (entry.state() == root) {
+                    return entry.factory();
+                }
+            }
+            final var factory = new ReadableStoreFactory(root, true, cacheConfig.maxImmutableTokenRelationLists());
+            if (maxFactories > 0) {
+                while (entries.size() >= maxFactories) {
+                    entries.removeFirst();
+                }
+                entries.addLast(new Entry(root, factory));
+            }
+            return factory;
+        }
+    }
+
+    private record Entry(@NonNull MerkleStateRoot state, @NonNull ReadableStoreFactory factory) {}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.util;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An {@link OutputStream} that gzip-compresses its data on the threads of an {@link Executor}. The data is split
+ * into chunks of a fixed size, each compressed into its own gzip member; since a gzip file may consist of any
+ * number of members, the output is a valid gzip file that decompresses to exactly the data written. The members
+ * are written to the underlying stream in order, while up to a given number of them are compressed concurrently.
+ *
+ * <p>Not thread-safe; all methods must be called from the same thread.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final Executor executor;
+    private final int memberSize;
+    private final int maxPendingMembers;
+    private final Deque<CompletableFuture<byte[]>> pendingMembers = new ArrayDeque<>();
+
+    /** The data of the current member; null once the stream is closed */
+    private byte[] buffer;
+    private int count;
+    private boolean anyMemberStarted;
+    private boolean closed;
+
+    /**
+     * Creates a new stream writing gzip members to the given stream.
+     *
+     * @param out the stream to write the compressed members to
+     * @param executor the executor compressing the members
+     * @param memberSize the number of bytes of data compressed into each member
+     * @param maxPendingMembers the maximum number of members being compressed at any time
+     */
+    public ParallelGzipOutputStream(
+            @NonNull final OutputStream out,
+            @NonNull final Executor executor,
+            final int memberSize,
+            final int maxPendingMembers) {
+        this.out = requireNonNull(out);
+        this.executor = requireNonNull(executor);
+        if (memberSize <= 0) {
+            throw new IllegalArgumentException("Member size must be positive, was " + memberSize);
+        }
+        if (maxPendingMembers <= 0) {
+            throw new IllegalArgumentException("Max pending members must be positive, was " + maxPendingMembers);
+        }
+        this.memberSize = memberSize;
+        this.maxPendingMembers = maxPendingMembers;
+        this.buffer = new byte[memberSize];
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        buffer[count++] = (byte) b;
+        if (count == memberSize) {
+            submitMember();
+        }
+    }
+
+    @Override
+    public void write(@NonNull final byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        while (len > 0) {
+            final int n = Math.min(len, memberSize - count);
+            System.arraycopy(b, off, buffer, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == memberSize) {
+                submitMember();
+            }
+        }
+    }
+
+    /**
+     * Writes all members submitted for compression to the underlying stream, and flushes it. The data buffered
+     * for the current member is not compressed until the member is full or the stream is closed.
+     *
+     * @throws IOException if compressing or writing a member fails
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!pendingMembers.isEmpty()) {
+            writeNextMember();
+        }
+        out.flush();
+    }
+
+    /**
+     * Compresses any buffered data as a final member, writes all members to the underlying stream, and closes it.
+     *
+     * @throws IOException if compressing or writing a member fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            // An empty gzip file still has one (empty) member
+            if (count > 0 || !anyMemberStarted) {
+                submitMember(true);
+            }
+            while (!pendingMembers.isEmpty()) {
+                writeNextMember();
+            }
+            out.flush();
+        } finally {
+            closed = true;
+            pendingMembers.clear();
+            out.close();
+        }
+    }
+
+    private void submitMember() throws IOException {
+        submitMember(false);
+    }
+
+    private void submitMember(final boolean last) throws IOException {
+        final var data = buffer;
+        final var length = count;
+        buffer = last ? null : new byte[memberSize];
+        count = 0;
+        anyMemberStarted = true;
+        pendingMembers.add(CompletableFuture.supplyAsync(() -> compress(data, length), executor));
+        // Write out whatever is already compressed, and wait for the oldest member if too many are pending
+        while (!pendingMembers.isEmpty()
+                && (pendingMembers.size() > maxPendingMembers || pendingMembers.peek().isDone())) {
+            writeNextMember();
+        }
+    }
+
+    private void writeNextMember() throws IOException {
+        final var member = pendingMembers.poll();
+        try {
+            out.write(requireNonNull(member).join());
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+            throw new IOException("Could not compress gzip member", e.getCause());
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private static byte[] compress(@NonNull final byte[] data, final int length) {
+        final var compressed = new ByteArrayOutputStream(length / 2 + 64);
+        try (final var gzip = new GZIPOutputStream(compressed, GZIP_BUFFER_SIZE)) {
+            gzip.write(data, 0, length);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
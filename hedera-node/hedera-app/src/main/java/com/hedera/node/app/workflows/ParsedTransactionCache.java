@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.UNCHECKED_SUBMIT;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Key;
+import com.hedera.node.app.annotations.NodeSelfId;
+import com.hedera.node.app.signature.ExpandedSignaturePair;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Hands the work the ingest workflow did on a transaction over to the pre-handle workflow. Every transaction this
+ * node submits to the platform was already parsed, checked, and had its payer signatures expanded during ingest; when
+ * the transaction comes back in an event created by this node, pre-handle takes these results from here instead of
+ * doing the same work again.
+ *
+ * <p>Entries are keyed by the submitted transaction bytes themselves. Looking an entry up hashes the received bytes
+ * in a single pass, without copying them, and then compares them with the stored bytes; so pre-handle only ever
+ * reuses results computed from exactly the bytes it received. Each entry is taken at most once. Entries of
+ * transactions that never come back (because the platform did not accept them, for example) are evicted in insertion
+ * order, so that at most {@link CacheConfig#maxParsedTransactions()} entries with an estimated total size of at most
+ * {@link CacheConfig#maxParsedTransactionBytes()} bytes are kept. Setting the maximum number of entries to zero
+ * disables the cache.
+ */
+@Singleton
+public class ParsedTransactionCache {
+
+    private static final String CATEGORY = "app";
+
+    /** The estimated size of an entry, not counting the transaction bytes and the expanded signatures */
+    private static final long ENTRY_OVERHEAD_BYTES = 512L;
+    /** The estimated size of an expanded signature pair, which mostly references parts of the transaction */
+    private static final long EXPANDED_SIGNATURE_BYTES = 128L;
+
+    private final AccountID nodeAccountID;
+    private final ConfigProvider configProvider;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final DoubleGauge hitRate;
+
+    private final Map<Bytes, Weighed> entries = new ConcurrentHashMap<>();
+    /** The keys of all entries put, in insertion order; may still contain the keys of taken entries */
+    private final Queue<Bytes> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong totalWeight = new AtomicLong();
+
+    /**
+     * Constructor of {@code ParsedTransactionCache}
+     *
+     * @param nodeAccountID the {@link AccountID} of this node
+     * @param configProvider the {@link ConfigProvider} to get the bounds of the cache
+     * @param metrics the {@link Metrics} to report the hit rate to
+     */
+    @Inject
+    public ParsedTransactionCache(
+            @NodeSelfId @NonNull final AccountID nodeAccountID,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final Metrics metrics) {
+        this.nodeAccountID = requireNonNull(nodeAccountID);
+        this.configProvider = requireNonNull(configProvider);
+        requireNonNull(metrics);
+        this.hits = metrics.getOrCreate(new Counter.Config(CATEGORY, "parsedTxnCacheHits")
+                .withDescription("number of self-submitted transactions pre-handled with the results of ingest"));
+        this.misses = metrics.getOrCreate(new Counter.Config(CATEGORY, "parsedTxnCacheMisses")
+                .withDescription("number of self-submitted transactions pre-handled without the results of ingest"));
+        this.evictions = metrics.getOrCreate(new Counter.Config(CATEGORY, "parsedTxnCacheEvictions")
+                .withDescription("number of ingest results evicted before their transaction was pre-handled"));
+        this.hitRate = metrics.getOrCreate(new DoubleGauge.Config(CATEGORY, "parsedTxnCacheHitRate")
+                .withDescription("percentage of self-submitted transactions pre-handled with the results of ingest")
+                .withFormat("%,13.2f"));
+    }
+
+    /**
+     * Keeps the results of ingesting the given transaction bytes, until pre-handle takes them or they are evicted.
+     * Transactions of type {@code UncheckedSubmit} are not kept, as the platform receives their wrapped transaction
+     * instead.
+     *
+     * @param serializedTx the transaction bytes that will be submitted to the platform
+     * @param txInfo the {@link TransactionInfo} parsed and checked from these bytes
+     * @param payerKey the key of the payer the signatures were expanded for, or {@code null} if the payer is hollow
+     * @param expandedSignatures the full-prefix and payer signatures expanded during ingest
+     */
+    public void put(
+            @NonNull final Bytes serializedTx,
+            @NonNull final TransactionInfo txInfo,
+            @Nullable final Key payerKey,
+            @NonNull final Set<ExpandedSignaturePair> expandedSignatures) {
+        requireNonNull(serializedTx);
+        requireNonNull(txInfo);
+        requireNonNull(expandedSignatures);
+        final var cacheConfig = configProvider.getConfiguration().getConfigData(CacheConfig.class);
+        final int maxEntries = cacheConfig.maxParsedTransactions();
+        if (maxEntries <= 0 || txInfo.functionality() == UNCHECKED_SUBMIT) {
+            return;
+        }
+        // The key, and the parsed transaction with its body, each take about the size of the transaction bytes
+        final var weight = ENTRY_OVERHEAD_BYTES
+                + 3L * serializedTx.length()
+                + EXPANDED_SIGNATURE_BYTES * expandedSignatures.size();
+        final var entry = new Entry(txInfo, payerKey, Collections.unmodifiableSet(expandedSignatures));
+        if (entries.putIfAbsent(serializedTx, new Weighed(entry, weight)) != null) {
+            return;
+        }
+        totalWeight.addAndGet(weight);
+        insertionOrder.add(serializedTx);
+        queued.incrementAndGet();
+        evictWhileOver(maxEntries, cacheConfig.maxParsedTransactionBytes());
+    }
+
+    /**
+     * Takes the results of ingesting the given transaction bytes, if this node ingested them and they are still
+     * cached. Since this node only submits transactions it ingested itself, only transactions in events created by
+     * this node are looked up; and only these count towards the hit rate.
+     *
+     * @param creator the node that created the event the transaction came in
+     * @param serializedTx the transaction bytes received from the platform
+     * @return the results of ingest, with the received bytes as serialized transaction; or {@code null} if there are
+     * none
+     */
+    public @Nullable Entry take(@NonNull final AccountID creator, @NonNull final Bytes serializedTx) {
+        requireNonNull(creator);
+        requireNonNull(serializedTx);
+        if (!nodeAccountID.equals(creator) || !isEnabled()) {
+            return null;
+        }
+        final var weighed = entries.remove(serializedTx);
+        if (weighed == null) {
+            misses.increment();
+            updateHitRate();
+            return null;
+        }
+        totalWeight.addAndGet(-weighed.weight());
+        hits.increment();
+        updateHitRate();
+        final var entry = weighed.entry();
+        final var txInfo = entry.txInfo();
+        return new Entry(
+                new TransactionInfo(
+                        txInfo.transaction(),
+                        txInfo.txBody(),
+                        txInfo.transactionID(),
+                        txInfo.payerID(),
+                        txInfo.signatureMap(),
+                        txInfo.signedBytes(),
+                        txInfo.functionality(),
+                        serializedTx),
+                entry.payerKey(),
+                entry.expandedSignatures());
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the estimated total size of the cached entries in bytes.
+     *
+     * @return the estimated size in bytes
+     */
+    public long estimatedBytes() {
+        return totalWeight.get();
+    }
+
+    private boolean isEnabled() {
+        return configProvider.getConfiguration().getConfigData(CacheConfig.class).maxParsedTransactions() > 0;
+    }
+
+    private void evictWhileOver(final int maxEntries, final long maxBytes) {
+        while (queued.get() > maxEntries || totalWeight.get() > maxBytes) {
+            final var oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            final var evicted = entries.remove(oldest);
+            if (evicted != null) {
+                totalWeight.addAndGet(-evicted.weight());
+                evictions.increment();
+            }
+        }
+    }
+
+    private void updateHitRate() {
+        final var numHits = hits.get();
+        final var total = numHits + misses.get();
+        if (total > 0) {
+            hitRate.set(100.0 * numHits / total);
+        }
+    }
+
+    /**
+     * The results of ingesting a transaction.
+     *
+     * @param txInfo the {@link TransactionInfo} of the transaction
+     * @param payerKey the key of the payer the signatures were expanded for, or {@code null} if the payer was hollow
+     * @param expandedSignatures the full-prefix and payer signatures expanded during ingest
+     */
+    public record Entry(
+            @NonNull TransactionInfo txInfo,
+            @Nullable Key payerKey,
+            @NonNull Set<ExpandedSignaturePair> expandedSignatures) {
+        public Entry {
+            requireNonNull(txInfo);
+            requireNonNull(expandedSignatures);
+        }
+    }
+
+    private record Weighed(@NonNull Entry entry, long weight) {}
+}
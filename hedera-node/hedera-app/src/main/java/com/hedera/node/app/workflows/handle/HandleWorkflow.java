@@ -82,6 +82,7 @@ import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
 import com.hedera.node.app.workflows.handle.dispatch.ChildDispatchFactory;
+import com.hedera.node.app.workflows.handle.metric.TransactionConflictTracker;
 import com.hedera.node.app.workflows.handle.record.RecordStreamBuilder;
 import com.hedera.node.app.workflows.handle.record.SystemSetup;
 import com.hedera.node.app.workflows.handle.steps.HollowAccountCompletions;
@@ -134,6 +135,7 @@ public class HandleWorkflow {
     private final BlockRecordManager blockRecordManager;
     private final BlockStreamManager blockStreamManager;
     private final CacheWarmer cacheWarmer;
+    private final TransactionConflictTracker conflictTracker;
     private final OpWorkflowMetrics opWorkflowMetrics;
     private final ThrottleServiceManager throttleServiceManager;
     private final SemanticVersion version;
@@ -168,6 +170,7 @@ public class HandleWorkflow {
             @NonNull final BlockRecordManager blockRecordManager,
             @NonNull final BlockStreamManager blockStreamManager,
             @NonNull final CacheWarmer cacheWarmer,
+            @NonNull final TransactionConflictTracker conflictTracker,
             @NonNull final OpWorkflowMetrics opWorkflowMetrics,
             @NonNull final ThrottleServiceManager throttleServiceManager,
             @NonNull final SemanticVersion version,
@@ -196,6 +199,7 @@ public class HandleWorkflow {
         this.blockRecordManager = requireNonNull(blockRecordManager);
         this.blockStreamManager = requireNonNull(blockStreamManager);
         this.cacheWarmer = requireNonNull(cacheWarmer);
+        this.conflictTracker = requireNonNull(conflictTracker);
         this.opWorkflowMetrics = requireNonNull(opWorkflowMetrics);
         this.throttleServiceManager = requireNonNull(throttleServiceManager);
         this.version = requireNonNull(version);
@@ -239,12 +243,15 @@ public class HandleWorkflow {
             }
         }
         recordCache.resetRoundReceipts();
+        conflictTracker.startRound();
         try {
             handleEvents(state, round);
         } finally {
             // Even if there is an exception somewhere, we need to commit the receipts of any handled transactions
             // to the state so these transactions cannot be replayed in future rounds
             recordCache.commitRoundReceipts(state, round.getConsensusTimestamp());
+            cacheWarmer.endRound();
+            conflictTracker.endRound();
         }
     }
 
@@ -345,6 +352,7 @@ public class HandleWorkflow {
         }
         final var userTxn = newUserTxn(state, event, creator, txn, consensusNow, type);
         final var handleOutput = execute(userTxn);
+        conflictTracker.trackTransaction();
         if (streamMode != BLOCKS) {
             final var records = ((LegacyListRecordSource) handleOutput.recordSourceOrThrow()).precomputedRecords();
             blockRecordManager.endUserTransaction(records.stream(), state);
@@ -26,17 +26,26 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.store.ReadableStoreFactoryCache;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.app.workflows.prehandle.PreHandleResult;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.utility.AutoCloseableWrapper;
+import com.swirlds.platform.state.MerkleStateRoot;
+import com.swirlds.platform.system.Platform;
 import com.swirlds.platform.system.Round;
 import com.swirlds.platform.system.events.ConsensusEvent;
 import com.swirlds.platform.system.transaction.Transaction;
 import com.swirlds.state.State;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -46,6 +55,12 @@ import javax.inject.Singleton;
  * This class is used to warm up the cache. It is called at the beginning of a round with the current state
  * and the round. It will start a background thread which iterates through all transactions and calls the
  * {@link TransactionHandler#warm} method.
+ *
+ * <p>If {@link CacheConfig#prefetchEnabled()} is set, the values read during warmup are also kept in the
+ * {@link RoundPrefetchCaches} of the round, so the handle thread does not have to read them again. Otherwise, the
+ * values are read from the latest immutable state, through the stores of the {@link ReadableStoreFactoryCache} that
+ * queries on the same state share. The latest immutable state is reserved until all transactions of the round were
+ * warmed up.
  */
 @Singleton
 public class CacheWarmer {
@@ -53,15 +68,27 @@ public class CacheWarmer {
     private final TransactionChecker checker;
     private final TransactionDispatcher dispatcher;
     private final Executor executor;
+    private final ReadableStoreFactoryCache storeFactoryCache;
+    private final RoundPrefetchCaches prefetchCaches;
+    private final ConfigProvider configProvider;
+    private final Platform platform;
 
     @Inject
     public CacheWarmer(
             @NonNull final TransactionChecker checker,
             @NonNull final TransactionDispatcher dispatcher,
-            @NonNull @Named("CacheWarmer") final Executor executor) {
+            @NonNull @Named("CacheWarmer") final Executor executor,
+            @NonNull final ReadableStoreFactoryCache storeFactoryCache,
+            @NonNull final RoundPrefetchCaches prefetchCaches,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final Platform platform) {
         this.checker = checker;
         this.dispatcher = requireNonNull(dispatcher);
         this.executor = requireNonNull(executor);
+        this.storeFactoryCache = requireNonNull(storeFactoryCache);
+        this.prefetchCaches = requireNonNull(prefetchCaches);
+        this.configProvider = requireNonNull(configProvider);
+        this.platform = requireNonNull(platform);
     }
 
     /**
@@ -71,26 +98,66 @@ public class CacheWarmer {
      * @param round the current round
      */
     public void warm(@NonNull final State state, @NonNull final Round round) {
+        final boolean prefetch =
+                configProvider.getConfiguration().getConfigData(CacheConfig.class).prefetchEnabled();
+        if (prefetch) {
+            // The prefetch caches must be attached on the handle thread, before any transaction of the round commits
+            warm(prefetchCaches.startRound(state), round, () -> {});
+            return;
+        }
+        final AutoCloseableWrapper<MerkleStateRoot> wrappedState = platform.getLatestImmutableState("CacheWarmer");
+        if (wrappedState.get() == null) {
+            wrappedState.close();
+            warm(storeFactoryCache.factoryFor(state), round, () -> {});
+            return;
+        }
+        warm(storeFactoryCache.factoryFor(wrappedState.get()), round, wrappedState::close);
+    }
+
+    private void warm(
+            @NonNull final ReadableStoreFactory storeFactory,
+            @NonNull final Round round,
+            @NonNull final Runnable onDone) {
         executor.execute(() -> {
-            final ReadableStoreFactory storeFactory = new ReadableStoreFactory(state);
-            final ReadableAccountStore accountStore = storeFactory.getStore(ReadableAccountStore.class);
-            for (final ConsensusEvent event : round) {
-                event.forEachTransaction(platformTransaction -> executor.execute(() -> {
-                    final TransactionBody txBody = extractTransactionBody(platformTransaction);
-                    if (txBody != null) {
-                        final AccountID payerID = txBody.transactionIDOrElse(TransactionID.DEFAULT)
-                                .accountID();
-                        if (payerID != null) {
-                            accountStore.warm(payerID);
-                        }
-                        final var context = new WarmupContextImpl(txBody, storeFactory);
-                        dispatcher.dispatchWarmup(context);
-                    }
-                }));
+            try {
+                final ReadableAccountStore accountStore = storeFactory.getStore(ReadableAccountStore.class);
+                final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+                for (final ConsensusEvent event : round) {
+                    event.forEachTransaction(platformTransaction -> tasks.add(CompletableFuture.runAsync(
+                            () -> warm(platformTransaction, accountStore, storeFactory), executor)));
+                }
+                CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                        .whenComplete((ignore, error) -> onDone.run());
+            } catch (final RuntimeException e) {
+                onDone.run();
+                throw e;
             }
         });
     }
 
+    private void warm(
+            @NonNull final Transaction platformTransaction,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final ReadableStoreFactory storeFactory) {
+        final TransactionBody txBody = extractTransactionBody(platformTransaction);
+        if (txBody != null) {
+            final AccountID payerID = txBody.transactionIDOrElse(TransactionID.DEFAULT).accountID();
+            if (payerID != null) {
+                accountStore.warm(payerID);
+            }
+            final var context = new WarmupContextImpl(txBody, storeFactory);
+            dispatcher.dispatchWarmup(context);
+        }
+    }
+
+    /**
+     * Called at the end of a round, after all its transactions were handled. Releases the values prefetched for
+     * the round, if any.
+     */
+    public void endRound() {
+        prefetchCaches.endRound();
+    }
+
     @Nullable
     private TransactionBody extractTransactionBody(@NonNull final Transaction platformTransaction) {
         // First we check if the transaction was already parsed during pre-handle (should be almost always the case)
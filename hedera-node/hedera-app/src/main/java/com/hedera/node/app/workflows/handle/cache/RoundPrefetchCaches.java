@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.cache;
+
+import static com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema.STORAGE_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKENS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKEN_RELS_KEY;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.service.contract.ContractService;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.service.token.ReadableTokenRelationStore;
+import com.hedera.node.app.service.token.ReadableTokenStore;
+import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.State;
+import com.swirlds.state.spi.PrefetchCache;
+import com.swirlds.state.spi.ReadableKVStateBase;
+import com.swirlds.state.spi.WritableKVStateBase;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Manages the {@link PrefetchCache}s of a round. At the start of a round, one cache is attached to each prefetched
+ * k/v state, both to the readable state the {@link CacheWarmer} reads from and to the writable state the handle
+ * thread reads from. The warmer's reads thereby become available to the handle thread as already deserialized
+ * values. At the end of the round, the caches are detached and closed, and their hit rates are reported.
+ *
+ * <p>All methods must be called from the handle thread.
+ */
+@Singleton
+public class RoundPrefetchCaches {
+
+    private static final String CATEGORY = "app";
+
+    /** The k/v states whose values are prefetched, with the store that reads them */
+    private static final List<PrefetchedState> PREFETCHED_STATES = List.of(
+            new PrefetchedState(TokenService.NAME, ACCOUNTS_KEY, ReadableAccountStore.class),
+            new PrefetchedState(TokenService.NAME, TOKENS_KEY, ReadableTokenStore.class),
+            new PrefetchedState(TokenService.NAME, TOKEN_RELS_KEY, ReadableTokenRelationStore.class),
+            new PrefetchedState(ContractService.NAME, STORAGE_KEY, ContractStateStore.class));
+
+    private final Counter hits;
+    private final Counter misses;
+    private final DoubleGauge hitRate;
+    private final List<AttachedCache> attachedCaches = new ArrayList<>();
+
+    /**
+     * Constructor of {@code RoundPrefetchCaches}
+     *
+     * @param metrics the {@link Metrics} to report the hit rates to
+     */
+    @Inject
+    public RoundPrefetchCaches(@NonNull final Metrics metrics) {
+        requireNonNull(metrics);
+        this.hits = metrics.getOrCreate(new Counter.Config(CATEGORY, "prefetchHits")
+                .withDescription("number of handle-thread state reads answered by prefetched values"));
+        this.misses = metrics.getOrCreate(new Counter.Config(CATEGORY, "prefetchMisses")
+                .withDescription("number of handle-thread reads of prefetched states that went to the data source"));
+        this.hitRate = metrics.getOrCreate(new DoubleGauge.Config(CATEGORY, "prefetchHitRate")
+                .withDescription("percentage of handle-thread reads of prefetched states answered in the last round")
+                .withFormat("%,13.2f"));
+    }
+
+    /**
+     * Attaches new prefetch caches to the given state, and returns the {@link ReadableStoreFactory} whose stores
+     * offer their reads to these caches. Any caches of a previous round that was not ended are closed first.
+     *
+     * @param state the state the round works on
+     * @return the store factory to warm up the round with
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @NonNull
+    public ReadableStoreFactory startRound(@NonNull final State state) {
+        requireNonNull(state);
+        endRound();
+        final var storeFactory = new ReadableStoreFactory(state, true);
+        for (final var prefetched : PREFETCHED_STATES) {
+            final var readableStates = state.getReadableStates(prefetched.serviceName());
+            if (!readableStates.contains(prefetched.stateKey())) {
+                continue;
+            }
+            // Create the store now, so it holds the same readable state instance the cache is attached to
+            storeFactory.getStore(prefetched.storeInterface());
+            final var readableState = readableStates.get(prefetched.stateKey());
+            final var writableState =
+                    state.getWritableStates(prefetched.serviceName()).get(prefetched.stateKey());
+            if (readableState instanceof ReadableKVStateBase readable
+                    && writableState instanceof WritableKVStateBase writable) {
+                final var cache = new PrefetchCache<>();
+                readable.setPrefetchCache(cache);
+                writable.setPrefetchCache(cache);
+                attachedCaches.add(new AttachedCache(readable, writable, cache));
+            }
+        }
+        return storeFactory;
+    }
+
+    /**
+     * Detaches and closes the caches of the current round, and updates the hit-rate metrics.
+     */
+    public void endRound() {
+        if (attachedCaches.isEmpty()) {
+            return;
+        }
+        long roundHits = 0;
+        long roundMisses = 0;
+        for (final var attached : attachedCaches) {
+            attached.readable().setPrefetchCache(null);
+            attached.writable().setPrefetchCache(null);
+            roundHits += attached.cache().hits();
+            roundMisses += attached.cache().misses();
+            attached.cache().close();
+        }
+        attachedCaches.clear();
+        if (roundHits > 0) {
+            hits.add(roundHits);
+        }
+        if (roundMisses > 0) {
+            misses.add(roundMisses);
+        }
+        if (roundHits + roundMisses > 0) {
+            hitRate.set(100.0 * roundHits / (roundHits + roundMisses));
+        }
+    }
+
+    private record PrefetchedState(
+            @NonNull String serviceName, @NonNull String stateKey, @NonNull Class<?> storeInterface) {}
+
+    private record AttachedCache(
+            @NonNull ReadableKVStateBase<?, ?> readable,
+            @NonNull WritableKVStateBase<?, ?> writable,
+            @NonNull PrefetchCache<?, ?> cache) {}
+}
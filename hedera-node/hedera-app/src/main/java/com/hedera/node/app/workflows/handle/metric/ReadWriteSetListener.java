@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.metric;
+
+import static com.swirlds.state.StateChangeListener.StateType.MAP;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.blocks.impl.BlockImplUtils;
+import com.swirlds.state.StateChangeListener;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A state change listener that records the keys of all maps read and written since it was last reset. Since the
+ * working state is committed at the end of each user transaction, resetting the listener between transactions
+ * gives the read and write sets of each transaction.
+ *
+ * <p>Singletons and queues are not tracked.
+ */
+public class ReadWriteSetListener implements StateChangeListener {
+    private static final Set<StateType> TARGET_DATA_TYPES = EnumSet.of(MAP);
+
+    private final Set<MapKey> readSet = new HashSet<>();
+    private final Set<MapKey> writeSet = new HashSet<>();
+
+    /**
+     * A key of the map with the given state id.
+     *
+     * @param stateId the state id of the map
+     * @param key the key
+     */
+    public record MapKey(int stateId, @NonNull Object key) {
+        public MapKey {
+            requireNonNull(key);
+        }
+    }
+
+    /**
+     * Clears the recorded read and write sets.
+     */
+    public void reset() {
+        readSet.clear();
+        writeSet.clear();
+    }
+
+    /**
+     * Returns the keys read since the last reset, other than those modified in the same commit.
+     * @return the read set
+     */
+    public Set<MapKey> readSet() {
+        return Collections.unmodifiableSet(readSet);
+    }
+
+    /**
+     * Returns the keys written since the last reset.
+     * @return the write set
+     */
+    public Set<MapKey> writeSet() {
+        return Collections.unmodifiableSet(writeSet);
+    }
+
+    @Override
+    public Set<StateType> stateTypes() {
+        return TARGET_DATA_TYPES;
+    }
+
+    @Override
+    public int stateIdFor(@NonNull final String serviceName, @NonNull final String stateKey) {
+        requireNonNull(serviceName);
+        requireNonNull(stateKey);
+        return BlockImplUtils.stateIdFor(serviceName, stateKey);
+    }
+
+    @Override
+    public <K, V> void mapUpdateChange(final int stateId, @NonNull final K key, @NonNull final V value) {
+        writeSet.add(new MapKey(stateId, key));
+    }
+
+    @Override
+    public <K> void mapDeleteChange(final int stateId, @NonNull final K key) {
+        writeSet.add(new MapKey(stateId, key));
+    }
+
+    @Override
+    public <K> void mapReadAccess(final int stateId, @NonNull final K key) {
+        readSet.add(new MapKey(stateId, key));
+    }
+
+    @Override
+    public boolean wantsReadAccesses() {
+        return true;
+    }
+}
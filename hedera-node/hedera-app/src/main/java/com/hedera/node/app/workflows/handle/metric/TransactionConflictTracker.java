@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.metric;
+
+import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_ACCOUNTS;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.node.app.workflows.handle.metric.ReadWriteSetListener.MapKey;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.AccountsConfig;
+import com.hedera.node.config.data.HederaConfig;
+import com.hedera.node.config.data.LedgerConfig;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.spi.info.NetworkInfo;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Measures how much of a round could be handled in parallel, by detecting the conflicts an optimistic parallel
+ * execution of its user transactions would run into.
+ *
+ * <p>A transaction conflicts with the transactions before it in the round if it reads or writes a key one of them
+ * wrote; under optimistic execution it would have to be re-executed after the earlier transaction committed. The
+ * transactions of a round form chains of such conflicts, and the number of transactions divided by the length of
+ * the longest chain is the speedup an unlimited number of threads could achieve for the round.
+ *
+ * <p>Almost every transaction pays fees to the node and funding accounts, and many pay staking rewards. A parallel
+ * execution would accumulate these balance changes separately instead of ordering transactions by them, so the
+ * node, funding, staking reward and node reward accounts are left out of the conflict chains. Accesses to such an
+ * account written earlier in the round are reported by their own counter instead.
+ *
+ * <p>Only map states are tracked, using the read and write sets recorded by the {@link ReadWriteSetListener}
+ * registered with the working state. All methods must be called from the handle thread.
+ */
+@Singleton
+public class TransactionConflictTracker {
+    private static final String CATEGORY = "app";
+
+    private final boolean enabled;
+    private final ReadWriteSetListener readWriteSetListener;
+    private final ConfigProvider configProvider;
+    private final NetworkInfo networkInfo;
+    private final Counter trackedTxns;
+    private final Counter conflictingTxns;
+    private final Counter systemAccountConflictingTxns;
+    private final DoubleGauge potentialParallelism;
+    /** For each key written in the current round, the length of the conflict chain ending in its last write */
+    private final Map<MapKey, Integer> chainLengths = new HashMap<>();
+    /** The keys of the system accounts left out of the conflict chains */
+    private final Set<MapKey> systemAccountKeys = new HashSet<>();
+    /** The system account keys written in the current round */
+    private final Set<MapKey> systemAccountsWritten = new HashSet<>();
+
+    private long roundTxns;
+    private int longestChain;
+
+    /**
+     * Constructor of {@code TransactionConflictTracker}
+     *
+     * @param readWriteSetListener the listener recording the read and write sets of each transaction
+     * @param configProvider the {@link ConfigProvider}
+     * @param networkInfo the {@link NetworkInfo} with the node accounts
+     * @param metrics the {@link Metrics} to report the conflicts to
+     */
+    @Inject
+    public TransactionConflictTracker(
+            @NonNull final ReadWriteSetListener readWriteSetListener,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final NetworkInfo networkInfo,
+            @NonNull final Metrics metrics) {
+        this.readWriteSetListener = requireNonNull(readWriteSetListener);
+        this.configProvider = requireNonNull(configProvider);
+        this.networkInfo = requireNonNull(networkInfo);
+        requireNonNull(metrics);
+        this.enabled = configProvider
+                .getConfiguration()
+                .getConfigData(HederaConfig.class)
+                .workflowConflictTrackingEnabled();
+        this.trackedTxns = metrics.getOrCreate(new Counter.Config(CATEGORY, "conflictTrackedTxns")
+                .withDescription("number of user transactions whose read and write sets were tracked"));
+        this.conflictingTxns = metrics.getOrCreate(new Counter.Config(CATEGORY, "conflictingTxns")
+                .withDescription("number of user transactions that accessed a key written earlier in their round"));
+        this.systemAccountConflictingTxns = metrics.getOrCreate(new Counter.Config(
+                        CATEGORY, "systemAccountConflictingTxns")
+                .withDescription("number of user transactions that accessed a node, funding or reward account "
+                        + "written earlier in their round"));
+        this.potentialParallelism = metrics.getOrCreate(new DoubleGauge.Config(CATEGORY, "potentialParallelism")
+                .withDescription("user transactions per conflict chain in the last round")
+                .withFormat("%,13.2f"));
+    }
+
+    /**
+     * Starts tracking a new round, discarding anything recorded before.
+     */
+    public void startRound() {
+        if (!enabled) {
+            return;
+        }
+        chainLengths.clear();
+        systemAccountsWritten.clear();
+        roundTxns = 0;
+        longestChain = 0;
+        readWriteSetListener.reset();
+        refreshSystemAccountKeys();
+    }
+
+    /**
+     * Tracks the user transaction whose state changes were just committed.
+     */
+    public void trackTransaction() {
+        if (!enabled) {
+            return;
+        }
+        final var readSet = readWriteSetListener.readSet();
+        final var writeSet = readWriteSetListener.writeSet();
+        final var chainLength = 1 + Math.max(longestChainIn(readSet), longestChainIn(writeSet));
+        final var systemAccountConflict =
+                anySystemAccountWrittenIn(readSet) || anySystemAccountWrittenIn(writeSet);
+        for (final var key : writeSet) {
+            if (systemAccountKeys.contains(key)) {
+                systemAccountsWritten.add(key);
+            } else {
+                chainLengths.put(key, chainLength);
+            }
+        }
+        readWriteSetListener.reset();
+
+        roundTxns++;
+        longestChain = Math.max(longestChain, chainLength);
+        trackedTxns.increment();
+        if (chainLength > 1) {
+            conflictingTxns.increment();
+        }
+        if (systemAccountConflict) {
+            systemAccountConflictingTxns.increment();
+        }
+    }
+
+    /**
+     * Ends the current round and reports its potential parallelism.
+     */
+    public void endRound() {
+        if (!enabled) {
+            return;
+        }
+        if (longestChain > 0) {
+            potentialParallelism.set((double) roundTxns / longestChain);
+        }
+        chainLengths.clear();
+        systemAccountsWritten.clear();
+    }
+
+    private void refreshSystemAccountKeys() {
+        systemAccountKeys.clear();
+        final var config = configProvider.getConfiguration();
+        final var hederaConfig = config.getConfigData(HederaConfig.class);
+        final var accountsConfig = config.getConfigData(AccountsConfig.class);
+        addSystemAccount(hederaConfig, config.getConfigData(LedgerConfig.class).fundingAccount());
+        addSystemAccount(hederaConfig, accountsConfig.stakingRewardAccount());
+        addSystemAccount(hederaConfig, accountsConfig.nodeRewardAccount());
+        for (final var node : networkInfo.addressBook()) {
+            addSystemAccount(node.accountId());
+        }
+    }
+
+    private void addSystemAccount(@NonNull final HederaConfig hederaConfig, final long number) {
+        addSystemAccount(AccountID.newBuilder()
+                .shardNum(hederaConfig.shard())
+                .realmNum(hederaConfig.realm())
+                .accountNum(number)
+                .build());
+    }
+
+    private void addSystemAccount(@NonNull final AccountID accountId) {
+        systemAccountKeys.add(new MapKey(STATE_ID_ACCOUNTS.protoOrdinal(), accountId));
+    }
+
+    private boolean anySystemAccountWrittenIn(@NonNull final Set<MapKey> keys) {
+        for (final var key : keys) {
+            if (systemAccountsWritten.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int longestChainIn(@NonNull final Set<MapKey> keys) {
+        int longest = 0;
+        for (final var key : keys) {
+            longest = Math.max(longest, chainLengths.getOrDefault(key, 0));
+        }
+        return longest;
+    }
+}
@@ -55,6 +55,7 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
+import com.hedera.node.app.workflows.ParsedTransactionCache;
 import com.hedera.node.app.workflows.SolvencyPreCheck;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionChecker.RequireMinValidLifetimeBuffer;
@@ -66,6 +67,7 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.state.State;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.InstantSource;
 import java.util.EnumSet;
 import java.util.HashSet;
@@ -97,6 +99,7 @@ public final class IngestChecker {
     private final Authorizer authorizer;
     private final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator;
     private final InstantSource instantSource;
+    private final ParsedTransactionCache parsedTransactionCache;
 
     /**
      * Constructor of the {@code IngestChecker}
@@ -111,6 +114,7 @@ public final class IngestChecker {
      * @param feeManager the {@link FeeManager} that manages {@link com.hedera.node.app.spi.fees.FeeCalculator}s
      * @param synchronizedThrottleAccumulator the {@link SynchronizedThrottleAccumulator} that checks transaction should be throttled
      * @param instantSource the {@link InstantSource} that provides the current time
+     * @param parsedTransactionCache the {@link ParsedTransactionCache} to hand the results of ingest to pre-handle
      * @throws NullPointerException if one of the arguments is {@code null}
      */
     @Inject
@@ -126,7 +130,8 @@ public final class IngestChecker {
             @NonNull final FeeManager feeManager,
             @NonNull final Authorizer authorizer,
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
-            @NonNull final InstantSource instantSource) {
+            @NonNull final InstantSource instantSource,
+            @NonNull final ParsedTransactionCache parsedTransactionCache) {
         this.nodeAccount = requireNonNull(nodeAccount, "nodeAccount must not be null");
         this.currentPlatformStatus = requireNonNull(currentPlatformStatus, "currentPlatformStatus must not be null");
         this.transactionChecker = requireNonNull(transactionChecker, "transactionChecker must not be null");
@@ -139,6 +144,7 @@ public final class IngestChecker {
         this.authorizer = requireNonNull(authorizer, "authorizer must not be null");
         this.synchronizedThrottleAccumulator = requireNonNull(synchronizedThrottleAccumulator);
         this.instantSource = requireNonNull(instantSource);
+        this.parsedTransactionCache = requireNonNull(parsedTransactionCache);
     }
 
     /**
@@ -164,6 +170,27 @@ public final class IngestChecker {
     public TransactionInfo runAllChecks(
             @NonNull final State state, @NonNull final Transaction tx, @NonNull final Configuration configuration)
             throws PreCheckException {
+        return runAllChecks(state, tx, null, configuration);
+    }
+
+    /**
+     * Runs all the ingest checks on a {@link Transaction} that will be submitted to the platform. If all checks
+     * pass, the parsed transaction and its expanded payer signatures are kept in the {@link ParsedTransactionCache},
+     * so that pre-handle can reuse them once the transaction comes back in an event of this node.
+     *
+     * @param state the {@link State} to use
+     * @param tx the {@link Transaction} to check
+     * @param serializedTx if set, the serialized transaction bytes that will be submitted
+     * @param configuration the {@link Configuration} to use
+     * @return the {@link TransactionInfo} with the extracted information
+     * @throws PreCheckException if a check fails
+     */
+    public TransactionInfo runAllChecks(
+            @NonNull final State state,
+            @NonNull final Transaction tx,
+            @Nullable final Bytes serializedTx,
+            @NonNull final Configuration configuration)
+            throws PreCheckException {
         // During ingest we approximate consensus time with wall clock time
         final var consensusTime = instantSource.instant();
 
@@ -216,7 +243,7 @@ public final class IngestChecker {
         }
 
         // 6. Verify payer's signatures
-        verifyPayerSignature(txInfo, payer, configuration);
+        final var expandedSigs = verifyPayerSignature(txInfo, payer, configuration);
 
         // 7. Check payer solvency
         final var numSigs = txInfo.signatureMap().sigPair().size();
@@ -234,6 +261,14 @@ public final class IngestChecker {
         final var fees = dispatcher.dispatchComputeFees(feeContext);
         solvencyPreCheck.checkSolvency(txInfo, payer, fees, INGEST);
 
+        // 8. Keep the results for pre-handle (the signatures expanded for a hollow payer are of no use there)
+        if (serializedTx != null) {
+            if (isHollow(payer)) {
+                parsedTransactionCache.put(serializedTx, txInfo, null, Set.of());
+            } else {
+                parsedTransactionCache.put(serializedTx, txInfo, payerKey, expandedSigs);
+            }
+        }
         return txInfo;
     }
 
@@ -258,7 +293,7 @@ public final class IngestChecker {
         }
     }
 
-    private void verifyPayerSignature(
+    private Set<ExpandedSignaturePair> verifyPayerSignature(
             @NonNull final TransactionInfo txInfo,
             @NonNull final Account payer,
             @NonNull final Configuration configuration)
@@ -299,5 +334,6 @@ public final class IngestChecker {
         if (payerKeyVerification.failed()) {
             throw new PreCheckException(INVALID_SIGNATURE);
         }
+        return expandedSigs;
     }
 }
@@ -89,7 +89,7 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
             final var tx = transactionChecker.parse(requestBuffer);
             final var state = wrappedState.get();
             final var configuration = configProvider.getConfiguration();
-            final var transactionInfo = ingestChecker.runAllChecks(state, tx, configuration);
+            final var transactionInfo = ingestChecker.runAllChecks(state, tx, requestBuffer, configuration);
 
             // 7. Submit to platform
             submissionManager.submit(transactionInfo.txBody(), requestBuffer);
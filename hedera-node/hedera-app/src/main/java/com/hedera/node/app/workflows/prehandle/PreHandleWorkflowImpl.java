@@ -42,6 +42,7 @@ import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.workflows.ParsedTransactionCache;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
@@ -95,6 +96,10 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * Used for registering notice of transactionIDs seen by this node
      */
     private final DeduplicationCache deduplicationCache;
+    /**
+     * Holds the results of ingesting the transactions this node submitted
+     */
+    private final ParsedTransactionCache parsedTransactionCache;
 
     /**
      * Creates a new instance of {@code PreHandleWorkflowImpl}.
@@ -103,6 +108,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * transaction.
      * @param transactionChecker the {@link TransactionChecker} for parsing and verifying the transaction
      * @param signatureVerifier the {@link SignatureVerifier} to verify signatures
+     * @param parsedTransactionCache the {@link ParsedTransactionCache} with the results of ingest to reuse
      * @throws NullPointerException if any of the parameters is {@code null}
      */
     @Inject
@@ -112,13 +118,15 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final SignatureVerifier signatureVerifier,
             @NonNull final SignatureExpander signatureExpander,
             @NonNull final ConfigProvider configProvider,
-            @NonNull final DeduplicationCache deduplicationCache) {
+            @NonNull final DeduplicationCache deduplicationCache,
+            @NonNull final ParsedTransactionCache parsedTransactionCache) {
         this.dispatcher = requireNonNull(dispatcher);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.signatureVerifier = requireNonNull(signatureVerifier);
         this.signatureExpander = requireNonNull(signatureExpander);
         this.configProvider = requireNonNull(configProvider);
         this.deduplicationCache = requireNonNull(deduplicationCache);
+        this.parsedTransactionCache = requireNonNull(parsedTransactionCache);
     }
 
     /**
@@ -171,12 +179,17 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
 
         // 1. Parse the Transaction and check the syntax
         final TransactionInfo txInfo;
+        ParsedTransactionCache.Entry ingested = null;
         try {
             // Transaction info is a pure function of the transaction, so we can
-            // always reuse it from a prior result
-            txInfo = previousResult == null
-                    ? transactionChecker.parseAndCheck(platformTx.getApplicationTransaction())
-                    : previousResult.txInfo();
+            // always reuse it from a prior result; or from ingest, if this node submitted the transaction
+            if (previousResult == null) {
+                final var serializedTx = platformTx.getApplicationTransaction();
+                ingested = parsedTransactionCache.take(creator, serializedTx);
+                txInfo = ingested == null ? transactionChecker.parseAndCheck(serializedTx) : ingested.txInfo();
+            } else {
+                txInfo = previousResult.txInfo();
+            }
             if (txInfo == null) {
                 // In particular, a null transaction info means we already know the transaction's final failure status
                 return previousResult;
@@ -236,7 +249,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         }
 
         // 3. Expand and verify signatures
-        return expandAndVerifySignatures(txInfo, payer, payerAccount, storeFactory, previousResult);
+        return expandAndVerifySignatures(txInfo, payer, payerAccount, storeFactory, previousResult, ingested);
     }
 
     /**
@@ -247,6 +260,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * @param payerAccount the payer account
      * @param storeFactory the store factory
      * @param previousResult the reusable result
+     * @param ingested the results of ingesting the transaction, if this node submitted it
      * @return the pre-handle result
      */
     private PreHandleResult expandAndVerifySignatures(
@@ -254,7 +268,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             final AccountID payer,
             final Account payerAccount,
             final ReadableStoreFactory storeFactory,
-            @Nullable final PreHandleResult previousResult) {
+            @Nullable final PreHandleResult previousResult,
+            @Nullable final ParsedTransactionCache.Entry ingested) {
         // 1a. Create the PreHandleContext. This will get reused across several calls to the transaction handlers
         final PreHandleContext context;
         final VersionedConfiguration configuration = configProvider.getConfiguration();
@@ -299,14 +314,15 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             // In that case, the payer will end up paying for the transaction. So we still need to do the signature
             // verifications that we have determined so far.
             logger.debug("Transaction failed pre-check", preCheck);
-            final var results =
-                    verifySignatures(txInfo, context, VerifyOnlyPayerKey.YES, payerIsHollow, previousResult);
+            final var results = verifySignatures(
+                    txInfo, context, VerifyOnlyPayerKey.YES, payerIsHollow, previousResult, ingested);
             return preHandleFailure(
                     payer, payerKey, preCheck.responseCode(), txInfo, Set.of(), Set.of(), Set.of(), results);
         }
 
         // 3. Get the verification results
-        final var results = verifySignatures(txInfo, context, VerifyOnlyPayerKey.NO, payerIsHollow, previousResult);
+        final var results =
+                verifySignatures(txInfo, context, VerifyOnlyPayerKey.NO, payerIsHollow, previousResult, ingested);
 
         // 4. Create and return TransactionMetadata
         return new PreHandleResult(
@@ -347,18 +363,27 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final PreHandleContext context,
             @NonNull final VerifyOnlyPayerKey onlyPayerKey,
             @NonNull final PayerIsHollow payerIsHollow,
-            @Nullable final PreHandleResult previousResult) {
+            @Nullable final PreHandleResult previousResult,
+            @Nullable final ParsedTransactionCache.Entry ingested) {
         // Maybe we can reuse the previous result's verification results
         if (previousResult != null && previousResult.hasReusableVerificationResultsFor(context)) {
             return previousResult.verificationResults();
         }
-        // If not, bootstrap the expanded signature pairs by grabbing all prefixes that are "full" keys already
         final var originals = txInfo.signatureMap().sigPair();
         final var expanded = new LinkedHashSet<ExpandedSignaturePair>();
-        signatureExpander.expand(originals, expanded);
-        // Expand the payer account key signatures if it is not a hollow account
-        if (payerIsHollow == PayerIsHollow.NO) {
-            signatureExpander.expand(context.payerKey(), originals, expanded);
+        if (payerIsHollow == PayerIsHollow.NO
+                && ingested != null
+                && ingested.payerKey() != null
+                && ingested.payerKey().equals(context.payerKey())) {
+            // Ingest already expanded the "full" prefixes and the payer key signatures, and the payer key is unchanged
+            expanded.addAll(ingested.expandedSignatures());
+        } else {
+            // If not, bootstrap the expanded signature pairs by grabbing all prefixes that are "full" keys already
+            signatureExpander.expand(originals, expanded);
+            // Expand the payer account key signatures if it is not a hollow account
+            if (payerIsHollow == PayerIsHollow.NO) {
+                signatureExpander.expand(context.payerKey(), originals, expanded);
+            }
         }
         // If needed, expand additional SignaturePairs based on gathered keys (we can safely ignore
         // hollow accounts because we already grabbed them when expanding the "full prefix" keys above)
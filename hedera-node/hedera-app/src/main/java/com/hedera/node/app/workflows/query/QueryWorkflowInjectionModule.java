@@ -31,6 +31,7 @@ import com.hedera.node.app.service.token.impl.handlers.TokenHandlers;
 import com.hedera.node.app.spi.authorization.Authorizer;
 import com.hedera.node.app.spi.records.RecordCache;
 import com.hedera.node.app.state.WorkingStateAccessor;
+import com.hedera.node.app.store.ReadableStoreFactoryCache;
 import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.ingest.IngestChecker;
@@ -73,7 +74,8 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final FeeManager feeManager,
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
-            @NonNull final OpWorkflowMetrics opWorkflowMetrics) {
+            @NonNull final OpWorkflowMetrics opWorkflowMetrics,
+            @NonNull final ReadableStoreFactoryCache storeFactoryCache) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -89,6 +91,7 @@ public interface QueryWorkflowInjectionModule {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                storeFactoryCache,
                 true);
     }
 
@@ -109,7 +112,8 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final FeeManager feeManager,
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
-            @NonNull final OpWorkflowMetrics opWorkflowMetrics) {
+            @NonNull final OpWorkflowMetrics opWorkflowMetrics,
+            @NonNull final ReadableStoreFactoryCache storeFactoryCache) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -125,6 +129,7 @@ public interface QueryWorkflowInjectionModule {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                storeFactoryCache,
                 false);
     }
 
@@ -75,6 +75,7 @@ import com.swirlds.state.spi.WritableSingletonStateBase;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.ForkJoinPool;
@@ -410,6 +411,35 @@ class BlockStreamManagerImplTest {
         assertEquals(FIRST_FAKE_SIGNATURE, proof.blockSignature());
     }
 
+    @Test
+    void serializationBufferPoolReusesLargeEnoughBuffers() {
+        final var pool = new BlockStreamManagerImpl.SerializationBufferPool();
+        final var buffer = pool.acquire(1024);
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        assertEquals(1, pool.size());
+
+        final var reused = pool.acquire(512);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(1024, reused.limit());
+        assertEquals(0, pool.size());
+
+        pool.release(reused);
+        final var larger = pool.acquire(2048);
+        assertEquals(2048, larger.capacity());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void serializationBufferPoolIsBounded() {
+        final var pool = new BlockStreamManagerImpl.SerializationBufferPool();
+        for (int i = 0; i <= BlockStreamManagerImpl.SerializationBufferPool.MAX_POOLED_BUFFERS; i++) {
+            pool.release(ByteBuffer.allocate(8));
+        }
+        assertEquals(BlockStreamManagerImpl.SerializationBufferPool.MAX_POOLED_BUFFERS, pool.size());
+    }
+
     @Test
     void supportsMultiplePendingBlocksWithIndirectProofAsExpected() throws ParseException {
         givenSubjectWith(
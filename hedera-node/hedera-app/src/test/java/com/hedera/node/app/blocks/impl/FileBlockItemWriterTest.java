@@ -34,6 +34,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -70,7 +71,8 @@ public class FileBlockItemWriterTest {
         when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
         when(fileSystem.getPath(anyString())).thenReturn(tempDir);
 
-        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, ForkJoinPool.commonPool());
 
         // Assertion to check if the directory is created
         Path expectedDirectory = tempDir.resolve("block-0.0.3");
@@ -85,7 +87,8 @@ public class FileBlockItemWriterTest {
         when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
         when(fileSystem.getPath(anyString())).thenReturn(tempDir);
 
-        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, ForkJoinPool.commonPool());
 
         // Assertion to check if the directory is created
         Path expectedDirectory = tempDir.resolve("block-0.0.3");
@@ -106,7 +109,8 @@ public class FileBlockItemWriterTest {
         when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
         when(fileSystem.getPath(anyString())).thenReturn(tempDir);
 
-        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, ForkJoinPool.commonPool());
 
         // Assertion to check if the directory is created
         Path expectedDirectory = tempDir.resolve("block-0.0.3");
@@ -126,7 +130,8 @@ public class FileBlockItemWriterTest {
         when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
         when(fileSystem.getPath(anyString())).thenReturn(tempDir);
 
-        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, ForkJoinPool.commonPool());
 
         // Assertion to check if the directory is created
         Path expectedDirectory = tempDir.resolve("block-0.0.3");
@@ -144,7 +149,8 @@ public class FileBlockItemWriterTest {
         when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
         when(fileSystem.getPath(anyString())).thenReturn(tempDir);
 
-        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, ForkJoinPool.commonPool());
 
         // Open a block
         fileBlockItemWriter.openBlock(1);
@@ -178,7 +184,8 @@ public class FileBlockItemWriterTest {
         when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
         when(fileSystem.getPath(anyString())).thenReturn(tempDir);
 
-        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, ForkJoinPool.commonPool());
 
         // Create a Bytes object and write it
         final var bytes = new byte[] {1, 2, 3, 4, 5};
@@ -195,7 +202,8 @@ public class FileBlockItemWriterTest {
         when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
         when(fileSystem.getPath(anyString())).thenReturn(tempDir);
 
-        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, ForkJoinPool.commonPool());
 
         // Open a block
         fileBlockItemWriter.openBlock(1);
@@ -217,7 +225,8 @@ public class FileBlockItemWriterTest {
         when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
         when(fileSystem.getPath(anyString())).thenReturn(tempDir);
 
-        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, ForkJoinPool.commonPool());
 
         assertThatThrownBy(fileBlockItemWriter::closeBlock, "Cannot close a FileBlockItemWriter that is not open")
                 .isInstanceOf(IllegalStateException.class);
@@ -231,7 +240,8 @@ public class FileBlockItemWriterTest {
         when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
         when(fileSystem.getPath(anyString())).thenReturn(tempDir);
 
-        FileBlockItemWriter fileBlockItemWriter = new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, ForkJoinPool.commonPool());
 
         // Open a block
         fileBlockItemWriter.openBlock(1);
@@ -47,6 +47,7 @@ import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.app.state.recordcache.RecordCacheService;
 import com.hedera.node.app.tss.TssBaseService;
 import com.hedera.node.app.tss.handlers.TssHandlers;
+import com.hedera.node.app.workflows.handle.metric.ReadWriteSetListener;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -122,6 +123,7 @@ class IngestComponentTest {
                 .softwareVersion(mock(SemanticVersion.class))
                 .metrics(metrics)
                 .kvStateChangeListener(new KVStateChangeListener())
+                .readWriteSetListener(new ReadWriteSetListener())
                 .boundaryStateChangeListener(new BoundaryStateChangeListener())
                 .migrationStateChanges(List.of())
                 .tssBaseService(tssBaseService)
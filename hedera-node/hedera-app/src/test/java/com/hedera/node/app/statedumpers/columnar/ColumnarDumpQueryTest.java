@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static com.hedera.node.app.statedumpers.columnar.ColumnSpec.bytesColumn;
+import static com.hedera.node.app.statedumpers.columnar.ColumnSpec.longColumn;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.node.app.statedumpers.columnar.ColumnarDumpQuery.Filter;
+import com.hedera.node.app.statedumpers.columnar.ColumnarDumpQuery.Group;
+import com.hedera.node.app.statedumpers.columnar.ColumnarDumpQuery.Op;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ColumnarDumpQueryTest {
+    private record Rel(long token, long balance, String owner) {}
+
+    private static final List<ColumnSpec<Rel>> COLUMNS = List.of(
+            longColumn("token", Rel::token),
+            longColumn("balance", Rel::balance),
+            bytesColumn("owner", rel -> rel.owner().getBytes(UTF_8)));
+
+    private static final Filter POSITIVE_BALANCE = new Filter("balance", Op.GT, 0L);
+
+    @TempDir
+    private Path tempDir;
+
+    private List<ColumnarSegment> segments;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        segments = List.of(
+                segment(
+                        0,
+                        new Rel(1, 10, "a"),
+                        new Rel(2, 0, "b"),
+                        new Rel(1, 5, "c"),
+                        new Rel(3, 7, "d")),
+                segment(
+                        1,
+                        new Rel(2, 20, "e"),
+                        new Rel(1, 0, "f"),
+                        new Rel(3, 1, "g"),
+                        // Not printable as a ';'-separated value, so rendered in hex
+                        new Rel(1, 3, "h;")));
+    }
+
+    @Test
+    void countsRowsMatchingAllFilters() {
+        assertThat(matched(POSITIVE_BALANCE)).isEqualTo(6);
+        assertThat(matched(POSITIVE_BALANCE, new Filter("token", Op.EQ, 1L))).isEqualTo(3);
+        assertThat(matched(new Filter("balance", Op.LE, 0L))).isEqualTo(2);
+        assertThat(matched(new Filter("balance", Op.LT, 5L))).isEqualTo(4);
+        assertThat(matched(new Filter("token", Op.NE, 1L), new Filter("balance", Op.GE, 7L)))
+                .isEqualTo(2);
+        assertThat(matched()).isEqualTo(8);
+    }
+
+    @Test
+    void groupsMatchingRowsLargestFirstWithSums() {
+        final var result = query(List.of(POSITIVE_BALANCE), "token", "balance", null, 0);
+
+        assertThat(result.matched()).isEqualTo(6);
+        assertThat(result.groups()).containsExactly(new Group("1", 3, 18), new Group("3", 2, 8), new Group("2", 1, 20));
+        assertThat(result.rows()).isEmpty();
+    }
+
+    @Test
+    void limitsGroupsAndGroupsByBytesColumns() {
+        assertThat(query(List.of(POSITIVE_BALANCE), "token", null, null, 2).groups())
+                .containsExactly(new Group("1", 3, 0), new Group("3", 2, 0));
+        // Equal counts are ordered by key
+        assertThat(query(List.of(POSITIVE_BALANCE, new Filter("token", Op.EQ, 1L)), "owner", null, null, 0)
+                        .groups())
+                .containsExactly(new Group("0x683b", 1, 0), new Group("a", 1, 0), new Group("c", 1, 0));
+    }
+
+    @Test
+    void reportsTopRowsByOrderColumnAcrossSegments() {
+        final var result = query(List.of(POSITIVE_BALANCE), null, null, "balance", 3, "owner", "balance");
+
+        assertThat(result.matched()).isEqualTo(6);
+        assertThat(result.rows()).containsExactly(List.of("e", "20"), List.of("a", "10"), List.of("d", "7"));
+    }
+
+    @Test
+    void reportsFirstRowsInSegmentOrderWithoutOrderColumn() {
+        final var result = query(List.of(POSITIVE_BALANCE), null, null, null, 4);
+
+        assertThat(result.rows())
+                .containsExactly(
+                        List.of("1", "10", "a"),
+                        List.of("1", "5", "c"),
+                        List.of("3", "7", "d"),
+                        List.of("2", "20", "e"));
+    }
+
+    @Test
+    void printsGroups() {
+        final var query = new ColumnarDumpQuery(List.of(POSITIVE_BALANCE), "token", "balance", null, 0, List.of());
+        final var bytes = new ByteArrayOutputStream();
+        try (final var out = new PrintStream(bytes, true, UTF_8)) {
+            query.print(query.run(segments), segments.get(0).columnNames(), out);
+        }
+
+        assertThat(bytes.toString(UTF_8).lines())
+                .containsExactly("matched=6", "token;count;sum(balance)", "1;3;18", "3;2;8", "2;1;20");
+    }
+
+    @Test
+    void rejectsInvalidQueries() {
+        assertThatThrownBy(() -> new ColumnarDumpQuery(List.of(), null, null, null, -1, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ColumnarDumpQuery(List.of(), null, "balance", null, 0, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> query(List.of(new Filter("missing", Op.EQ, 0L)), null, null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long matched(final Filter... filters) {
+        return query(List.of(filters), null, null, null, 0).matched();
+    }
+
+    private ColumnarDumpQuery.Result query(
+            final List<Filter> filters,
+            final String groupBy,
+            final String sumColumn,
+            final String orderBy,
+            final int limit,
+            final String... columns) {
+        return new ColumnarDumpQuery(filters, groupBy, sumColumn, orderBy, limit, List.of(columns)).run(segments);
+    }
+
+    private ColumnarSegment segment(final int range, final Rel... rels) throws IOException {
+        final var path = tempDir.resolve(String.format("tokenRelations-%04d.col", range));
+        try (final var writer = new ColumnarSegmentWriter<>(path, COLUMNS)) {
+            for (final var rel : rels) {
+                writer.append(rel);
+            }
+        }
+        return ColumnarSegment.open(path);
+    }
+}
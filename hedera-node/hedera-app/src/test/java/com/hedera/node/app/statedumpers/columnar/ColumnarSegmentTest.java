@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static com.hedera.node.app.statedumpers.columnar.ColumnSpec.bytesColumn;
+import static com.hedera.node.app.statedumpers.columnar.ColumnSpec.flagColumn;
+import static com.hedera.node.app.statedumpers.columnar.ColumnSpec.longColumn;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ColumnarSegmentTest {
+    private record Row(long num, boolean deleted, String memo) {}
+
+    private static final List<ColumnSpec<Row>> COLUMNS = List.of(
+            longColumn("num", Row::num),
+            flagColumn("deleted", Row::deleted),
+            bytesColumn("memo", row -> row.memo() == null ? null : row.memo().getBytes(UTF_8)));
+
+    private static final List<Row> ROWS = List.of(
+            new Row(Long.MIN_VALUE, false, "first"),
+            new Row(-1L, true, null),
+            new Row(0L, false, ""),
+            new Row(42L, true, "a longer memo, with multi-byte characters like \u00e9"),
+            new Row(Long.MAX_VALUE, false, "last"));
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void roundTripsEveryColumnType() throws IOException {
+        final var path = tempDir.resolve("rows-0000.col");
+        try (final var writer = new ColumnarSegmentWriter<>(path, COLUMNS)) {
+            ROWS.forEach(writer::append);
+            assertThat(writer.getRowCount()).isEqualTo(ROWS.size());
+        }
+
+        final var segment = ColumnarSegment.open(path);
+        assertThat(segment.path()).isEqualTo(path);
+        assertThat(segment.rowCount()).isEqualTo(ROWS.size());
+        assertThat(segment.columnNames()).containsExactly("num", "deleted", "memo");
+        assertThat(segment.columnType(0)).isEqualTo(ColumnType.LONG);
+        assertThat(segment.columnType(1)).isEqualTo(ColumnType.LONG);
+        assertThat(segment.columnType(2)).isEqualTo(ColumnType.BYTES);
+
+        final int num = segment.columnIndex("num");
+        final int deleted = segment.columnIndex("deleted");
+        final int memo = segment.columnIndex("memo");
+        for (int row = 0; row < ROWS.size(); row++) {
+            final var expected = ROWS.get(row);
+            assertThat(segment.getLong(num, row)).isEqualTo(expected.num());
+            assertThat(segment.getLong(deleted, row)).isEqualTo(expected.deleted() ? 1L : 0L);
+            // A null value is stored as an empty one
+            final var expectedMemo = expected.memo() == null ? "" : expected.memo();
+            assertThat(new String(segment.getBytes(memo, row), UTF_8)).isEqualTo(expectedMemo);
+        }
+    }
+
+    @Test
+    void roundTripsAnEmptySegment() throws IOException {
+        final var path = tempDir.resolve("empty-0000.col");
+        new ColumnarSegmentWriter<>(path, COLUMNS).close();
+
+        final var segment = ColumnarSegment.open(path);
+        assertThat(segment.rowCount()).isZero();
+        assertThat(segment.columnNames()).containsExactly("num", "deleted", "memo");
+        assertThat(segment.columnType(2)).isEqualTo(ColumnType.BYTES);
+    }
+
+    @Test
+    void leavesOnlyTheSegmentFileBehind() throws IOException {
+        final var path = tempDir.resolve("rows-0000.col");
+        try (final var writer = new ColumnarSegmentWriter<>(path, COLUMNS)) {
+            ROWS.forEach(writer::append);
+        }
+        try (final Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void refusesRowsAfterClose() {
+        final var writer = new ColumnarSegmentWriter<>(tempDir.resolve("rows-0000.col"), COLUMNS);
+        writer.close();
+        assertThatThrownBy(() -> writer.append(ROWS.get(0))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectsAccessOfTheWrongTypeOrName() throws IOException {
+        final var path = tempDir.resolve("rows-0000.col");
+        try (final var writer = new ColumnarSegmentWriter<>(path, COLUMNS)) {
+            ROWS.forEach(writer::append);
+        }
+        final var segment = ColumnarSegment.open(path);
+
+        assertThatThrownBy(() -> segment.getLong(segment.columnIndex("memo"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> segment.getBytes(segment.columnIndex("num"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> segment.columnIndex("missing")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSegments() throws IOException {
+        final var path = tempDir.resolve("bogus-0000.col");
+        Files.write(path, new byte[64]);
+
+        assertThatThrownBy(() -> ColumnarSegment.open(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void rejectsColumnsWithoutTheExtractorForTheirType() {
+        assertThatThrownBy(() -> new ColumnSpec<Row>("num", ColumnType.LONG, null, row -> new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ColumnSpec<Row>("memo", ColumnType.BYTES, Row::num, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ColumnType.fromOrdinal(ColumnType.values().length))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
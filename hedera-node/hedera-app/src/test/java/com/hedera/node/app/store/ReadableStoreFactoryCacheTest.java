@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.hedera.node.app.service.token.ReadableTokenRelationStore;
+import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.service.token.impl.CachingReadableTokenRelationStore;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.platform.state.MerkleStateRoot;
+import com.swirlds.state.State;
+import com.swirlds.state.spi.ReadableStates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+class ReadableStoreFactoryCacheTest {
+
+    @Mock(strictness = LENIENT)
+    private ConfigProvider configProvider;
+
+    private ReadableStoreFactoryCache subject;
+
+    @BeforeEach
+    void setUp() {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.immutableStates.maxStoreFactories", 2)
+                .getOrCreateConfig();
+        when(configProvider.getConfiguration()).thenReturn(new VersionedConfigImpl(config, 1L));
+        subject = new ReadableStoreFactoryCache(configProvider);
+    }
+
+    @Test
+    void nonMerkleStatesAreNeverCached() {
+        final var state = mock(State.class);
+
+        assertThat(subject.factoryFor(state)).isNotSameAs(subject.factoryFor(state));
+    }
+
+    @Test
+    void mutableStatesAreNeverCached() {
+        final var state = stateRoot(true);
+
+        assertThat(subject.factoryFor(state)).isNotSameAs(subject.factoryFor(state));
+    }
+
+    @Test
+    void immutableStatesShareOneFactory() {
+        final var state = stateRoot(false);
+
+        assertThat(subject.factoryFor(state)).isSameAs(subject.factoryFor(state));
+    }
+
+    @Test
+    void releasedStatesAreEvicted() {
+        final var state = stateRoot(false);
+        final var factory = subject.factoryFor(state);
+
+        when(state.isDestroyed()).thenReturn(true);
+
+        assertThat(subject.factoryFor(state)).isNotSameAs(factory);
+    }
+
+    @Test
+    void oldestFactoryIsEvictedWhenFull() {
+        final var first = stateRoot(false);
+        final var second = stateRoot(false);
+        final var third = stateRoot(false);
+        final var firstFactory = subject.factoryFor(first);
+        final var secondFactory = subject.factoryFor(second);
+
+        subject.factoryFor(third);
+
+        assertThat(subject.factoryFor(second)).isSameAs(secondFactory);
+        assertThat(subject.factoryFor(first)).isNotSameAs(firstFactory);
+    }
+
+    @Test
+    void onlyImmutableStatesCacheTokenRelationLists() {
+        final var immutableState = stateRoot(false);
+        final var mutableState = stateRoot(true);
+
+        assertThat(subject.factoryFor(immutableState).getStore(ReadableTokenRelationStore.class))
+                .isInstanceOf(CachingReadableTokenRelationStore.class);
+        assertThat(subject.factoryFor(mutableState).getStore(ReadableTokenRelationStore.class))
+                .isNotInstanceOf(CachingReadableTokenRelationStore.class);
+    }
+
+    private static MerkleStateRoot stateRoot(final boolean mutable) {
+        final var state = mock(MerkleStateRoot.class, withSettings().strictness(Strictness.LENIENT));
+        when(state.isMutable()).thenReturn(mutable);
+        when(state.getReadableStates(TokenService.NAME)).thenReturn(mock(ReadableStates.class));
+        return state;
+    }
+}
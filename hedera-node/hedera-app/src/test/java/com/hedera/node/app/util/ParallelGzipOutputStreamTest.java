@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelGzipOutputStreamTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void membersDecompressToTheDataWrittenInOrder() throws IOException {
+        final var data = new byte[100_000];
+        new Random(42).nextBytes(data);
+        final var compressed = new ByteArrayOutputStream();
+
+        try (final var subject = new ParallelGzipOutputStream(compressed, executor, 4096, 3)) {
+            subject.write(data[0]);
+            subject.write(data, 1, 50_000);
+            subject.flush();
+            subject.write(data, 50_001, data.length - 50_001);
+        }
+
+        assertThat(decompress(compressed.toByteArray())).isEqualTo(data);
+    }
+
+    @Test
+    void emptyStreamIsAValidGzipFile() throws IOException {
+        final var compressed = new ByteArrayOutputStream();
+
+        new ParallelGzipOutputStream(compressed, executor, 4096, 2).close();
+
+        assertThat(decompress(compressed.toByteArray())).isEmpty();
+    }
+
+    @Test
+    void cannotWriteAfterClose() throws IOException {
+        final var subject = new ParallelGzipOutputStream(new ByteArrayOutputStream(), executor, 4096, 2);
+        subject.close();
+
+        assertThatThrownBy(() -> subject.write(1)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void rejectsNonPositiveSizes() {
+        final var out = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> new ParallelGzipOutputStream(out, executor, 0, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParallelGzipOutputStream(out, executor, 4096, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] decompress(final byte[] compressed) throws IOException {
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
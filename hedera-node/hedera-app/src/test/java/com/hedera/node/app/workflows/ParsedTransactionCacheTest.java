@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.UNCHECKED_SUBMIT;
+import static com.hedera.node.app.workflows.TransactionScenarioBuilder.scenario;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Key;
+import com.hedera.hapi.node.base.SignaturePair;
+import com.hedera.node.app.signature.ExpandedSignaturePair;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Metrics;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ParsedTransactionCacheTest {
+
+    private static final AccountID SELF_ID = AccountID.newBuilder().accountNum(3L).build();
+    private static final AccountID OTHER_ID = AccountID.newBuilder().accountNum(4L).build();
+    private static final Key PAYER_KEY =
+            Key.newBuilder().ed25519(Bytes.wrap(new byte[32])).build();
+    private static final ExpandedSignaturePair EXPANDED_SIG = new ExpandedSignaturePair(
+            PAYER_KEY,
+            PAYER_KEY.ed25519OrThrow(),
+            null,
+            SignaturePair.newBuilder()
+                    .pubKeyPrefix(PAYER_KEY.ed25519OrThrow())
+                    .ed25519(Bytes.wrap(new byte[64]))
+                    .build());
+    private static final Bytes FIRST_TX = Bytes.wrap(new byte[] {1, 2, 3});
+    private static final Bytes SECOND_TX = Bytes.wrap(new byte[] {4, 5, 6});
+    private static final Bytes THIRD_TX = Bytes.wrap(new byte[] {7, 8, 9});
+
+    private final Metrics metrics = TestUtils.metrics();
+    private final TransactionInfo txInfo = scenario().txInfo();
+
+    @Test
+    void selfSubmittedTransactionIsTakenOnceWithItsReceivedBytes() {
+        final var subject = subjectWith(100, 1_000_000L);
+        subject.put(FIRST_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+
+        final var entry = subject.take(SELF_ID, Bytes.wrap(FIRST_TX.toByteArray()));
+
+        assertThat(entry).isNotNull();
+        assertThat(entry.txInfo().txBody()).isEqualTo(txInfo.txBody());
+        assertThat(entry.txInfo().serializedTransaction()).isEqualTo(FIRST_TX);
+        assertThat(entry.payerKey()).isEqualTo(PAYER_KEY);
+        assertThat(entry.expandedSignatures()).containsExactly(EXPANDED_SIG);
+        assertThat(subject.take(SELF_ID, FIRST_TX)).isNull();
+        assertThat(subject.size()).isZero();
+        assertThat(subject.estimatedBytes()).isZero();
+        assertThat(metrics.getValue("app", "parsedTxnCacheHits")).isEqualTo(1L);
+        assertThat(metrics.getValue("app", "parsedTxnCacheMisses")).isEqualTo(1L);
+        assertThat(metrics.getValue("app", "parsedTxnCacheHitRate")).isEqualTo(50.0);
+    }
+
+    @Test
+    void transactionsOfOtherNodesAreNotLookedUp() {
+        final var subject = subjectWith(100, 1_000_000L);
+        subject.put(FIRST_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+
+        assertThat(subject.take(OTHER_ID, FIRST_TX)).isNull();
+
+        assertThat(subject.size()).isEqualTo(1);
+        assertThat(metrics.getValue("app", "parsedTxnCacheMisses")).isEqualTo(0L);
+    }
+
+    @Test
+    void evictsOldestEntriesOverMaxEntries() {
+        final var subject = subjectWith(2, 1_000_000L);
+        subject.put(FIRST_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+        subject.put(SECOND_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+        subject.put(THIRD_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+
+        assertThat(subject.size()).isEqualTo(2);
+        assertThat(subject.take(SELF_ID, FIRST_TX)).isNull();
+        assertThat(subject.take(SELF_ID, SECOND_TX)).isNotNull();
+        assertThat(subject.take(SELF_ID, THIRD_TX)).isNotNull();
+        assertThat(metrics.getValue("app", "parsedTxnCacheEvictions")).isEqualTo(1L);
+    }
+
+    @Test
+    void takenEntriesDoNotCountTowardsMaxEntries() {
+        final var subject = subjectWith(2, 1_000_000L);
+        subject.put(FIRST_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+        assertThat(subject.take(SELF_ID, FIRST_TX)).isNotNull();
+        subject.put(SECOND_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+        subject.put(THIRD_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+
+        assertThat(subject.size()).isEqualTo(2);
+        assertThat(metrics.getValue("app", "parsedTxnCacheEvictions")).isEqualTo(0L);
+    }
+
+    @Test
+    void takesEntryForEqualBytesFromAnotherBuffer() {
+        final var subject = subjectWith(10, 1_000_000L);
+        subject.put(FIRST_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+
+        assertThat(subject.take(SELF_ID, Bytes.wrap(new byte[] {1, 2, 4}))).isNull();
+        assertThat(subject.take(SELF_ID, Bytes.wrap(new byte[] {1, 2, 3}))).isNotNull();
+    }
+
+    @Test
+    void evictsOldestEntriesOverMaxBytes() {
+        final var subject = subjectWith(100, 1_000L);
+        subject.put(FIRST_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+        subject.put(SECOND_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+
+        assertThat(subject.size()).isEqualTo(1);
+        assertThat(subject.estimatedBytes()).isLessThanOrEqualTo(1_000L);
+        assertThat(subject.take(SELF_ID, SECOND_TX)).isNotNull();
+    }
+
+    @Test
+    void keepsNothingWhenDisabled() {
+        final var subject = subjectWith(0, 1_000_000L);
+        subject.put(FIRST_TX, txInfo, PAYER_KEY, Set.of(EXPANDED_SIG));
+
+        assertThat(subject.size()).isZero();
+        assertThat(subject.take(SELF_ID, FIRST_TX)).isNull();
+        assertThat(metrics.getValue("app", "parsedTxnCacheMisses")).isEqualTo(0L);
+    }
+
+    @Test
+    void doesNotKeepUncheckedSubmits() {
+        final var subject = subjectWith(100, 1_000_000L);
+        final var uncheckedSubmit = new TransactionInfo(
+                txInfo.transaction(),
+                txInfo.txBody(),
+                txInfo.signatureMap(),
+                txInfo.signedBytes(),
+                UNCHECKED_SUBMIT,
+                null);
+        subject.put(FIRST_TX, uncheckedSubmit, PAYER_KEY, Set.of(EXPANDED_SIG));
+
+        assertThat(subject.size()).isZero();
+    }
+
+    private ParsedTransactionCache subjectWith(final int maxEntries, final long maxBytes) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.parsedTransactions.maxEntries", maxEntries)
+                .withValue("cache.parsedTransactions.maxBytes", maxBytes)
+                .getOrCreateConfig();
+        return new ParsedTransactionCache(SELF_ID, () -> new VersionedConfigImpl(config, 1L), metrics);
+    }
+}
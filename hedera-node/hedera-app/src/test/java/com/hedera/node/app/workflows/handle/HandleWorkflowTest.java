@@ -40,6 +40,7 @@ import com.hedera.node.app.throttle.ThrottleServiceManager;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
+import com.hedera.node.app.workflows.handle.metric.TransactionConflictTracker;
 import com.hedera.node.app.workflows.handle.dispatch.ChildDispatchFactory;
 import com.hedera.node.app.workflows.handle.record.SystemSetup;
 import com.hedera.node.app.workflows.handle.steps.HollowAccountCompletions;
@@ -111,6 +112,9 @@ class HandleWorkflowTest {
     @Mock
     private CacheWarmer cacheWarmer;
 
+    @Mock
+    private TransactionConflictTracker conflictTracker;
+
     @Mock
     private OpWorkflowMetrics opWorkflowMetrics;
 
@@ -173,6 +177,7 @@ class HandleWorkflowTest {
                 blockRecordManager,
                 blockStreamManager,
                 cacheWarmer,
+                conflictTracker,
                 opWorkflowMetrics,
                 throttleServiceManager,
                 version,
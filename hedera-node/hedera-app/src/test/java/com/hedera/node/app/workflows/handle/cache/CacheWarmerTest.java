@@ -17,9 +17,25 @@
 package com.hedera.node.app.workflows.handle.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.store.ReadableStoreFactoryCache;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.common.utility.AutoCloseableWrapper;
+import com.swirlds.platform.state.MerkleStateRoot;
+import com.swirlds.platform.system.Platform;
+import com.swirlds.platform.system.Round;
+import com.swirlds.state.State;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,10 +51,46 @@ class CacheWarmerTest {
     @Mock
     TransactionDispatcher dispatcher;
 
+    @Mock
+    ReadableStoreFactoryCache storeFactoryCache;
+
+    @Mock
+    RoundPrefetchCaches prefetchCaches;
+
+    @Mock
+    ConfigProvider configProvider;
+
+    @Mock
+    Platform platform;
+
     @Test
     @DisplayName("Instantiation test")
     void testInstantiation() {
-        final var cacheWarmer = new CacheWarmer(checker, dispatcher, Runnable::run);
+        final var cacheWarmer = new CacheWarmer(
+                checker, dispatcher, Runnable::run, storeFactoryCache, prefetchCaches, configProvider, platform);
         assertThat(cacheWarmer).isInstanceOf(CacheWarmer.class);
     }
+
+    @Test
+    @DisplayName("Warms up through the latest immutable state and releases it")
+    void warmsUpThroughLatestImmutableState() {
+        final var immutableState = mock(MerkleStateRoot.class);
+        final var storeFactory = mock(ReadableStoreFactory.class);
+        final var round = mock(Round.class);
+        final var released = new AtomicBoolean();
+        given(configProvider.getConfiguration())
+                .willReturn(new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), 1));
+        given(platform.getLatestImmutableState("CacheWarmer"))
+                .willReturn(new AutoCloseableWrapper<>(immutableState, () -> released.set(true)));
+        given(storeFactoryCache.factoryFor(immutableState)).willReturn(storeFactory);
+        given(storeFactory.getStore(ReadableAccountStore.class)).willReturn(mock(ReadableAccountStore.class));
+        given(round.iterator()).willReturn(Collections.emptyIterator());
+        final var cacheWarmer = new CacheWarmer(
+                checker, dispatcher, Runnable::run, storeFactoryCache, prefetchCaches, configProvider, platform);
+
+        cacheWarmer.warm(mock(State.class), round);
+
+        verify(storeFactoryCache).factoryFor(immutableState);
+        assertThat(released).isTrue();
+    }
 }
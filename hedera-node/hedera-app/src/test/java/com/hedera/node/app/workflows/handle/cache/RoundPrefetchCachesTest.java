@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.cache;
+
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ALIASES_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.utils.TestUtils;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.spi.WritableKVState;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoundPrefetchCachesTest {
+
+    private static final AccountID ACCOUNT_ID =
+            AccountID.newBuilder().accountNum(1001L).build();
+    private static final Account ACCOUNT = Account.newBuilder()
+            .accountId(ACCOUNT_ID)
+            .tinybarBalance(100L)
+            .build();
+
+    private final Metrics metrics = TestUtils.metrics();
+    private FakeState state;
+    private RoundPrefetchCaches subject;
+
+    @BeforeEach
+    void setUp() {
+        final Map<AccountID, Account> accounts = new HashMap<>();
+        accounts.put(ACCOUNT_ID, ACCOUNT);
+        state = new FakeState()
+                .addService(TokenService.NAME, Map.of(ACCOUNTS_KEY, accounts, ALIASES_KEY, new HashMap<>()));
+        subject = new RoundPrefetchCaches(metrics);
+    }
+
+    @Test
+    void handleThreadReadsWarmedValues() {
+        final var storeFactory = subject.startRound(state);
+        storeFactory.getStore(ReadableAccountStore.class).warm(ACCOUNT_ID);
+
+        final WritableKVState<AccountID, Account> accounts =
+                state.getWritableStates(TokenService.NAME).get(ACCOUNTS_KEY);
+        assertThat(accounts.get(ACCOUNT_ID)).isEqualTo(ACCOUNT);
+        subject.endRound();
+
+        assertThat(metrics.getValue("app", "prefetchHits")).isEqualTo(1L);
+        assertThat(metrics.getValue("app", "prefetchHitRate")).isEqualTo(100.0);
+    }
+
+    @Test
+    void committedValuesAreNotServedFromTheCache() {
+        final var storeFactory = subject.startRound(state);
+        final var accountStore = storeFactory.getStore(ReadableAccountStore.class);
+        accountStore.warm(ACCOUNT_ID);
+
+        final var writableStates = state.getWritableStates(TokenService.NAME);
+        final WritableKVState<AccountID, Account> accounts = writableStates.get(ACCOUNTS_KEY);
+        final var updated = ACCOUNT.copyBuilder().tinybarBalance(50L).build();
+        accounts.put(ACCOUNT_ID, updated);
+        state.commit();
+
+        assertThat(accounts.get(ACCOUNT_ID)).isEqualTo(updated);
+        subject.endRound();
+        assertThat(metrics.getValue("app", "prefetchMisses")).isEqualTo(1L);
+    }
+
+    @Test
+    void endedRoundNoLongerPrefetches() {
+        final var storeFactory = subject.startRound(state);
+        subject.endRound();
+        storeFactory.getStore(ReadableAccountStore.class).warm(ACCOUNT_ID);
+
+        final WritableKVState<AccountID, Account> accounts =
+                state.getWritableStates(TokenService.NAME).get(ACCOUNTS_KEY);
+        assertThat(accounts.get(ACCOUNT_ID)).isEqualTo(ACCOUNT);
+        subject.endRound();
+
+        assertThat(metrics.getValue("app", "prefetchHits")).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.metric;
+
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.node.app.info.NodeInfoImpl;
+import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.spi.info.NetworkInfo;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TransactionConflictTrackerTest {
+    private static final AccountID ALICE = AccountID.newBuilder().accountNum(1001L).build();
+    private static final AccountID BOB = AccountID.newBuilder().accountNum(1002L).build();
+    private static final AccountID CAROL = AccountID.newBuilder().accountNum(1003L).build();
+    private static final AccountID DAVE = AccountID.newBuilder().accountNum(1004L).build();
+    private static final AccountID NODE = AccountID.newBuilder().accountNum(3L).build();
+    private static final AccountID FUNDING = AccountID.newBuilder().accountNum(98L).build();
+
+    private final Metrics metrics = TestUtils.metrics();
+    private final ReadWriteSetListener listener = new ReadWriteSetListener();
+    private final NetworkInfo networkInfo = mock(NetworkInfo.class);
+    private int accountsStateId;
+    private TransactionConflictTracker subject;
+
+    @BeforeEach
+    void setUp() {
+        accountsStateId = listener.stateIdFor(TokenService.NAME, ACCOUNTS_KEY);
+        given(networkInfo.addressBook()).willReturn(List.of(new NodeInfoImpl(0, NODE, 1, List.of(), null)));
+        subject = trackerWith(true);
+    }
+
+    @Test
+    void disjointTransactionsDoNotConflict() {
+        subject.startRound();
+        transfer(ALICE, BOB);
+        transfer(CAROL, DAVE);
+        subject.endRound();
+
+        assertThat(metrics.getValue("app", "conflictTrackedTxns")).isEqualTo(2L);
+        assertThat(metrics.getValue("app", "conflictingTxns")).isEqualTo(0L);
+        assertThat(metrics.getValue("app", "potentialParallelism")).isEqualTo(2.0);
+    }
+
+    @Test
+    void readOfEarlierWriteIsAConflict() {
+        subject.startRound();
+        transfer(ALICE, BOB);
+        readOnly(BOB);
+        transfer(CAROL, DAVE);
+        subject.endRound();
+
+        assertThat(metrics.getValue("app", "conflictingTxns")).isEqualTo(1L);
+        assertThat(metrics.getValue("app", "potentialParallelism")).isEqualTo(1.5);
+    }
+
+    @Test
+    void conflictsOnlyChainWithinARound() {
+        subject.startRound();
+        transfer(ALICE, BOB);
+        subject.endRound();
+        subject.startRound();
+        transfer(BOB, CAROL);
+        subject.endRound();
+
+        assertThat(metrics.getValue("app", "conflictingTxns")).isEqualTo(0L);
+        assertThat(metrics.getValue("app", "potentialParallelism")).isEqualTo(1.0);
+    }
+
+    @Test
+    void systemAccountsAreReportedSeparately() {
+        subject.startRound();
+        transferWithFees(ALICE, BOB);
+        transferWithFees(CAROL, DAVE);
+        subject.endRound();
+
+        assertThat(metrics.getValue("app", "conflictingTxns")).isEqualTo(0L);
+        assertThat(metrics.getValue("app", "systemAccountConflictingTxns")).isEqualTo(1L);
+        assertThat(metrics.getValue("app", "potentialParallelism")).isEqualTo(2.0);
+    }
+
+    @Test
+    void disabledTrackerIgnoresTransactions() {
+        subject = trackerWith(false);
+
+        subject.startRound();
+        transfer(ALICE, BOB);
+        transfer(BOB, CAROL);
+        subject.endRound();
+
+        assertThat(metrics.getValue("app", "conflictTrackedTxns")).isEqualTo(0L);
+    }
+
+    private void transfer(final AccountID from, final AccountID to) {
+        listener.mapUpdateChange(accountsStateId, from, Account.DEFAULT);
+        listener.mapUpdateChange(accountsStateId, to, Account.DEFAULT);
+        subject.trackTransaction();
+    }
+
+    private void transferWithFees(final AccountID from, final AccountID to) {
+        listener.mapUpdateChange(accountsStateId, NODE, Account.DEFAULT);
+        listener.mapUpdateChange(accountsStateId, FUNDING, Account.DEFAULT);
+        transfer(from, to);
+    }
+
+    private void readOnly(final AccountID id) {
+        listener.mapReadAccess(accountsStateId, id);
+        subject.trackTransaction();
+    }
+
+    private TransactionConflictTracker trackerWith(final boolean enabled) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("hedera.workflow.conflictTracking.enabled", enabled)
+                .getOrCreateConfig();
+        return new TransactionConflictTracker(
+                listener, () -> new VersionedConfigImpl(config, 1L), networkInfo, metrics);
+    }
+}
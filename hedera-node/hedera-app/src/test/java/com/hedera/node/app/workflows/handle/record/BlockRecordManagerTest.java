@@ -144,7 +144,8 @@ final class BlockRecordManagerTest extends AppTestBase {
                         V0540PlatformStateSchema.PLATFORM_STATE_KEY, V0540PlatformStateSchema.GENESIS_PLATFORM_STATE)
                 .commit();
 
-        blockRecordWriterFactory = new BlockRecordWriterFactoryImpl(app.configProvider(), NODE_INFO, SIGNER, fs);
+        blockRecordWriterFactory = new BlockRecordWriterFactoryImpl(
+                app.configProvider(), NODE_INFO, SIGNER, fs, ForkJoinPool.commonPool());
     }
 
     @AfterEach
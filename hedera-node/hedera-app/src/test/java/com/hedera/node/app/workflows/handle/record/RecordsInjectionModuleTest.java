@@ -17,8 +17,12 @@
 package com.hedera.node.app.records;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import java.nio.file.FileSystems;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.Test;
 
 final class RecordsInjectionModuleTest {
@@ -26,4 +30,17 @@ final class RecordsInjectionModuleTest {
     void testProvideFileSystem() {
         assertEquals(FileSystems.getDefault(), BlockRecordInjectionModule.provideFileSystem());
     }
+
+    @Test
+    void streamCompressionExecutorIsSizedByLargerParallelism() {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("hedera.recordStream.compressionParallelism", 3)
+                .withValue("blockStream.compressionParallelism", 5)
+                .getOrCreateConfig();
+        final var executor =
+                BlockRecordInjectionModule.provideStreamCompressionExecutor(() -> new VersionedConfigImpl(config, 1));
+        final var pool = assertInstanceOf(ForkJoinPool.class, executor);
+        assertEquals(5, pool.getParallelism());
+        pool.shutdown();
+    }
 }
@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.records.impl.producers.formats.v6.BlockRecordWriterV6;
 import java.nio.file.FileSystems;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.Test;
 
 final class BlockRecordFactoryImplTest extends AppTestBase {
@@ -31,8 +32,8 @@ final class BlockRecordFactoryImplTest extends AppTestBase {
         final var app = appBuilder()
                 .withConfigValue("hedera.recordStream.logDir", "hedera-node/data/recordStreams")
                 .build();
-        final var factory =
-                new BlockRecordWriterFactoryImpl(app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault());
+        final var factory = new BlockRecordWriterFactoryImpl(
+                app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault(), ForkJoinPool.commonPool());
         final var writer = factory.create();
         assertThat(writer).isInstanceOf(BlockRecordWriterV6.class);
     }
@@ -44,8 +45,8 @@ final class BlockRecordFactoryImplTest extends AppTestBase {
                 .withConfigValue("hedera.recordStream.logDir", "hedera-node/data/recordStreams")
                 .build();
 
-        final var factory =
-                new BlockRecordWriterFactoryImpl(app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault());
+        final var factory = new BlockRecordWriterFactoryImpl(
+                app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault(), ForkJoinPool.commonPool());
         assertThatThrownBy(factory::create)
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Record file version 7 is not yet supported");
@@ -58,8 +59,8 @@ final class BlockRecordFactoryImplTest extends AppTestBase {
                 .withConfigValue("hedera.recordStream.logDir", "hedera-node/data/recordStreams")
                 .build();
 
-        final var factory =
-                new BlockRecordWriterFactoryImpl(app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault());
+        final var factory = new BlockRecordWriterFactoryImpl(
+                app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault(), ForkJoinPool.commonPool());
         assertThatThrownBy(factory::create)
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Unknown record file version");
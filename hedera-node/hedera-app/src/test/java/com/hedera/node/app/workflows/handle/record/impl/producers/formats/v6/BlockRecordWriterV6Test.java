@@ -48,6 +48,8 @@ import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 import org.apache.logging.log4j.LogManager;
@@ -62,6 +64,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 final class BlockRecordWriterV6Test extends AppTestBase {
+    private static final Executor EXECUTOR = ForkJoinPool.commonPool();
+
     /** This build is pre-configured with standard settings for the record stream tests. */
     private TestAppBuilder appBuilder;
 
@@ -102,7 +106,7 @@ final class BlockRecordWriterV6Test extends AppTestBase {
                 .build();
         config = app.configProvider().getConfiguration().getConfigData(BlockRecordStreamConfig.class);
         hapiVersion = app.hapiVersion();
-        writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem);
+        writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem, EXECUTOR);
         final var ext = compress ? ".rcd.gz" : ".rcd";
         final var recordDir =
                 fileSystem.getPath(config.logDir(), "record" + asAccountString(selfNodeInfo.accountId()) + "/");
@@ -122,13 +126,15 @@ final class BlockRecordWriterV6Test extends AppTestBase {
         @SuppressWarnings("DataFlowIssue")
         void nullArgsToConstructorThrows() {
             final var config = buildAndGetConfig();
-            assertThatThrownBy(() -> new BlockRecordWriterV6(null, selfNodeInfo, signer, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(null, selfNodeInfo, signer, fileSystem, EXECUTOR))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, null, signer, fileSystem, EXECUTOR))
                     .isInstanceOf(NullPointerException.class);
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, null, signer, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, null, fileSystem, EXECUTOR))
                     .isInstanceOf(NullPointerException.class);
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, null, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, signer, null, EXECUTOR))
                     .isInstanceOf(NullPointerException.class);
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, signer, null))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, signer, fileSystem, null))
                     .isInstanceOf(NullPointerException.class);
         }
 
@@ -137,7 +143,7 @@ final class BlockRecordWriterV6Test extends AppTestBase {
         void recordFileVersionMustBeV6() {
             appBuilder.withConfigValue("hedera.recordStream.recordFileVersion", 5);
             final var config = buildAndGetConfig();
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem, EXECUTOR))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("record file version");
         }
@@ -147,7 +153,7 @@ final class BlockRecordWriterV6Test extends AppTestBase {
         void signatureFileVersionMustBeV6() {
             appBuilder.withConfigValue("hedera.recordStream.signatureFileVersion", 5);
             final var config = buildAndGetConfig();
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem, EXECUTOR))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("signature file version");
         }
@@ -158,7 +164,7 @@ final class BlockRecordWriterV6Test extends AppTestBase {
             // A path cannot have the null character in it
             appBuilder.withConfigValue("hedera.recordStream.logDir", "\0IllegalPath/records");
             final var config = buildAndGetConfig();
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem, EXECUTOR))
                     .isInstanceOf(InvalidPathException.class);
         }
 
@@ -175,7 +181,7 @@ final class BlockRecordWriterV6Test extends AppTestBase {
 
             // When we attempt to create the writer, then it fails AND logs!
             final var logCaptor = new LogCaptor(LogManager.getLogger(BlockRecordWriterV6.class));
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem, EXECUTOR))
                     .isInstanceOf(UncheckedIOException.class);
             assertThat(logCaptor.fatalLogs()).hasSize(1);
             assertThat(logCaptor.fatalLogs()).allMatch(msg -> msg.contains("Could not create record directory"));
@@ -225,7 +231,7 @@ final class BlockRecordWriterV6Test extends AppTestBase {
             Files.createDirectories(recordDir);
 
             // When we create a new writer and initialize it
-            writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem);
+            writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem, EXECUTOR);
             writer.init(hapiVersion, STARTING_RUNNING_HASH_OBJ, consensusTime, blockNumber);
 
             // Then it didn't throw, and the record file exists
@@ -41,6 +41,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.AccountID;
@@ -71,6 +73,7 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.state.recordcache.DeduplicationCacheImpl;
 import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
+import com.hedera.node.app.workflows.ParsedTransactionCache;
 import com.hedera.node.app.workflows.SolvencyPreCheck;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
@@ -133,6 +136,9 @@ class IngestCheckerTest extends AppTestBase {
     @Mock(strictness = LENIENT)
     private SynchronizedThrottleAccumulator synchronizedThrottleAccumulator;
 
+    @Mock(strictness = LENIENT)
+    private ParsedTransactionCache parsedTransactionCache;
+
     private DeduplicationCache deduplicationCache;
 
     private TransactionInfo transactionInfo;
@@ -192,7 +198,8 @@ class IngestCheckerTest extends AppTestBase {
                 feeManager,
                 authorizer,
                 synchronizedThrottleAccumulator,
-                instantSource);
+                instantSource,
+                parsedTransactionCache);
     }
 
     @Nested
@@ -242,7 +249,8 @@ class IngestCheckerTest extends AppTestBase {
                 feeManager,
                 authorizer,
                 synchronizedThrottleAccumulator,
-                instantSource);
+                instantSource,
+                parsedTransactionCache);
 
         // Then the checker should throw a PreCheckException
         assertThatThrownBy(() -> subject.runAllChecks(state, tx, configuration))
@@ -273,6 +281,28 @@ class IngestCheckerTest extends AppTestBase {
 
         // then
         assertThat(actual).isEqualTo(expected);
+        verifyNoInteractions(parsedTransactionCache);
+    }
+
+    @Test
+    @DisplayName("Run all checks of a submitted transaction keeps the results for pre-handle")
+    void testRunAllChecksKeepsResultsOfSubmittedTransaction() throws Exception {
+        // given
+        final var serializedTx = asBytes(Transaction.PROTOBUF, tx);
+        final var verificationResultFuture = mock(SignatureVerificationFuture.class);
+        final var verificationResult = mock(SignatureVerification.class);
+        when(verificationResult.failed()).thenReturn(false);
+        when(verificationResultFuture.get(anyLong(), any())).thenReturn(verificationResult);
+        when(signatureVerifier.verify(any(), any()))
+                .thenReturn(Map.of(ALICE.account().keyOrThrow(), verificationResultFuture));
+
+        // when
+        final var actual = subject.runAllChecks(state, tx, serializedTx, configuration);
+
+        // then
+        assertThat(actual).isEqualTo(transactionInfo);
+        verify(parsedTransactionCache)
+                .put(eq(serializedTx), eq(transactionInfo), eq(ALICE.account().keyOrThrow()), any());
     }
 
     @Nested
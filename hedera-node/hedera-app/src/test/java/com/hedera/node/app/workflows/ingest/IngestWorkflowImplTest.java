@@ -143,7 +143,8 @@ class IngestWorkflowImplTest extends AppTestBase {
                 randomBytes(100), // Not used in this test, so random bytes is OK
                 HederaFunctionality.CONSENSUS_CREATE_TOPIC,
                 null);
-        when(ingestChecker.runAllChecks(state, transaction, configuration)).thenReturn(transactionInfo);
+        when(ingestChecker.runAllChecks(state, transaction, requestBuffer, configuration))
+                .thenReturn(transactionInfo);
 
         // Create the workflow we are going to test with
         workflow = new IngestWorkflowImpl(
@@ -285,7 +286,7 @@ class IngestWorkflowImplTest extends AppTestBase {
         @DisplayName("When ingest checks fail, the transaction should be rejected")
         void testIngestChecksFail(ResponseCodeEnum failureReason) throws PreCheckException, ParseException {
             // Given a throttle on CONSENSUS_CREATE_TOPIC transactions (i.e. it is time to throttle)
-            when(ingestChecker.runAllChecks(state, transaction, configuration))
+            when(ingestChecker.runAllChecks(state, transaction, requestBuffer, configuration))
                     .thenThrow(new PreCheckException(failureReason));
 
             // When the transaction is submitted
@@ -304,7 +305,7 @@ class IngestWorkflowImplTest extends AppTestBase {
         @DisplayName("If some random exception is thrown from IngestChecker, the exception is bubbled up")
         void randomException() throws PreCheckException, ParseException {
             // Given a ThrottleAccumulator that will throw a RuntimeException
-            when(ingestChecker.runAllChecks(state, transaction, configuration))
+            when(ingestChecker.runAllChecks(state, transaction, requestBuffer, configuration))
                     .thenThrow(new RuntimeException("runAllChecks exception"));
 
             // When the transaction is submitted
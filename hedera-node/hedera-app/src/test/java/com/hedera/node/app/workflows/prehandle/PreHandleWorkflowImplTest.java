@@ -31,21 +31,27 @@ import static com.swirlds.platform.system.transaction.TransactionWrapperUtils.cr
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.ResponseCodeEnum;
+import com.hedera.hapi.node.base.SignaturePair;
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.fixtures.state.FakeState;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.TokenService;
 import com.hedera.node.app.signature.AppKeyVerifier;
 import com.hedera.node.app.signature.DefaultKeyVerifier;
+import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureExpander;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.signature.SignatureVerifier;
@@ -55,6 +61,7 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.workflows.ParsedTransactionCache;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionScenarioBuilder;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
@@ -119,6 +126,10 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
     @Mock
     private DeduplicationCache deduplicationCache;
 
+    /** We use a mocked {@link ParsedTransactionCache}, which by default has no results of ingest. */
+    @Mock
+    private ParsedTransactionCache parsedTransactionCache;
+
     /** We use a real functional store factory with our standard test data set. Needed by the workflow. */
     private ReadableStoreFactory storeFactory;
 
@@ -154,7 +165,8 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                 signatureVerifier,
                 signatureExpander,
                 configProvider,
-                deduplicationCache);
+                deduplicationCache,
+                parsedTransactionCache);
     }
 
     /** Null arguments are not permitted to the constructor. */
@@ -168,22 +180,62 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                         signatureVerifier,
                         signatureExpander,
                         configProvider,
-                        deduplicationCache))
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, null, signatureVerifier, signatureExpander, configProvider, deduplicationCache))
+                        dispatcher,
+                        null,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, null, signatureExpander, configProvider, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        null,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, null, configProvider, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        null,
+                        configProvider,
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, signatureExpander, null, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        null,
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, signatureExpander, configProvider, null))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        null,
+                        parsedTransactionCache))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new PreHandleWorkflowImpl(
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -618,6 +670,45 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
         }
 
+        @Test
+        @DisplayName("Happy path reusing the parsed transaction and expanded payer signatures of ingest")
+        void happyPathWithResultsOfIngest(@Mock SignatureVerificationFuture sigFuture) throws Exception {
+            // Given a perfectly good transaction this node already ingested
+            final var payerAccount = ALICE.accountID();
+            final var payerKey = ALICE.keyInfo().publicKey();
+            final var txInfo = scenario().withPayer(payerAccount).txInfo();
+            final var txBytes = asByteArray(txInfo.transaction());
+            final Transaction platformTx = createAppPayloadWrapper(txBytes);
+            final var keyBytes = Bytes.wrap("keyBytes");
+            final var expandedPayerSig = new ExpandedSignaturePair(
+                    payerKey,
+                    keyBytes,
+                    null,
+                    SignaturePair.newBuilder()
+                            .pubKeyPrefix(keyBytes)
+                            .ed25519(Bytes.wrap("signature"))
+                            .build());
+            when(parsedTransactionCache.take(NODE_1.nodeAccountID(), Bytes.wrap(txBytes)))
+                    .thenReturn(new ParsedTransactionCache.Entry(txInfo, payerKey, Set.of(expandedPayerSig)));
+            when(sigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
+            when(signatureVerifier.verify(eq(txInfo.signedBytes()), eq(Set.of(expandedPayerSig))))
+                    .thenReturn(Map.of(payerKey, sigFuture));
+
+            // When we pre-handle the transaction
+            workflow.preHandle(storeFactory, NODE_1.nodeAccountID(), Stream.of(platformTx));
+
+            // Then the transaction pre-handle succeeds with the results of ingest
+            final PreHandleResult result = platformTx.getMetadata();
+            assertThat(result.status()).isEqualTo(SO_FAR_SO_GOOD);
+            assertThat(result.responseCode()).isEqualTo(OK);
+            assertThat(result.txInfo()).isSameAs(txInfo);
+            // And neither parses the transaction nor expands the payer signatures again
+            verify(transactionChecker, never()).parseAndCheck(any(Bytes.class));
+            verify(signatureExpander, never()).expand(anyList(), any());
+            verify(signatureExpander, never()).expand(any(Key.class), anyList(), any());
+            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+        }
+
         @Test
         @DisplayName(
                 "Happy path with Key-based signature verification and a result derived from different config version")
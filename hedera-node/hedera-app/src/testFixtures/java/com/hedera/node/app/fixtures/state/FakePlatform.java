@@ -129,7 +129,7 @@ public final class FakePlatform implements Platform {
 
     @Override
     public <T extends SwirldState> AutoCloseableWrapper<T> getLatestImmutableState(@NonNull String s) {
-        return null;
+        return AutoCloseableWrapper.empty();
     }
 
     @Override
@@ -37,6 +37,10 @@ import com.swirlds.config.api.validation.annotation.Min;
  * @param compressFilesOnCreation when true record and sidecar files are compressed with GZip when created
  * @param numOfBlockHashesInState the number of block hashes to keep in state for block history
  * @param streamFileProducer the type of stream file producer to use. Currently only "concurrent" is supported
+ * @param compressionParallelism if greater than one, the number of gzip members of a record file that are compressed
+ *                               concurrently; otherwise record files are compressed on the writing thread
+ * @param compressionMemberSizeKb the size in KB of the data compressed into each gzip member when
+ *                                compressing concurrently
  */
 @ConfigData("hedera.recordStream")
 public record BlockRecordStreamConfig(
@@ -51,4 +55,6 @@ public record BlockRecordStreamConfig(
         @ConfigProperty(defaultValue = "false") @NetworkProperty boolean logEveryTransaction,
         @ConfigProperty(defaultValue = "true") @NetworkProperty boolean compressFilesOnCreation, // NOT SURE
         @ConfigProperty(defaultValue = "256") @Min(1) @Max(4096) @NetworkProperty int numOfBlockHashesInState,
-        @ConfigProperty(defaultValue = "concurrent") @NetworkProperty String streamFileProducer) {}
+        @ConfigProperty(defaultValue = "concurrent") @NetworkProperty String streamFileProducer,
+        @ConfigProperty(defaultValue = "1") @Min(1) @NodeProperty int compressionParallelism,
+        @ConfigProperty(defaultValue = "1024") @Min(1) @NodeProperty int compressionMemberSizeKb) {}
@@ -22,6 +22,7 @@ import com.hedera.node.config.types.BlockStreamWriterMode;
 import com.hedera.node.config.types.StreamMode;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 
 /**
  * Configuration for the block stream.
@@ -29,6 +30,10 @@ import com.swirlds.config.api.ConfigProperty;
  * @param writerMode if we are writing to a file or gRPC stream
  * @param blockFileDir directory to store block files
  * @param compressFilesOnCreation whether to compress files on creation
+ * @param compressionParallelism if greater than one, the number of gzip members of a block file that are compressed
+ *                               concurrently; otherwise block files are compressed on the writing thread
+ * @param compressionMemberSizeKb the size in KB of the data compressed into each gzip member when
+ *                                compressing concurrently
  */
 @ConfigData("blockStream")
 public record BlockStreamConfig(
@@ -38,4 +43,6 @@ public record BlockStreamConfig(
         @ConfigProperty(defaultValue = "true") @NetworkProperty boolean compressFilesOnCreation,
         @ConfigProperty(defaultValue = "32") @NetworkProperty int serializationBatchSize,
         @ConfigProperty(defaultValue = "32") @NetworkProperty int hashCombineBatchSize,
-        @ConfigProperty(defaultValue = "1") @NetworkProperty int roundsPerBlock) {}
+        @ConfigProperty(defaultValue = "1") @NetworkProperty int roundsPerBlock,
+        @ConfigProperty(defaultValue = "1") @Min(1) @NodeProperty int compressionParallelism,
+        @ConfigProperty(defaultValue = "1024") @Min(1) @NodeProperty int compressionMemberSizeKb) {}
@@ -17,10 +17,20 @@
 package com.hedera.node.config.data;
 
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
 
 @ConfigData("cache")
 public record CacheConfig(
         @ConfigProperty(value = "records.ttl", defaultValue = "180") @NetworkProperty int recordsTtl,
-        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads) {}
+        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads,
+        @ConfigProperty(value = "immutableStates.maxStoreFactories", defaultValue = "4") @NodeProperty
+                int maxImmutableStoreFactories,
+        @ConfigProperty(value = "immutableStates.maxTokenRelationLists", defaultValue = "1024") @NodeProperty
+                int maxImmutableTokenRelationLists,
+        @ConfigProperty(value = "prefetch.enabled", defaultValue = "false") @NodeProperty boolean prefetchEnabled,
+        @ConfigProperty(value = "parsedTransactions.maxEntries", defaultValue = "10000") @NodeProperty
+                int maxParsedTransactions,
+        @ConfigProperty(value = "parsedTransactions.maxBytes", defaultValue = "33554432") @NodeProperty
+                long maxParsedTransactionBytes) {}
@@ -18,6 +18,7 @@ package com.hedera.node.config.data;
 
 import com.hedera.hapi.streams.SidecarType;
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
 import java.util.Set;
@@ -52,6 +53,9 @@ public record ContractsConfig(
         @ConfigProperty(defaultValue = "CONTRACT_STATE_CHANGE,CONTRACT_BYTECODE,CONTRACT_ACTION") @NetworkProperty
                 Set<SidecarType> sidecars,
         @ConfigProperty(defaultValue = "false") @NetworkProperty boolean sidecarValidationEnabled,
+        // Off until the compact actions are materialized off the handle thread; built eagerly at the end of the
+        // EVM run, they only move the allocations of the ActionStack to after the run rather than removing them.
+        @ConfigProperty(defaultValue = "false") @NodeProperty boolean compactActionTracing,
         @ConfigProperty(value = "throttle.throttleByGas", defaultValue = "true") @NetworkProperty
                 boolean throttleThrottleByGas,
         @ConfigProperty(defaultValue = "20") @NetworkProperty int maxRefundPercentOfGasLimit,
@@ -66,4 +66,11 @@ public record TokensConfig(
         @ConfigProperty(value = "airdrops.claim.enabled", defaultValue = "true") @NetworkProperty
                 boolean airdropsClaimEnabled,
         @ConfigProperty(value = "nfts.maxBatchSizeUpdate", defaultValue = "10") @NetworkProperty
-                int nftsMaxBatchSizeUpdate) {}
+                int nftsMaxBatchSizeUpdate,
+        // The deprecated TokenGetAccountNftInfos query walks the owner's NFT list, which only crypto transfers
+        // and wipes maintain; NFTs held when becoming treasury, or of a deleted token dissociated from, are not
+        // unlinked. The free query may walk at most maxDepth links, so keep it close to nfts.maxQueryRange
+        @ConfigProperty(value = "nfts.accountNftInfosQuery.enabled", defaultValue = "false") @NetworkProperty
+                boolean nftsAccountNftInfosQueryEnabled,
+        @ConfigProperty(value = "nfts.accountNftInfosQuery.maxDepth", defaultValue = "100") @NetworkProperty
+                long nftsAccountNftInfosQueryMaxDepth) {}
@@ -213,24 +213,12 @@ public class NetworkGetAccountDetailsHandler extends PaidQueryHandler {
         requireNonNull(readableTokenStore);
 
         final var ret = new ArrayList<TokenRelationship>();
-        var tokenId = account.headTokenId();
-        int count = 0;
-        TokenRelation tokenRelation;
-        Token token; // token from readableToken store by tokenID
-        AccountID accountID; // build from accountNumber
-        while (tokenId != null && count < maxRelsPerInfoQuery) {
-            accountID = account.accountId();
-            tokenRelation = tokenRelationStore.get(accountID, tokenId);
-            if (tokenRelation != null) {
-                token = readableTokenStore.get(tokenId);
-                if (token != null) {
-                    addTokenRelation(ret, token, tokenRelation, tokenId);
-                }
-                tokenId = tokenRelation.nextToken();
-            } else {
-                break;
+        for (final var tokenRelation : tokenRelationStore.getRelationsOf(account, maxRelsPerInfoQuery)) {
+            final var tokenId = tokenRelation.tokenIdOrThrow();
+            final var token = readableTokenStore.get(tokenId);
+            if (token != null) {
+                addTokenRelation(ret, token, tokenRelation, tokenId);
             }
-            count++;
         }
         return ret;
     }
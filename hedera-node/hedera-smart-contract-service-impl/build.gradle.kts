@@ -17,6 +17,7 @@
 plugins {
     id("com.hedera.gradle.services")
     id("com.hedera.gradle.services-publish")
+    id("com.hedera.gradle.feature.benchmark")
 }
 
 description = "Default Hedera Smart Contract Service Implementation"
@@ -39,3 +40,9 @@ testModuleInfo {
     requires("org.mockito.junit.jupiter")
     requiresStatic("com.github.spotbugs.annotations")
 }
+
+jmhModuleInfo {
+    requires("com.hedera.node.app.service.contract.impl")
+    requires("headlong")
+    requires("jmh.core")
+}
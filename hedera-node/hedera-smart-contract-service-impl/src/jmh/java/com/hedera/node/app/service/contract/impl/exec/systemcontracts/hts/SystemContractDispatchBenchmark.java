@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts;
+
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.allowance.GetAllowanceTranslator.ERC_GET_ALLOWANCE;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.balanceof.BalanceOfTranslator.BALANCE_OF;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.decimals.DecimalsTranslator.DECIMALS;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.getapproved.GetApprovedTranslator.ERC_GET_APPROVED;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.grantapproval.GrantApprovalTranslator.ERC_GRANT_APPROVAL;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.isapprovedforall.IsApprovedForAllTranslator.ERC_IS_APPROVED_FOR_ALL;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.name.NameTranslator.NAME;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ownerof.OwnerOfTranslator.OWNER_OF;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.setapproval.SetApprovalForAllTranslator.ERC721_SET_APPROVAL_FOR_ALL;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.symbol.SymbolTranslator.SYMBOL;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokenuri.TokenUriTranslator.TOKEN_URI;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.totalsupply.TotalSupplyTranslator.TOTAL_SUPPLY;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc20TransfersTranslator.ERC_20_TRANSFER;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc20TransfersTranslator.ERC_20_TRANSFER_FROM;
+
+import com.esaulpaugh.headlong.abi.Function;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.SelectorRoutingTable;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.allowance.GetAllowanceTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.associations.AssociationsDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.associations.AssociationsTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.balanceof.BalanceOfTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.burn.BurnDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.burn.BurnTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.create.CreateDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.create.CreateTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.customfees.TokenCustomFeesTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.decimals.DecimalsTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.defaultfreezestatus.DefaultFreezeStatusTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.defaultkycstatus.DefaultKycStatusTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.delete.DeleteTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.freeze.FreezeUnfreezeDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.freeze.FreezeUnfreezeTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.fungibletokeninfo.FungibleTokenInfoTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.getapproved.GetApprovedTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.grantapproval.GrantApprovalDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.grantapproval.GrantApprovalTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.grantrevokekyc.GrantRevokeKycDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.grantrevokekyc.GrantRevokeKycTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.isapprovedforall.IsApprovedForAllTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.isassociated.IsAssociatedTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.isfrozen.IsFrozenTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.iskyc.IsKycTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.istoken.IsTokenTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.mint.MintDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.mint.MintTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.name.NameTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.nfttokeninfo.NftTokenInfoTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ownerof.OwnerOfTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.pauses.PausesDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.pauses.PausesTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.setapproval.SetApprovalForAllDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.setapproval.SetApprovalForAllTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.symbol.SymbolTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokenexpiry.TokenExpiryTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokeninfo.TokenInfoTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokenkey.TokenKeyTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokentype.TokenTypeTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokenuri.TokenUriTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.totalsupply.TotalSupplyTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.ClassicTransfersDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.ClassicTransfersTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc20TransfersTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc721TransferFromTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.update.UpdateDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.update.UpdateExpiryTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.update.UpdateKeysTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.update.UpdateNFTsMetadataTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.update.UpdateTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.updatetokencustomfees.UpdateTokenCustomFeesDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.updatetokencustomfees.UpdateTokenCustomFeesTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.wipe.WipeDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.wipe.WipeTranslator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares offering an ERC facade call to every HTS translator in turn with routing it by selector through a
+ * {@link SelectorRoutingTable}. Only the selector check each translator does in {@code matches()} is measured,
+ * since a full {@link HtsCallAttempt} needs a live frame and native operations.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SystemContractDispatchBenchmark {
+    private List<CallTranslator<HtsCallAttempt>> translators;
+    private List<List<Function>> candidatesOf;
+    private SelectorRoutingTable<HtsCallAttempt> routingTable;
+    private byte[][] selectors;
+
+    @Setup
+    public void setUp() {
+        translators = List.of(
+                new GetAllowanceTranslator(),
+                new AssociationsTranslator(new AssociationsDecoder()),
+                new BalanceOfTranslator(),
+                new BurnTranslator(new BurnDecoder()),
+                new CreateTranslator(new CreateDecoder()),
+                new TokenCustomFeesTranslator(),
+                new DecimalsTranslator(),
+                new DefaultFreezeStatusTranslator(),
+                new DefaultKycStatusTranslator(),
+                new DeleteTranslator(),
+                new FreezeUnfreezeTranslator(new FreezeUnfreezeDecoder()),
+                new FungibleTokenInfoTranslator(),
+                new GetApprovedTranslator(),
+                new GrantApprovalTranslator(new GrantApprovalDecoder()),
+                new GrantRevokeKycTranslator(new GrantRevokeKycDecoder()),
+                new IsApprovedForAllTranslator(),
+                new IsAssociatedTranslator(),
+                new IsFrozenTranslator(),
+                new IsKycTranslator(),
+                new IsTokenTranslator(),
+                new MintTranslator(new MintDecoder()),
+                new NameTranslator(),
+                new NftTokenInfoTranslator(),
+                new OwnerOfTranslator(),
+                new PausesTranslator(new PausesDecoder()),
+                new SetApprovalForAllTranslator(new SetApprovalForAllDecoder()),
+                new SymbolTranslator(),
+                new TokenExpiryTranslator(),
+                new TokenInfoTranslator(),
+                new TokenKeyTranslator(),
+                new TokenTypeTranslator(),
+                new TokenUriTranslator(),
+                new TotalSupplyTranslator(),
+                new ClassicTransfersTranslator(new ClassicTransfersDecoder()),
+                new Erc20TransfersTranslator(),
+                new Erc721TransferFromTranslator(),
+                new UpdateExpiryTranslator(new UpdateDecoder()),
+                new UpdateKeysTranslator(new UpdateDecoder()),
+                new UpdateNFTsMetadataTranslator(new UpdateDecoder()),
+                new UpdateTranslator(new UpdateDecoder()),
+                new UpdateTokenCustomFeesTranslator(new UpdateTokenCustomFeesDecoder()),
+                new WipeTranslator(new WipeDecoder()));
+        candidatesOf = translators.stream().map(CallTranslator::candidateFunctions).toList();
+        routingTable = new SelectorRoutingTable<>(translators);
+        selectors = Arrays.stream(new Function[] {
+                    ERC_GET_ALLOWANCE,
+                    BALANCE_OF,
+                    DECIMALS,
+                    ERC_GET_APPROVED,
+                    ERC_GRANT_APPROVAL,
+                    ERC_IS_APPROVED_FOR_ALL,
+                    NAME,
+                    OWNER_OF,
+                    ERC721_SET_APPROVAL_FOR_ALL,
+                    SYMBOL,
+                    TOKEN_URI,
+                    TOTAL_SUPPLY,
+                    ERC_20_TRANSFER,
+                    ERC_20_TRANSFER_FROM
+                })
+                .map(Function::selector)
+                .toArray(byte[][]::new);
+    }
+
+    @Benchmark
+    public void linearDispatch(final Blackhole blackhole) {
+        for (final var selector : selectors) {
+            for (int i = 0, n = translators.size(); i < n; i++) {
+                if (matchesSelector(candidatesOf.get(i), selector)) {
+                    blackhole.consume(translators.get(i));
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void routedDispatch(final Blackhole blackhole) {
+        for (final var selector : selectors) {
+            for (final var translator : routingTable.translatorsFor(selector)) {
+                if (matchesSelector(translator.candidateFunctions(), selector)) {
+                    blackhole.consume(translator);
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean matchesSelector(final List<Function> functions, final byte[] selector) {
+        for (final var function : functions) {
+            if (Arrays.equals(function.selector(), selector)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
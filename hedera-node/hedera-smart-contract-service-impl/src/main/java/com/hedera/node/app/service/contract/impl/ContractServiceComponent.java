@@ -18,6 +18,7 @@ package com.hedera.node.app.service.contract.impl;
 
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategies;
 import com.hedera.node.app.service.contract.impl.handlers.ContractHandlers;
+import com.hedera.node.app.service.contract.impl.state.CodeCache;
 import com.hedera.node.app.spi.signatures.SignatureVerifier;
 import dagger.BindsInstance;
 import dagger.Component;
@@ -41,4 +42,9 @@ public interface ContractServiceComponent {
     }
 
     ContractHandlers handlers();
+
+    /**
+     * @return the analyzed EVM code cache shared by all transactions and queries
+     */
+    CodeCache codeCache();
 }
@@ -25,6 +25,7 @@ import com.hedera.node.app.service.contract.impl.handlers.ContractHandlers;
 import com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema;
 import com.hedera.node.app.service.contract.impl.schemas.V0500ContractSchema;
 import com.hedera.node.app.spi.AppContext;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.state.spi.SchemaRegistry;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -70,4 +71,13 @@ public class ContractServiceImpl implements ContractService {
     public ContractHandlers handlers() {
         return component.handlers();
     }
+
+    /**
+     * Registers the contract service's metrics, once the platform's metrics are available.
+     *
+     * @param metrics the metrics to register with
+     */
+    public void registerMetrics(@NonNull final Metrics metrics) {
+        component.codeCache().registerMetrics(requireNonNull(metrics));
+    }
 }
@@ -35,6 +35,7 @@ import com.hedera.node.app.service.contract.impl.hevm.HydratedEthTxData;
 import com.hedera.node.app.service.contract.impl.infra.HevmTransactionFactory;
 import com.hedera.node.app.service.contract.impl.state.HederaEvmAccount;
 import com.hedera.node.app.service.contract.impl.state.RootProxyWorldUpdater;
+import com.hedera.node.app.service.contract.impl.state.TransactionStorageReads;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.config.data.ContractsConfig;
@@ -72,6 +73,7 @@ public class ContextTransactionProcessor implements Callable<CallOutcome> {
     public final HevmTransactionFactory hevmTransactionFactory;
     private final Supplier<HederaWorldUpdater> feesOnlyUpdater;
     private final CustomGasCharging gasCharging;
+    private final TransactionStorageReads storageReads;
 
     @Inject
     public ContextTransactionProcessor(
@@ -86,7 +88,8 @@ public class ContextTransactionProcessor implements Callable<CallOutcome> {
             @NonNull final HevmTransactionFactory hevmTransactionFactory,
             @NonNull final Supplier<HederaWorldUpdater> feesOnlyUpdater,
             @NonNull final TransactionProcessor processor,
-            @NonNull final CustomGasCharging customGasCharging) {
+            @NonNull final CustomGasCharging customGasCharging,
+            @NonNull final TransactionStorageReads storageReads) {
         this.context = Objects.requireNonNull(context);
         this.hydratedEthTxData = hydratedEthTxData;
         this.addOnTracers = addOnTracers;
@@ -99,10 +102,20 @@ public class ContextTransactionProcessor implements Callable<CallOutcome> {
         this.hederaEvmContext = Objects.requireNonNull(hederaEvmContext);
         this.hevmTransactionFactory = Objects.requireNonNull(hevmTransactionFactory);
         this.gasCharging = Objects.requireNonNull(customGasCharging);
+        this.storageReads = Objects.requireNonNull(storageReads);
     }
 
     @Override
     public CallOutcome call() {
+        try {
+            return execute();
+        } finally {
+            // Whatever the outcome, the storage this transaction read is worth prefetching next time
+            storageReads.flush();
+        }
+    }
+
+    private CallOutcome execute() {
         // Ensure that if this is an EthereumTransaction, we have a valid EthTxData
         assertEthTxDataValidIfApplicable();
 
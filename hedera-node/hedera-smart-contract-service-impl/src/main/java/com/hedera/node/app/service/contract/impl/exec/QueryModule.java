@@ -31,6 +31,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.QuerySystemContractO
 import com.hedera.node.app.service.contract.impl.exec.scope.SystemContractOperations;
 import com.hedera.node.app.service.contract.impl.exec.tracers.EvmActionTracer;
 import com.hedera.node.app.service.contract.impl.exec.utils.ActionStack;
+import com.hedera.node.app.service.contract.impl.exec.utils.CompactActionStack;
 import com.hedera.node.app.service.contract.impl.hevm.HederaEvmBlocks;
 import com.hedera.node.app.service.contract.impl.hevm.HederaEvmContext;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
@@ -97,8 +98,10 @@ public interface QueryModule {
 
     @Provides
     @QueryScope
-    static ActionSidecarContentTracer provideActionSidecarContentTracer() {
-        return new EvmActionTracer(new ActionStack());
+    static ActionSidecarContentTracer provideActionSidecarContentTracer(@NonNull final QueryContext context) {
+        final var contractsConfig = context.configuration().getConfigData(ContractsConfig.class);
+        return new EvmActionTracer(
+                contractsConfig.compactActionTracing() ? new CompactActionStack() : new ActionStack());
     }
 
     @Provides
@@ -38,6 +38,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.SystemContractOperations;
 import com.hedera.node.app.service.contract.impl.exec.tracers.EvmActionTracer;
 import com.hedera.node.app.service.contract.impl.exec.utils.ActionStack;
+import com.hedera.node.app.service.contract.impl.exec.utils.CompactActionStack;
 import com.hedera.node.app.service.contract.impl.exec.utils.PendingCreationMetadataRef;
 import com.hedera.node.app.service.contract.impl.hevm.HandleContextHevmBlocks;
 import com.hedera.node.app.service.contract.impl.hevm.HederaEvmBlocks;
@@ -48,9 +49,11 @@ import com.hedera.node.app.service.contract.impl.hevm.HydratedEthTxData;
 import com.hedera.node.app.service.contract.impl.infra.EthTxSigsCache;
 import com.hedera.node.app.service.contract.impl.infra.EthereumCallDataHydration;
 import com.hedera.node.app.service.contract.impl.records.ContractOperationStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.CodeCache;
 import com.hedera.node.app.service.contract.impl.state.EvmFrameStateFactory;
 import com.hedera.node.app.service.contract.impl.state.ProxyWorldUpdater;
 import com.hedera.node.app.service.contract.impl.state.ScopedEvmFrameStateFactory;
+import com.hedera.node.app.service.contract.impl.state.TransactionStorageReads;
 import com.hedera.node.app.service.file.ReadableFileStore;
 import com.hedera.node.app.spi.validation.AttributeValidator;
 import com.hedera.node.app.spi.validation.ExpiryValidator;
@@ -178,8 +181,9 @@ public interface TransactionModule {
 
     @Provides
     @TransactionScope
-    static EvmActionTracer provideEvmActionTracer() {
-        return new EvmActionTracer(new ActionStack());
+    static EvmActionTracer provideEvmActionTracer(@NonNull final ContractsConfig contractsConfig) {
+        return new EvmActionTracer(
+                contractsConfig.compactActionTracing() ? new CompactActionStack() : new ActionStack());
     }
 
     @Provides
@@ -241,9 +245,15 @@ public interface TransactionModule {
         return new HederaWorldUpdater.Enhancement(operations.begin(), nativeOperations, systemContractOperations);
     }
 
-    @Binds
+    @Provides
     @TransactionScope
-    EvmFrameStateFactory bindEvmFrameStateFactory(ScopedEvmFrameStateFactory factory);
+    static EvmFrameStateFactory provideEvmFrameStateFactory(
+            @NonNull final HederaOperations hederaOperations,
+            @NonNull final HederaNativeOperations hederaNativeOperations,
+            @NonNull final CodeCache codeCache,
+            @NonNull final TransactionStorageReads storageReads) {
+        return new ScopedEvmFrameStateFactory(hederaOperations, hederaNativeOperations, codeCache, storageReads);
+    }
 
     @Binds
     @TransactionScope
@@ -32,7 +32,6 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.BufferUnderflowException;
 import java.util.Arrays;
-import java.util.List;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 
@@ -52,7 +51,7 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
     private final AddressIdConverter addressIdConverter;
     private final VerificationStrategies verificationStrategies;
     private final SystemContractGasCalculator gasCalculator;
-    private final List<CallTranslator<T>> callTranslators;
+    private final SelectorRoutingTable<T> routingTable;
     private final boolean isStaticCall;
 
     // If non-null, the address of a non-contract entity (e.g., account or token) whose
@@ -60,6 +59,11 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
     // to be the redirecting entity for this call attempt
     protected @Nullable final Address redirectAddress;
 
+    // The function and arguments most recently decoded from this attempt's input, so that a
+    // translator and the call it creates can share a single decoding of the input
+    private @Nullable Function decodedFunction;
+    private @Nullable Tuple decodedArgs;
+
     // too many parameters
     @SuppressWarnings("java:S107")
     public AbstractCallAttempt(
@@ -72,12 +76,12 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
             @NonNull final AddressIdConverter addressIdConverter,
             @NonNull final VerificationStrategies verificationStrategies,
             @NonNull final SystemContractGasCalculator gasCalculator,
-            @NonNull final List<CallTranslator<T>> callTranslators,
+            @NonNull final SelectorRoutingTable<T> routingTable,
             final boolean isStaticCall,
             @NonNull final com.esaulpaugh.headlong.abi.Function redirectFunction) {
         requireNonNull(input);
         requireNonNull(redirectFunction);
-        this.callTranslators = requireNonNull(callTranslators);
+        this.routingTable = requireNonNull(routingTable);
         this.gasCalculator = requireNonNull(gasCalculator);
         this.senderAddress = requireNonNull(senderAddress);
         this.authorizingAddress = requireNonNull(authorizingAddress);
@@ -159,7 +163,7 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
      */
     public @Nullable Call asExecutableCall() {
         final var self = self();
-        for (final var translator : callTranslators) {
+        for (final var translator : routingTable.translatorsFor(selector)) {
             final var call = translator.translateCallAttempt(self);
             if (call != null) {
                 return call;
@@ -234,6 +238,23 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
         return input.toArrayUnsafe();
     }
 
+    /**
+     * Returns the arguments of this call decoded as a call to the given function, decoding the input only if
+     * it was not already decoded for the same function.
+     *
+     * @param function the function to decode the input as
+     * @return the decoded arguments
+     * @throws IllegalArgumentException if the input is not a valid call to the function
+     */
+    public @NonNull Tuple decodedCall(@NonNull final Function function) {
+        requireNonNull(function);
+        if (function != decodedFunction) {
+            decodedArgs = function.decodeCall(input.toArrayUnsafe());
+            decodedFunction = function;
+        }
+        return requireNonNull(decodedArgs);
+    }
+
     /**
      * @return whether the current call attempt is a static call
      */
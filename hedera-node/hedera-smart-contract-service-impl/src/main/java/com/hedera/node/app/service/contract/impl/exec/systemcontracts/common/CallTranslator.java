@@ -16,9 +16,11 @@
 
 package com.hedera.node.app.service.contract.impl.exec.systemcontracts.common;
 
+import com.esaulpaugh.headlong.abi.Function;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
 
 /**
  * Strategy interface for translating {@link HtsCallAttempt}s into {@link Call}s.
@@ -42,6 +44,19 @@ public interface CallTranslator<T> {
      */
     boolean matches(@NonNull T attempt);
 
+    /**
+     * Returns the functions whose selectors this translator can possibly match; that is, {@link #matches(Object)}
+     * must return false for any attempt whose selector is not one of these functions. This lets a
+     * {@link SelectorRoutingTable} offer an attempt only to the translators that might match its selector.
+     *
+     * <p>An empty list means this translator might match any selector, so it is offered every attempt.
+     *
+     * @return the functions whose selectors this translator can match, or an empty list if unknown
+     */
+    default @NonNull List<Function> candidateFunctions() {
+        return List.of();
+    }
+
     /**
      * Returns a call from the given attempt.
      *
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.exec.systemcontracts.common;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Routes a system contract call attempt to the {@link CallTranslator}s that might match its 4-byte selector,
+ * so that an attempt is not offered to every registered translator in turn.
+ *
+ * <p>Each translator is routed only the selectors of its {@link CallTranslator#candidateFunctions()}; a translator
+ * with no candidate functions is routed every selector. The translators for a selector keep their relative order
+ * in the list the table was built from, so routing never changes which translator translates an attempt.
+ *
+ * @param <T> the type of call attempt being translated
+ */
+public class SelectorRoutingTable<T> {
+    private static final int SELECTOR_LENGTH = 4;
+
+    private final List<CallTranslator<T>> translators;
+    private final List<CallTranslator<T>> unroutedTranslators;
+    private final Map<Integer, List<CallTranslator<T>>> translatorsBySelector;
+
+    /**
+     * Builds the routing table for the given translators.
+     *
+     * @param translators the translators, in the order they should be tried
+     */
+    public SelectorRoutingTable(@NonNull final List<CallTranslator<T>> translators) {
+        this.translators = List.copyOf(requireNonNull(translators));
+        final List<Set<Integer>> selectorsOf = new ArrayList<>(this.translators.size());
+        final Set<Integer> allSelectors = new LinkedHashSet<>();
+        for (final var translator : this.translators) {
+            final Set<Integer> selectors = new LinkedHashSet<>();
+            for (final var function : translator.candidateFunctions()) {
+                selectors.add(selectorKey(function.selector()));
+            }
+            selectorsOf.add(selectors);
+            allSelectors.addAll(selectors);
+        }
+        final List<CallTranslator<T>> unrouted = new ArrayList<>();
+        final Map<Integer, List<CallTranslator<T>>> routes = new HashMap<>();
+        allSelectors.forEach(selector -> routes.put(selector, new ArrayList<>()));
+        for (int i = 0, n = this.translators.size(); i < n; i++) {
+            final var translator = this.translators.get(i);
+            final var selectors = selectorsOf.get(i);
+            if (selectors.isEmpty()) {
+                unrouted.add(translator);
+                routes.values().forEach(route -> route.add(translator));
+            } else {
+                selectors.forEach(selector -> routes.get(selector).add(translator));
+            }
+        }
+        this.unroutedTranslators = List.copyOf(unrouted);
+        this.translatorsBySelector = new HashMap<>();
+        routes.forEach((selector, route) -> translatorsBySelector.put(selector, List.copyOf(route)));
+    }
+
+    /**
+     * Returns the translators that might match a call with the given selector, in the order they should be tried.
+     *
+     * @param selector the 4-byte selector of the call
+     * @return the translators to try
+     */
+    public @NonNull List<CallTranslator<T>> translatorsFor(@NonNull final byte[] selector) {
+        requireNonNull(selector);
+        if (selector.length != SELECTOR_LENGTH) {
+            return unroutedTranslators;
+        }
+        return translatorsBySelector.getOrDefault(selectorKey(selector), unroutedTranslators);
+    }
+
+    /**
+     * Returns all the translators in this table, in the order they should be tried.
+     *
+     * @return all the translators
+     */
+    public @NonNull List<CallTranslator<T>> translators() {
+        return translators;
+    }
+
+    private static int selectorKey(@NonNull final byte[] selector) {
+        return ((selector[0] & 0xFF) << 24)
+                | ((selector[1] & 0xFF) << 16)
+                | ((selector[2] & 0xFF) << 8)
+                | (selector[3] & 0xFF);
+    }
+}
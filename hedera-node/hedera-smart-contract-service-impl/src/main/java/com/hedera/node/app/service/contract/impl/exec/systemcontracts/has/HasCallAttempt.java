@@ -30,6 +30,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.AbstractCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Call;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.SelectorRoutingTable;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.AddressIdConverter;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.swirlds.config.api.Configuration;
@@ -64,6 +65,34 @@ public class HasCallAttempt extends AbstractCallAttempt<HasCallAttempt> {
             @NonNull final SystemContractGasCalculator gasCalculator,
             @NonNull final List<CallTranslator<HasCallAttempt>> callTranslators,
             final boolean isStaticCall) {
+        this(
+                input,
+                senderAddress,
+                authorizingAddress,
+                onlyDelegatableContractKeysActive,
+                enhancement,
+                configuration,
+                addressIdConverter,
+                verificationStrategies,
+                gasCalculator,
+                new SelectorRoutingTable<>(callTranslators),
+                isStaticCall);
+    }
+
+    // too many parameters
+    @SuppressWarnings("java:S107")
+    public HasCallAttempt(
+            @NonNull final Bytes input,
+            @NonNull final Address senderAddress,
+            @NonNull final Address authorizingAddress,
+            final boolean onlyDelegatableContractKeysActive,
+            @NonNull final HederaWorldUpdater.Enhancement enhancement,
+            @NonNull final Configuration configuration,
+            @NonNull final AddressIdConverter addressIdConverter,
+            @NonNull final VerificationStrategies verificationStrategies,
+            @NonNull final SystemContractGasCalculator gasCalculator,
+            @NonNull final SelectorRoutingTable<HasCallAttempt> routingTable,
+            final boolean isStaticCall) {
         super(
                 input,
                 senderAddress,
@@ -74,7 +103,7 @@ public class HasCallAttempt extends AbstractCallAttempt<HasCallAttempt> {
                 addressIdConverter,
                 verificationStrategies,
                 gasCalculator,
-                callTranslators,
+                routingTable,
                 isStaticCall,
                 REDIRECT_FOR_ACCOUNT);
         if (isRedirect()) {
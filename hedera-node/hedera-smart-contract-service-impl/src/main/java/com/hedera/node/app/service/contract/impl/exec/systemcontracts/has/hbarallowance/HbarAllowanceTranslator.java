@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -53,6 +54,14 @@ public class HbarAllowanceTranslator extends AbstractCallTranslator<HasCallAttem
         return attempt.isSelector(HBAR_ALLOWANCE, HBAR_ALLOWANCE_PROXY);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(HBAR_ALLOWANCE, HBAR_ALLOWANCE_PROXY);
+    }
+
     /**
      * {@inheritDoc}
      */
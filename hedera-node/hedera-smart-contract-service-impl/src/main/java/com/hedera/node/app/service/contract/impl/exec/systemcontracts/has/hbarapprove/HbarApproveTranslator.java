@@ -29,6 +29,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.math.BigInteger;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -56,6 +57,14 @@ public class HbarApproveTranslator extends AbstractCallTranslator<HasCallAttempt
         return attempt.isSelector(HBAR_APPROVE, HBAR_APPROVE_PROXY);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(HBAR_APPROVE, HBAR_APPROVE_PROXY);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -25,6 +25,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class IsValidAliasTranslator extends AbstractCallTranslator<HasCallAttempt> {
@@ -48,4 +49,9 @@ public class IsValidAliasTranslator extends AbstractCallTranslator<HasCallAttemp
         requireNonNull(attempt, "attempt");
         return attempt.isSelector(IS_VALID_ALIAS);
     }
+
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(IS_VALID_ALIAS);
+    }
 }
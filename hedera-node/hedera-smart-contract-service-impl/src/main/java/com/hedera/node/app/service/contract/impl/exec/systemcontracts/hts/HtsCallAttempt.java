@@ -31,6 +31,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.HtsSystemC
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.AbstractCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Call;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.SelectorRoutingTable;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -73,6 +74,34 @@ public class HtsCallAttempt extends AbstractCallAttempt<HtsCallAttempt> {
             @NonNull final SystemContractGasCalculator gasCalculator,
             @NonNull final List<CallTranslator<HtsCallAttempt>> callTranslators,
             final boolean isStaticCall) {
+        this(
+                input,
+                senderAddress,
+                authorizingAddress,
+                onlyDelegatableContractKeysActive,
+                enhancement,
+                configuration,
+                addressIdConverter,
+                verificationStrategies,
+                gasCalculator,
+                new SelectorRoutingTable<>(callTranslators),
+                isStaticCall);
+    }
+
+    // too many parameters
+    @SuppressWarnings("java:S107")
+    public HtsCallAttempt(
+            @NonNull final Bytes input,
+            @NonNull final Address senderAddress,
+            @NonNull final Address authorizingAddress,
+            final boolean onlyDelegatableContractKeysActive,
+            @NonNull final HederaWorldUpdater.Enhancement enhancement,
+            @NonNull final Configuration configuration,
+            @NonNull final AddressIdConverter addressIdConverter,
+            @NonNull final VerificationStrategies verificationStrategies,
+            @NonNull final SystemContractGasCalculator gasCalculator,
+            @NonNull final SelectorRoutingTable<HtsCallAttempt> routingTable,
+            final boolean isStaticCall) {
         super(
                 input,
                 senderAddress,
@@ -83,7 +112,7 @@ public class HtsCallAttempt extends AbstractCallAttempt<HtsCallAttempt> {
                 addressIdConverter,
                 verificationStrategies,
                 gasCalculator,
-                callTranslators,
+                routingTable,
                 isStaticCall,
                 REDIRECT_FOR_TOKEN);
         if (isRedirect()) {
@@ -25,6 +25,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.app.service.contract.impl.utils.ConversionUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Arrays;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -51,6 +52,14 @@ public class GetAllowanceTranslator extends AbstractCallTranslator<HtsCallAttemp
         return attempt.isSelector(GET_ALLOWANCE, ERC_GET_ALLOWANCE);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(GET_ALLOWANCE, ERC_GET_ALLOWANCE);
+    }
+
     /**
      * {@inheritDoc}
      */
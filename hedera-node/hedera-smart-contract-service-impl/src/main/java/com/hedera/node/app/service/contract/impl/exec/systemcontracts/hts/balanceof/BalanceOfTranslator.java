@@ -22,6 +22,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -42,9 +43,7 @@ public class BalanceOfTranslator extends AbstractCallTranslator<HtsCallAttempt>
      */
     @Override
     public BalanceOfCall callFrom(@NonNull final HtsCallAttempt attempt) {
-        final Address owner = BalanceOfTranslator.BALANCE_OF
-                .decodeCall(attempt.input().toArrayUnsafe())
-                .get(0);
+        final Address owner = attempt.decodedCall(BALANCE_OF).get(0);
         return new BalanceOfCall(
                 attempt.enhancement(), attempt.systemContractGasCalculator(), attempt.redirectToken(), owner);
     }
@@ -56,4 +55,12 @@ public class BalanceOfTranslator extends AbstractCallTranslator<HtsCallAttempt>
     public boolean matches(@NonNull final HtsCallAttempt attempt) {
         return attempt.isSelector(BALANCE_OF);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(BALANCE_OF);
+    }
 }
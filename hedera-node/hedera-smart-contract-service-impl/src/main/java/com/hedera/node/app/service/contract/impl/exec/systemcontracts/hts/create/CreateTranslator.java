@@ -34,6 +34,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
 
@@ -163,6 +164,23 @@ public class CreateTranslator extends AbstractCallTranslator<HtsCallAttempt> {
                         CREATE_NON_FUNGIBLE_TOKEN_WITH_CUSTOM_FEES_V3);
     }
 
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(
+                CREATE_FUNGIBLE_TOKEN_V1,
+                CREATE_FUNGIBLE_TOKEN_V2,
+                CREATE_FUNGIBLE_TOKEN_V3,
+                CREATE_FUNGIBLE_WITH_CUSTOM_FEES_V1,
+                CREATE_FUNGIBLE_WITH_CUSTOM_FEES_V2,
+                CREATE_FUNGIBLE_WITH_CUSTOM_FEES_V3,
+                CREATE_NON_FUNGIBLE_TOKEN_V1,
+                CREATE_NON_FUNGIBLE_TOKEN_V2,
+                CREATE_NON_FUNGIBLE_TOKEN_V3,
+                CREATE_NON_FUNGIBLE_TOKEN_WITH_CUSTOM_FEES_V1,
+                CREATE_NON_FUNGIBLE_TOKEN_WITH_CUSTOM_FEES_V2,
+                CREATE_NON_FUNGIBLE_TOKEN_WITH_CUSTOM_FEES_V3);
+    }
+
     @Override
     public ClassicCreatesCall callFrom(@NonNull HtsCallAttempt attempt) {
         return new ClassicCreatesCall(
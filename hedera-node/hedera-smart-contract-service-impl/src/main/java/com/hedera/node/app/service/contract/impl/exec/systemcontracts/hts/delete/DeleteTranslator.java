@@ -30,6 +30,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.app.service.contract.impl.utils.ConversionUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class DeleteTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -45,6 +46,11 @@ public class DeleteTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(DELETE_TOKEN);
     }
 
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(DELETE_TOKEN);
+    }
+
     @Override
     public Call callFrom(@NonNull HtsCallAttempt attempt) {
         return new DispatchForResponseCodeHtsCall(attempt, bodyForClassic(attempt), DeleteTranslator::gasRequirement);
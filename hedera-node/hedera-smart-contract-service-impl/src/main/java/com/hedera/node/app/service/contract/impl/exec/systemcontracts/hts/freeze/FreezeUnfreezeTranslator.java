@@ -31,6 +31,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Arrays;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -56,6 +57,14 @@ public class FreezeUnfreezeTranslator extends AbstractCallTranslator<HtsCallAtte
         return attempt.isSelector(FREEZE, UNFREEZE);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(FREEZE, UNFREEZE);
+    }
+
     /**
      * {@inheritDoc}
      */
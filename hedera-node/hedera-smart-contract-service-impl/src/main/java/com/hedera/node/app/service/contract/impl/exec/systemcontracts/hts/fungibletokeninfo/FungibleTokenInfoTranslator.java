@@ -26,6 +26,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class FungibleTokenInfoTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -53,6 +54,14 @@ public class FungibleTokenInfoTranslator extends AbstractCallTranslator<HtsCallA
                 || attempt.isSelectorIfConfigEnabled(FUNGIBLE_TOKEN_INFO_V2, v2Enabled);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(FUNGIBLE_TOKEN_INFO, FUNGIBLE_TOKEN_INFO_V2);
+    }
+
     /**
      * {@inheritDoc}
      */
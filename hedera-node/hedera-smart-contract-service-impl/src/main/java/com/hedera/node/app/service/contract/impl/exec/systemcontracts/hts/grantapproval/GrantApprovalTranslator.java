@@ -34,6 +34,7 @@ import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.app.service.contract.impl.utils.ConversionUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.math.BigInteger;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -63,6 +64,14 @@ public class GrantApprovalTranslator extends AbstractCallTranslator<HtsCallAttem
         return attempt.isSelector(GRANT_APPROVAL, GRANT_APPROVAL_NFT) || attempt.isSelector(ERC_GRANT_APPROVAL);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(GRANT_APPROVAL, GRANT_APPROVAL_NFT, ERC_GRANT_APPROVAL);
+    }
+
     /**
      * {@inheritDoc}
      */
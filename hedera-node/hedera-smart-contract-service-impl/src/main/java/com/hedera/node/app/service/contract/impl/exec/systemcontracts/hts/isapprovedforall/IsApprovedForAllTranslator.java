@@ -22,6 +22,7 @@ import com.esaulpaugh.headlong.abi.Function;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.AbstractCallTranslator;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -47,13 +48,21 @@ public class IsApprovedForAllTranslator extends AbstractCallTranslator<HtsCallAt
         return attempt.isSelector(CLASSIC_IS_APPROVED_FOR_ALL, ERC_IS_APPROVED_FOR_ALL);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(CLASSIC_IS_APPROVED_FOR_ALL, ERC_IS_APPROVED_FOR_ALL);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public IsApprovedForAllCall callFrom(@NonNull final HtsCallAttempt attempt) {
         if (attempt.isSelector(ERC_IS_APPROVED_FOR_ALL)) {
-            final var args = ERC_IS_APPROVED_FOR_ALL.decodeCall(attempt.input().toArrayUnsafe());
+            final var args = attempt.decodedCall(ERC_IS_APPROVED_FOR_ALL);
             return new IsApprovedForAllCall(
                     attempt.systemContractGasCalculator(),
                     attempt.enhancement(),
@@ -62,8 +71,7 @@ public class IsApprovedForAllTranslator extends AbstractCallTranslator<HtsCallAt
                     args.get(1),
                     true);
         } else {
-            final var args =
-                    CLASSIC_IS_APPROVED_FOR_ALL.decodeCall(attempt.input().toArrayUnsafe());
+            final var args = attempt.decodedCall(CLASSIC_IS_APPROVED_FOR_ALL);
             final var token = attempt.linkedToken(fromHeadlongAddress(args.get(0)));
             return new IsApprovedForAllCall(
                     attempt.systemContractGasCalculator(),
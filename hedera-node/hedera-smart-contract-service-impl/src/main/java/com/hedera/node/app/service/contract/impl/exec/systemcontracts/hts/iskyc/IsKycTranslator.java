@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class IsKycTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -43,6 +44,14 @@ public class IsKycTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(IS_KYC);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(IS_KYC);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -23,6 +23,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -46,6 +47,14 @@ public class OwnerOfTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(OWNER_OF);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(OWNER_OF);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -53,8 +62,7 @@ public class OwnerOfTranslator extends AbstractCallTranslator<HtsCallAttempt> {
     public OwnerOfCall callFrom(@NonNull final HtsCallAttempt attempt) {
         // Since zero is never a valid serial number, if we clamp the passed value, the result
         // will be a revert with INVALID_NFT_ID as reason
-        final var serialNo = asExactLongValueOrZero(
-                OWNER_OF.decodeCall(attempt.input().toArrayUnsafe()).get(0));
+        final var serialNo = asExactLongValueOrZero(attempt.decodedCall(OWNER_OF).get(0));
         return new OwnerOfCall(
                 attempt.systemContractGasCalculator(), attempt.enhancement(), attempt.redirectToken(), serialNo);
     }
@@ -66,13 +66,13 @@ public class SetApprovalForAllCall extends AbstractCall {
         this.sender = attempt.addressIdConverter().convertSender(attempt.senderAddress());
         Tuple call;
         if (isERC) {
-            call = ERC721_SET_APPROVAL_FOR_ALL.decodeCall(attempt.inputBytes());
+            call = attempt.decodedCall(ERC721_SET_APPROVAL_FOR_ALL);
             this.token =
                     ConversionUtils.asLongZeroAddress(attempt.redirectTokenId().tokenNum());
             this.spender = fromHeadlongAddress(call.get(0));
             this.approved = call.get(1);
         } else {
-            call = SET_APPROVAL_FOR_ALL.decodeCall(attempt.inputBytes());
+            call = attempt.decodedCall(SET_APPROVAL_FOR_ALL);
             this.token = fromHeadlongAddress(call.get(0));
             this.spender = fromHeadlongAddress(call.get(1));
             this.approved = call.get(2);
@@ -44,7 +44,7 @@ public class SetApprovalForAllDecoder {
      * @return a {@link TransactionBody}
      */
     public TransactionBody decodeSetApprovalForAll(@NonNull final HtsCallAttempt attempt) {
-        final var call = SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL.decodeCall(attempt.inputBytes());
+        final var call = attempt.decodedCall(SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL);
         final var operatorId = attempt.addressIdConverter().convert(call.get(1));
         return bodyOf(approveAllAllowanceNFTBody(attempt.senderId(), asTokenId(call.get(0)), operatorId, call.get(2)));
     }
@@ -56,7 +56,7 @@ public class SetApprovalForAllDecoder {
      * @return a {@link TransactionBody}
      */
     public TransactionBody decodeSetApprovalForAllERC(@NonNull final HtsCallAttempt attempt) {
-        final var call = SetApprovalForAllTranslator.ERC721_SET_APPROVAL_FOR_ALL.decodeCall(attempt.inputBytes());
+        final var call = attempt.decodedCall(SetApprovalForAllTranslator.ERC721_SET_APPROVAL_FOR_ALL);
         final var tokenId = attempt.redirectTokenId();
         Objects.requireNonNull(tokenId, "Redirect Token ID is null.");
 
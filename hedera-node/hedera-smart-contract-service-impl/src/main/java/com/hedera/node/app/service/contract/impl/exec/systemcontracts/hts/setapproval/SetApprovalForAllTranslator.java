@@ -28,6 +28,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 /**
@@ -58,6 +59,14 @@ public class SetApprovalForAllTranslator extends AbstractCallTranslator<HtsCallA
                 : attempt.isSelector(SET_APPROVAL_FOR_ALL);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(ERC721_SET_APPROVAL_FOR_ALL, SET_APPROVAL_FOR_ALL);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -28,6 +28,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.math.BigInteger;
+import java.util.List;
 import javax.inject.Inject;
 
 public class TokenKeyTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -48,6 +49,14 @@ public class TokenKeyTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(TOKEN_KEY);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(TOKEN_KEY);
+    }
+
     /**
      * {@inheritDoc}
      */
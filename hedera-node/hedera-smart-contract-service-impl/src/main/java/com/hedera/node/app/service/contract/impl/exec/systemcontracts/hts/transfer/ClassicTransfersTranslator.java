@@ -28,6 +28,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -69,6 +70,19 @@ public class ClassicTransfersTranslator extends AbstractCallTranslator<HtsCallAt
                         || attempt.isSelector(TRANSFER_FROM, TRANSFER_NFT_FROM));
     }
 
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(
+                CRYPTO_TRANSFER,
+                CRYPTO_TRANSFER_V2,
+                TRANSFER_TOKENS,
+                TRANSFER_TOKEN,
+                TRANSFER_NFTS,
+                TRANSFER_NFT,
+                TRANSFER_FROM,
+                TRANSFER_NFT_FROM);
+    }
+
     @Override
     public ClassicTransfersCall callFrom(@NonNull final HtsCallAttempt attempt) {
         final var selector = attempt.selector();
@@ -29,6 +29,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.math.BigInteger;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -54,15 +55,18 @@ public class Erc20TransfersTranslator extends AbstractCallTranslator<HtsCallAtte
                 && attempt.redirectTokenType() != NON_FUNGIBLE_UNIQUE;
     }
 
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(ERC_20_TRANSFER, ERC_20_TRANSFER_FROM);
+    }
+
     @Override
     public @Nullable Call callFrom(@NonNull final HtsCallAttempt attempt) {
         if (attempt.isSelector(ERC_20_TRANSFER)) {
-            final var call = Erc20TransfersTranslator.ERC_20_TRANSFER.decodeCall(
-                    attempt.input().toArrayUnsafe());
+            final var call = attempt.decodedCall(ERC_20_TRANSFER);
             return callFrom(null, call.get(0), call.get(1), attempt, false);
         } else {
-            final var call = Erc20TransfersTranslator.ERC_20_TRANSFER_FROM.decodeCall(
-                    attempt.input().toArrayUnsafe());
+            final var call = attempt.decodedCall(ERC_20_TRANSFER_FROM);
             return callFrom(call.get(0), call.get(1), call.get(2), attempt, true);
         }
     }
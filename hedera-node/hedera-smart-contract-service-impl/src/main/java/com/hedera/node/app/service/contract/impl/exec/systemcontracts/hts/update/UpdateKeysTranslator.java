@@ -32,6 +32,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class UpdateKeysTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -50,6 +51,11 @@ public class UpdateKeysTranslator extends AbstractCallTranslator<HtsCallAttempt>
         return attempt.isSelector(TOKEN_UPDATE_KEYS_FUNCTION);
     }
 
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(TOKEN_UPDATE_KEYS_FUNCTION);
+    }
+
     @Override
     public Call callFrom(@NonNull HtsCallAttempt attempt) {
         return new DispatchForResponseCodeHtsCall(
@@ -29,6 +29,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class UpdateNFTsMetadataTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -48,6 +49,11 @@ public class UpdateNFTsMetadataTranslator extends AbstractCallTranslator<HtsCall
                 && attempt.isSelector(UPDATE_NFTs_METADATA);
     }
 
+    @Override
+    public @NonNull List<Function> candidateFunctions() {
+        return List.of(UPDATE_NFTs_METADATA);
+    }
+
     @Override
     public Call callFrom(@NonNull final HtsCallAttempt attempt) {
         return new DispatchForResponseCodeHtsCall(
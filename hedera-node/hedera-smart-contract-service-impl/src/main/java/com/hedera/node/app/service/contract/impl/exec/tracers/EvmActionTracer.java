@@ -26,7 +26,7 @@ import static org.hyperledger.besu.evm.frame.MessageFrame.State.CODE_SUSPENDED;
 import com.hedera.hapi.streams.ContractActionType;
 import com.hedera.hapi.streams.ContractActions;
 import com.hedera.node.app.service.contract.impl.exec.ActionSidecarContentTracer;
-import com.hedera.node.app.service.contract.impl.exec.utils.ActionStack;
+import com.hedera.node.app.service.contract.impl.exec.utils.ContractActionStack;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Optional;
 import org.apache.logging.log4j.Level;
@@ -37,15 +37,15 @@ import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.operation.Operation;
 
 /**
- * Tracer implementation that chooses an appropriate {@link ActionStack} method to call based on the
+ * Tracer implementation that chooses an appropriate {@link ContractActionStack} method to call based on the
  * {@link MessageFrame} state and system configuration.
  */
 public class EvmActionTracer implements ActionSidecarContentTracer {
     private static final Logger log = LogManager.getLogger(EvmActionTracer.class);
 
-    private final ActionStack actionStack;
+    private final ContractActionStack actionStack;
 
-    public EvmActionTracer(@NonNull final ActionStack actionStack) {
+    public EvmActionTracer(@NonNull final ContractActionStack actionStack) {
         this.actionStack = requireNonNull(actionStack);
     }
 
@@ -113,8 +113,10 @@ public class EvmActionTracer implements ActionSidecarContentTracer {
         }
     }
 
-    private ActionStack.Validation stackValidationChoice(@NonNull final MessageFrame frame) {
+    private ContractActionStack.Validation stackValidationChoice(@NonNull final MessageFrame frame) {
         requireNonNull(frame);
-        return hasActionValidationEnabled(frame) ? ActionStack.Validation.ON : ActionStack.Validation.OFF;
+        return hasActionValidationEnabled(frame)
+                ? ContractActionStack.Validation.ON
+                : ContractActionStack.Validation.OFF;
     }
 }
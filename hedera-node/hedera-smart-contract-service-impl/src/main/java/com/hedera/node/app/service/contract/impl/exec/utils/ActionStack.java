@@ -59,7 +59,7 @@ import org.hyperledger.besu.evm.frame.MessageFrame;
 /**
  * Encapsulates a stack of contract actions.
  */
-public class ActionStack {
+public class ActionStack implements ContractActionStack {
     private static final Logger log = LogManager.getLogger(ActionStack.class);
 
     private final ActionsHelper helper;
@@ -67,14 +67,6 @@ public class ActionStack {
     private final Deque<ActionWrapper> actionsStack;
     private final List<ActionWrapper> invalidActions;
 
-    /**
-     * Controls whether the stack should validate the next action it is finalizing.
-     */
-    public enum Validation {
-        ON,
-        OFF
-    }
-
     public ActionStack() {
         this(new ActionsHelper(), new ArrayList<>(), new ArrayDeque<>(), new ArrayList<>());
     }
@@ -104,6 +96,7 @@ public class ActionStack {
      *
      * @return a view of this stack ready to be put in a sidecar
      */
+    @Override
     public @NonNull ContractActions asContractActions() {
         return new ContractActions(allActions.stream().map(ActionWrapper::get).toList());
     }
@@ -129,6 +122,7 @@ public class ActionStack {
      *
      * @param validation whether to validate the final action
      */
+    @Override
     public void finalizeLastAction(@NonNull final MessageFrame frame, @NonNull final Validation validation) {
         internalFinalize(validation, frame);
     }
@@ -141,6 +135,7 @@ public class ActionStack {
      * @param type the finalized action's precompile type
      * @param validation whether to validate the final action
      */
+    @Override
     public void finalizeLastStackActionAsPrecompile(
             @NonNull final MessageFrame frame,
             @NonNull final ContractActionType type,
@@ -241,6 +236,7 @@ public class ActionStack {
      *
      * @param frame the initial frame of a HAPI contract operation
      */
+    @Override
     public void pushActionOfTopLevel(@NonNull final MessageFrame frame) {
         final var builder = ContractAction.newBuilder()
                 .callOperationType(asCallOperationType(frame.getType()))
@@ -258,6 +254,7 @@ public class ActionStack {
      *
      * @param frame the frame executing an action
      */
+    @Override
     public void pushActionOfIntermediate(@NonNull final MessageFrame frame) {
         final var builder = ContractAction.newBuilder()
                 .callOperationType(OpcodeUtils.asCallOperationType(
@@ -295,6 +292,7 @@ public class ActionStack {
      * Given the initial {@link MessageFrame} for all operations applied to this stack,
      * sanitizes the final actions and logs any anomalies.
      */
+    @Override
     public void sanitizeFinalActionsAndLogAnomalies(
             @NonNull final MessageFrame frame, @NonNull final Logger log, @NonNull final Level level) {
         // Two possible error conditions are that invalid actions (mainly `oneof` fields that
@@ -347,7 +345,7 @@ public class ActionStack {
 
     // (FUTURE) Use builder for simplicity when PBJ lets us set the oneof recipient to UNSET;
     // c.f., https://github.com/hashgraph/pbj/issues/160
-    private ContractAction withUnsetRecipient(@NonNull final ContractAction action) {
+    static ContractAction withUnsetRecipient(@NonNull final ContractAction action) {
         return new ContractAction(
                 action.callType(),
                 action.caller(),
@@ -378,7 +376,7 @@ public class ActionStack {
         return String.join("; ", msgs);
     }
 
-    private static String formatFrameContextForLog(@NonNull final MessageFrame frame) {
+    static String formatFrameContextForLog(@NonNull final MessageFrame frame) {
         final Function<Address, String> addressToString = Address::toUnprefixedHexString;
 
         final var originator = get(frame, MessageFrame::getOriginatorAddress, addressToString);
@@ -0,0 +1,368 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.exec.utils;
+
+import static com.hedera.hapi.streams.CallOperationType.OP_CALL;
+import static com.hedera.hapi.streams.CallOperationType.OP_CREATE;
+import static com.hedera.hapi.streams.ContractActionType.CALL;
+import static com.hedera.hapi.streams.ContractActionType.CREATE;
+import static com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalHaltReason.INVALID_SOLIDITY_ADDRESS;
+import static com.hedera.node.app.service.contract.impl.exec.utils.ActionStack.formatFrameContextForLog;
+import static com.hedera.node.app.service.contract.impl.exec.utils.ActionStack.withUnsetRecipient;
+import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.proxyUpdaterFor;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.asNumberedContractId;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.hederaIdNumOfContractIn;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.hederaIdNumOfOriginatorIn;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToBesuAddress;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.hyperledger.besu.evm.frame.MessageFrame.Type.CONTRACT_CREATION;
+import static org.hyperledger.besu.evm.frame.MessageFrame.Type.MESSAGE_CALL;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.streams.CallOperationType;
+import com.hedera.hapi.streams.ContractAction;
+import com.hedera.hapi.streams.ContractActionType;
+import com.hedera.hapi.streams.ContractActions;
+import com.hedera.node.app.service.contract.impl.utils.OpcodeUtils;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.evm.code.CodeV0;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+/**
+ * A {@link ContractActionStack} that, while the EVM is executing, only logs the details of each action in a compact
+ * mutable form; and does not build the {@link ContractAction}s themselves until they are needed, either to be
+ * validated or to be externalized in a sidecar.
+ *
+ * <p>The {@link ActionStack} builds a {@link ContractAction} when each frame starts, and builds it again (and maybe
+ * a third time, for a precompile or a failed creation) when the frame finishes. For a deep call tree most of those
+ * intermediate actions are garbage before the transaction even finishes. This stack instead builds each action the
+ * first time it is needed after the EVM run, and keeps the built action for validation, logging and the sidecar;
+ * which takes the bulk of action tracing off the path of the EVM itself.
+ *
+ * <p>Everything that depends on the state of a frame or of the world is still resolved while the EVM is executing,
+ * so the built actions are exactly the same as those of an {@link ActionStack}.
+ */
+public class CompactActionStack implements ContractActionStack {
+    private static final Logger log = LogManager.getLogger(CompactActionStack.class);
+    private static final Map<String, Bytes> HALT_REASON_ERRORS = new ConcurrentHashMap<>();
+
+    private final ActionsHelper helper;
+    private final List<TracedAction> allActions = new ArrayList<>();
+    private final Deque<TracedAction> actionsStack = new ArrayDeque<>();
+
+    public CompactActionStack() {
+        this(new ActionsHelper());
+    }
+
+    /**
+     * Convenience constructor for testing.
+     *
+     * @param helper the helper to use for action creation and validation
+     */
+    public CompactActionStack(@NonNull final ActionsHelper helper) {
+        this.helper = requireNonNull(helper);
+    }
+
+    @Override
+    public @NonNull ContractActions asContractActions() {
+        return new ContractActions(allActions.stream().map(TracedAction::build).toList());
+    }
+
+    @Override
+    public void finalizeLastAction(@NonNull final MessageFrame frame, @NonNull final Validation validation) {
+        requireNonNull(frame);
+        final var action = popOrWarn(frame);
+        if (action != null) {
+            finalizeFromFrame(action, frame);
+            action.validate = validation == Validation.ON;
+        }
+    }
+
+    @Override
+    public void finalizeLastStackActionAsPrecompile(
+            @NonNull final MessageFrame frame,
+            @NonNull final ContractActionType type,
+            @NonNull final Validation validation) {
+        requireNonNull(frame);
+        requireNonNull(type);
+        final var action = popOrWarn(frame);
+        if (action != null) {
+            finalizeFromFrame(action, frame);
+            action.recipientNum =
+                    asNumberedContractId(frame.getContractAddress()).contractNumOrThrow();
+            action.recipient = Recipient.CONTRACT;
+            action.callType = type;
+            action.validate = validation == Validation.ON;
+        }
+    }
+
+    @Override
+    public void pushActionOfTopLevel(@NonNull final MessageFrame frame) {
+        final var action = new TracedAction();
+        action.callOperationType = frame.getType() == CONTRACT_CREATION ? OP_CREATE : OP_CALL;
+        action.callerIsContract = false;
+        action.callerNum = hederaIdNumOfOriginatorIn(frame);
+        completePush(action, frame);
+    }
+
+    @Override
+    public void pushActionOfIntermediate(@NonNull final MessageFrame frame) {
+        final var action = new TracedAction();
+        action.callOperationType = OpcodeUtils.asCallOperationType(
+                frame.getCurrentOperation().getOpcode());
+        action.callerIsContract = true;
+        action.callerNum = hederaIdNumOfContractIn(frame);
+        completePush(action, requireNonNull(frame.getMessageFrameStack().peek()));
+    }
+
+    @Override
+    public void sanitizeFinalActionsAndLogAnomalies(
+            @NonNull final MessageFrame frame, @NonNull final Logger log, @NonNull final Level level) {
+        final List<TracedAction> invalidActions = new ArrayList<>();
+        for (final var action : allActions) {
+            if (action.validate && !helper.isValid(action.build())) {
+                invalidActions.add(action);
+            }
+        }
+        if (!actionsStack.isEmpty() || !invalidActions.isEmpty()) {
+            final var anomalies = formatAnomaliesAtFinalizationForLog(invalidActions);
+            final var frameContext = formatFrameContextForLog(frame);
+            log.atLevel(level).log("Invalid at end of EVM run: {} ({})", anomalies, frameContext);
+        }
+        if (!invalidActions.isEmpty()) {
+            allActions.removeAll(invalidActions);
+        }
+    }
+
+    private void completePush(@NonNull final TracedAction action, @NonNull final MessageFrame frame) {
+        action.callType = frame.getType() == CONTRACT_CREATION ? CREATE : CALL;
+        action.gas = frame.getRemainingGas();
+        action.input = tuweniToPbjBytes(frame.getInputData());
+        action.value = frame.getValue().toLong();
+        action.callDepth = frame.getDepth();
+        // As in ActionStack, we can't yet decide how to identify the recipient of a call to a missing address
+        if (frame.getType() == MESSAGE_CALL && frame.getWorldUpdater().get(frame.getContractAddress()) == null) {
+            action.recipient = Recipient.TARGETED;
+        } else if (CodeV0.EMPTY_CODE.equals(frame.getCode())) {
+            action.recipient = Recipient.ACCOUNT;
+            action.recipientNum = hederaIdNumOfContractIn(frame);
+        } else {
+            try {
+                action.recipientNum = hederaIdNumOfContractIn(frame);
+                action.recipient = Recipient.CONTRACT;
+            } catch (NullPointerException ignore) {
+                action.recipient = Recipient.TARGETED;
+            }
+        }
+        if (action.recipient == Recipient.TARGETED) {
+            action.targetedAddress = tuweniToPbjBytes(frame.getContractAddress());
+        }
+        allActions.add(action);
+        actionsStack.push(action);
+    }
+
+    private @Nullable TracedAction popOrWarn(@NonNull final MessageFrame frame) {
+        if (actionsStack.isEmpty()) {
+            log.warn("Action stack prematurely empty ({})", () -> formatFrameContextForLog(frame));
+            return null;
+        }
+        return actionsStack.pop();
+    }
+
+    private void finalizeFromFrame(@NonNull final TracedAction action, @NonNull final MessageFrame frame) {
+        switch (frame.getState()) {
+            case NOT_STARTED, CODE_EXECUTING, CODE_SUSPENDED -> {
+                // Nothing to finalize yet
+            }
+            case CODE_SUCCESS, COMPLETED_SUCCESS -> {
+                action.gasUsed = action.gas - frame.getRemainingGas();
+                action.result = Result.OUTPUT;
+                if (action.callType == CREATE) {
+                    action.resultData = Bytes.EMPTY;
+                } else {
+                    action.resultData = tuweniToPbjBytes(frame.getOutputData());
+                    if (action.recipient == Recipient.TARGETED) {
+                        final var maybeCreatedAccount = proxyUpdaterFor(frame)
+                                .getHederaAccount(pbjToBesuAddress(requireNonNull(action.targetedAddress)));
+                        // Use the id of a successful lazy creation; but just leave the targeted address
+                        // in case of a failed lazy creation or a call to a non-existent address
+                        if (maybeCreatedAccount != null) {
+                            action.recipient = Recipient.CREATED_ACCOUNT;
+                            action.createdAccountId = maybeCreatedAccount.hederaId();
+                        }
+                    }
+                }
+            }
+            case REVERT -> {
+                action.gasUsed = action.gas - frame.getRemainingGas();
+                action.result = Result.REVERT_REASON;
+                final var maybeReason = frame.getRevertReason();
+                action.resultData = maybeReason.isPresent() ? tuweniToPbjBytes(maybeReason.get()) : Bytes.EMPTY;
+                unsetRecipientIfCreation(action, frame);
+            }
+            case EXCEPTIONAL_HALT, COMPLETED_FAILED -> {
+                action.gasUsed = action.gas;
+                action.result = Result.ERROR;
+                final var maybeHaltReason = frame.getExceptionalHaltReason();
+                if (maybeHaltReason.isPresent()) {
+                    final var haltReason = maybeHaltReason.get();
+                    action.resultData = HALT_REASON_ERRORS.computeIfAbsent(
+                            haltReason.name(), name -> Bytes.wrap(name.getBytes(UTF_8)));
+                    if (action.callType == CALL && haltReason == INVALID_SOLIDITY_ADDRESS) {
+                        allActions.add(TracedAction.synthetic(helper.createSynthActionForMissingAddressIn(frame)));
+                    }
+                } else {
+                    action.resultData = Bytes.EMPTY;
+                }
+                unsetRecipientIfCreation(action, frame);
+            }
+        }
+    }
+
+    private static void unsetRecipientIfCreation(
+            @NonNull final TracedAction action, @NonNull final MessageFrame frame) {
+        if (frame.getType() == CONTRACT_CREATION) {
+            action.recipient = Recipient.UNSET;
+        }
+    }
+
+    private String formatAnomaliesAtFinalizationForLog(@NonNull final List<TracedAction> invalidActions) {
+        final var msgs = new ArrayList<String>();
+        if (!actionsStack.isEmpty()) {
+            msgs.add("currentActionsStack not empty, has %d elements left".formatted(actionsStack.size()));
+        }
+        if (!invalidActions.isEmpty()) {
+            msgs.add("of %d actions given, %d were invalid".formatted(allActions.size(), invalidActions.size()));
+            for (final var ia : invalidActions) {
+                msgs.add("invalid: %s".formatted(helper.prettyPrint(ia.build())));
+            }
+        }
+        return String.join("; ", msgs);
+    }
+
+    private enum Recipient {
+        ACCOUNT,
+        CONTRACT,
+        TARGETED,
+        CREATED_ACCOUNT,
+        UNSET
+    }
+
+    private enum Result {
+        NONE,
+        OUTPUT,
+        REVERT_REASON,
+        ERROR
+    }
+
+    /**
+     * The details of a traced action, kept as plain fields until the action is built. The fields are only set
+     * while the EVM is executing, so the action built after the run is kept and reused.
+     */
+    private static class TracedAction {
+        @Nullable
+        private ContractAction built;
+
+        private ContractActionType callType;
+        private CallOperationType callOperationType;
+        private boolean callerIsContract;
+        private long callerNum;
+        private long gas;
+        private Bytes input;
+        private long value;
+        private int callDepth;
+
+        private Recipient recipient;
+        private long recipientNum;
+
+        @Nullable
+        private Bytes targetedAddress;
+
+        @Nullable
+        private AccountID createdAccountId;
+
+        private Result result = Result.NONE;
+
+        @Nullable
+        private Bytes resultData;
+
+        private long gasUsed;
+        private boolean validate;
+
+        private static TracedAction synthetic(@NonNull final ContractAction action) {
+            final var traced = new TracedAction();
+            traced.built = requireNonNull(action);
+            return traced;
+        }
+
+        private ContractAction build() {
+            if (built == null) {
+                built = buildFromFields();
+            }
+            return built;
+        }
+
+        private ContractAction buildFromFields() {
+            final var builder = ContractAction.newBuilder().callOperationType(callOperationType);
+            if (callerIsContract) {
+                builder.callingContract(
+                        ContractID.newBuilder().contractNum(callerNum).build());
+            } else {
+                builder.callingAccount(AccountID.newBuilder().accountNum(callerNum).build());
+            }
+            builder.callType(callType).gas(gas).input(input).value(value).callDepth(callDepth);
+            switch (recipient) {
+                case ACCOUNT -> builder.recipientAccount(
+                        AccountID.newBuilder().accountNum(recipientNum).build());
+                case CONTRACT -> builder.recipientContract(
+                        ContractID.newBuilder().contractNum(recipientNum).build());
+                case TARGETED -> builder.targetedAddress(targetedAddress);
+                case CREATED_ACCOUNT -> builder.recipientAccount(createdAccountId);
+                case UNSET -> {
+                    // Cleared below, once the rest of the action is built
+                }
+            }
+            if (result != Result.NONE) {
+                builder.gasUsed(gasUsed);
+                switch (result) {
+                    case OUTPUT -> builder.output(resultData);
+                    case REVERT_REASON -> builder.revertReason(resultData);
+                    case ERROR -> builder.error(resultData);
+                    case NONE -> {
+                        // Unreachable
+                    }
+                }
+            }
+            final var action = builder.build();
+            return recipient == Recipient.UNSET ? withUnsetRecipient(action) : action;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.exec.utils;
+
+import com.hedera.hapi.streams.ContractActionType;
+import com.hedera.hapi.streams.ContractActions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+/**
+ * Tracks the contract actions of an EVM transaction as its frames are pushed and finalized, so they can be
+ * externalized in a {@link com.hedera.hapi.streams.SidecarType#CONTRACT_ACTION} sidecar.
+ *
+ * <p>The {@link ActionStack} builds each action as its frame starts and rebuilds it as the frame finishes;
+ * the {@link CompactActionStack} only records the details of each frame, and builds the actions once after
+ * the EVM run.
+ */
+public interface ContractActionStack {
+    /**
+     * Controls whether the stack should validate the next action it is finalizing.
+     */
+    enum Validation {
+        ON,
+        OFF
+    }
+
+    /**
+     * Returns a view of this stack appropriate for externalizing in a
+     * {@link com.hedera.hapi.streams.SidecarType#CONTRACT_ACTION} sidecar.
+     *
+     * @return a view of this stack ready to be put in a sidecar
+     */
+    @NonNull
+    ContractActions asContractActions();
+
+    /**
+     * Finalizes the last action created in this stack in the context of the given frame; and also pops the
+     * action from the stack if it is topmost.
+     *
+     * @param frame the frame to use for finalization context
+     * @param validation whether to validate the final action
+     */
+    void finalizeLastAction(@NonNull MessageFrame frame, @NonNull Validation validation);
+
+    /**
+     * Finalizes the last action created in this stack as a call to a precompile or system contract of the
+     * given type.
+     *
+     * @param frame the frame to use for finalization context
+     * @param type the type of the precompile or system contract
+     * @param validation whether to validate the final action
+     */
+    void finalizeLastStackActionAsPrecompile(
+            @NonNull MessageFrame frame, @NonNull ContractActionType type, @NonNull Validation validation);
+
+    /**
+     * Pushes the action of the initial frame of a HAPI contract operation onto the stack.
+     *
+     * @param frame the initial frame of a HAPI contract operation
+     */
+    void pushActionOfTopLevel(@NonNull MessageFrame frame);
+
+    /**
+     * Pushes the action of the child frame that the given intermediate frame is about to execute onto the
+     * stack.
+     *
+     * @param frame the frame executing an action
+     */
+    void pushActionOfIntermediate(@NonNull MessageFrame frame);
+
+    /**
+     * Given the initial {@link MessageFrame} for all operations applied to this stack, removes any invalid
+     * actions and logs any anomalies.
+     *
+     * @param frame the initial frame
+     * @param log the logger to use
+     * @param level the level to log anomalies at
+     */
+    void sanitizeFinalActionsAndLogAnomalies(
+            @NonNull MessageFrame frame, @NonNull Logger log, @NonNull Level level);
+}
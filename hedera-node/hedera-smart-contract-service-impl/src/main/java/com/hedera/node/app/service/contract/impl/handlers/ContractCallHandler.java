@@ -30,7 +30,10 @@ import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.hapi.utils.CommonPbjConverters;
 import com.hedera.node.app.hapi.utils.fee.SmartContractFeeBuilder;
 import com.hedera.node.app.service.contract.impl.exec.TransactionComponent;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.fees.FeeContext;
 import com.hedera.node.app.spi.fees.Fees;
 import com.hedera.node.app.spi.workflows.HandleContext;
@@ -38,6 +41,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -52,14 +56,17 @@ import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 public class ContractCallHandler implements TransactionHandler {
     private final Provider<TransactionComponent.Factory> provider;
     private final GasCalculator gasCalculator;
+    private final StoragePrefetcher storagePrefetcher;
     private final SmartContractFeeBuilder usageEstimator = new SmartContractFeeBuilder();
 
     @Inject
     public ContractCallHandler(
             @NonNull final Provider<TransactionComponent.Factory> provider,
-            @NonNull final GasCalculator gasCalculator) {
+            @NonNull final GasCalculator gasCalculator,
+            @NonNull final StoragePrefetcher storagePrefetcher) {
         this.provider = requireNonNull(provider);
         this.gasCalculator = requireNonNull(gasCalculator);
+        this.storagePrefetcher = requireNonNull(storagePrefetcher);
     }
 
     @Override
@@ -76,6 +83,18 @@ public class ContractCallHandler implements TransactionHandler {
         throwIfUnsuccessful(outcome.status());
     }
 
+    @Override
+    public void warm(@NonNull final WarmupContext context) {
+        requireNonNull(context);
+        final var op = context.body().contractCallOrThrow();
+        if (op.hasContractID()) {
+            storagePrefetcher.prefetchForCall(
+                    op.contractIDOrThrow(),
+                    context.createStore(ReadableAccountStore.class),
+                    context.createStore(ContractStateStore.class));
+        }
+    }
+
     @Override
     public void preHandle(@NonNull final PreHandleContext context) {
         // No non-payer signatures to verify
@@ -38,10 +38,13 @@ import com.hedera.node.app.hapi.utils.fee.SmartContractFeeBuilder;
 import com.hedera.node.app.service.contract.impl.exec.TransactionComponent;
 import com.hedera.node.app.service.contract.impl.infra.EthTxSigsCache;
 import com.hedera.node.app.service.contract.impl.infra.EthereumCallDataHydration;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
 import com.hedera.node.app.service.contract.impl.records.ContractCreateStreamBuilder;
 import com.hedera.node.app.service.contract.impl.records.EthereumTransactionStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.file.ReadableFileStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.fees.FeeContext;
 import com.hedera.node.app.spi.fees.Fees;
 import com.hedera.node.app.spi.workflows.HandleContext;
@@ -49,6 +52,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
@@ -71,6 +75,7 @@ public class EthereumTransactionHandler implements TransactionHandler {
     private final EthereumCallDataHydration callDataHydration;
     private final Provider<TransactionComponent.Factory> provider;
     private final GasCalculator gasCalculator;
+    private final StoragePrefetcher storagePrefetcher;
     private final SmartContractFeeBuilder usageEstimator = new SmartContractFeeBuilder();
 
     @Inject
@@ -78,11 +83,13 @@ public class EthereumTransactionHandler implements TransactionHandler {
             @NonNull final EthTxSigsCache ethereumSignatures,
             @NonNull final EthereumCallDataHydration callDataHydration,
             @NonNull final Provider<TransactionComponent.Factory> provider,
-            @NonNull final GasCalculator gasCalculator) {
+            @NonNull final GasCalculator gasCalculator,
+            @NonNull final StoragePrefetcher storagePrefetcher) {
         this.ethereumSignatures = requireNonNull(ethereumSignatures);
         this.callDataHydration = requireNonNull(callDataHydration);
         this.provider = requireNonNull(provider);
         this.gasCalculator = requireNonNull(gasCalculator);
+        this.storagePrefetcher = requireNonNull(storagePrefetcher);
     }
 
     @Override
@@ -110,6 +117,20 @@ public class EthereumTransactionHandler implements TransactionHandler {
         }
     }
 
+    @Override
+    public void warm(@NonNull final WarmupContext context) {
+        requireNonNull(context);
+        // The access list and the called address are never in a call data file, so no need to hydrate
+        final var ethTxData = populateEthTxData(
+                context.body().ethereumTransactionOrThrow().ethereumData().toByteArray());
+        if (ethTxData != null) {
+            storagePrefetcher.prefetchForEthereumTx(
+                    ethTxData,
+                    context.createStore(ReadableAccountStore.class),
+                    context.createStore(ContractStateStore.class));
+        }
+    }
+
     /**
      * If the given transaction, when hydrated from the given file store with the given config, implies a valid
      * {@link EthTxSigs}, returns it. Otherwise, returns null.
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.EVM_ADDRESS_LENGTH_AS_INT;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.asNumericContractId;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.isLongZeroAddress;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.numberOfLongZero;
+import static java.util.Objects.requireNonNull;
+
+import com.esaulpaugh.headlong.rlp.RLPDecoder;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.hapi.utils.ethereum.EthTxData;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.StorageAccessProfiles;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Prefetches the storage slots a contract transaction is likely to read, while the transaction is warmed up; so
+ * that the handle thread finds them already loaded instead of blocking on a cold read for each {@code SLOAD}.
+ *
+ * <p>The slots prefetched for a transaction are those its EIP-2930 access list declares, if it is an Ethereum
+ * transaction with one; plus the slots recent executions of its called contract, and of every contract in its
+ * access list, read according to their {@link StorageAccessProfiles}. The slots are read concurrently, in the
+ * fork-join pool of the warming thread if it has one.
+ */
+@Singleton
+public class StoragePrefetcher {
+    private static final int SLOT_KEY_LENGTH = 32;
+
+    private final StorageAccessProfiles storageAccessProfiles;
+
+    @Inject
+    public StoragePrefetcher(@NonNull final StorageAccessProfiles storageAccessProfiles) {
+        this.storageAccessProfiles = requireNonNull(storageAccessProfiles);
+    }
+
+    /**
+     * Prefetches the profiled slots of the given called contract.
+     *
+     * @param contractID the id of the called contract, possibly by EVM address
+     * @param accountStore the account store to resolve EVM addresses with
+     * @param contractStateStore the store to read the slots from
+     */
+    public void prefetchForCall(
+            @NonNull final ContractID contractID,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final ContractStateStore contractStateStore) {
+        requireNonNull(contractID);
+        requireNonNull(accountStore);
+        requireNonNull(contractStateStore);
+        final var numericId = contractID.hasEvmAddress()
+                ? numericIdOf(contractID.evmAddressOrThrow().toByteArray(), accountStore)
+                : ContractID.newBuilder().contractNum(contractID.contractNumOrElse(0L)).build();
+        if (numericId != null) {
+            warm(new LinkedHashSet<>(storageAccessProfiles.slotKeysOf(numericId)), contractStateStore);
+        }
+    }
+
+    /**
+     * Prefetches the slots in the access list of the given Ethereum transaction, and the profiled slots of its
+     * called contract and of every contract in its access list.
+     *
+     * @param ethTxData the Ethereum transaction
+     * @param accountStore the account store to resolve EVM addresses with
+     * @param contractStateStore the store to read the slots from
+     */
+    public void prefetchForEthereumTx(
+            @NonNull final EthTxData ethTxData,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final ContractStateStore contractStateStore) {
+        requireNonNull(ethTxData);
+        requireNonNull(accountStore);
+        requireNonNull(contractStateStore);
+        final Set<SlotKey> slotKeys = new LinkedHashSet<>();
+        if (ethTxData.hasToAddress()) {
+            final var numericId = numericIdOf(ethTxData.to(), accountStore);
+            if (numericId != null) {
+                slotKeys.addAll(storageAccessProfiles.slotKeysOf(numericId));
+            }
+        }
+        final var accessList = ethTxData.accessList();
+        if (accessList != null && accessList.length > 0) {
+            try {
+                addAccessListSlotKeys(accessList, accountStore, slotKeys);
+            } catch (IllegalArgumentException | NoSuchElementException ignore) {
+                // Prefetching is best effort, so just stop at a malformed access list entry
+            }
+        }
+        warm(slotKeys, contractStateStore);
+    }
+
+    private void addAccessListSlotKeys(
+            @NonNull final byte[] accessList,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final Set<SlotKey> slotKeys) {
+        // Each access list entry is an RLP list of an address and the list of its storage keys
+        final var entries = RLPDecoder.RLP_STRICT.sequenceIterator(accessList);
+        while (entries.hasNext()) {
+            final var entry = entries.next().asRLPList().elements();
+            if (entry.size() != 2) {
+                continue;
+            }
+            final var numericId = numericIdOf(entry.get(0).data(), accountStore);
+            if (numericId == null) {
+                continue;
+            }
+            for (final var storageKey : entry.get(1).asRLPList().elements()) {
+                final var key = storageKey.data();
+                if (key.length <= SLOT_KEY_LENGTH) {
+                    slotKeys.add(new SlotKey(numericId, leftPadded(key)));
+                }
+            }
+            slotKeys.addAll(storageAccessProfiles.slotKeysOf(numericId));
+        }
+    }
+
+    private static void warm(@NonNull final Set<SlotKey> slotKeys, @NonNull final ContractStateStore store) {
+        if (!slotKeys.isEmpty()) {
+            slotKeys.parallelStream().forEach(store::warm);
+        }
+    }
+
+    private static @Nullable ContractID numericIdOf(
+            @Nullable final byte[] address, @NonNull final ReadableAccountStore accountStore) {
+        if (address == null || address.length != EVM_ADDRESS_LENGTH_AS_INT) {
+            return null;
+        }
+        if (isLongZeroAddress(address)) {
+            return ContractID.newBuilder().contractNum(numberOfLongZero(address)).build();
+        }
+        final var accountID = accountStore.getAccountIDByAlias(Bytes.wrap(address));
+        return accountID == null ? null : asNumericContractId(accountID);
+    }
+
+    private static Bytes leftPadded(@NonNull final byte[] key) {
+        if (key.length == SLOT_KEY_LENGTH) {
+            return Bytes.wrap(key);
+        }
+        final var padded = new byte[SLOT_KEY_LENGTH];
+        System.arraycopy(key, 0, padded, SLOT_KEY_LENGTH - key.length, key.length);
+        return Bytes.wrap(padded);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.state;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.ContractID;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.code.CodeFactory;
+
+/**
+ * A bounded, thread-safe cache of analyzed Besu {@link Code}, shared by every transaction and query the contract
+ * service runs. A {@link Code} memoizes its hash and jump destination analysis, so handing the same instance to
+ * every frame that runs a hot contract (a token proxy, a DEX router) means that work is done once rather than per
+ * call frame.
+ *
+ * <p>The code of a contract is keyed by its {@link ContractID}, so a lookup neither reads nor hashes the bytecode;
+ * accounts do not store a code hash that could serve as a key instead. A contract's bytecode is only set once, when
+ * it is created. But the creation may be rolled back, and its id reused by a later creation, so setting the code of
+ * a contract must {@link #invalidate(ContractID) invalidate} its entry. Code that is not stored for a contract, like
+ * the redirect code of token and account proxies, is short and keyed by the bytecode itself. Entries are evicted
+ * once the total size of the cached bytecode exceeds its bound.
+ */
+@Singleton
+public class CodeCache {
+    /**
+     * The default bound on the total size, in bytes, of the cached bytecode.
+     */
+    public static final long DEFAULT_MAX_CODE_BYTES = 64L * 1024 * 1024;
+
+    private static final String METRIC_CATEGORY = "app";
+
+    /** Keyed by {@link ContractID} for the code of contracts, and by the bytecode itself for any other code */
+    private final Cache<Object, Code> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile Counter hitCounter;
+    private volatile Counter missCounter;
+
+    /**
+     * Creates a cache bounded by {@link #DEFAULT_MAX_CODE_BYTES}.
+     */
+    @Inject
+    public CodeCache() {
+        this(DEFAULT_MAX_CODE_BYTES);
+    }
+
+    /**
+     * Creates a cache bounded by the given total size of cached bytecode.
+     *
+     * @param maxCodeBytes the maximum total size of the cached bytecode, in bytes
+     */
+    public CodeCache(final long maxCodeBytes) {
+        if (maxCodeBytes <= 0) {
+            throw new IllegalArgumentException("Code cache bound must be positive, not " + maxCodeBytes);
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxCodeBytes)
+                .weigher((Object key, Code analyzed) -> analyzed.getSize())
+                .build();
+    }
+
+    /**
+     * Registers the hit and miss counters of this cache with the given metrics. Until this is called, hits and
+     * misses are only counted internally.
+     *
+     * @param metrics the metrics to register with
+     */
+    public void registerMetrics(@NonNull final Metrics metrics) {
+        requireNonNull(metrics);
+        this.hitCounter = metrics.getOrCreate(new Counter.Config(METRIC_CATEGORY, "evmCodeCacheHits")
+                .withDescription("Number of EVM code lookups answered from the shared analyzed code cache"));
+        this.missCounter = metrics.getOrCreate(new Counter.Config(METRIC_CATEGORY, "evmCodeCacheMisses")
+                .withDescription("Number of EVM code lookups that had to create and analyze the code"));
+    }
+
+    /**
+     * Returns the analyzed {@link Code} for the given bytecode, creating and caching it if necessary. Only for code
+     * that is not stored for a contract; use {@link #getOrCreate(ContractID, Supplier)} for the code of a contract.
+     *
+     * @param code the bytecode
+     * @return the analyzed code
+     */
+    public @NonNull Code getOrCreate(@NonNull final Bytes code) {
+        requireNonNull(code);
+        if (code.isEmpty()) {
+            // Nothing to analyze, and not worth an entry
+            return CodeFactory.createCode(Bytes.EMPTY, 0, false);
+        }
+        final var cached = cache.getIfPresent(code);
+        return cached != null ? hit(cached) : create(code, code);
+    }
+
+    /**
+     * Returns the analyzed {@link Code} of the given contract, creating and caching it from its bytecode if
+     * necessary.
+     *
+     * @param contractID the id of the contract
+     * @param bytecode supplies the bytecode of the contract, only called if its code is not cached
+     * @return the analyzed code
+     */
+    public @NonNull Code getOrCreate(@NonNull final ContractID contractID, @NonNull final Supplier<Bytes> bytecode) {
+        requireNonNull(contractID);
+        requireNonNull(bytecode);
+        final var cached = cache.getIfPresent(contractID);
+        if (cached != null) {
+            return hit(cached);
+        }
+        final var code = bytecode.get();
+        if (code.isEmpty()) {
+            return CodeFactory.createCode(Bytes.EMPTY, 0, false);
+        }
+        return create(contractID, code);
+    }
+
+    /**
+     * Discards the cached code of the given contract, if any. Must be called whenever the bytecode of a contract is
+     * set.
+     *
+     * @param contractID the id of the contract
+     */
+    public void invalidate(@NonNull final ContractID contractID) {
+        cache.invalidate(requireNonNull(contractID));
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the number of hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that created new code.
+     *
+     * @return the number of misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    private Code hit(@NonNull final Code cached) {
+        count(hits, hitCounter);
+        return cached;
+    }
+
+    private Code create(@NonNull final Object key, @NonNull final Bytes code) {
+        count(misses, missCounter);
+        // Two threads may both create the code for a new entry; either result is equivalent
+        final var created = CodeFactory.createCode(code, 0, false);
+        cache.put(key, created);
+        return created;
+    }
+
+    private static void count(@NonNull final LongAdder adder, final Counter counter) {
+        adder.increment();
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
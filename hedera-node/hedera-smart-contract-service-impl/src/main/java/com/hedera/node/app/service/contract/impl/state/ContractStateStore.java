@@ -100,6 +100,15 @@ public interface ContractStateStore {
     @Nullable
     SlotValue getOriginalSlotValue(@NonNull SlotKey key);
 
+    /**
+     * Warms the system by preloading the given slot into memory, if this store supports it.
+     *
+     * @param key the {@link SlotKey} to warm
+     */
+    default void warm(@NonNull SlotKey key) {
+        // Nothing to warm by default
+    }
+
     /**
      * Returns the number of slots.
      *
@@ -65,9 +65,9 @@ import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.MutableAccount;
-import org.hyperledger.besu.evm.code.CodeFactory;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 
@@ -80,7 +80,11 @@ import org.hyperledger.besu.evm.frame.MessageFrame;
  * point it might be necessary to cache the converted values and invalidate them when
  * the state changes.
  * <p>
- * TODO - get a little further to clarify DI strategy, then bring back a code cache.
+ * Analyzed EVM code, on the other hand, depends only on the bytecode; so it comes from a
+ * {@link CodeCache} shared by all frame states.
+ * <p>
+ * If given {@link TransactionStorageReads}, every storage read is recorded there, so later executions of the same
+ * contract can have their storage prefetched.
  */
 public class DispatchingEvmFrameState implements EvmFrameState {
     public static final Key HOLLOW_ACCOUNT_KEY =
@@ -104,12 +108,27 @@ public class DispatchingEvmFrameState implements EvmFrameState {
 
     private final HederaNativeOperations nativeOperations;
     private final ContractStateStore contractStateStore;
+    private final CodeCache codeCache;
+
+    @Nullable
+    private final TransactionStorageReads storageReads;
 
     public DispatchingEvmFrameState(
             @NonNull final HederaNativeOperations nativeOperations,
-            @NonNull final ContractStateStore contractStateStore) {
+            @NonNull final ContractStateStore contractStateStore,
+            @NonNull final CodeCache codeCache) {
+        this(nativeOperations, contractStateStore, codeCache, null);
+    }
+
+    public DispatchingEvmFrameState(
+            @NonNull final HederaNativeOperations nativeOperations,
+            @NonNull final ContractStateStore contractStateStore,
+            @NonNull final CodeCache codeCache,
+            @Nullable final TransactionStorageReads storageReads) {
         this.nativeOperations = requireNonNull(nativeOperations);
         this.contractStateStore = requireNonNull(contractStateStore);
+        this.codeCache = requireNonNull(codeCache);
+        this.storageReads = storageReads;
     }
 
     /**
@@ -137,6 +156,9 @@ public class DispatchingEvmFrameState implements EvmFrameState {
     @Override
     public @NonNull UInt256 getStorageValue(final ContractID contractID, @NonNull final UInt256 key) {
         final var slotKey = new SlotKey(contractID, tuweniToPbjBytes(requireNonNull(key)));
+        if (storageReads != null) {
+            storageReads.record(slotKey);
+        }
         return valueOrZero(contractStateStore.getSlotValue(slotKey));
     }
 
@@ -203,16 +225,27 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      * {@inheritDoc}
      */
     @Override
-    public @NonNull Hash getCodeHash(@NonNull final ContractID contractID) {
+    public @NonNull Code getEvmCode(@NonNull final Bytes code) {
+        return codeCache.getOrCreate(code);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Code getEvmCode(@NonNull final ContractID contractID) {
         requireNonNull(contractID);
+        return codeCache.getOrCreate(contractID, () -> getCode(contractID));
+    }
 
-        final var numberedBytecode = contractStateStore.getBytecode(contractID);
-        if (numberedBytecode == null) {
-            return Hash.EMPTY;
-        } else {
-            return CodeFactory.createCode(pbjToTuweniBytes(numberedBytecode.code()), 0, false)
-                    .getCodeHash();
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Hash getCodeHash(@NonNull final ContractID contractID) {
+        requireNonNull(contractID);
+        final var code = getEvmCode(contractID);
+        return code.getSize() == 0 ? Hash.EMPTY : code.getCodeHash();
     }
 
     /**
@@ -228,7 +261,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Hash getTokenRedirectCodeHash(@NonNull final Address address) {
-        return CodeFactory.createCode(proxyBytecodeFor(address), 0, false).getCodeHash();
+        return getEvmCode(proxyBytecodeFor(address)).getCodeHash();
     }
 
     /**
@@ -244,8 +277,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Hash getAccountRedirectCodeHash(@Nullable final Address address) {
-        return CodeFactory.createCode(accountProxyBytecodeFor(address), 0, false)
-                .getCodeHash();
+        return getEvmCode(accountProxyBytecodeFor(address)).getCodeHash();
     }
 
     /**
@@ -290,6 +322,8 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public void setCode(final ContractID contractID, @NonNull final Bytes code) {
+        // The id may have been used by a creation that was rolled back
+        codeCache.invalidate(contractID);
         contractStateStore.putBytecode(contractID, new Bytecode(tuweniToPbjBytes(requireNonNull(code))));
     }
 
@@ -28,6 +28,7 @@ import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.MutableAccount;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
@@ -177,6 +178,26 @@ public interface EvmFrameState {
     @NonNull
     Bytes getCode(ContractID contractID);
 
+    /**
+     * Returns the analyzed EVM code for the given bytecode, which may be shared with every other frame,
+     * transaction, and query running the same bytecode.
+     *
+     * @param code the bytecode
+     * @return the analyzed code
+     */
+    @NonNull
+    Code getEvmCode(@NonNull Bytes code);
+
+    /**
+     * Returns the analyzed EVM code of the contract with the given contract id, or empty code if no such code exists.
+     * The code may be shared with every other frame, transaction, and query running the same contract.
+     *
+     * @param contractID the contract id
+     * @return the analyzed code
+     */
+    @NonNull
+    Code getEvmCode(@NonNull ContractID contractID);
+
     /**
      * Sets the code for the contract with the given contract id. Only used during contract creation.
      *
@@ -26,7 +26,6 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.evm.Code;
-import org.hyperledger.besu.evm.code.CodeFactory;
 
 /**
  * A concrete subclass of {@link AbstractProxyEvmAccount} that represents a contract account.
@@ -64,7 +63,7 @@ public class ProxyEvmAccount extends AbstractProxyEvmAccount {
         if (ACCOUNT_PROXY_FUNCTION_SELECTOR.contains(selector)) {
             address = state.getAddress(accountID);
         }
-        return CodeFactory.createCode(getCode(), 0, false);
+        return state.getEvmCode(getCode());
     }
 
     @Override
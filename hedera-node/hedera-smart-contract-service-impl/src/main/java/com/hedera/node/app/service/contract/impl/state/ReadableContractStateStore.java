@@ -120,6 +120,14 @@ public class ReadableContractStateStore implements ContractStateStore {
         return storage.get(key);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warm(@NonNull final SlotKey key) {
+        storage.warm(key);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -19,27 +19,45 @@ package com.hedera.node.app.service.contract.impl.state;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Objects;
 import javax.inject.Inject;
 
 /**
  * A factory for {@link EvmFrameState} instances that are scoped to the current state of the world in
- * the ongoing transaction.
+ * the ongoing transaction. Only the frame states of a transaction record their storage reads; those of a query
+ * do not.
  */
 public class ScopedEvmFrameStateFactory implements EvmFrameStateFactory {
     private final HederaOperations hederaOperations;
     private final HederaNativeOperations hederaNativeOperations;
+    private final CodeCache codeCache;
+
+    @Nullable
+    private final TransactionStorageReads storageReads;
 
     @Inject
     public ScopedEvmFrameStateFactory(
             @NonNull final HederaOperations hederaOperations,
-            @NonNull final HederaNativeOperations hederaNativeOperations) {
+            @NonNull final HederaNativeOperations hederaNativeOperations,
+            @NonNull final CodeCache codeCache) {
+        this(hederaOperations, hederaNativeOperations, codeCache, null);
+    }
+
+    public ScopedEvmFrameStateFactory(
+            @NonNull final HederaOperations hederaOperations,
+            @NonNull final HederaNativeOperations hederaNativeOperations,
+            @NonNull final CodeCache codeCache,
+            @Nullable final TransactionStorageReads storageReads) {
         this.hederaOperations = Objects.requireNonNull(hederaOperations);
         this.hederaNativeOperations = Objects.requireNonNull(hederaNativeOperations);
+        this.codeCache = Objects.requireNonNull(codeCache);
+        this.storageReads = storageReads;
     }
 
     @Override
     public EvmFrameState get() {
-        return new DispatchingEvmFrameState(hederaNativeOperations, hederaOperations.getStore());
+        return new DispatchingEvmFrameState(
+                hederaNativeOperations, hederaOperations.getStore(), codeCache, storageReads);
     }
 }
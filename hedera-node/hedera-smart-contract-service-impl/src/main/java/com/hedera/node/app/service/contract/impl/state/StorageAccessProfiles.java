@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.state;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Learns, for each recently executed contract, the storage slots its executions read; so the slots a contract is
+ * about to read can be prefetched before its next execution starts.
+ *
+ * <p>The profile of a contract keeps the most recently read of its slots, up to a bound. A contract that reads a
+ * stable set of slots (a token's total supply and owner, a pool's reserves) thus ends up with exactly that set as
+ * its profile; while a contract whose reads keep changing only costs a bounded amount of wasted prefetching. Only
+ * the profiles of a bounded number of contracts are kept.
+ *
+ * <p>Only transactions update the profiles, once each with all the slots they read (see
+ * {@link TransactionStorageReads}); queries do not, so they neither contend with the handle thread nor shape what
+ * it prefetches.
+ */
+@Singleton
+public class StorageAccessProfiles {
+    /**
+     * The default bound on the number of contracts with a profile.
+     */
+    public static final int DEFAULT_MAX_PROFILES = 10_000;
+    /**
+     * The default bound on the number of slots in a contract's profile.
+     */
+    public static final int DEFAULT_MAX_SLOTS_PER_PROFILE = 64;
+
+    private final int maxSlotsPerProfile;
+    private final Cache<ContractID, Profile> profiles;
+
+    /**
+     * Creates profiles bounded by {@link #DEFAULT_MAX_PROFILES} and {@link #DEFAULT_MAX_SLOTS_PER_PROFILE}.
+     */
+    @Inject
+    public StorageAccessProfiles() {
+        this(DEFAULT_MAX_PROFILES, DEFAULT_MAX_SLOTS_PER_PROFILE);
+    }
+
+    /**
+     * Creates profiles with the given bounds.
+     *
+     * @param maxProfiles the maximum number of contracts with a profile
+     * @param maxSlotsPerProfile the maximum number of slots in a contract's profile
+     */
+    public StorageAccessProfiles(final int maxProfiles, final int maxSlotsPerProfile) {
+        if (maxProfiles <= 0 || maxSlotsPerProfile <= 0) {
+            throw new IllegalArgumentException(
+                    "Profile bounds must be positive, not " + maxProfiles + " and " + maxSlotsPerProfile);
+        }
+        this.maxSlotsPerProfile = maxSlotsPerProfile;
+        this.profiles = Caffeine.newBuilder().maximumSize(maxProfiles).build();
+    }
+
+    /**
+     * Records that an execution read the given slot.
+     *
+     * @param slotKey the key of the slot read
+     */
+    public void recordRead(@NonNull final SlotKey slotKey) {
+        requireNonNull(slotKey);
+        final var contractID = slotKey.contractID();
+        if (contractID == null) {
+            return;
+        }
+        recordReads(contractID, List.of(slotKey.key()));
+    }
+
+    /**
+     * Records that an execution read the given slots of the given contract, in the given order.
+     *
+     * @param contractID the id of the contract
+     * @param keys the keys of the slots read
+     */
+    public void recordReads(@NonNull final ContractID contractID, @NonNull final Collection<Bytes> keys) {
+        requireNonNull(contractID);
+        requireNonNull(keys);
+        profiles.get(contractID, ignore -> new Profile(maxSlotsPerProfile)).addAll(keys);
+    }
+
+    /**
+     * Returns the keys of the slots recent executions of the given contract read, most recently read last; or an
+     * empty list if the contract has no profile.
+     *
+     * @param contractID the id of the contract
+     * @return the profiled slot keys of the contract
+     */
+    public @NonNull List<SlotKey> slotKeysOf(@NonNull final ContractID contractID) {
+        requireNonNull(contractID);
+        final var profile = profiles.getIfPresent(contractID);
+        if (profile == null) {
+            return List.of();
+        }
+        return profile.keys().stream().map(key -> new SlotKey(contractID, key)).toList();
+    }
+
+    /**
+     * The most recently read slots of a contract; accessed by the threads executing the contract and by the threads
+     * prefetching its storage, so all access is synchronized.
+     */
+    private static class Profile {
+        private final Map<Bytes, Boolean> keys;
+
+        private Profile(final int maxSlots) {
+            this.keys = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Bytes, Boolean> eldest) {
+                    return size() > maxSlots;
+                }
+            };
+        }
+
+        private synchronized void addAll(@NonNull final Collection<Bytes> added) {
+            for (final var key : added) {
+                keys.put(key, Boolean.TRUE);
+            }
+        }
+
+        private synchronized List<Bytes> keys() {
+            return List.copyOf(keys.keySet());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hedera.node.app.service.contract.impl.state;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.service.contract.impl.annotations.TransactionScope;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+
+/**
+ * The storage slots read by the EVM executions of one transaction. Every frame state of the transaction records its
+ * reads here on the handle thread, so recording needs no lock; when the transaction finishes, its reads are added to
+ * the shared {@link StorageAccessProfiles} in one batch per contract.
+ */
+@TransactionScope
+public class TransactionStorageReads {
+    private final StorageAccessProfiles storageAccessProfiles;
+    private final Map<ContractID, Set<Bytes>> reads = new HashMap<>();
+
+    @Inject
+    public TransactionStorageReads(@NonNull final StorageAccessProfiles storageAccessProfiles) {
+        this.storageAccessProfiles = requireNonNull(storageAccessProfiles);
+    }
+
+    /**
+     * Records that an execution of this transaction read the given slot.
+     *
+     * @param slotKey the key of the slot read
+     */
+    public void record(@NonNull final SlotKey slotKey) {
+        requireNonNull(slotKey);
+        final var contractID = slotKey.contractID();
+        if (contractID != null) {
+            reads.computeIfAbsent(contractID, ignore -> new LinkedHashSet<>()).add(slotKey.key());
+        }
+    }
+
+    /**
+     * Adds the reads recorded so far to the storage access profiles, and forgets them.
+     */
+    public void flush() {
+        reads.forEach(storageAccessProfiles::recordReads);
+        reads.clear();
+    }
+}
@@ -47,6 +47,7 @@ import com.hedera.node.app.service.contract.impl.hevm.HydratedEthTxData;
 import com.hedera.node.app.service.contract.impl.infra.HevmTransactionFactory;
 import com.hedera.node.app.service.contract.impl.state.HederaEvmAccount;
 import com.hedera.node.app.service.contract.impl.state.RootProxyWorldUpdater;
+import com.hedera.node.app.service.contract.impl.state.TransactionStorageReads;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.config.data.ContractsConfig;
@@ -89,6 +90,9 @@ class ContextTransactionProcessorTest {
     @Mock
     private CustomGasCharging customGasCharging;
 
+    @Mock
+    private TransactionStorageReads storageReads;
+
     @Mock
     private TransactionID transactionID;
 
@@ -114,7 +118,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         givenSenderAccount();
         given(context.body()).willReturn(TransactionBody.DEFAULT);
@@ -134,6 +139,7 @@ class ContextTransactionProcessorTest {
                 null,
                 null);
         assertEquals(expectedResult, subject.call());
+        verify(storageReads).flush();
     }
 
     @Test
@@ -152,7 +158,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         givenSenderAccount();
         given(context.body()).willReturn(TransactionBody.DEFAULT);
@@ -189,7 +196,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         given(context.body()).willReturn(TransactionBody.DEFAULT);
         given(hevmTransactionFactory.fromHapiTransaction(TransactionBody.DEFAULT))
@@ -220,7 +228,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         given(context.body()).willReturn(TransactionBody.DEFAULT);
         given(hevmTransactionFactory.fromHapiTransaction(TransactionBody.DEFAULT))
@@ -250,7 +259,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         given(context.body()).willReturn(transactionBody);
         given(hevmTransactionFactory.fromHapiTransaction(transactionBody)).willReturn(HEVM_Exception);
@@ -279,7 +289,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         given(context.body()).willReturn(transactionBody);
         given(hevmTransactionFactory.fromHapiTransaction(transactionBody)).willReturn(HEVM_Exception);
@@ -308,7 +319,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         given(context.body()).willReturn(transactionBody);
         given(hevmTransactionFactory.fromHapiTransaction(transactionBody))
@@ -339,7 +351,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         given(context.body()).willReturn(transactionBody);
         given(hevmTransactionFactory.fromHapiTransaction(transactionBody))
@@ -370,7 +383,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         given(context.body()).willReturn(transactionBody);
         given(transactionBody.transactionIDOrThrow()).willReturn(transactionID);
@@ -399,7 +413,8 @@ class ContextTransactionProcessorTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 processor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         assertFailsWith(INVALID_ETHEREUM_TRANSACTION, subject::call);
     }
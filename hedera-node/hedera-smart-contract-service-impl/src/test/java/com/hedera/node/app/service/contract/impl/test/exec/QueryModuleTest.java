@@ -90,7 +90,8 @@ class QueryModuleTest {
 
     @Test
     void createsEvmActionTracer() {
-        assertInstanceOf(EvmActionTracer.class, provideActionSidecarContentTracer());
+        given(queryContext.configuration()).willReturn(TestHelpers.DEFAULT_CONFIG);
+        assertInstanceOf(EvmActionTracer.class, provideActionSidecarContentTracer(queryContext));
     }
 
     @Test
@@ -125,7 +125,7 @@ class TransactionModuleTest {
 
     @Test
     void createsEvmActionTracer() {
-        assertInstanceOf(EvmActionTracer.class, provideEvmActionTracer());
+        assertInstanceOf(EvmActionTracer.class, provideEvmActionTracer(DEFAULT_CONTRACTS_CONFIG));
     }
 
     @Test
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.exec.systemcontracts.common;
+
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.balanceof.BalanceOfTranslator.BALANCE_OF;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.name.NameTranslator.NAME;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc20TransfersTranslator.ERC_20_TRANSFER_FROM;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc721TransferFromTranslator.ERC_721_TRANSFER_FROM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.esaulpaugh.headlong.abi.Function;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Call;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.SelectorRoutingTable;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.balanceof.BalanceOfTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.name.NameTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc20TransfersTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc721TransferFromTranslator;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SelectorRoutingTableTest {
+    private final CallTranslator<HtsCallAttempt> erc20Transfers = new Erc20TransfersTranslator();
+    private final CallTranslator<HtsCallAttempt> erc721TransferFrom = new Erc721TransferFromTranslator();
+    private final CallTranslator<HtsCallAttempt> balanceOf = new BalanceOfTranslator();
+    private final CallTranslator<HtsCallAttempt> name = new NameTranslator();
+    private final CallTranslator<HtsCallAttempt> anySelector = new AnySelectorTranslator();
+
+    @Test
+    void routesSelectorOnlyToCandidateTranslatorsInOrder() {
+        final var subject = new SelectorRoutingTable<>(List.of(name, erc721TransferFrom, balanceOf, erc20Transfers));
+
+        assertEquals(List.of(balanceOf), subject.translatorsFor(BALANCE_OF.selector()));
+        assertEquals(List.of(name), subject.translatorsFor(NAME.selector()));
+        // ERC-20 and ERC-721 share the transferFrom() selector
+        assertEquals(ERC_20_TRANSFER_FROM.selectorHex(), ERC_721_TRANSFER_FROM.selectorHex());
+        assertEquals(
+                List.of(erc721TransferFrom, erc20Transfers), subject.translatorsFor(ERC_20_TRANSFER_FROM.selector()));
+    }
+
+    @Test
+    void routesEverySelectorToTranslatorsWithoutCandidates() {
+        final var subject = new SelectorRoutingTable<>(List.of(balanceOf, anySelector, name));
+
+        assertEquals(List.of(balanceOf, anySelector), subject.translatorsFor(BALANCE_OF.selector()));
+        assertEquals(List.of(anySelector, name), subject.translatorsFor(NAME.selector()));
+        assertEquals(List.of(anySelector), subject.translatorsFor(new byte[] {1, 2, 3, 4}));
+        assertEquals(List.of(anySelector), subject.translatorsFor(new byte[] {1, 2}));
+    }
+
+    @Test
+    void routesUnknownSelectorToNoTranslators() {
+        final var subject = new SelectorRoutingTable<>(List.of(balanceOf, name));
+
+        assertTrue(subject.translatorsFor(new byte[4]).isEmpty());
+        assertEquals(List.of(balanceOf, name), subject.translators());
+    }
+
+    private static class AnySelectorTranslator implements CallTranslator<HtsCallAttempt> {
+        @Override
+        public Call translateCallAttempt(@NonNull final HtsCallAttempt attempt) {
+            return null;
+        }
+
+        @Override
+        public boolean matches(@NonNull final HtsCallAttempt attempt) {
+            return false;
+        }
+
+        @Override
+        public Call callFrom(@NonNull final HtsCallAttempt attempt) {
+            return null;
+        }
+
+        @Override
+        public @NonNull List<Function> candidateFunctions() {
+            return List.of();
+        }
+    }
+}
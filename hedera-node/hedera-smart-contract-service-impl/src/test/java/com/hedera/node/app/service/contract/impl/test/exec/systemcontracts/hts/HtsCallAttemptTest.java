@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -242,6 +243,31 @@ class HtsCallAttemptTest extends CallTestBase {
         assertInstanceOf(BalanceOfCall.class, subject.asExecutableCall());
     }
 
+    @Test
+    void decodesInputOnlyOnceForTheSameFunction() {
+        final var input = TestHelpers.bytesForRedirect(
+                BALANCE_OF
+                        .encodeCallWithArgs(asHeadlongAddress(EIP_1014_ADDRESS))
+                        .array(),
+                NON_SYSTEM_LONG_ZERO_ADDRESS);
+        final var subject = new HtsCallAttempt(
+                input,
+                EIP_1014_ADDRESS,
+                EIP_1014_ADDRESS,
+                false,
+                mockEnhancement(),
+                DEFAULT_CONFIG,
+                addressIdConverter,
+                verificationStrategies,
+                gasCalculator,
+                callTranslators,
+                false);
+        final var args = subject.decodedCall(BALANCE_OF);
+        assertEquals(asHeadlongAddress(EIP_1014_ADDRESS), args.get(0));
+        assertSame(args, subject.decodedCall(BALANCE_OF));
+        assertThrows(IllegalArgumentException.class, () -> subject.decodedCall(NameTranslator.NAME));
+    }
+
     @Test
     void constructsIsApprovedForAllErc() {
         final var address = asHeadlongAddress(EIP_1014_ADDRESS);
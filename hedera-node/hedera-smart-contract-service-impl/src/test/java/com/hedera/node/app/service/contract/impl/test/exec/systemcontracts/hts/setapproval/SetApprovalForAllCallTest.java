@@ -75,7 +75,8 @@ public class SetApprovalForAllCallTest extends CallTestBase {
         given(attempt.addressIdConverter()).willReturn(addressIdConverter);
         given(attempt.addressIdConverter().convertSender(any())).willReturn(OWNER_ID);
         given(attempt.systemContractGasCalculator()).willReturn(gasCalculator);
-        given(attempt.inputBytes()).willReturn(inputBytes);
+        given(attempt.decodedCall(SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL))
+                .willReturn(SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL.decodeCall(inputBytes));
 
         subject = new SetApprovalForAllCall(
                 attempt, TransactionBody.newBuilder().build(), SetApprovalForAllTranslator::gasRequirement, false);
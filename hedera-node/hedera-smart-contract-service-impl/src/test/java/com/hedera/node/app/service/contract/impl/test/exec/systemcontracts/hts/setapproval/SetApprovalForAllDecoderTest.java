@@ -59,7 +59,8 @@ public class SetApprovalForAllDecoderTest {
         final var encodedInput = SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL
                 .encodeCallWithArgs(NON_FUNGIBLE_TOKEN_HEADLONG_ADDRESS, APPROVED_HEADLONG_ADDRESS, true)
                 .array();
-        given(attempt.inputBytes()).willReturn(encodedInput);
+        given(attempt.decodedCall(SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL))
+                .willReturn(SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL.decodeCall(encodedInput));
 
         // when
         final var transactionBody = subject.decodeSetApprovalForAll(attempt);
@@ -74,7 +75,8 @@ public class SetApprovalForAllDecoderTest {
         final var encodedInput = SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL
                 .encodeCallWithArgs(NON_FUNGIBLE_TOKEN_HEADLONG_ADDRESS, APPROVED_HEADLONG_ADDRESS, false)
                 .array();
-        given(attempt.inputBytes()).willReturn(encodedInput);
+        given(attempt.decodedCall(SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL))
+                .willReturn(SetApprovalForAllTranslator.SET_APPROVAL_FOR_ALL.decodeCall(encodedInput));
 
         // when
         final var transactionBody = subject.decodeSetApprovalForAll(attempt);
@@ -89,7 +91,8 @@ public class SetApprovalForAllDecoderTest {
         final var encodedInput = SetApprovalForAllTranslator.ERC721_SET_APPROVAL_FOR_ALL
                 .encodeCallWithArgs(APPROVED_HEADLONG_ADDRESS, true)
                 .array();
-        given(attempt.inputBytes()).willReturn(encodedInput);
+        given(attempt.decodedCall(SetApprovalForAllTranslator.ERC721_SET_APPROVAL_FOR_ALL))
+                .willReturn(SetApprovalForAllTranslator.ERC721_SET_APPROVAL_FOR_ALL.decodeCall(encodedInput));
         given(attempt.redirectTokenId()).willReturn(NON_FUNGIBLE_TOKEN_ID);
 
         // when
@@ -105,7 +108,8 @@ public class SetApprovalForAllDecoderTest {
         final var encodedInput = SetApprovalForAllTranslator.ERC721_SET_APPROVAL_FOR_ALL
                 .encodeCallWithArgs(APPROVED_HEADLONG_ADDRESS, false)
                 .array();
-        given(attempt.inputBytes()).willReturn(encodedInput);
+        given(attempt.decodedCall(SetApprovalForAllTranslator.ERC721_SET_APPROVAL_FOR_ALL))
+                .willReturn(SetApprovalForAllTranslator.ERC721_SET_APPROVAL_FOR_ALL.decodeCall(encodedInput));
         given(attempt.redirectTokenId()).willReturn(NON_FUNGIBLE_TOKEN_ID);
 
         // when
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.exec.utils;
+
+import static com.hedera.hapi.streams.ContractActionType.SYSTEM;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALLED_EOA_ID;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALL_DATA;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CONTRACT_CODE;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.EIP_1014_ADDRESS;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.HTS_SYSTEM_CONTRACT_ADDRESS;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.NON_SYSTEM_LONG_ZERO_ADDRESS;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.OUTPUT_DATA;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.REMAINING_GAS;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.SOME_REVERT_REASON;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.STACK_DEPTH;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.WEI_VALUE;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToTuweniBytes;
+import static org.hyperledger.besu.evm.frame.MessageFrame.Type.CONTRACT_CREATION;
+import static org.hyperledger.besu.evm.frame.MessageFrame.Type.MESSAGE_CALL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.streams.ContractActions;
+import com.hedera.node.app.service.contract.impl.exec.utils.ActionStack;
+import com.hedera.node.app.service.contract.impl.exec.utils.CompactActionStack;
+import com.hedera.node.app.service.contract.impl.exec.utils.ContractActionStack;
+import com.hedera.node.app.service.contract.impl.state.HederaEvmAccount;
+import com.hedera.node.app.service.contract.impl.state.ProxyWorldUpdater;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.Deque;
+import java.util.Optional;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogBuilder;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.account.Account;
+import org.hyperledger.besu.evm.code.CodeV0;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompactActionStackTest {
+    @Mock
+    private Account account;
+
+    @Mock
+    private HederaEvmAccount evmAccount;
+
+    @Mock
+    private Operation operation;
+
+    @Mock
+    private MessageFrame childFrame;
+
+    @Mock
+    private MessageFrame parentFrame;
+
+    @Mock
+    private ProxyWorldUpdater worldUpdater;
+
+    @Mock
+    private Deque<MessageFrame> frameStack;
+
+    @Mock
+    private Logger log;
+
+    @Mock
+    private LogBuilder logBuilder;
+
+    @Test
+    void buildsSameActionsAsActionStackForRevertedCallWithLazyCreation() {
+        givenTopLevel(MESSAGE_CALL);
+        given(parentFrame.getWorldUpdater()).willReturn(worldUpdater);
+        given(worldUpdater.get(NON_SYSTEM_LONG_ZERO_ADDRESS)).willReturn(account);
+        givenIntermediateTo(EIP_1014_ADDRESS, CALL_DATA);
+        given(childFrame.getState()).willReturn(MessageFrame.State.COMPLETED_SUCCESS);
+        given(childFrame.getOutputData()).willReturn(pbjToTuweniBytes(OUTPUT_DATA));
+        given(worldUpdater.getHederaAccount(EIP_1014_ADDRESS)).willReturn(evmAccount);
+        given(evmAccount.hederaId()).willReturn(CALLED_EOA_ID);
+        given(parentFrame.getState()).willReturn(MessageFrame.State.REVERT);
+        given(parentFrame.getRevertReason()).willReturn(Optional.of(SOME_REVERT_REASON));
+
+        final var expected = traceWith(new ActionStack(), ContractActionStack.Validation.OFF);
+        final var actual = traceWith(new CompactActionStack(), ContractActionStack.Validation.OFF);
+
+        assertEquals(2, expected.contractActions().size());
+        assertEquals(CALLED_EOA_ID, expected.contractActions().get(1).recipientAccount());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void buildsSameActionsAsActionStackForHaltedCreationWithPrecompileCall() {
+        givenTopLevel(CONTRACT_CREATION);
+        givenIntermediateTo(HTS_SYSTEM_CONTRACT_ADDRESS, CALL_DATA);
+        given(worldUpdater.get(HTS_SYSTEM_CONTRACT_ADDRESS)).willReturn(account);
+        given(childFrame.getCode()).willReturn(CodeV0.EMPTY_CODE);
+        given(childFrame.getState()).willReturn(MessageFrame.State.EXCEPTIONAL_HALT);
+        given(parentFrame.getState()).willReturn(MessageFrame.State.EXCEPTIONAL_HALT);
+
+        final var expected = tracePrecompileWith(new ActionStack());
+        final var actual = tracePrecompileWith(new CompactActionStack());
+
+        assertEquals(2, expected.contractActions().size());
+        assertNull(expected.contractActions().get(0).recipientContract());
+        assertEquals(SYSTEM, expected.contractActions().get(1).callType());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void sanitizesSameInvalidActionsAsActionStack() {
+        givenTopLevel(MESSAGE_CALL);
+        given(parentFrame.getWorldUpdater()).willReturn(worldUpdater);
+        given(worldUpdater.get(NON_SYSTEM_LONG_ZERO_ADDRESS)).willReturn(account);
+        // A call without input data is invalid
+        givenIntermediateTo(EIP_1014_ADDRESS, Bytes.EMPTY);
+        given(childFrame.getState()).willReturn(MessageFrame.State.CODE_SUCCESS);
+        given(childFrame.getOutputData()).willReturn(pbjToTuweniBytes(OUTPUT_DATA));
+        given(parentFrame.getState()).willReturn(MessageFrame.State.COMPLETED_SUCCESS);
+        given(parentFrame.getOutputData()).willReturn(pbjToTuweniBytes(Bytes.EMPTY));
+        given(parentFrame.getSenderAddress()).willReturn(NON_SYSTEM_LONG_ZERO_ADDRESS);
+        given(parentFrame.getRecipientAddress()).willReturn(NON_SYSTEM_LONG_ZERO_ADDRESS);
+        given(log.atLevel(Level.WARN)).willReturn(logBuilder);
+
+        final var expected = traceWith(new ActionStack(), ContractActionStack.Validation.ON);
+        final var actual = traceWith(new CompactActionStack(), ContractActionStack.Validation.ON);
+
+        assertEquals(1, expected.contractActions().size());
+        assertEquals(expected, actual);
+        verify(logBuilder, times(2)).log(eq("Invalid at end of EVM run: {} ({})"), anyString(), anyString());
+    }
+
+    @Test
+    void buildsEachActionOnlyOnce() {
+        givenTopLevel(MESSAGE_CALL);
+        given(parentFrame.getWorldUpdater()).willReturn(worldUpdater);
+        given(worldUpdater.get(NON_SYSTEM_LONG_ZERO_ADDRESS)).willReturn(account);
+        givenIntermediateTo(EIP_1014_ADDRESS, Bytes.EMPTY);
+        given(childFrame.getState()).willReturn(MessageFrame.State.CODE_SUCCESS);
+        given(childFrame.getOutputData()).willReturn(pbjToTuweniBytes(OUTPUT_DATA));
+        given(parentFrame.getState()).willReturn(MessageFrame.State.COMPLETED_SUCCESS);
+        given(parentFrame.getOutputData()).willReturn(pbjToTuweniBytes(Bytes.EMPTY));
+        given(parentFrame.getSenderAddress()).willReturn(NON_SYSTEM_LONG_ZERO_ADDRESS);
+        given(parentFrame.getRecipientAddress()).willReturn(NON_SYSTEM_LONG_ZERO_ADDRESS);
+        given(log.atLevel(Level.WARN)).willReturn(logBuilder);
+
+        final var subject = new CompactActionStack();
+        final var first = traceWith(subject, ContractActionStack.Validation.ON);
+        final var second = subject.asContractActions();
+
+        assertEquals(first.contractActions().size(), second.contractActions().size());
+        for (int i = 0; i < first.contractActions().size(); i++) {
+            assertSame(first.contractActions().get(i), second.contractActions().get(i));
+        }
+    }
+
+    private ContractActions traceWith(
+            final ContractActionStack subject, final ContractActionStack.Validation validation) {
+        subject.pushActionOfTopLevel(parentFrame);
+        subject.pushActionOfIntermediate(parentFrame);
+        subject.finalizeLastAction(childFrame, validation);
+        subject.finalizeLastAction(parentFrame, validation);
+        if (validation == ContractActionStack.Validation.ON) {
+            subject.sanitizeFinalActionsAndLogAnomalies(parentFrame, log, Level.WARN);
+        }
+        return subject.asContractActions();
+    }
+
+    private ContractActions tracePrecompileWith(final ContractActionStack subject) {
+        subject.pushActionOfTopLevel(parentFrame);
+        subject.pushActionOfIntermediate(parentFrame);
+        subject.finalizeLastStackActionAsPrecompile(childFrame, SYSTEM, ContractActionStack.Validation.OFF);
+        subject.finalizeLastAction(parentFrame, ContractActionStack.Validation.OFF);
+        return subject.asContractActions();
+    }
+
+    private void givenTopLevel(final MessageFrame.Type type) {
+        given(parentFrame.getType()).willReturn(type);
+        given(parentFrame.getOriginatorAddress()).willReturn(NON_SYSTEM_LONG_ZERO_ADDRESS);
+        given(parentFrame.getRemainingGas()).willReturn(REMAINING_GAS);
+        given(parentFrame.getInputData()).willReturn(pbjToTuweniBytes(CALL_DATA));
+        given(parentFrame.getValue()).willReturn(WEI_VALUE);
+        given(parentFrame.getDepth()).willReturn(0);
+        given(parentFrame.getCode()).willReturn(CONTRACT_CODE);
+        given(parentFrame.getContractAddress()).willReturn(NON_SYSTEM_LONG_ZERO_ADDRESS);
+    }
+
+    private void givenIntermediateTo(final Address address, final Bytes input) {
+        given(operation.getOpcode()).willReturn(0xF1);
+        given(parentFrame.getCurrentOperation()).willReturn(operation);
+        given(parentFrame.getMessageFrameStack()).willReturn(frameStack);
+        given(frameStack.peek()).willReturn(childFrame);
+        given(childFrame.getType()).willReturn(MESSAGE_CALL);
+        given(childFrame.getRemainingGas()).willReturn(REMAINING_GAS / 2);
+        given(childFrame.getInputData()).willReturn(pbjToTuweniBytes(input));
+        given(childFrame.getValue()).willReturn(WEI_VALUE);
+        given(childFrame.getDepth()).willReturn(STACK_DEPTH);
+        given(childFrame.getContractAddress()).willReturn(address);
+        given(childFrame.getWorldUpdater()).willReturn(worldUpdater);
+    }
+}
@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.TransactionID;
@@ -36,14 +37,18 @@ import com.hedera.node.app.service.contract.impl.exec.CallOutcome;
 import com.hedera.node.app.service.contract.impl.exec.ContextTransactionProcessor;
 import com.hedera.node.app.service.contract.impl.exec.TransactionComponent;
 import com.hedera.node.app.service.contract.impl.handlers.ContractCallHandler;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.RootProxyWorldUpdater;
+import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.fees.FeeCalculator;
 import com.hedera.node.app.spi.fees.FeeCalculatorFactory;
 import com.hedera.node.app.spi.fees.FeeContext;
 import com.hedera.node.app.spi.fixtures.workflows.FakePreHandleContext;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.PreCheckException;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -80,11 +85,23 @@ class ContractCallHandlerTest extends ContractHandlerTestBase {
     @Mock
     private GasCalculator gasCalculator;
 
+    @Mock
+    private StoragePrefetcher storagePrefetcher;
+
+    @Mock
+    private WarmupContext warmupContext;
+
+    @Mock
+    private ReadableAccountStore accountStore;
+
+    @Mock
+    private ContractStateStore contractStateStore;
+
     private ContractCallHandler subject;
 
     @BeforeEach
     void setUp() {
-        subject = new ContractCallHandler(() -> factory, gasCalculator);
+        subject = new ContractCallHandler(() -> factory, gasCalculator, storagePrefetcher);
     }
 
     @Test
@@ -151,6 +168,20 @@ class ContractCallHandlerTest extends ContractHandlerTestBase {
         assertThrows(PreCheckException.class, () -> subject.pureChecks(txn2));
     }
 
+    @Test
+    void warmPrefetchesStorageOfCalledContract() {
+        final var body = TransactionBody.newBuilder()
+                .contractCall(ContractCallTransactionBody.newBuilder().contractID(CALLED_CONTRACT_ID))
+                .build();
+        given(warmupContext.body()).willReturn(body);
+        given(warmupContext.createStore(ReadableAccountStore.class)).willReturn(accountStore);
+        given(warmupContext.createStore(ContractStateStore.class)).willReturn(contractStateStore);
+
+        subject.warm(warmupContext);
+
+        verify(storagePrefetcher).prefetchForCall(CALLED_CONTRACT_ID, accountStore, contractStateStore);
+    }
+
     @Test
     void testCalculateFeesWithoutCallBody() {
         final var txn = TransactionBody.newBuilder().build();
@@ -52,19 +52,24 @@ import com.hedera.node.app.service.contract.impl.hevm.HydratedEthTxData;
 import com.hedera.node.app.service.contract.impl.infra.EthTxSigsCache;
 import com.hedera.node.app.service.contract.impl.infra.EthereumCallDataHydration;
 import com.hedera.node.app.service.contract.impl.infra.HevmTransactionFactory;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
 import com.hedera.node.app.service.contract.impl.records.ContractCreateStreamBuilder;
 import com.hedera.node.app.service.contract.impl.records.EthereumTransactionStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.HederaEvmAccount;
 import com.hedera.node.app.service.contract.impl.state.RootProxyWorldUpdater;
+import com.hedera.node.app.service.contract.impl.state.TransactionStorageReads;
 import com.hedera.node.app.service.contract.impl.test.TestHelpers;
 import com.hedera.node.app.service.file.ReadableFileStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.fees.FeeCalculator;
 import com.hedera.node.app.spi.fees.FeeCalculatorFactory;
 import com.hedera.node.app.spi.fees.FeeContext;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.config.data.ContractsConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.List;
@@ -134,6 +139,9 @@ class EthereumTransactionHandlerTest {
     @Mock
     CustomGasCharging customGasCharging;
 
+    @Mock
+    TransactionStorageReads storageReads;
+
     private EthereumTransactionHandler subject;
 
     @Mock
@@ -145,9 +153,22 @@ class EthereumTransactionHandlerTest {
     @Mock
     private EthTxData ethTxDataReturned;
 
+    @Mock
+    private StoragePrefetcher storagePrefetcher;
+
+    @Mock
+    private WarmupContext warmupContext;
+
+    @Mock
+    private ReadableAccountStore accountStore;
+
+    @Mock
+    private ContractStateStore contractStateStore;
+
     @BeforeEach
     void setUp() {
-        subject = new EthereumTransactionHandler(ethereumSignatures, callDataHydration, () -> factory, gasCalculator);
+        subject = new EthereumTransactionHandler(
+                ethereumSignatures, callDataHydration, () -> factory, gasCalculator, storagePrefetcher);
     }
 
     void setUpTransactionProcessing() {
@@ -165,7 +186,8 @@ class EthereumTransactionHandlerTest {
                 hevmTransactionFactory,
                 feesOnlyUpdater,
                 transactionProcessor,
-                customGasCharging);
+                customGasCharging,
+                storageReads);
 
         given(component.contextTransactionProcessor()).willReturn(contextTransactionProcessor);
         given(hevmTransactionFactory.fromHapiTransaction(handleContext.body())).willReturn(HEVM_CREATION);
@@ -296,6 +318,35 @@ class EthereumTransactionHandlerTest {
         verifyNoInteractions(ethereumSignatures);
     }
 
+    @Test
+    void warmPrefetchesStorageOfEthereumTx() {
+        final var body = TransactionBody.newBuilder()
+                .ethereumTransaction(EthereumTransactionBody.newBuilder()
+                        .ethereumData(TestHelpers.ETH_WITH_TO_ADDRESS)
+                        .build())
+                .build();
+        given(warmupContext.body()).willReturn(body);
+        given(warmupContext.createStore(ReadableAccountStore.class)).willReturn(accountStore);
+        given(warmupContext.createStore(ContractStateStore.class)).willReturn(contractStateStore);
+
+        subject.warm(warmupContext);
+
+        verify(storagePrefetcher).prefetchForEthereumTx(ETH_DATA_WITH_TO_ADDRESS, accountStore, contractStateStore);
+    }
+
+    @Test
+    void warmSkipsUnparseableEthereumTx() {
+        final var body = TransactionBody.newBuilder()
+                .ethereumTransaction(
+                        EthereumTransactionBody.newBuilder().ethereumData(Bytes.EMPTY).build())
+                .build();
+        given(warmupContext.body()).willReturn(body);
+
+        subject.warm(warmupContext);
+
+        verifyNoInteractions(storagePrefetcher);
+    }
+
     @Test
     void testCalculateFeesWithNoEthereumTransactionBody() {
         final var txn = TransactionBody.newBuilder().build();
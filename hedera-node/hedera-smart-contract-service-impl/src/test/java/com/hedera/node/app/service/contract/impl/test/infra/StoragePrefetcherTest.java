@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.infra;
+
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALLED_CONTRACT_EVM_ADDRESS;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALLED_CONTRACT_ID;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALLED_EOA_ID;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CHILD_CONTRACT_ID;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.EIP_1014_ADDRESS;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.ETH_DATA_WITH_TO_ADDRESS;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.asLongZeroAddress;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.esaulpaugh.headlong.rlp.RLPEncoder;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.hapi.utils.ethereum.EthTxData;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.StorageAccessProfiles;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoragePrefetcherTest {
+    private static final byte[] FULL_KEY = new byte[32];
+    private static final byte[] SHORT_KEY = new byte[] {0x0a};
+    private static final SlotKey PROFILED_SLOT = new SlotKey(CALLED_CONTRACT_ID, Bytes.wrap(new byte[] {1}));
+
+    static {
+        FULL_KEY[31] = 0x01;
+    }
+
+    @Mock
+    private ReadableAccountStore accountStore;
+
+    @Mock
+    private ContractStateStore contractStateStore;
+
+    private final StorageAccessProfiles profiles = new StorageAccessProfiles();
+
+    private StoragePrefetcher subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new StoragePrefetcher(profiles);
+    }
+
+    @Test
+    void prefetchesProfiledSlotsOfNumericallyCalledContract() {
+        profiles.recordRead(PROFILED_SLOT);
+
+        subject.prefetchForCall(CALLED_CONTRACT_ID, accountStore, contractStateStore);
+
+        verify(contractStateStore).warm(PROFILED_SLOT);
+        verifyNoInteractions(accountStore);
+    }
+
+    @Test
+    void prefetchesProfiledSlotsOfContractCalledByAlias() {
+        profiles.recordRead(PROFILED_SLOT);
+        given(accountStore.getAccountIDByAlias(CALLED_CONTRACT_EVM_ADDRESS.evmAddressOrThrow()))
+                .willReturn(CALLED_EOA_ID);
+
+        subject.prefetchForCall(CALLED_CONTRACT_EVM_ADDRESS, accountStore, contractStateStore);
+
+        verify(contractStateStore).warm(PROFILED_SLOT);
+    }
+
+    @Test
+    void prefetchesNothingForUnknownAlias() {
+        profiles.recordRead(PROFILED_SLOT);
+
+        subject.prefetchForCall(CALLED_CONTRACT_EVM_ADDRESS, accountStore, contractStateStore);
+
+        verifyNoInteractions(contractStateStore);
+    }
+
+    @Test
+    void prefetchesAccessListAndProfiledSlotsOfEthereumTx() {
+        profiles.recordRead(PROFILED_SLOT);
+        given(accountStore.getAccountIDByAlias(Bytes.wrap(EIP_1014_ADDRESS.toArrayUnsafe())))
+                .willReturn(CALLED_EOA_ID);
+        final var childAddress =
+                asLongZeroAddress(CHILD_CONTRACT_ID.contractNumOrThrow()).toArrayUnsafe();
+        final var accessList = RLPEncoder.encodeSequentially(
+                List.of(EIP_1014_ADDRESS.toArrayUnsafe(), List.of(FULL_KEY)),
+                List.of(childAddress, List.of(SHORT_KEY)));
+
+        subject.prefetchForEthereumTx(
+                withAccessList(EIP_1014_ADDRESS.toArrayUnsafe(), accessList), accountStore, contractStateStore);
+
+        verify(contractStateStore).warm(new SlotKey(CALLED_CONTRACT_ID, Bytes.wrap(FULL_KEY)));
+        verify(contractStateStore).warm(PROFILED_SLOT);
+        final var paddedKey = new byte[32];
+        paddedKey[31] = 0x0a;
+        verify(contractStateStore).warm(new SlotKey(CHILD_CONTRACT_ID, Bytes.wrap(paddedKey)));
+    }
+
+    @Test
+    void ignoresMalformedAccessList() {
+        given(accountStore.getAccountIDByAlias(any())).willReturn(null);
+
+        subject.prefetchForEthereumTx(
+                withAccessList(ETH_DATA_WITH_TO_ADDRESS.to(), new byte[] {(byte) 0xff}),
+                accountStore,
+                contractStateStore);
+
+        verifyNoInteractions(contractStateStore);
+    }
+
+    private static EthTxData withAccessList(final byte[] to, final byte[] accessList) {
+        final var data = ETH_DATA_WITH_TO_ADDRESS;
+        return new EthTxData(
+                null,
+                data.type(),
+                data.chainId(),
+                data.nonce(),
+                data.gasPrice(),
+                data.maxPriorityGas(),
+                data.maxGas(),
+                data.gasLimit(),
+                to,
+                data.value(),
+                data.callData(),
+                accessList,
+                data.recId(),
+                data.v(),
+                data.r(),
+                data.s());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.node.app.service.contract.impl.state.CodeCache;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.code.CodeFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CodeCacheTest {
+    private static final Bytes SOME_CODE = Bytes.fromHexString("0x6080604052348015600f57600080fd5b50");
+    private static final Bytes OTHER_CODE = Bytes.fromHexString("0x60806040526004361060");
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(1234L).build();
+
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private Counter hitCounter;
+
+    @Mock
+    private Counter missCounter;
+
+    private final CodeCache subject = new CodeCache();
+
+    @Test
+    void rejectsNonPositiveBound() {
+        assertThrows(IllegalArgumentException.class, () -> new CodeCache(0));
+    }
+
+    @Test
+    void returnsSameAnalyzedCodeForSameBytecode() {
+        final var first = subject.getOrCreate(SOME_CODE);
+        final var second = subject.getOrCreate(Bytes.wrap(SOME_CODE.toArrayUnsafe()));
+
+        assertSame(first, second);
+        assertEquals(CodeFactory.createCode(SOME_CODE, 0, false), first);
+        assertEquals(1, subject.misses());
+        assertEquals(1, subject.hits());
+    }
+
+    @Test
+    void distinguishesDifferentBytecode() {
+        final var some = subject.getOrCreate(SOME_CODE);
+        final var other = subject.getOrCreate(OTHER_CODE);
+
+        assertNotSame(some, other);
+        assertEquals(CodeFactory.createCode(OTHER_CODE, 0, false).getCodeHash(), other.getCodeHash());
+        assertEquals(2, subject.misses());
+        assertEquals(0, subject.hits());
+    }
+
+    @Test
+    void readsContractBytecodeOnlyOnMiss() {
+        final var first = subject.getOrCreate(CONTRACT_ID, () -> SOME_CODE);
+        final var second = subject.getOrCreate(CONTRACT_ID, () -> {
+            throw new AssertionError("Bytecode of a cached contract should not be read");
+        });
+
+        assertSame(first, second);
+        assertEquals(CodeFactory.createCode(SOME_CODE, 0, false), first);
+        assertEquals(1, subject.misses());
+        assertEquals(1, subject.hits());
+    }
+
+    @Test
+    void invalidatedContractCodeIsCreatedAgain() {
+        subject.getOrCreate(CONTRACT_ID, () -> SOME_CODE);
+
+        subject.invalidate(CONTRACT_ID);
+        final var code = subject.getOrCreate(CONTRACT_ID, () -> OTHER_CODE);
+
+        assertEquals(CodeFactory.createCode(OTHER_CODE, 0, false), code);
+        assertEquals(2, subject.misses());
+    }
+
+    @Test
+    void doesNotCacheEmptyContractCode() {
+        final var code = subject.getOrCreate(CONTRACT_ID, () -> Bytes.EMPTY);
+
+        assertEquals(CodeFactory.createCode(Bytes.EMPTY, 0, false), code);
+        assertEquals(0, subject.misses());
+    }
+
+    @Test
+    void doesNotCacheEmptyCode() {
+        final var code = subject.getOrCreate(Bytes.EMPTY);
+
+        assertEquals(CodeFactory.createCode(Bytes.EMPTY, 0, false), code);
+        assertEquals(0, subject.misses());
+        assertEquals(0, subject.hits());
+    }
+
+    @Test
+    void countsLookupsWithRegisteredMetrics() {
+        given(metrics.getOrCreate(any(Counter.Config.class))).willReturn(hitCounter, missCounter);
+        subject.registerMetrics(metrics);
+
+        subject.getOrCreate(SOME_CODE);
+        subject.getOrCreate(SOME_CODE);
+
+        verify(missCounter).increment();
+        verify(hitCounter).increment();
+    }
+}
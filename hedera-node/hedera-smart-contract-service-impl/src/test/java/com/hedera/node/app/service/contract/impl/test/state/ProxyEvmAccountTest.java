@@ -21,6 +21,7 @@ import static com.hedera.node.app.service.contract.impl.test.TestHelpers.ACCOUNT
 import static com.hedera.node.app.service.contract.impl.test.TestHelpers.ADDRESS_BYTECODE_PATTERN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
 import com.hedera.hapi.node.base.AccountID;
@@ -60,6 +61,7 @@ class ProxyEvmAccountTest {
 
     @Test
     void returnsEvmCodeOfProxy() {
+        givenEvmCodeIsCreated();
         final var accountInHex = String.format("%040X", ACCOUNT_NUM);
         final var expected = org.apache.tuweni.bytes.Bytes.fromHexString(
                 ACCOUNT_CALL_REDIRECT_CONTRACT_BINARY.replace(ADDRESS_BYTECODE_PATTERN, accountInHex));
@@ -73,6 +75,7 @@ class ProxyEvmAccountTest {
 
     @Test
     void returnsEvmCodeOfEmptyBytes() {
+        givenEvmCodeIsCreated();
         given(state.getAccountRedirectCode(null)).willCallRealMethod();
 
         assertEquals(
@@ -82,6 +85,7 @@ class ProxyEvmAccountTest {
 
     @Test
     void returnsEvmCodeHashOfProxy() {
+        givenEvmCodeIsCreated();
         final var accountInHex = String.format("%040X", ACCOUNT_NUM);
         final var expected = org.apache.tuweni.bytes.Bytes.fromHexString(
                 ACCOUNT_CALL_REDIRECT_CONTRACT_BINARY.replace(ADDRESS_BYTECODE_PATTERN, accountInHex));
@@ -100,6 +104,7 @@ class ProxyEvmAccountTest {
 
     @Test
     void returnsEvmCodeHashOfEmptyBytes() {
+        givenEvmCodeIsCreated();
         given(state.getAccountRedirectCode(null)).willCallRealMethod();
         given(state.getAccountRedirectCodeHash(null)).willCallRealMethod();
 
@@ -111,4 +116,9 @@ class ProxyEvmAccountTest {
 
         assertEquals(expectedHash, hash);
     }
+
+    private void givenEvmCodeIsCreated() {
+        given(state.getEvmCode(any()))
+                .willAnswer(invocation -> CodeFactory.createCode(invocation.getArgument(0), 0, false));
+    }
 }
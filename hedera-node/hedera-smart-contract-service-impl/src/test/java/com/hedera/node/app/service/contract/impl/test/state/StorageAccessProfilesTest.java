@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.state;
+
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALLED_CONTRACT_ID;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CHILD_CONTRACT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.service.contract.impl.state.StorageAccessProfiles;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StorageAccessProfilesTest {
+    private static final SlotKey A_SLOT = new SlotKey(CALLED_CONTRACT_ID, Bytes.wrap(new byte[] {1}));
+    private static final SlotKey B_SLOT = new SlotKey(CALLED_CONTRACT_ID, Bytes.wrap(new byte[] {2}));
+    private static final SlotKey C_SLOT = new SlotKey(CALLED_CONTRACT_ID, Bytes.wrap(new byte[] {3}));
+    private static final SlotKey CHILD_SLOT = new SlotKey(CHILD_CONTRACT_ID, Bytes.wrap(new byte[] {1}));
+
+    private final StorageAccessProfiles subject = new StorageAccessProfiles(10, 2);
+
+    @Test
+    void rejectsNonPositiveBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new StorageAccessProfiles(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new StorageAccessProfiles(1, 0));
+    }
+
+    @Test
+    void hasNoProfileForUnexecutedContract() {
+        assertTrue(subject.slotKeysOf(CALLED_CONTRACT_ID).isEmpty());
+    }
+
+    @Test
+    void keepsMostRecentlyReadSlotsOfEachContract() {
+        subject.recordRead(A_SLOT);
+        subject.recordRead(B_SLOT);
+        subject.recordRead(CHILD_SLOT);
+        assertEquals(List.of(A_SLOT, B_SLOT), subject.slotKeysOf(CALLED_CONTRACT_ID));
+        assertEquals(List.of(CHILD_SLOT), subject.slotKeysOf(CHILD_CONTRACT_ID));
+
+        // Reading A again makes B the least recently read slot, so C evicts it
+        subject.recordRead(A_SLOT);
+        subject.recordRead(C_SLOT);
+        assertEquals(List.of(A_SLOT, C_SLOT), subject.slotKeysOf(CALLED_CONTRACT_ID));
+    }
+}
@@ -89,6 +89,7 @@ class TokenEvmAccountTest {
     void returnsEvmCode() {
         final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
         given(state.getTokenRedirectCode(TOKEN_ADDRESS)).willReturn(code);
+        given(state.getEvmCode(code)).willReturn(CodeFactory.createCode(code, 0, false));
         assertEquals(CodeFactory.createCode(code, 0, false), subject.getEvmCode(org.apache.tuweni.bytes.Bytes.EMPTY));
     }
 
@@ -139,6 +140,7 @@ class TokenEvmAccountTest {
     void returnEvmCodeWhenCalledWithExpectedFunctionSelectorBytes() {
         final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
         given(state.getTokenRedirectCode(TOKEN_ADDRESS)).willReturn(code);
+        given(state.getEvmCode(code)).willReturn(CodeFactory.createCode(code, 0, false));
         assertEquals(
                 CodeFactory.createCode(code, 0, false),
                 subject.getEvmCode(org.apache.tuweni.bytes.Bytes.wrap(HBAR_ALLOWANCE_PROXY.selector())));
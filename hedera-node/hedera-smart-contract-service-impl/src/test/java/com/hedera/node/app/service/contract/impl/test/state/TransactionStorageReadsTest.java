@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hedera.node.app.service.contract.impl.test.state;
+
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALLED_CONTRACT_ID;
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CHILD_CONTRACT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.service.contract.impl.state.StorageAccessProfiles;
+import com.hedera.node.app.service.contract.impl.state.TransactionStorageReads;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TransactionStorageReadsTest {
+    private static final SlotKey A_SLOT = new SlotKey(CALLED_CONTRACT_ID, Bytes.wrap(new byte[] {1}));
+    private static final SlotKey B_SLOT = new SlotKey(CALLED_CONTRACT_ID, Bytes.wrap(new byte[] {2}));
+    private static final SlotKey CHILD_SLOT = new SlotKey(CHILD_CONTRACT_ID, Bytes.wrap(new byte[] {1}));
+
+    private final StorageAccessProfiles profiles = new StorageAccessProfiles(10, 4);
+    private final TransactionStorageReads subject = new TransactionStorageReads(profiles);
+
+    @Test
+    void profilesReadsOnlyOnceFlushed() {
+        subject.record(A_SLOT);
+        subject.record(CHILD_SLOT);
+        subject.record(B_SLOT);
+        subject.record(A_SLOT);
+        assertTrue(profiles.slotKeysOf(CALLED_CONTRACT_ID).isEmpty());
+
+        subject.flush();
+
+        assertEquals(List.of(A_SLOT, B_SLOT), profiles.slotKeysOf(CALLED_CONTRACT_ID));
+        assertEquals(List.of(CHILD_SLOT), profiles.slotKeysOf(CHILD_CONTRACT_ID));
+    }
+
+    @Test
+    void forgetsReadsOnceFlushed() {
+        subject.record(A_SLOT);
+        subject.flush();
+        subject.record(B_SLOT);
+        subject.flush();
+
+        assertEquals(List.of(A_SLOT, B_SLOT), profiles.slotKeysOf(CALLED_CONTRACT_ID));
+    }
+
+    @Test
+    void ignoresSlotsWithoutContract() {
+        subject.record(new SlotKey(null, Bytes.wrap(new byte[] {1})));
+        subject.flush();
+
+        assertTrue(profiles.slotKeysOf(CALLED_CONTRACT_ID).isEmpty());
+    }
+}
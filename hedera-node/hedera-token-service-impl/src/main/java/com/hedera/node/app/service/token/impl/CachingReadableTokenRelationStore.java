@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.token.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.node.app.service.token.ReadableTokenRelationStore;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ReadableTokenRelationStore} over an immutable state that remembers the token relation lists it assembled.
+ * Following the list of an account takes one random read per relation, so queries for accounts with many
+ * associations are expensive; since the state never changes, the assembled list can be handed to every later query
+ * for the same account.
+ *
+ * <p>At most a given number of lists are kept, evicting the least recently used one. This class is thread-safe.
+ *
+ * <p>This class is not exported from the module. It is an internal implementation detail.
+ */
+public class CachingReadableTokenRelationStore implements ReadableTokenRelationStore {
+    private final ReadableTokenRelationStore delegate;
+    private final int maxCachedLists;
+
+    /** The assembled lists by account, in access order. Guarded by {@code this}. */
+    private final Map<AccountID, RelationList> relationLists;
+
+    /**
+     * Create a new {@link CachingReadableTokenRelationStore} instance.
+     *
+     * @param delegate the store to read the token relations from; must be over an immutable state
+     * @param maxCachedLists the maximum number of token relation lists to keep
+     */
+    public CachingReadableTokenRelationStore(
+            @NonNull final ReadableTokenRelationStore delegate, final int maxCachedLists) {
+        this.delegate = requireNonNull(delegate);
+        if (maxCachedLists <= 0) {
+            throw new IllegalArgumentException("Max cached lists must be positive, was " + maxCachedLists);
+        }
+        this.maxCachedLists = maxCachedLists;
+        this.relationLists = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public TokenRelation get(@NonNull final AccountID accountId, @NonNull final TokenID tokenId) {
+        return delegate.get(accountId, tokenId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long sizeOfState() {
+        return delegate.sizeOfState();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warm(@NonNull final AccountID accountID, @NonNull final TokenID tokenId) {
+        delegate.warm(accountID, tokenId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Returns the cached list of the account if it has enough relations for the limit, or is the whole list.
+     * Otherwise the list is assembled again, without holding any lock, and cached.
+     */
+    @NonNull
+    @Override
+    public List<TokenRelation> getRelationsOf(@NonNull final Account account, final long limit) {
+        requireNonNull(account);
+        final var accountId = account.accountIdOrElse(AccountID.DEFAULT);
+        final RelationList cached;
+        synchronized (this) {
+            cached = relationLists.get(accountId);
+        }
+        if (cached != null && (cached.complete() || cached.relations().size() >= limit)) {
+            return limit < cached.relations().size()
+                    ? cached.relations().subList(0, (int) limit)
+                    : cached.relations();
+        }
+
+        final var relations = List.copyOf(delegate.getRelationsOf(account, limit));
+        final var complete = relations.size() < limit;
+        synchronized (this) {
+            final var current = relationLists.get(accountId);
+            if (current == null || current.relations().size() < relations.size()) {
+                relationLists.put(accountId, new RelationList(relations, complete));
+                if (relationLists.size() > maxCachedLists) {
+                    final var eldest = relationLists.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        return relations;
+    }
+
+    /**
+     * Returns the number of token relation lists currently cached.
+     *
+     * @return the number of cached lists
+     */
+    public synchronized int cachedListCount() {
+        return relationLists.size();
+    }
+
+    /**
+     * A token relation list, either the complete list of the account or just its first relations.
+     *
+     * @param relations the relations, in list order
+     * @param complete whether these are all relations of the account's list
+     */
+    private record RelationList(@NonNull List<TokenRelation> relations, boolean complete) {}
+}
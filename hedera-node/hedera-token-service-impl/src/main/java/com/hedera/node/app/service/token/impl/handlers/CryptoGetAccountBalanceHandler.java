@@ -33,10 +33,7 @@ import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.QueryHeader;
 import com.hedera.hapi.node.base.ResponseHeader;
 import com.hedera.hapi.node.base.TokenBalance;
-import com.hedera.hapi.node.base.TokenID;
 import com.hedera.hapi.node.state.token.Account;
-import com.hedera.hapi.node.state.token.Token;
-import com.hedera.hapi.node.state.token.TokenRelation;
 import com.hedera.hapi.node.token.CryptoGetAccountBalanceQuery;
 import com.hedera.hapi.node.token.CryptoGetAccountBalanceResponse;
 import com.hedera.hapi.node.transaction.Query;
@@ -177,30 +174,16 @@ public class CryptoGetAccountBalanceHandler extends FreeQueryHandler {
             @NonNull final ReadableTokenStore readableTokenStore,
             @NonNull final ReadableTokenRelationStore tokenRelationStore) {
         final var ret = new ArrayList<TokenBalance>();
-        var tokenId = account.headTokenId();
-        int count = 0;
-        TokenRelation tokenRelation;
-        Token token; // token from readableToken store by tokenID
-        AccountID accountID; // build from accountNumber
-        TokenBalance tokenBalance; // created TokenBalance object
-        while (tokenId != null && !tokenId.equals(TokenID.DEFAULT) && count < tokenConfig.maxRelsPerInfoQuery()) {
-            accountID = account.accountId();
-            tokenRelation = tokenRelationStore.get(accountID, tokenId);
-            if (tokenRelation != null) {
-                token = readableTokenStore.get(tokenId);
-                if (token != null) {
-                    tokenBalance = TokenBalance.newBuilder()
-                            .tokenId(tokenId)
-                            .balance(tokenRelation.balance())
-                            .decimals(token.decimals())
-                            .build();
-                    ret.add(tokenBalance);
-                }
-                tokenId = tokenRelation.nextToken();
-            } else {
-                break;
+        for (final var tokenRelation : tokenRelationStore.getRelationsOf(account, tokenConfig.maxRelsPerInfoQuery())) {
+            final var tokenId = tokenRelation.tokenIdOrThrow();
+            final var token = readableTokenStore.get(tokenId);
+            if (token != null) {
+                ret.add(TokenBalance.newBuilder()
+                        .tokenId(tokenId)
+                        .balance(tokenRelation.balance())
+                        .decimals(token.decimals())
+                        .build());
             }
-            count++;
         }
         return ret;
     }
@@ -16,19 +16,38 @@
 
 package com.hedera.node.app.service.token.impl.handlers;
 
+import static com.hedera.hapi.node.base.ResponseCodeEnum.ACCOUNT_DELETED;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_QUERY_RANGE;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.NOT_SUPPORTED;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
+import static com.hedera.hapi.node.base.ResponseType.COST_ANSWER;
+import static com.hedera.node.app.spi.workflows.PreCheckException.validateFalsePreCheck;
+import static com.hedera.node.app.spi.workflows.PreCheckException.validateTruePreCheck;
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.NftID;
 import com.hedera.hapi.node.base.QueryHeader;
 import com.hedera.hapi.node.base.ResponseHeader;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.token.TokenGetAccountNftInfosQuery;
 import com.hedera.hapi.node.token.TokenGetAccountNftInfosResponse;
+import com.hedera.hapi.node.token.TokenNftInfo;
 import com.hedera.hapi.node.transaction.Query;
 import com.hedera.hapi.node.transaction.Response;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.service.token.ReadableNftStore;
 import com.hedera.node.app.spi.workflows.FreeQueryHandler;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.QueryContext;
+import com.hedera.node.config.data.LedgerConfig;
+import com.hedera.node.config.data.TokensConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -37,7 +56,19 @@ import javax.inject.Singleton;
  * HederaFunctionality#TOKEN_GET_ACCOUNT_NFT_INFOS}.
  * <p>
  * This token service call has been deprecated. Because protobufs promise backwards compatibility,
- * we cannot remove it. However, it should not be used.
+ * we cannot remove it. It is only answered if {@code tokens.nfts.accountNftInfosQuery.enabled} is set.
+ * <p>
+ * The NFTs owned by an account, other than the ones it owns as treasury, form a linked list in state,
+ * starting at {@link Account#headNftId()} and continuing with each NFT's {@code ownerNextNftId}. So a
+ * query for the range {@code [start, end)} is answered by following the list for {@code end} links,
+ * without scanning the NFT state. Since this is a free query, {@code end} may not exceed
+ * {@code tokens.nfts.accountNftInfosQuery.maxDepth}, which defaults to the page size.
+ * <p>
+ * Only crypto transfers and wipes maintain the list. Minted and burned NFTs belong to the treasury, so
+ * they are never in it; but the NFTs an account holds when it becomes a token's treasury stay in it, and
+ * dissociating from a deleted token does not unlink that token's NFTs. Also, {@link Account#numberOwnedNfts()}
+ * counts treasury-held NFTs, so it is only an upper bound on the list length. A range reaching past the
+ * end of the list is therefore answered with {@code INVALID_QUERY_RANGE} rather than a short page.
  */
 @Singleton
 public class TokenGetAccountNftInfosHandler extends FreeQueryHandler {
@@ -65,14 +96,82 @@ public class TokenGetAccountNftInfosHandler extends FreeQueryHandler {
     @Override
     public void validate(@NonNull final QueryContext context) throws PreCheckException {
         requireNonNull(context);
-        throw new PreCheckException(NOT_SUPPORTED);
+        final var tokensConfig = context.configuration().getConfigData(TokensConfig.class);
+        validateTruePreCheck(tokensConfig.nftsAccountNftInfosQueryEnabled(), NOT_SUPPORTED);
+
+        final var op = context.query().tokenGetAccountNftInfosOrThrow();
+        validateTruePreCheck(op.hasAccountID(), INVALID_ACCOUNT_ID);
+        final var account = context.createStore(ReadableAccountStore.class).getAccountById(op.accountIDOrThrow());
+        validateFalsePreCheck(account == null, INVALID_ACCOUNT_ID);
+        validateFalsePreCheck(account.deleted(), ACCOUNT_DELETED);
+
+        validateTruePreCheck(op.start() >= 0 && op.start() < op.end(), INVALID_QUERY_RANGE);
+        validateTruePreCheck(op.end() - op.start() <= tokensConfig.nftsMaxQueryRange(), INVALID_QUERY_RANGE);
+        validateTruePreCheck(op.end() <= tokensConfig.nftsAccountNftInfosQueryMaxDepth(), INVALID_QUERY_RANGE);
+        // Includes treasury-held NFTs, so a range passing this check may still be past the end of the list
+        validateTruePreCheck(op.end() <= account.numberOwnedNfts(), INVALID_QUERY_RANGE);
     }
 
     @Override
     public Response findResponse(@NonNull final QueryContext context, @NonNull final ResponseHeader header) {
-        // this code should never be executed, as validate() should fail before we get here
         requireNonNull(context);
         requireNonNull(header);
-        throw new UnsupportedOperationException(NOT_SUPPORTED.toString());
+        final var op = context.query().tokenGetAccountNftInfosOrThrow();
+        final var response = TokenGetAccountNftInfosResponse.newBuilder().header(header);
+
+        final var responseType = op.headerOrElse(QueryHeader.DEFAULT).responseType();
+        if (header.nodeTransactionPrecheckCode() == OK && responseType != COST_ANSWER) {
+            final var account = context.createStore(ReadableAccountStore.class).getAccountById(op.accountIDOrThrow());
+            if (account == null) {
+                response.header(header.copyBuilder().nodeTransactionPrecheckCode(INVALID_ACCOUNT_ID));
+            } else {
+                final var ledgerId = context.configuration().getConfigData(LedgerConfig.class).id();
+                final var nfts = nftInfosInRange(op, account, context.createStore(ReadableNftStore.class), ledgerId);
+                if (nfts.size() < op.end() - op.start()) {
+                    response.header(header.copyBuilder().nodeTransactionPrecheckCode(INVALID_QUERY_RANGE));
+                } else {
+                    response.nfts(nfts);
+                }
+            }
+        }
+        return Response.newBuilder().tokenGetAccountNftInfos(response).build();
+    }
+
+    /**
+     * Follows the list of NFTs owned by the given account, and returns the infos of the NFTs at positions
+     * {@code [start, end)} of the list. Returns fewer infos if the list is shorter.
+     *
+     * @param op the query
+     * @param account the account owning the NFTs
+     * @param nftStore the NFT store
+     * @param ledgerId the ledger ID to include in the infos
+     * @return the NFT infos in the requested range
+     */
+    private List<TokenNftInfo> nftInfosInRange(
+            @NonNull final TokenGetAccountNftInfosQuery op,
+            @NonNull final Account account,
+            @NonNull final ReadableNftStore nftStore,
+            @NonNull final Bytes ledgerId) {
+        final AccountID ownerId = account.accountIdOrThrow();
+        final List<TokenNftInfo> infos = new ArrayList<>((int) (op.end() - op.start()));
+        NftID nftId = account.headNftId();
+        for (long position = 0; nftId != null && position < op.end(); position++) {
+            final var nft = nftStore.get(nftId);
+            if (nft == null) {
+                break;
+            }
+            if (position >= op.start()) {
+                infos.add(TokenNftInfo.newBuilder()
+                        .ledgerId(ledgerId)
+                        .nftID(nftId)
+                        .accountID(ownerId)
+                        .creationTime(nft.mintTime())
+                        .metadata(nft.metadata())
+                        .spenderId(nft.spenderId())
+                        .build());
+            }
+            nftId = nft.ownerNextNftId();
+        }
+        return infos;
     }
 }
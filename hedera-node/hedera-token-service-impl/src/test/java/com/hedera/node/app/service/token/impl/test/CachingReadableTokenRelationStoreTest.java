@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.token.impl.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.node.app.service.token.ReadableTokenRelationStore;
+import com.hedera.node.app.service.token.impl.CachingReadableTokenRelationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingReadableTokenRelationStoreTest {
+    private static final AccountID ALICE = AccountID.newBuilder().accountNum(1001L).build();
+    private static final AccountID BOB = AccountID.newBuilder().accountNum(1002L).build();
+    private static final TokenID TOKEN_1 = TokenID.newBuilder().tokenNum(1L).build();
+    private static final TokenID TOKEN_2 = TokenID.newBuilder().tokenNum(2L).build();
+    private static final TokenID TOKEN_3 = TokenID.newBuilder().tokenNum(3L).build();
+
+    private static final Account ALICE_ACCOUNT =
+            Account.newBuilder().accountId(ALICE).headTokenId(TOKEN_1).build();
+    private static final Account BOB_ACCOUNT =
+            Account.newBuilder().accountId(BOB).headTokenId(TOKEN_1).build();
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ReadableTokenRelationStore delegate;
+
+    private CachingReadableTokenRelationStore subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new CachingReadableTokenRelationStore(delegate, 1);
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new CachingReadableTokenRelationStore(delegate, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void reusesCompleteListForAnyLimit() {
+        givenAliceRelations();
+
+        assertThat(subject.getRelationsOf(ALICE_ACCOUNT, 10))
+                .extracting(TokenRelation::tokenId)
+                .containsExactly(TOKEN_1, TOKEN_2, TOKEN_3);
+        assertThat(subject.getRelationsOf(ALICE_ACCOUNT, 2))
+                .extracting(TokenRelation::tokenId)
+                .containsExactly(TOKEN_1, TOKEN_2);
+        assertThat(subject.getRelationsOf(ALICE_ACCOUNT, 5)).hasSize(3);
+
+        verify(delegate, times(1)).get(ALICE, TOKEN_3);
+        assertThat(subject.cachedListCount()).isEqualTo(1);
+    }
+
+    @Test
+    void extendsTruncatedListForLargerLimit() {
+        givenAliceRelations();
+
+        assertThat(subject.getRelationsOf(ALICE_ACCOUNT, 1)).hasSize(1);
+        assertThat(subject.getRelationsOf(ALICE_ACCOUNT, 1)).hasSize(1);
+        verify(delegate, times(1)).get(ALICE, TOKEN_1);
+
+        assertThat(subject.getRelationsOf(ALICE_ACCOUNT, 3)).hasSize(3);
+        verify(delegate, times(2)).get(ALICE, TOKEN_1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedList() {
+        givenAliceRelations();
+        given(delegate.get(BOB, TOKEN_1)).willReturn(relation(BOB, TOKEN_1, null));
+
+        subject.getRelationsOf(ALICE_ACCOUNT, 10);
+        subject.getRelationsOf(BOB_ACCOUNT, 10);
+        subject.getRelationsOf(ALICE_ACCOUNT, 10);
+
+        assertThat(subject.cachedListCount()).isEqualTo(1);
+        verify(delegate, times(2)).get(ALICE, TOKEN_1);
+    }
+
+    private void givenAliceRelations() {
+        given(delegate.get(ALICE, TOKEN_1)).willReturn(relation(ALICE, TOKEN_1, TOKEN_2));
+        given(delegate.get(ALICE, TOKEN_2)).willReturn(relation(ALICE, TOKEN_2, TOKEN_3));
+        given(delegate.get(ALICE, TOKEN_3)).willReturn(relation(ALICE, TOKEN_3, null));
+    }
+
+    private static TokenRelation relation(final AccountID accountId, final TokenID tokenId, final TokenID next) {
+        return TokenRelation.newBuilder()
+                .accountId(accountId)
+                .tokenId(tokenId)
+                .nextToken(next)
+                .build();
+    }
+}
@@ -16,20 +16,37 @@
 
 package com.hedera.node.app.service.token.impl.test.handlers;
 
+import static com.hedera.hapi.node.base.ResponseCodeEnum.ACCOUNT_DELETED;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_QUERY_RANGE;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.NOT_SUPPORTED;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
 import static com.hedera.node.app.spi.fixtures.workflows.ExceptionConditions.responseCode;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
 
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.NftID;
 import com.hedera.hapi.node.base.QueryHeader;
 import com.hedera.hapi.node.base.ResponseHeader;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.state.token.Nft;
 import com.hedera.hapi.node.token.TokenGetAccountNftInfosQuery;
 import com.hedera.hapi.node.token.TokenGetAccountNftInfosResponse;
+import com.hedera.hapi.node.token.TokenNftInfo;
 import com.hedera.hapi.node.transaction.Query;
 import com.hedera.hapi.node.transaction.Response;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.service.token.ReadableNftStore;
 import com.hedera.node.app.service.token.impl.handlers.TokenGetAccountNftInfosHandler;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.QueryContext;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,14 +55,37 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class TokenGetAccountNftInfosHandlerTest {
-    @Mock
+    private static final AccountID OWNER = AccountID.newBuilder().accountNum(1001L).build();
+    private static final TokenID TOKEN = TokenID.newBuilder().tokenNum(2002L).build();
+    private static final NftID FIRST = NftID.newBuilder().tokenId(TOKEN).serialNumber(3L).build();
+    private static final NftID SECOND = NftID.newBuilder().tokenId(TOKEN).serialNumber(1L).build();
+    private static final NftID THIRD = NftID.newBuilder().tokenId(TOKEN).serialNumber(2L).build();
+
+    @Mock(strictness = LENIENT)
     private QueryContext context;
 
+    @Mock(strictness = LENIENT)
+    private ReadableAccountStore accountStore;
+
+    @Mock(strictness = LENIENT)
+    private ReadableNftStore nftStore;
+
     private TokenGetAccountNftInfosHandler subject;
 
     @BeforeEach
     void setUp() {
         subject = new TokenGetAccountNftInfosHandler();
+        given(context.createStore(ReadableAccountStore.class)).willReturn(accountStore);
+        given(context.createStore(ReadableNftStore.class)).willReturn(nftStore);
+        given(accountStore.getAccountById(OWNER))
+                .willReturn(Account.newBuilder()
+                        .accountId(OWNER)
+                        .numberOwnedNfts(3)
+                        .headNftId(FIRST)
+                        .build());
+        given(nftStore.get(FIRST)).willReturn(nft(FIRST, null, SECOND));
+        given(nftStore.get(SECOND)).willReturn(nft(SECOND, FIRST, THIRD));
+        given(nftStore.get(THIRD)).willReturn(nft(THIRD, SECOND, null));
     }
 
     @Test
@@ -72,15 +112,99 @@ class TokenGetAccountNftInfosHandlerTest {
 
     @Test
     void validateThrowsPreCheck() {
+        givenQuery(0, 1, false);
         assertThatThrownBy(() -> subject.validate(context))
                 .isInstanceOf(PreCheckException.class)
                 .has(responseCode(NOT_SUPPORTED));
     }
 
     @Test
-    void findResponseThrowsUnsupported() {
-        final var responseHeader = ResponseHeader.newBuilder().build();
-        assertThatThrownBy(() -> subject.findResponse(context, responseHeader))
-                .isInstanceOf(UnsupportedOperationException.class);
+    void validatesRangeWhenEnabled() {
+        givenQuery(0, 3, true);
+        assertThatCode(() -> subject.validate(context)).doesNotThrowAnyException();
+
+        givenQuery(2, 2, true);
+        assertThatThrownBy(() -> subject.validate(context)).has(responseCode(INVALID_QUERY_RANGE));
+
+        givenQuery(1, 4, true);
+        assertThatThrownBy(() -> subject.validate(context)).has(responseCode(INVALID_QUERY_RANGE));
+    }
+
+    @Test
+    void validateRejectsDeletedAccount() {
+        givenQuery(0, 1, true);
+        given(accountStore.getAccountById(OWNER))
+                .willReturn(Account.newBuilder().accountId(OWNER).deleted(true).build());
+        assertThatThrownBy(() -> subject.validate(context)).has(responseCode(ACCOUNT_DELETED));
+    }
+
+    @Test
+    void findsNftsInRangeByFollowingOwnerList() {
+        givenQuery(1, 3, true);
+        final var header =
+                ResponseHeader.newBuilder().nodeTransactionPrecheckCode(OK).build();
+
+        final var response = subject.findResponse(context, header);
+
+        final List<TokenNftInfo> nfts =
+                response.tokenGetAccountNftInfosOrThrow().nfts();
+        assertThat(nfts).extracting(TokenNftInfo::nftID).containsExactly(SECOND, THIRD);
+        assertThat(nfts).extracting(TokenNftInfo::accountID).containsOnly(OWNER);
+    }
+
+    @Test
+    void rejectsRangePastEndOfOwnerList() {
+        givenQuery(1, 3, true);
+        given(accountStore.getAccountById(OWNER))
+                .willReturn(Account.newBuilder()
+                        .accountId(OWNER)
+                        .numberOwnedNfts(5)
+                        .headNftId(SECOND)
+                        .build());
+        final var header =
+                ResponseHeader.newBuilder().nodeTransactionPrecheckCode(OK).build();
+
+        final var response = subject.findResponse(context, header);
+
+        final var answer = response.tokenGetAccountNftInfosOrThrow();
+        assertThat(answer.headerOrThrow().nodeTransactionPrecheckCode()).isEqualTo(INVALID_QUERY_RANGE);
+        assertThat(answer.nfts()).isEmpty();
+    }
+
+    @Test
+    void validateRejectsRangeDeeperThanMaxDepth() {
+        givenQuery(0, 101, true);
+        given(accountStore.getAccountById(OWNER))
+                .willReturn(Account.newBuilder()
+                        .accountId(OWNER)
+                        .numberOwnedNfts(1000)
+                        .headNftId(FIRST)
+                        .build());
+        assertThatThrownBy(() -> subject.validate(context)).has(responseCode(INVALID_QUERY_RANGE));
+    }
+
+    private void givenQuery(final long start, final long end, final boolean enabled) {
+        final var op = TokenGetAccountNftInfosQuery.newBuilder()
+                .header(QueryHeader.DEFAULT)
+                .accountID(OWNER)
+                .start(start)
+                .end(end)
+                .build();
+        given(context.query())
+                .willReturn(Query.newBuilder().tokenGetAccountNftInfos(op).build());
+        given(context.configuration())
+                .willReturn(HederaTestConfigBuilder.create()
+                        .withValue("tokens.nfts.accountNftInfosQuery.enabled", enabled)
+                        .getOrCreateConfig());
+    }
+
+    private static Nft nft(final NftID id, final NftID previous, final NftID next) {
+        return Nft.newBuilder()
+                .nftId(id)
+                .ownerId(OWNER)
+                .metadata(Bytes.wrap("NFT " + id.serialNumber()))
+                .ownerPreviousNftId(previous)
+                .ownerNextNftId(next)
+                .build();
     }
 }
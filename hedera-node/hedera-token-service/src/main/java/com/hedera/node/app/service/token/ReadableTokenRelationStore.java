@@ -18,9 +18,12 @@ package com.hedera.node.app.service.token;
 
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.state.token.TokenRelation;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Provides read-only methods for getting underlying data for working with TokenRelations.
@@ -54,4 +57,32 @@ public interface ReadableTokenRelationStore {
      * @param tokenId the token id
      */
     default void warm(@NonNull final AccountID accountID, @NonNull final TokenID tokenId) {}
+
+    /**
+     * Returns the first token relations of the given account, following its list of token relations from
+     * {@link Account#headTokenId()} through {@link TokenRelation#nextToken()}. The traversal stops after the given
+     * number of relations, at the end of the list, or at the first relation missing from the state.
+     *
+     * <p>The default implementation reads one relation after the other. Implementations over immutable states may
+     * return previously assembled lists.
+     *
+     * @param account the account whose token relations to return
+     * @param limit the maximum number of token relations to return
+     * @return the token relations of the account, in list order
+     */
+    @NonNull
+    default List<TokenRelation> getRelationsOf(@NonNull final Account account, final long limit) {
+        final var relations = new ArrayList<TokenRelation>();
+        final var accountId = account.accountIdOrElse(AccountID.DEFAULT);
+        var tokenId = account.headTokenId();
+        while (tokenId != null && !tokenId.equals(TokenID.DEFAULT) && relations.size() < limit) {
+            final var tokenRelation = get(accountId, tokenId);
+            if (tokenRelation == null) {
+                break;
+            }
+            relations.add(tokenRelation);
+            tokenId = tokenRelation.nextToken();
+        }
+        return relations;
+    }
 }
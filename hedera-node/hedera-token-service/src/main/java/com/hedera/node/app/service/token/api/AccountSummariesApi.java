@@ -100,24 +100,12 @@ public interface AccountSummariesApi {
         requireNonNull(readableTokenStore);
 
         final var ret = new ArrayList<TokenRelationship>();
-        var tokenId = account.headTokenId();
-        int count = 0;
-        TokenRelation tokenRelation;
-        Token token; // token from readableToken store by tokenID
-        AccountID accountID; // build from accountNumber
-        while (tokenId != null && !tokenId.equals(TokenID.DEFAULT) && count < limit) {
-            accountID = account.accountId();
-            tokenRelation = tokenRelationStore.get(accountID, tokenId);
-            if (tokenRelation != null) {
-                token = readableTokenStore.get(tokenId);
-                if (token != null) {
-                    addTokenRelation(ret, token, tokenRelation, tokenId);
-                }
-                tokenId = tokenRelation.nextToken();
-            } else {
-                break;
+        for (final var tokenRelation : tokenRelationStore.getRelationsOf(account, limit)) {
+            final var tokenId = tokenRelation.tokenIdOrThrow();
+            final var token = readableTokenStore.get(tokenId);
+            if (token != null) {
+                addTokenRelation(ret, token, tokenRelation, tokenId);
             }
-            count++;
         }
         return ret;
     }
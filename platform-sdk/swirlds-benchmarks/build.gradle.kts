@@ -74,3 +74,32 @@ tasks.register<JMHTask>("jmhReconnect") {
     benchmarkParameters.put("teacherRemoveProbability", listProperty("0.01"))
     benchmarkParameters.put("teacherModifyProbability", listProperty("0.01"))
 }
+
+// Compares the pull reconnect with responses loaded on the receiving thread vs. on load lanes
+tasks.register<JMHTask>("jmhReconnectPullLanes") {
+    includes.set(listOf("Reconnect.*"))
+    jvmArgs.set(
+        listOf(
+            "-Xmx16g",
+            "-Xms16g",
+            "-XX:+UnlockExperimentalVMOptions",
+            "-XX:+UseZGC",
+            "-XX:MaxDirectMemorySize=48g"
+        )
+    )
+
+    resultsFile.convention(layout.buildDirectory.file("results/jmh/results-reconnect-pull-lanes.txt"))
+
+    benchmarkParameters.put("numRecords", listProperty("1000"))
+    benchmarkParameters.put("numFiles", listProperty("100"))
+    benchmarkParameters.put("delayStorageMicroseconds", listProperty("100"))
+    benchmarkParameters.put("delayNetworkMicroseconds", listProperty("50"))
+    benchmarkParameters.put("teacherAddProbability", listProperty("0.01"))
+    benchmarkParameters.put("teacherRemoveProbability", listProperty("0.01"))
+    benchmarkParameters.put("teacherModifyProbability", listProperty("0.01"))
+    benchmarkParameters.put("reconnectMode", listProperty("pullTopToBottom"))
+    benchmarkParameters.put(
+        "pullTeacherLoadLanes",
+        objects.listProperty<String>().value(listOf("1", "2", "4", "8"))
+    )
+}
@@ -75,6 +75,13 @@ public abstract class BaseBench {
 
     abstract String benchmarkName();
 
+    /**
+     * Adds benchmark specific settings on top of the settings file, e.g. from benchmark parameters.
+     *
+     * @param configurationBuilder the builder of the benchmark configuration
+     */
+    void configure(final ConfigurationBuilder configurationBuilder) {}
+
     private static final int SKEW = 2;
     private static final int RECORD_SIZE_MIN = 8;
 
@@ -87,7 +94,7 @@ public abstract class BaseBench {
 
     protected static Configuration configuration;
 
-    private static void loadConfig() throws IOException {
+    private void loadConfig() throws IOException {
         ConfigurationBuilder configurationBuilder = ConfigurationBuilder.create()
                 .autoDiscoverExtensions()
                 .withSource(new LegacyFileConfigSource(Path.of(".", "settings.txt")))
@@ -96,6 +103,7 @@ public abstract class BaseBench {
                 .withConfigDataType(MerkleDbConfig.class)
                 .withConfigDataType(MetricsConfig.class)
                 .withConfigDataType(CryptoConfig.class);
+        configure(configurationBuilder);
         configuration = configurationBuilder.build();
         ConfigurationHolder.getInstance().setConfiguration(configuration);
 
@@ -20,9 +20,12 @@ import com.swirlds.benchmark.reconnect.MerkleBenchmarkUtils;
 import com.swirlds.benchmark.reconnect.StateBuilder;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.config.api.ConfigurationBuilder;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualMap;
 import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
 import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
 import java.util.ArrayList;
 import java.util.List;
@@ -97,6 +100,17 @@ public class ReconnectBench extends VirtualMapBaseBench {
     @Param({"0.15"})
     public double delayNetworkFuzzRangePercent;
 
+    /** The virtual map reconnect mode, see {@link VirtualMapReconnectMode}. */
+    @Param({VirtualMapReconnectMode.PUSH})
+    public String reconnectMode;
+
+    /**
+     * The number of teacher load lanes in pull reconnect modes, see
+     * {@link ReconnectConfig#pullTeacherLoadLanes()}. Ignored in the push mode.
+     */
+    @Param({"1"})
+    public int pullTeacherLoadLanes;
+
     private List<VirtualMap<BenchmarkKey, BenchmarkValue>> teacherMaps;
     private List<VirtualMap<BenchmarkKey, BenchmarkValue>> learnerMaps;
 
@@ -111,6 +125,13 @@ public class ReconnectBench extends VirtualMapBaseBench {
         return "ReconnectBench";
     }
 
+    @Override
+    void configure(final ConfigurationBuilder configurationBuilder) {
+        configurationBuilder
+                .withValue("virtualMap.reconnectMode", reconnectMode)
+                .withValue("reconnect.pullTeacherLoadLanes", Integer.toString(pullTeacherLoadLanes));
+    }
+
     /**
      * Builds a VirtualMap populator that is able to add/update, as well as remove nodes (when the value is null.)
      * Note that it doesn't support explicitly adding null values under a key.
@@ -44,8 +44,9 @@ public class BenchmarkSlowAsyncOutputStream<T extends SelfSerializable> extends
             final double delayStorageFuzzRangePercent,
             final long delayNetworkMicroseconds,
             final double delayNetworkFuzzRangePercent,
-            final ReconnectConfig reconnectConfig) {
-        super(out, workGroup, reconnectConfig);
+            final ReconnectConfig reconnectConfig,
+            final boolean compressed) {
+        super(out, workGroup, reconnectConfig, compressed);
 
         // Note that we use randomSeed and -randomSeed for the two fuzzers
         // to ensure that they don't end up returning the exact same
@@ -80,6 +80,7 @@ public class BenchmarkSlowLearningSynchronizer extends LearningSynchronizer {
                 delayStorageFuzzRangePercent,
                 delayNetworkMicroseconds,
                 delayNetworkFuzzRangePercent,
-                reconnectConfig);
+                reconnectConfig,
+                isAsyncStreamCompression());
     }
 }
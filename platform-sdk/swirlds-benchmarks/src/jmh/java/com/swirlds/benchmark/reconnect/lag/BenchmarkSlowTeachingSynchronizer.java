@@ -88,6 +88,7 @@ public class BenchmarkSlowTeachingSynchronizer extends TeachingSynchronizer {
                 delayStorageFuzzRangePercent,
                 delayNetworkMicroseconds,
                 delayNetworkFuzzRangePercent,
-                reconnectConfig);
+                reconnectConfig,
+                isAsyncStreamCompression());
     }
 }
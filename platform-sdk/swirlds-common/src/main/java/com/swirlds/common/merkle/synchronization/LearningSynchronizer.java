@@ -30,6 +30,7 @@ import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapMetrics;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.CompressionHandshake;
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.merkle.synchronization.views.CustomReconnectRoot;
@@ -41,8 +42,11 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.logging.legacy.payload.SynchronizationCompletePayload;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ExecutionException;
@@ -96,6 +100,22 @@ public class LearningSynchronizer implements ReconnectNodeCount {
 
     private final ReconnectMapStats mapStats;
 
+    /**
+     * Whether async streams are compressed, as agreed on with the teacher at the start of the synchronization.
+     */
+    private boolean asyncStreamCompression;
+
+    /**
+     * Progress of failed reconnect attempts to reuse, or null if progress is not retained.
+     */
+    private final ReconnectProgress reconnectProgress;
+
+    /**
+     * Roots of the subtrees with custom views received so far whose views completed. Retained in
+     * {@link #reconnectProgress} if the synchronization fails.
+     */
+    private final List<MerkleNode> receivedCustomRoots = new ArrayList<>();
+
     /**
      * Create a new learning synchronizer.
      *
@@ -117,6 +137,30 @@ public class LearningSynchronizer implements ReconnectNodeCount {
             @NonNull final Runnable breakConnection,
             @NonNull final ReconnectConfig reconnectConfig,
             @NonNull final Metrics metrics) {
+        this(threadManager, in, out, root, breakConnection, reconnectConfig, metrics, null);
+    }
+
+    /**
+     * Create a new learning synchronizer, which reuses and updates the progress of failed reconnect attempts.
+     *
+     * @param threadManager     responsible for managing thread lifecycles
+     * @param in                the input stream
+     * @param out               the output stream
+     * @param root              the root of the tree
+     * @param breakConnection   a method that breaks the connection. Used iff an exception is encountered.
+     * @param reconnectConfig   the configuration for the reconnect
+     * @param metrics           a Metrics instance for ReconnectMapStats
+     * @param reconnectProgress the progress of previous failed attempts, or null to not retain any progress
+     */
+    public LearningSynchronizer(
+            @NonNull final ThreadManager threadManager,
+            @NonNull final MerkleDataInputStream in,
+            @NonNull final MerkleDataOutputStream out,
+            @NonNull final MerkleNode root,
+            @NonNull final Runnable breakConnection,
+            @NonNull final ReconnectConfig reconnectConfig,
+            @NonNull final Metrics metrics,
+            @Nullable final ReconnectProgress reconnectProgress) {
 
         this.threadManager = Objects.requireNonNull(threadManager, "threadManager is null");
 
@@ -131,6 +175,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
         this.breakConnection = breakConnection;
 
         this.mapStats = new ReconnectMapMetrics(metrics, null, null);
+        this.reconnectProgress = reconnectProgress;
     }
 
     /**
@@ -138,6 +183,9 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     public void synchronize() throws InterruptedException {
         try {
+            asyncStreamCompression =
+                    CompressionHandshake.asLearner(inputStream, outputStream, reconnectConfig.asyncStreamCompression());
+            logger.info(RECONNECT.getMarker(), "async stream compression: {}", asyncStreamCompression);
             logger.info(RECONNECT.getMarker(), "learner calls receiveTree()");
             receiveTree();
             logger.info(RECONNECT.getMarker(), "learner calls initialize()");
@@ -146,6 +194,10 @@ public class LearningSynchronizer implements ReconnectNodeCount {
             hash();
             logger.info(RECONNECT.getMarker(), "learner calls logStatistics()");
             logStatistics();
+            if (reconnectProgress != null) {
+                // Everything retained has been copied into the new tree by now
+                reconnectProgress.clear();
+            }
             logger.info(RECONNECT.getMarker(), "learner is done synchronizing");
         } catch (final InterruptedException ex) {
             logger.warn(RECONNECT.getMarker(), "synchronization interrupted");
@@ -162,6 +214,15 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      * Attempt to free any and all resources that were acquired during the reconnect attempt.
      */
     private void abort() {
+        if (reconnectProgress != null) {
+            for (final MerkleNode customRoot : receivedCustomRoots) {
+                reconnectProgress.retain(customRoot);
+            }
+            logger.info(
+                    RECONNECT.getMarker(),
+                    "Retained {} completely received subtree(s) for the next reconnect attempt",
+                    receivedCustomRoots.size());
+        }
         logger.warn(
                 RECONNECT.getMarker(),
                 "Deleting partially constructed tree:\n{}",
@@ -336,7 +397,12 @@ public class LearningSynchronizer implements ReconnectNodeCount {
 
         viewsToInitialize.addFirst(view);
 
-        return view.getMerkleRoot(reconstructedRoot.get());
+        final MerkleNode receivedRoot = view.getMerkleRoot(reconstructedRoot.get());
+        if (root != null && root.hasCustomReconnectView() && receivedRoot != null && view.isReconnectComplete()) {
+            // Only a subtree the view finished building may be reused, never a partially received one
+            receivedCustomRoots.add(receivedRoot);
+        }
+        return receivedRoot;
     }
 
     protected StandardWorkGroup createStandardWorkGroup(
@@ -346,12 +412,31 @@ public class LearningSynchronizer implements ReconnectNodeCount {
         return new StandardWorkGroup(threadManager, WORK_GROUP_NAME, breakConnection, reconnectExceptionListener);
     }
 
+    /**
+     * Get the progress of failed reconnect attempts to reuse.
+     *
+     * @return the reconnect progress, or null if progress is not retained
+     */
+    @Nullable
+    public ReconnectProgress getReconnectProgress() {
+        return reconnectProgress;
+    }
+
     /**
      * Build the output stream. Exposed to allow unit tests to override implementation to simulate latency.
      */
     public <T extends SelfSerializable> AsyncOutputStream<T> buildOutputStream(
             final StandardWorkGroup workGroup, final SerializableDataOutputStream out) {
-        return new AsyncOutputStream<>(out, workGroup, reconnectConfig);
+        return new AsyncOutputStream<>(out, workGroup, reconnectConfig, asyncStreamCompression);
+    }
+
+    /**
+     * Check if async streams are compressed. Only valid once the synchronization has started.
+     *
+     * @return true if the teacher and the learner agreed on compressing async streams
+     */
+    public boolean isAsyncStreamCompression() {
+        return asyncStreamCompression;
     }
 
     /**
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization;
+
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.route.MerkleRoute;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Progress a learner made in reconnect attempts that failed, to be reused by the next attempt.
+ *
+ * <p>When a reconnect attempt fails, the roots of all subtrees with custom views (e.g. virtual maps) whose views
+ * {@link com.swirlds.common.merkle.synchronization.views.LearnerTreeView#isReconnectComplete() completed} in that
+ * attempt are retained here, by their route. A subtree that was only partially received is never retained. When the
+ * next attempt encounters a subtree with a custom view at the same route, the retained subtree is used as the learner's
+ * original subtree instead of the one in the learner's state. Since the retained subtree is a recent copy of the teacher's, only nodes that changed
+ * since then have to be transferred again, even if the next attempt is made with a different teacher. A retained
+ * subtree is only ever compared against by hash, so it can't introduce incorrect data into the reconstructed tree.
+ *
+ * <p>Retained subtrees are reserved by this object, and released when they are replaced or {@link #clear() cleared},
+ * which happens when a reconnect attempt succeeds or the node stops gossiping. The progress is only kept in memory, it
+ * doesn't survive a restart of the node.
+ */
+public class ReconnectProgress {
+
+    private final Map<MerkleRoute, MerkleNode> retainedSubtrees = new HashMap<>();
+
+    /**
+     * Retain the root of a subtree that was completely received in a failed reconnect attempt. The root is reserved
+     * until it is replaced by another subtree at the same route, or until the progress is cleared.
+     *
+     * @param root the root of the received subtree
+     */
+    public synchronized void retain(@NonNull final MerkleNode root) {
+        Objects.requireNonNull(root, "root must not be null");
+        root.reserve();
+        final MerkleNode previous = retainedSubtrees.put(root.getRoute(), root);
+        if (previous != null) {
+            previous.release();
+        }
+    }
+
+    /**
+     * Get the subtree retained for the given route.
+     *
+     * @param route the route of a subtree root
+     * @return the retained subtree root, or null if no subtree is retained for the route
+     */
+    @Nullable
+    public synchronized MerkleNode getRetained(@NonNull final MerkleRoute route) {
+        return retainedSubtrees.get(Objects.requireNonNull(route, "route must not be null"));
+    }
+
+    /**
+     * Get the number of retained subtrees.
+     *
+     * @return the number of retained subtrees
+     */
+    public synchronized int size() {
+        return retainedSubtrees.size();
+    }
+
+    /**
+     * Release all retained subtrees. Called once a reconnect attempt succeeded, or on shutdown.
+     */
+    public synchronized void clear() {
+        retainedSubtrees.values().forEach(MerkleNode::release);
+        retainedSubtrees.clear();
+    }
+}
@@ -26,6 +26,7 @@ import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.CompressionHandshake;
 import com.swirlds.common.merkle.synchronization.task.TeacherSubtree;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.merkle.synchronization.views.TeacherTreeView;
@@ -34,6 +35,7 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
 import java.net.SocketException;
 import java.util.LinkedList;
 import java.util.Objects;
@@ -86,6 +88,11 @@ public class TeachingSynchronizer {
 
     private final Time time;
 
+    /**
+     * Whether async streams are compressed, as agreed on with the learner at the start of the synchronization.
+     */
+    private boolean asyncStreamCompression;
+
     /**
      * Create a new teaching synchronizer.
      *
@@ -126,6 +133,7 @@ public class TeachingSynchronizer {
      */
     public void synchronize() throws InterruptedException {
         try {
+            negotiateCompression();
             while (!subtrees.isEmpty()) {
                 try (final TeacherSubtree subtree = subtrees.remove()) {
                     subtree.getView().waitUntilReady();
@@ -140,6 +148,20 @@ public class TeachingSynchronizer {
         }
     }
 
+    /**
+     * Confirm with the learner that async streams are compressed, if compression is enabled. Nothing is exchanged
+     * if it is disabled.
+     */
+    private void negotiateCompression() {
+        try {
+            asyncStreamCompression = CompressionHandshake.asTeacher(
+                    inputStream, outputStream, reconnectConfig.asyncStreamCompression());
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Unable to agree on async stream compression", e);
+        }
+        logger.info(RECONNECT.getMarker(), "async stream compression: {}", asyncStreamCompression);
+    }
+
     /**
      * Send a tree (or subtree).
      */
@@ -200,6 +222,15 @@ public class TeachingSynchronizer {
      */
     public <T extends SelfSerializable> AsyncOutputStream<T> buildOutputStream(
             final StandardWorkGroup workGroup, final SerializableDataOutputStream out) {
-        return new AsyncOutputStream<>(out, workGroup, reconnectConfig);
+        return new AsyncOutputStream<>(out, workGroup, reconnectConfig, asyncStreamCompression);
+    }
+
+    /**
+     * Check if async streams are compressed. Only valid once the synchronization has started.
+     *
+     * @return true if the teacher and the learner agreed on compressing async streams
+     */
+    public boolean isAsyncStreamCompression() {
+        return asyncStreamCompression;
     }
 }
@@ -56,6 +56,18 @@ import java.time.Duration;
  * @param pullLearnerRootResponseTimeout         In pull-based reconnect implementations (virtual trees only), the
  *                                               timeout on the learner side to get a virtual root node response from
  *                                               teacher
+ * @param pullTeacherLoadLanes                   In pull-based reconnect implementations (virtual trees only), the
+ *                                               number of lanes loading node hashes and leaf records concurrently on
+ *                                               the teacher side. Responses are still sent in request order. If 1,
+ *                                               nodes are loaded on the thread receiving the learner requests
+ * @param asyncStreamCompression                 If true, messages sent through async output streams are written in
+ *                                               compressed batches rather than one by one. It must be enabled on all
+ *                                               nodes: if it is, the teacher and the learner confirm it at the start
+ *                                               of a reconnect, and a reconnect with a node that has it disabled
+ *                                               fails. If false, the wire format is unchanged
+ * @param resumeFromFailedAttempts               If true, a learner keeps the subtrees with custom views (e.g. virtual
+ *                                               maps) it completely received in a failed reconnect attempt, and uses
+ *                                               them as the starting point for these subtrees in the next attempt
  */
 @ConfigData("reconnect")
 public record ReconnectConfig(
@@ -70,4 +82,7 @@ public record ReconnectConfig(
         @ConfigProperty(defaultValue = "10m") Duration minimumTimeBetweenReconnects,
         @ConfigProperty(defaultValue = "0") int teacherMaxNodesPerSecond,
         @ConfigProperty(defaultValue = "1us") Duration teacherRateLimiterSleep,
-        @ConfigProperty(defaultValue = "60s") Duration pullLearnerRootResponseTimeout) {}
+        @ConfigProperty(defaultValue = "60s") Duration pullLearnerRootResponseTimeout,
+        @ConfigProperty(defaultValue = "1") int pullTeacherLoadLanes,
+        @ConfigProperty(defaultValue = "false") boolean asyncStreamCompression,
+        @ConfigProperty(defaultValue = "false") boolean resumeFromFailedAttempts) {}
@@ -60,6 +60,16 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
 
     private final SerializableDataInputStream inputStream;
 
+    /**
+     * The stream of the connection. Same as {@link #inputStream} if messages are not compressed.
+     */
+    private final SerializableDataInputStream baseStream;
+
+    /**
+     * The stream decompressing messages, or null if messages are not compressed.
+     */
+    private final CompressedBatchInputStream compressedStream;
+
     private final AtomicLong anticipatedMessages;
     private final BlockingQueue<SelfSerializable> receivedMessages;
 
@@ -93,9 +103,31 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
             @NonNull final StandardWorkGroup workGroup,
             @NonNull final Supplier<T> messageFactory,
             @NonNull final ReconnectConfig config) {
+        this(inputStream, workGroup, messageFactory, config, false);
+    }
+
+    /**
+     * Create a new async input stream, optionally reading messages written in compressed batches by an
+     * {@link AsyncOutputStream}. The decompressor is released when the thread reading from the stream finishes.
+     *
+     * @param inputStream    the base stream to read from
+     * @param workGroup      the work group that is managing this stream's thread
+     * @param messageFactory this function constructs new message objects. These messages objects are then used to read
+     *                       data via {@link SelfSerializable#deserialize(SerializableDataInputStream, int)}.
+     * @param config         the configuration to use
+     * @param compressed     true if messages are read from compressed batches, as agreed on with the peer
+     */
+    public AsyncInputStream(
+            @NonNull final SerializableDataInputStream inputStream,
+            @NonNull final StandardWorkGroup workGroup,
+            @NonNull final Supplier<T> messageFactory,
+            @NonNull final ReconnectConfig config,
+            final boolean compressed) {
         Objects.requireNonNull(config, "config must not be null");
 
-        this.inputStream = Objects.requireNonNull(inputStream, "inputStream must not be null");
+        this.baseStream = Objects.requireNonNull(inputStream, "inputStream must not be null");
+        this.compressedStream = compressed ? new CompressedBatchInputStream(inputStream) : null;
+        this.inputStream = compressed ? new SerializableDataInputStream(compressedStream) : inputStream;
         this.workGroup = Objects.requireNonNull(workGroup, "workGroup must not be null");
         this.messageFactory = Objects.requireNonNull(messageFactory, "messageFactory must not be null");
         this.pollTimeout = config.asyncStreamTimeout();
@@ -167,6 +199,9 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
             logger.warn(RECONNECT.getMarker(), this.toString() + " interrupted");
             Thread.currentThread().interrupt();
         } finally {
+            if (compressedStream != null) {
+                compressedStream.close();
+            }
             finishedLatch.countDown();
         }
         logger.info(RECONNECT.getMarker(), this.toString() + " finish run()");
@@ -227,7 +262,7 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
             try {
                 // An interrupt may not stop the thread if the thread is blocked on a stream read operation.
                 // The only way to ensure that the stream is closed is to close the stream.
-                inputStream.close();
+                baseStream.close();
             } catch (IOException e) {
                 throw new MerkleSynchronizationException("Unable to close stream", e);
             }
@@ -49,6 +49,12 @@ import org.apache.logging.log4j.Logger;
  * This object is not thread safe. Only one thread should attempt to send data over this stream at any point in time.
  * </p>
  *
+ * <p>
+ * If the stream is created as compressed, messages are written in compressed batches, one batch per flush, using a
+ * {@link CompressedBatchOutputStream}. Whether streams are compressed is confirmed with the peer through the
+ * {@link CompressionHandshake}. The compressor is released when the thread writing to the stream finishes.
+ * </p>
+ *
  * @param <T> the type of the message to send
  */
 public class AsyncOutputStream<T extends SelfSerializable> implements AutoCloseable {
@@ -60,6 +66,16 @@ public class AsyncOutputStream<T extends SelfSerializable> implements AutoClosea
      */
     private final SerializableDataOutputStream outputStream;
 
+    /**
+     * The stream of the connection. Same as {@link #outputStream} if messages are not compressed.
+     */
+    private final SerializableDataOutputStream baseStream;
+
+    /**
+     * The stream compressing messages, or null if messages are not compressed.
+     */
+    private final CompressedBatchOutputStream compressedStream;
+
     /**
      * A queue of messages that need to be written to the output stream.
      */
@@ -104,9 +120,28 @@ public class AsyncOutputStream<T extends SelfSerializable> implements AutoClosea
             @NonNull final SerializableDataOutputStream outputStream,
             @NonNull final StandardWorkGroup workGroup,
             @NonNull final ReconnectConfig config) {
+        this(outputStream, workGroup, config, false);
+    }
+
+    /**
+     * Constructs a new instance using the given underlying {@link SerializableDataOutputStream} and
+     * {@link StandardWorkGroup}, optionally writing messages in compressed batches.
+     *
+     * @param outputStream the outputStream to which all objects are written
+     * @param workGroup    the work group that should be used to execute this thread
+     * @param config       the reconnect configuration
+     * @param compressed   true if messages are written in compressed batches, which the peer must have agreed to
+     */
+    public AsyncOutputStream(
+            @NonNull final SerializableDataOutputStream outputStream,
+            @NonNull final StandardWorkGroup workGroup,
+            @NonNull final ReconnectConfig config,
+            final boolean compressed) {
         Objects.requireNonNull(config, "config must not be null");
 
-        this.outputStream = Objects.requireNonNull(outputStream, "outputStream must not be null");
+        this.baseStream = Objects.requireNonNull(outputStream, "outputStream must not be null");
+        this.compressedStream = compressed ? new CompressedBatchOutputStream(outputStream) : null;
+        this.outputStream = compressed ? new SerializableDataOutputStream(compressedStream) : outputStream;
         this.workGroup = Objects.requireNonNull(workGroup, "workGroup must not be null");
         this.outgoingMessages = new LinkedBlockingQueue<>(config.asyncStreamBufferSize());
         this.alive = true;
@@ -144,25 +179,32 @@ public class AsyncOutputStream<T extends SelfSerializable> implements AutoClosea
     }
 
     public void run() {
-        while ((isAlive() || !outgoingMessages.isEmpty())
-                && !Thread.currentThread().isInterrupted()) {
-            flushIfRequired();
-            boolean workDone = handleNextMessage();
-            if (!workDone) {
-                workDone = flush();
+        try {
+            while ((isAlive() || !outgoingMessages.isEmpty())
+                    && !Thread.currentThread().isInterrupted()) {
+                flushIfRequired();
+                boolean workDone = handleNextMessage();
                 if (!workDone) {
-                    try {
-                        Thread.sleep(0, 1);
-                    } catch (final InterruptedException e) {
-                        logger.warn(RECONNECT.getMarker(), "AsyncOutputStream interrupted");
-                        alive = false;
-                        Thread.currentThread().interrupt();
-                        return;
+                    workDone = flush();
+                    if (!workDone) {
+                        try {
+                            Thread.sleep(0, 1);
+                        } catch (final InterruptedException e) {
+                            logger.warn(RECONNECT.getMarker(), "AsyncOutputStream interrupted");
+                            alive = false;
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
                     }
                 }
             }
+            flush();
+        } finally {
+            if (compressedStream != null) {
+                // Flushed above unless the stream failed, either way the compressor isn't needed anymore
+                compressedStream.end();
+            }
         }
-        flush();
     }
 
     /**
@@ -177,7 +219,7 @@ public class AsyncOutputStream<T extends SelfSerializable> implements AutoClosea
 
         if (!success) {
             try {
-                outputStream.close();
+                baseStream.close();
             } catch (final IOException e) {
                 throw new MerkleSynchronizationException("Unable to close stream", e);
             }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * <p>
+ * An input stream that reads frames written by {@link CompressedBatchOutputStream} from the underlying stream, and
+ * returns the decompressed bytes.
+ * </p>
+ *
+ * <p>
+ * A frame is only read from the underlying stream when the bytes of the previous frame are exhausted and more bytes
+ * are requested. A reader that stops after the last message written to a {@link CompressedBatchOutputStream} thus
+ * leaves the underlying stream positioned right after the last frame, which allows multiple async streams to be used
+ * one after another over the same connection.
+ * </p>
+ *
+ * <p>
+ * The inflater holds native memory, so the owner of the stream must {@link #close()} it once done with it. Closing
+ * doesn't close the underlying stream, which belongs to the connection. This object is not thread safe.
+ * </p>
+ */
+public class CompressedBatchInputStream extends InputStream {
+
+    private final DataInputStream in;
+
+    private final Inflater inflater = new Inflater(true);
+
+    private final byte[] batch = new byte[CompressedBatchOutputStream.MAX_BATCH_SIZE];
+
+    private int batchSize;
+
+    private int position;
+
+    private byte[] compressed = new byte[CompressedBatchOutputStream.MAX_BATCH_SIZE / 2];
+
+    private boolean closed;
+
+    /**
+     * Create a new compressed batch input stream.
+     *
+     * @param in the stream to read frames from
+     */
+    public CompressedBatchInputStream(@NonNull final InputStream in) {
+        this.in = new DataInputStream(Objects.requireNonNull(in, "in must not be null"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        if (position == batchSize && !readFrame()) {
+            return -1;
+        }
+        return batch[position++] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(@NonNull final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (position == batchSize && !readFrame()) {
+            return -1;
+        }
+        final int n = Math.min(len, batchSize - position);
+        System.arraycopy(batch, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() {
+        return batchSize - position;
+    }
+
+    /**
+     * Release the inflater. The underlying stream is left open. Nothing can be read from this stream afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        inflater.end();
+    }
+
+    /**
+     * Read and decompress the next frame.
+     *
+     * @return false if the underlying stream is at its end
+     */
+    private boolean readFrame() throws IOException {
+        if (closed) {
+            throw new IOException("Compressed batch stream has already been closed");
+        }
+        final int size;
+        try {
+            size = in.readInt();
+        } catch (final EOFException e) {
+            return false;
+        }
+        final int compressedSize = in.readInt();
+        if (size <= 0 || size > batch.length || compressedSize <= 0 || compressedSize > 2 * batch.length) {
+            throw new IOException(
+                    "Invalid compressed batch frame, size = " + size + ", compressed size = " + compressedSize);
+        }
+        if (compressedSize > compressed.length) {
+            compressed = new byte[compressedSize];
+        }
+        in.readFully(compressed, 0, compressedSize);
+
+        inflater.setInput(compressed, 0, compressedSize);
+        try {
+            int inflated = 0;
+            while (inflated < size) {
+                final int n = inflater.inflate(batch, inflated, size - inflated);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Compressed batch frame is shorter than its declared size " + size);
+                }
+                inflated += n;
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("Corrupt compressed batch frame", e);
+        } finally {
+            inflater.reset();
+        }
+        batchSize = size;
+        position = 0;
+        return true;
+    }
+}
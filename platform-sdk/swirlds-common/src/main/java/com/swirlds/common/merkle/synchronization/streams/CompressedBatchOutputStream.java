@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * <p>
+ * An output stream that collects written bytes into batches, and writes every batch to the underlying stream as a
+ * single compressed frame. A batch is framed when the stream is flushed, or when it reaches
+ * {@link #MAX_BATCH_SIZE} bytes. Every frame consists of the uncompressed batch size (int), the compressed size (int),
+ * and the batch compressed with {@link Deflater#BEST_SPEED}. Frames are read back by
+ * {@link CompressedBatchInputStream}.
+ * </p>
+ *
+ * <p>
+ * Batch and compression buffers are reused for all frames. The deflater holds native memory, so the owner of the
+ * stream must {@link #end()} or {@link #close()} it once done with it. Neither closes the underlying stream, which
+ * belongs to the connection. This object is not thread safe.
+ * </p>
+ */
+public class CompressedBatchOutputStream extends OutputStream {
+
+    /**
+     * The maximum number of uncompressed bytes in a single frame.
+     */
+    static final int MAX_BATCH_SIZE = 256 * 1024;
+
+    private final DataOutputStream out;
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+
+    private final byte[] batch = new byte[MAX_BATCH_SIZE];
+
+    private int batchSize;
+
+    private byte[] compressed = new byte[MAX_BATCH_SIZE / 2];
+
+    private boolean ended;
+
+    /**
+     * Create a new compressed batch output stream.
+     *
+     * @param out the stream to write frames to
+     */
+    public CompressedBatchOutputStream(@NonNull final OutputStream out) {
+        this.out = new DataOutputStream(Objects.requireNonNull(out, "out must not be null"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        batch[batchSize++] = (byte) b;
+        if (batchSize == MAX_BATCH_SIZE) {
+            writeFrame();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(@NonNull final byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            final int n = Math.min(len, MAX_BATCH_SIZE - batchSize);
+            System.arraycopy(b, off, batch, batchSize, n);
+            batchSize += n;
+            off += n;
+            len -= n;
+            if (batchSize == MAX_BATCH_SIZE) {
+                writeFrame();
+            }
+        }
+    }
+
+    /**
+     * Write the current batch, if any, as a frame, and flush the underlying stream.
+     */
+    @Override
+    public void flush() throws IOException {
+        writeFrame();
+        out.flush();
+    }
+
+    /**
+     * Write the current batch, if any, as a frame, flush, and release the deflater. The underlying stream is left
+     * open.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Release the deflater without writing the current batch. The underlying stream is left open. Nothing can be
+     * written to this stream afterwards.
+     */
+    public void end() {
+        ended = true;
+        deflater.end();
+    }
+
+    private void writeFrame() throws IOException {
+        if (batchSize == 0) {
+            return;
+        }
+        if (ended) {
+            throw new IOException("Compressed batch stream has already been ended");
+        }
+        deflater.setInput(batch, 0, batchSize);
+        deflater.finish();
+        int compressedSize = 0;
+        while (!deflater.finished()) {
+            if (compressedSize == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            compressedSize += deflater.deflate(compressed, compressedSize, compressed.length - compressedSize);
+        }
+        deflater.reset();
+
+        out.writeInt(batchSize);
+        out.writeInt(compressedSize);
+        out.write(compressed, 0, compressedSize);
+        batchSize = 0;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * The exchange at the start of a synchronization in which the teacher and the learner confirm that their async
+ * streams are compressed with {@link CompressedBatchOutputStream}. The handshake only takes place if
+ * {@link com.swirlds.common.merkle.synchronization.config.ReconnectConfig#asyncStreamCompression()
+ * asyncStreamCompression} is enabled; if it is disabled, nothing is sent or received, and the bytes on the wire are
+ * exactly those of a node that does not know about compression.
+ *
+ * <p>If it is enabled, each side sends {@link #MAGIC} and expects to receive it from its peer. The teacher sends
+ * first, the learner reads and then replies. A peer that has compression disabled does not send the magic value, so
+ * compression must be enabled on all nodes of a network. If it is only enabled on one side, the handshake fails on
+ * that side with an {@link IOException} rather than silently mixing compressed and uncompressed streams, and the
+ * reconnect attempt fails.
+ */
+public final class CompressionHandshake {
+
+    /**
+     * The value each side sends to confirm that its async streams are compressed.
+     */
+    static final long MAGIC = 0x6173796E635A4950L;
+
+    private CompressionHandshake() {}
+
+    /**
+     * Perform the handshake in the role of the teacher.
+     *
+     * @param in      the stream from the learner
+     * @param out     the stream to the learner
+     * @param enabled whether compression is enabled on this node
+     * @return true if async streams are compressed, i.e. if compression is enabled
+     * @throws IOException if the handshake could not be sent or received, or if the learner does not have
+     *                     compression enabled
+     */
+    public static boolean asTeacher(
+            @NonNull final SerializableDataInputStream in,
+            @NonNull final SerializableDataOutputStream out,
+            final boolean enabled)
+            throws IOException {
+        Objects.requireNonNull(in, "in must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+        if (!enabled) {
+            return false;
+        }
+        out.writeLong(MAGIC);
+        out.flush();
+        checkMagic(in.readLong(), "learner");
+        return true;
+    }
+
+    /**
+     * Perform the handshake in the role of the learner.
+     *
+     * @param in      the stream from the teacher
+     * @param out     the stream to the teacher
+     * @param enabled whether compression is enabled on this node
+     * @return true if async streams are compressed, i.e. if compression is enabled
+     * @throws IOException if the handshake could not be sent or received, or if the teacher does not have
+     *                     compression enabled
+     */
+    public static boolean asLearner(
+            @NonNull final SerializableDataInputStream in,
+            @NonNull final SerializableDataOutputStream out,
+            final boolean enabled)
+            throws IOException {
+        Objects.requireNonNull(in, "in must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+        if (!enabled) {
+            return false;
+        }
+        checkMagic(in.readLong(), "teacher");
+        out.writeLong(MAGIC);
+        out.flush();
+        return true;
+    }
+
+    private static void checkMagic(final long received, @NonNull final String peer) throws IOException {
+        if (received != MAGIC) {
+            throw new IOException("The " + peer + " does not have async stream compression enabled, "
+                    + "reconnect.asyncStreamCompression must be set on all nodes");
+        }
+    }
+}
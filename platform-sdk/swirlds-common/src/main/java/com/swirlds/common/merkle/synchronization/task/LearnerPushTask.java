@@ -23,6 +23,7 @@ import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
 import com.swirlds.common.constructable.ConstructableRegistry;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.ReconnectProgress;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import com.swirlds.common.merkle.synchronization.streams.AsyncInputStream;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
@@ -32,6 +33,7 @@ import com.swirlds.common.merkle.synchronization.views.LearnerTreeView;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.common.utility.ThresholdLimitingHandler;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicReference;
@@ -61,6 +63,8 @@ public class LearnerPushTask<T> {
 
     private final Queue<MerkleNode> rootsToReceive;
 
+    private final ReconnectProgress reconnectProgress;
+
     private final ThresholdLimitingHandler<Throwable> exceptionRateLimiter = new ThresholdLimitingHandler<>(1);
 
     /**
@@ -92,6 +96,42 @@ public class LearnerPushTask<T> {
             final LearnerTreeView<T> view,
             final ReconnectNodeCount nodeCount,
             @NonNull final ReconnectMapStats mapStats) {
+        this(workGroup, in, out, rootsToReceive, root, view, nodeCount, mapStats, null);
+    }
+
+    /**
+     * Create a new thread for the learner, which uses subtrees retained from failed reconnect attempts as
+     * the original roots of subtrees with custom views.
+     *
+     * @param workGroup
+     * 		the work group that will manage the thread
+     * @param in
+     * 		the input stream, this object is responsible for closing the stream when finished
+     * @param out
+     * 		the output stream, this object is responsible for closing the stream when finished
+     * @param rootsToReceive
+     * 		a queue of subtree roots to synchronize
+     * @param root
+     * 		a reference which will eventually hold the root of this subtree
+     * @param view
+     * 		a view used to interface with the subtree
+     * @param nodeCount
+     * 		an object used to keep track of the number of nodes sent during the reconnect
+     * @param mapStats
+     *      a ReconnectMapStats object to collect reconnect metrics
+     * @param reconnectProgress
+     * 		the progress of failed reconnect attempts, or null if no progress is retained
+     */
+    public LearnerPushTask(
+            final StandardWorkGroup workGroup,
+            final AsyncInputStream<Lesson<T>> in,
+            final AsyncOutputStream<QueryResponse> out,
+            final Queue<MerkleNode> rootsToReceive,
+            final AtomicReference<T> root,
+            final LearnerTreeView<T> view,
+            final ReconnectNodeCount nodeCount,
+            @NonNull final ReconnectMapStats mapStats,
+            @Nullable final ReconnectProgress reconnectProgress) {
         this.workGroup = workGroup;
         this.in = in;
         this.out = out;
@@ -100,6 +140,7 @@ public class LearnerPushTask<T> {
         this.view = view;
         this.nodeCount = nodeCount;
         this.mapStats = mapStats;
+        this.reconnectProgress = reconnectProgress;
     }
 
     public void start() {
@@ -118,6 +159,18 @@ public class LearnerPushTask<T> {
         // If the hash matches the original can be used in the new tree.
         // Sometimes the original node is null if the original tree does not have any node in this position.
         final T originalNode = expectedLesson.getOriginalNode();
+        MerkleNode originalRoot = originalNode == null ? null : view.getMerkleRoot(originalNode);
+        if (originalRoot != null && reconnectProgress != null) {
+            // A subtree received in a failed attempt is closer to the teacher's than the learner's own
+            final MerkleNode retained = reconnectProgress.getRetained(originalRoot.getRoute());
+            if (retained != null && retained.getClassId() == lesson.getCustomViewClassId()) {
+                logger.info(
+                        RECONNECT.getMarker(),
+                        "using subtree retained from a failed reconnect attempt at route {}",
+                        originalRoot.getRoute());
+                originalRoot = retained;
+            }
+        }
 
         final CustomReconnectRoot<?, ?> customRoot =
                 ConstructableRegistry.getInstance().createObject(lesson.getCustomViewClassId());
@@ -126,8 +179,8 @@ public class LearnerPushTask<T> {
                     "unable to construct object with class ID " + classIdString(lesson.getCustomViewClassId()));
         }
 
-        if (originalNode != null && view.getClassId(originalNode) == lesson.getCustomViewClassId()) {
-            customRoot.setupWithOriginalNode(view.getMerkleRoot(originalNode));
+        if (originalRoot != null && originalRoot.getClassId() == lesson.getCustomViewClassId()) {
+            customRoot.setupWithOriginalNode(originalRoot);
         } else {
             customRoot.setupWithNoData();
         }
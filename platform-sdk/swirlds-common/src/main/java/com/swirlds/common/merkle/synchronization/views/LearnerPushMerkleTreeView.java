@@ -86,14 +86,27 @@ public class LearnerPushMerkleTreeView implements LearnerTreeView<MerkleNode> {
             final MerkleDataOutputStream outputStream,
             final Queue<MerkleNode> rootsToReceive,
             final AtomicReference<MerkleNode> reconstructedRoot) {
-        in = new AsyncInputStream<>(inputStream, workGroup, () -> new Lesson<>(this), reconnectConfig);
+        in = new AsyncInputStream<>(
+                inputStream,
+                workGroup,
+                () -> new Lesson<>(this),
+                reconnectConfig,
+                learningSynchronizer.isAsyncStreamCompression());
         out = learningSynchronizer.buildOutputStream(workGroup, outputStream);
 
         in.start();
         out.start();
 
         final LearnerPushTask<MerkleNode> learnerThread = new LearnerPushTask<>(
-                workGroup, in, out, rootsToReceive, reconstructedRoot, this, learningSynchronizer, mapStats);
+                workGroup,
+                in,
+                out,
+                rootsToReceive,
+                reconstructedRoot,
+                this,
+                learningSynchronizer,
+                mapStats,
+                learningSynchronizer.getReconnectProgress());
         learnerThread.start();
     }
 
@@ -68,6 +68,17 @@ public interface LearnerTreeView<T> extends LearnerExpectedLessonQueue<T>, Learn
      */
     default void abort() {}
 
+    /**
+     * Check if the learner side of the reconnect of this view's tree has completed: all nodes were received
+     * and the reconstructed tree was finished. Only subtrees of views that completed may be reused by a later
+     * reconnect attempt.
+     *
+     * @return true if this view's reconstructed tree is complete
+     */
+    default boolean isReconnectComplete() {
+        return false;
+    }
+
     /**
      * Check if this view represents the root of the state.
      *
@@ -85,8 +85,12 @@ public class TeacherPushMerkleTreeView implements TeacherTreeView<NodeToSend> {
             final MerkleDataInputStream inputStream,
             final MerkleDataOutputStream outputStream,
             final Queue<TeacherSubtree> subtrees) {
-        final AsyncInputStream<QueryResponse> in =
-                new AsyncInputStream<>(inputStream, workGroup, QueryResponse::new, reconnectConfig);
+        final AsyncInputStream<QueryResponse> in = new AsyncInputStream<>(
+                inputStream,
+                workGroup,
+                QueryResponse::new,
+                reconnectConfig,
+                teachingSynchronizer.isAsyncStreamCompression());
         final AsyncOutputStream<Lesson<NodeToSend>> out =
                 teachingSynchronizer.buildOutputStream(workGroup, outputStream);
 
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.common.metrics;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.metrics.api.FloatFormats;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.MetricType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumSet;
+
+/**
+ * This class keeps track of the distribution of recorded values, e.g. latencies, so that percentiles can be reported.
+ * <p>
+ * The values are counted in log-linear buckets, so a reported percentile is within a relative error of
+ * {@code 2^-(significantBits - 1)} of the true one. Every snapshot of the metric reports the distribution of the
+ * values recorded since the previous snapshot: the mean ({@link ValueType#VALUE VALUE}), the minimum, the maximum and
+ * the 50th, 90th, 99th and 99.9th percentiles. Recording a value never blocks and never allocates.
+ */
+public interface HistogramMetric extends Metric {
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default MetricType getMetricType() {
+        return MetricType.HISTOGRAM;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default DataType getDataType() {
+        return DataType.FLOAT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default EnumSet<ValueType> getValueTypes() {
+        return EnumSet.of(VALUE, MAX, MIN, P50, P90, P99, P999);
+    }
+
+    /**
+     * Returns the given value of the distribution reported by the last snapshot of this metric.
+     *
+     * @param valueType The {@code ValueType} of the requested value
+     * @return the value of the last reported distribution
+     */
+    @NonNull
+    @Override
+    Double get(@NonNull final ValueType valueType);
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value
+     * 		the value, in the unit of this metric
+     */
+    void update(final long value);
+
+    /**
+     * Configuration of a {@link HistogramMetric}
+     */
+    final class Config extends PlatformMetricConfig<HistogramMetric, Config> {
+
+        /**
+         * The default number of significant bits, which gives a relative error of at most 6.25%.
+         */
+        public static final int DEFAULT_SIGNIFICANT_BITS = 5;
+
+        private final int significantBits;
+
+        /**
+         * Constructor of {@code HistogramMetric.Config}
+         *
+         * @param category
+         * 		the kind of metric (metrics are grouped or filtered by this)
+         * @param name
+         * 		a short name for the metric
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        public Config(@NonNull final String category, @NonNull final String name) {
+            super(category, name, FloatFormats.FORMAT_11_3);
+            this.significantBits = DEFAULT_SIGNIFICANT_BITS;
+        }
+
+        private Config(
+                @NonNull final String category,
+                @NonNull final String name,
+                @NonNull final String description,
+                @NonNull final String unit,
+                @NonNull final String format,
+                final int significantBits) {
+            super(category, name, description, unit, format);
+            if (significantBits < 2 || significantBits > 10) {
+                throw new IllegalArgumentException(
+                        "significantBits must be between 2 and 10, but is " + significantBits);
+            }
+            this.significantBits = significantBits;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public HistogramMetric.Config withDescription(@NonNull final String description) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), description, getUnit(), getFormat(), getSignificantBits());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public HistogramMetric.Config withUnit(@NonNull final String unit) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), unit, getFormat(), getSignificantBits());
+        }
+
+        /**
+         * Sets the {@link Metric#getFormat() Metric.format} in fluent style.
+         *
+         * @param format
+         * 		the format-string
+         * @return a new configuration-object with updated {@code format}
+         * @throws IllegalArgumentException
+         * 		if {@code format} is {@code null} or consists only of whitespaces
+         */
+        @NonNull
+        public HistogramMetric.Config withFormat(@NonNull final String format) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), format, getSignificantBits());
+        }
+
+        /**
+         * Getter of the {@code significantBits}, the number of significant bits kept of every recorded value.
+         *
+         * @return the {@code significantBits}
+         */
+        public int getSignificantBits() {
+            return significantBits;
+        }
+
+        /**
+         * Fluent-style setter of the {@code significantBits}. More significant bits give more precise percentiles,
+         * at the cost of more memory per metric.
+         *
+         * @param significantBits
+         * 		the {@code significantBits}, between 2 and 10
+         * @return a new configuration-object with updated {@code significantBits}
+         * @throws IllegalArgumentException
+         * 		if {@code significantBits} is out of range
+         */
+        @NonNull
+        public HistogramMetric.Config withSignificantBits(final int significantBits) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), getFormat(), significantBits);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Class<HistogramMetric> getResultClass() {
+            return HistogramMetric.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NonNull
+        public HistogramMetric create(@NonNull final PlatformMetricsFactory factory) {
+            return factory.createHistogramMetric(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .appendSuper(super.toString())
+                    .append("significantBits", significantBits)
+                    .toString();
+        }
+    }
+}
@@ -79,6 +79,17 @@ public interface PlatformMetricsFactory extends MetricsFactory {
      */
     SpeedometerMetric createSpeedometerMetric(final SpeedometerMetric.Config config);
 
+    /**
+     * Creates a {@link HistogramMetric}
+     *
+     * @param config
+     * 		the configuration
+     * @return the new {@code HistogramMetric}
+     * @throws IllegalArgumentException
+     * 		if {@code config} is {@code null}
+     */
+    HistogramMetric createHistogramMetric(final HistogramMetric.Config config);
+
     /**
      * Creates a {@link StatEntry}
      *
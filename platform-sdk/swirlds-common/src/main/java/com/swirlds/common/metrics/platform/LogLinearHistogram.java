@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.common.metrics.platform;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of non-negative {@code long} values with log-linear buckets, that can be updated concurrently without
+ * locks or allocation.
+ * <p>
+ * Values below {@code 2^significantBits} have a bucket each. Above that, every power of two is split into
+ * {@code 2^(significantBits - 1)} buckets of equal width, so the width of a bucket is at most
+ * {@code 2^-(significantBits - 1)} times its lower bound. Negative values are counted as 0.
+ * <p>
+ * Updates go to one of several stripes, chosen by the id of the updating thread, so that threads updating the same
+ * histogram rarely contend for the same cache lines. {@link #drain()} adds up and resets the stripes; an update
+ * that races with a drain is counted either by this drain or by the next one.
+ */
+final class LogLinearHistogram {
+
+    private static final int MAX_STRIPES = 16;
+
+    private final int significantBits;
+    private final int subBucketCount;
+    private final int halfSubBucketCount;
+    private final int bucketCount;
+    private final int sumIndex;
+    private final int minIndex;
+    private final int maxIndex;
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Creates a new histogram.
+     *
+     * @param significantBits the number of significant bits kept of every value, between 2 and 10
+     * @throws IllegalArgumentException if {@code significantBits} is out of range
+     */
+    LogLinearHistogram(final int significantBits) {
+        if (significantBits < 2 || significantBits > 10) {
+            throw new IllegalArgumentException("significantBits must be between 2 and 10, but is " + significantBits);
+        }
+        this.significantBits = significantBits;
+        this.subBucketCount = 1 << significantBits;
+        this.halfSubBucketCount = subBucketCount >> 1;
+        this.bucketCount = subBucketCount + (Long.SIZE - 1 - significantBits) * halfSubBucketCount;
+        this.sumIndex = bucketCount;
+        this.minIndex = bucketCount + 1;
+        this.maxIndex = bucketCount + 2;
+        final int stripeCount =
+                Integer.highestOneBit(Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors()));
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = newStripe();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value
+     */
+    void update(final long value) {
+        final long v = Math.max(0L, value);
+        final AtomicLongArray stripe = stripes[(int) Thread.currentThread().threadId() & stripeMask];
+        stripe.getAndIncrement(bucketIndexOf(v));
+        stripe.getAndAdd(sumIndex, v);
+        long current;
+        while (v < (current = stripe.get(minIndex)) && !stripe.compareAndSet(minIndex, current, v)) {
+            Thread.onSpinWait();
+        }
+        while (v > (current = stripe.get(maxIndex)) && !stripe.compareAndSet(maxIndex, current, v)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Returns the distribution of the values recorded since the last drain, and resets the histogram.
+     *
+     * @return the distribution of the recorded values
+     */
+    @NonNull
+    Distribution drain() {
+        final long[] counts = new long[bucketCount];
+        long count = 0L;
+        long sum = 0L;
+        long min = Long.MAX_VALUE;
+        long max = 0L;
+        for (final AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < bucketCount; i++) {
+                final long bucket = stripe.getAndSet(i, 0L);
+                counts[i] += bucket;
+                count += bucket;
+            }
+            sum += stripe.getAndSet(sumIndex, 0L);
+            min = Math.min(min, stripe.getAndSet(minIndex, Long.MAX_VALUE));
+            max = Math.max(max, stripe.getAndSet(maxIndex, 0L));
+        }
+        return new Distribution(counts, count, sum, count == 0L ? 0L : min, max);
+    }
+
+    /**
+     * Returns the index of the bucket of the given non-negative value.
+     *
+     * @param value the value
+     * @return the index of its bucket
+     */
+    int bucketIndexOf(final long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - significantBits;
+        final int subBucket = (int) (value >>> shift);
+        return subBucketCount + (shift - 1) * halfSubBucketCount + (subBucket - halfSubBucketCount);
+    }
+
+    /**
+     * Returns the lowest value of the bucket with the given index.
+     *
+     * @param index the index of the bucket
+     * @return the lowest value in the bucket
+     */
+    long lowestValueOf(final int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        final int offset = index - subBucketCount;
+        final int shift = offset / halfSubBucketCount + 1;
+        final long subBucket = halfSubBucketCount + (offset % halfSubBucketCount);
+        return subBucket << shift;
+    }
+
+    /**
+     * Returns the highest value of the bucket with the given index.
+     *
+     * @param index the index of the bucket
+     * @return the highest value in the bucket
+     */
+    long highestValueOf(final int index) {
+        return index == bucketCount - 1 ? Long.MAX_VALUE : lowestValueOf(index + 1) - 1;
+    }
+
+    @NonNull
+    private AtomicLongArray newStripe() {
+        final AtomicLongArray stripe = new AtomicLongArray(bucketCount + 3);
+        stripe.set(minIndex, Long.MAX_VALUE);
+        return stripe;
+    }
+
+    /**
+     * The distribution of the values recorded between two drains.
+     */
+    final class Distribution {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        private Distribution(final long[] counts, final long count, final long sum, final long min, final long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * @return the number of recorded values
+         */
+        long count() {
+            return count;
+        }
+
+        /**
+         * @return the sum of the recorded values
+         */
+        long sum() {
+            return sum;
+        }
+
+        /**
+         * @return the lowest recorded value, or 0 if no value was recorded
+         */
+        long min() {
+            return min;
+        }
+
+        /**
+         * @return the highest recorded value, or 0 if no value was recorded
+         */
+        long max() {
+            return max;
+        }
+
+        /**
+         * @return the mean of the recorded values, or 0 if no value was recorded
+         */
+        double mean() {
+            return count == 0L ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * Returns an estimate of the given quantile of the recorded values: the midpoint of the bucket that holds
+         * it, limited to the range of the recorded values.
+         *
+         * @param quantile the quantile, between 0 and 1
+         * @return the estimated quantile, or 0 if no value was recorded
+         */
+        double valueAtQuantile(final double quantile) {
+            if (count == 0L) {
+                return 0.0;
+            }
+            final long rank = Math.max(1L, (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * count));
+            long seen = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    final double midpoint = lowestValueOf(i) / 2.0 + highestValueOf(i) / 2.0;
+                    return Math.min(max, Math.max(min, midpoint));
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.common.metrics.platform;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.PlatformMetric;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import com.swirlds.metrics.impl.AbstractMetric;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Platform-implementation of {@link HistogramMetric}
+ */
+public class PlatformHistogramMetric extends AbstractMetric implements PlatformMetric, HistogramMetric {
+
+    private final LogLinearHistogram histogram;
+
+    /**
+     * The values reported by the last snapshot, in the order of {@link #getValueTypes()}
+     */
+    private volatile List<SnapshotEntry> lastEntries;
+
+    /**
+     * Constructs a new PlatformHistogramMetric with the given configuration.
+     *
+     * @param config the configuration for this histogram
+     */
+    public PlatformHistogramMetric(@NonNull final HistogramMetric.Config config) {
+        super(config);
+        this.histogram = new LogLinearHistogram(config.getSignificantBits());
+        this.lastEntries = entriesOf(histogram.drain());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {
+        histogram.update(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Double get(@NonNull final ValueType valueType) {
+        Objects.requireNonNull(valueType, "valueType must not be null");
+        for (final SnapshotEntry entry : lastEntries) {
+            if (entry.valueType() == valueType) {
+                return (Double) entry.value();
+            }
+        }
+        throw new IllegalArgumentException("Unsupported ValueType: " + valueType);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The snapshot reports the distribution of the values recorded since the previous snapshot.
+     */
+    @NonNull
+    @Override
+    public List<SnapshotEntry> takeSnapshot() {
+        final List<SnapshotEntry> entries = entriesOf(histogram.drain());
+        lastEntries = entries;
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        lastEntries = entriesOf(histogram.drain());
+    }
+
+    @NonNull
+    private static List<SnapshotEntry> entriesOf(@NonNull final LogLinearHistogram.Distribution distribution) {
+        return List.of(
+                new SnapshotEntry(ValueType.VALUE, distribution.mean()),
+                new SnapshotEntry(ValueType.MAX, (double) distribution.max()),
+                new SnapshotEntry(ValueType.MIN, (double) distribution.min()),
+                new SnapshotEntry(ValueType.P50, distribution.valueAtQuantile(0.5)),
+                new SnapshotEntry(ValueType.P90, distribution.valueAtQuantile(0.9)),
+                new SnapshotEntry(ValueType.P99, distribution.valueAtQuantile(0.99)),
+                new SnapshotEntry(ValueType.P999, distribution.valueAtQuantile(0.999)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .appendSuper(super.toString())
+                .append("value", get(ValueType.VALUE))
+                .append("p99", get(ValueType.P99))
+                .toString();
+    }
+}
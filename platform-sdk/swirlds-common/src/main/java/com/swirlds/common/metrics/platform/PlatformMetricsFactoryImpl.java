@@ -18,6 +18,7 @@ package com.swirlds.common.metrics.platform;
 
 import com.swirlds.common.metrics.DurationGauge;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.PlatformMetricsFactory;
 import com.swirlds.common.metrics.RunningAverageMetric;
@@ -148,6 +149,14 @@ public class PlatformMetricsFactoryImpl implements PlatformMetricsFactory {
         return new PlatformSpeedometerMetric(config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramMetric createHistogramMetric(final HistogramMetric.Config config) {
+        return new PlatformHistogramMetric(config);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -26,6 +26,7 @@ import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 import com.sun.net.httpserver.HttpServer;
 import com.swirlds.common.AutoCloseableNonThrowing;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
@@ -173,7 +174,9 @@ public class PrometheusEndpoint implements AutoCloseableNonThrowing {
         final AdapterType adapterType = nodeId == null ? GLOBAL : PLATFORM;
         if (metric instanceof Counter) {
             return new CounterAdapter(registry, metric, adapterType);
-        } else if (metric instanceof RunningAverageMetric || metric instanceof SpeedometerMetric) {
+        } else if (metric instanceof RunningAverageMetric
+                || metric instanceof SpeedometerMetric
+                || metric instanceof HistogramMetric) {
             return new DistributionAdapter(registry, metric, adapterType);
         } else if (metric instanceof IntegerPairAccumulator<?>
                 || metric instanceof FunctionGauge<?>
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.route.MerkleRouteFactory;
+import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
+import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import org.junit.jupiter.api.Test;
+
+class ReconnectProgressTest {
+
+    @Test
+    void retainedSubtreeOutlivesItsTree() {
+        final ReconnectProgress progress = new ReconnectProgress();
+        final DummyMerkleInternal tree = MerkleTestUtils.buildLessSimpleTree();
+        tree.reserve();
+        final MerkleNode subtree = tree.getChild(1);
+
+        progress.retain(subtree);
+        tree.release();
+
+        assertTrue(tree.isDestroyed(), "The tree should be destroyed");
+        assertFalse(subtree.isDestroyed(), "The retained subtree should not be destroyed");
+        assertSame(subtree, progress.getRetained(subtree.getRoute()));
+        assertNull(progress.getRetained(MerkleRouteFactory.getEmptyRoute().extendRoute(2)));
+
+        progress.clear();
+        assertTrue(subtree.isDestroyed(), "The subtree should be destroyed once the progress is cleared");
+        assertEquals(0, progress.size());
+    }
+
+    @Test
+    void retainingAtTheSameRouteReleasesThePreviousSubtree() {
+        final ReconnectProgress progress = new ReconnectProgress();
+
+        final DummyMerkleInternal firstTree = MerkleTestUtils.buildLessSimpleTree();
+        firstTree.reserve();
+        final MerkleNode first = firstTree.getChild(1);
+        progress.retain(first);
+        firstTree.release();
+
+        final DummyMerkleInternal secondTree = MerkleTestUtils.buildLessSimpleTree();
+        secondTree.reserve();
+        final MerkleNode second = secondTree.getChild(1);
+        progress.retain(second);
+        secondTree.release();
+
+        assertTrue(first.isDestroyed(), "The replaced subtree should be released");
+        assertFalse(second.isDestroyed(), "The replacing subtree should be retained");
+        assertSame(second, progress.getRetained(first.getRoute()));
+        assertEquals(1, progress.size());
+
+        progress.clear();
+        assertTrue(second.isDestroyed());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class CompressedBatchStreamsTest {
+
+    @Test
+    void roundTripAcrossMultipleFrames() throws IOException {
+        final byte[] data = new byte[CompressedBatchOutputStream.MAX_BATCH_SIZE * 3 + 17];
+        final Random random = new Random(42);
+        for (int i = 0; i < data.length; i++) {
+            // Compressible, but not trivially
+            data[i] = (byte) (random.nextInt(16) + 'a');
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final CompressedBatchOutputStream out = new CompressedBatchOutputStream(bytes)) {
+            out.write(data, 0, 100);
+            out.flush();
+            out.write(data[100]);
+            out.write(data, 101, data.length - 101);
+        }
+        assertTrue(bytes.size() < data.length, "Data should be compressed");
+
+        final byte[] read;
+        try (final DataInputStream in =
+                new DataInputStream(new CompressedBatchInputStream(new ByteArrayInputStream(bytes.toByteArray())))) {
+            read = in.readAllBytes();
+        }
+        assertArrayEquals(data, read, "Data should survive the round trip");
+    }
+
+    @Test
+    void framesAreReadLazily() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(new CompressedBatchOutputStream(bytes));
+        out.writeLong(1);
+        out.writeLong(2);
+        out.flush();
+        // Something written to the underlying stream directly after the batches
+        bytes.write(new byte[] {7, 8});
+
+        final ByteArrayInputStream source = new ByteArrayInputStream(bytes.toByteArray());
+        final DataInputStream in = new DataInputStream(new CompressedBatchInputStream(source));
+        assertEquals(1, in.readLong());
+        assertEquals(2, in.readLong());
+        assertEquals(7, source.read(), "No bytes past the last frame should be consumed");
+    }
+
+    @Test
+    void emptyFlushesWriteNoFrames() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final CompressedBatchOutputStream out = new CompressedBatchOutputStream(bytes)) {
+            out.flush();
+            out.flush();
+        }
+        assertEquals(0, bytes.size());
+    }
+
+    @Test
+    void closingLeavesTheUnderlyingStreamsOpen() throws IOException {
+        final AtomicBoolean outClosed = new AtomicBoolean();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                outClosed.set(true);
+            }
+        };
+        final CompressedBatchOutputStream out = new CompressedBatchOutputStream(bytes);
+        out.write(new byte[] {1, 2, 3});
+        out.close();
+        assertFalse(outClosed.get(), "The connection's output stream should stay open");
+        assertThrows(
+                IOException.class,
+                () -> {
+                    out.write(new byte[] {4}, 0, 1);
+                    out.flush();
+                },
+                "An ended stream can't write frames");
+
+        final AtomicBoolean inClosed = new AtomicBoolean();
+        final ByteArrayInputStream source = new ByteArrayInputStream(bytes.toByteArray()) {
+            @Override
+            public void close() {
+                inClosed.set(true);
+            }
+        };
+        final CompressedBatchInputStream in = new CompressedBatchInputStream(source);
+        assertEquals(1, in.read());
+        in.close();
+        assertFalse(inClosed.get(), "The connection's input stream should stay open");
+        in.read();
+        in.read();
+        assertThrows(IOException.class, in::read, "A closed stream can't read further frames");
+    }
+
+    @Test
+    void endedStreamDiscardsTheCurrentBatch() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final CompressedBatchOutputStream out = new CompressedBatchOutputStream(bytes);
+        out.write(new byte[] {1, 2, 3});
+        out.end();
+        assertEquals(0, bytes.size(), "Nothing should be written when a stream is ended");
+    }
+
+    @Test
+    void corruptFrameIsRejected() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final CompressedBatchOutputStream out = new CompressedBatchOutputStream(bytes)) {
+            final byte[] data = new byte[1000];
+            Arrays.fill(data, (byte) 1);
+            out.write(data);
+        }
+        final byte[] frame = bytes.toByteArray();
+        // Declare a larger uncompressed size than the frame holds
+        frame[2] = (byte) (frame[2] + 1);
+
+        final CompressedBatchInputStream in = new CompressedBatchInputStream(new ByteArrayInputStream(frame));
+        assertThrows(IOException.class, in::read);
+    }
+}
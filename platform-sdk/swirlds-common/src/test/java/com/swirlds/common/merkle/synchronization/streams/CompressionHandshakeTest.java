@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CompressionHandshakeTest {
+
+    @Test
+    void compressionIsUsedIfEnabledOnBothSides() throws Exception {
+        final PipedOutputStream teacherToLearner = new PipedOutputStream();
+        final PipedOutputStream learnerToTeacher = new PipedOutputStream();
+        final SerializableDataInputStream learnerIn =
+                new SerializableDataInputStream(new PipedInputStream(teacherToLearner));
+        final SerializableDataInputStream teacherIn =
+                new SerializableDataInputStream(new PipedInputStream(learnerToTeacher));
+        final SerializableDataOutputStream teacherOut = new SerializableDataOutputStream(teacherToLearner);
+        final SerializableDataOutputStream learnerOut = new SerializableDataOutputStream(learnerToTeacher);
+
+        final CompletableFuture<Boolean> teacher = CompletableFuture.supplyAsync(() -> {
+            try {
+                return CompressionHandshake.asTeacher(teacherIn, teacherOut, true);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertTrue(CompressionHandshake.asLearner(learnerIn, learnerOut, true), "The learner should compress");
+        assertTrue(teacher.get(10, TimeUnit.SECONDS), "The teacher should compress");
+    }
+
+    @Test
+    void nothingIsExchangedIfDisabled() throws IOException {
+        final ByteArrayOutputStream teacherBytes = new ByteArrayOutputStream();
+        final ByteArrayOutputStream learnerBytes = new ByteArrayOutputStream();
+        // Reading from an empty stream would fail, so these also check that nothing is read
+        final SerializableDataInputStream emptyIn =
+                new SerializableDataInputStream(new ByteArrayInputStream(new byte[0]));
+
+        assertFalse(CompressionHandshake.asTeacher(emptyIn, new SerializableDataOutputStream(teacherBytes), false));
+        assertFalse(CompressionHandshake.asLearner(emptyIn, new SerializableDataOutputStream(learnerBytes), false));
+        assertEquals(0, teacherBytes.size(), "A teacher with compression disabled should not send anything");
+        assertEquals(0, learnerBytes.size(), "A learner with compression disabled should not send anything");
+    }
+
+    @Test
+    void teacherFailsIfOnlyTeacherHasCompressionEnabled() throws IOException {
+        final ByteArrayOutputStream teacherBytes = new ByteArrayOutputStream();
+        // A learner with compression disabled starts the synchronization without replying to the handshake
+        final ByteArrayOutputStream learnerBytes = new ByteArrayOutputStream();
+        final SerializableDataOutputStream learnerOut = new SerializableDataOutputStream(learnerBytes);
+        assertFalse(CompressionHandshake.asLearner(
+                new SerializableDataInputStream(new ByteArrayInputStream(new byte[0])), learnerOut, false));
+        learnerOut.writeLong(42L);
+        learnerOut.flush();
+
+        final SerializableDataInputStream teacherIn =
+                new SerializableDataInputStream(new ByteArrayInputStream(learnerBytes.toByteArray()));
+        final SerializableDataOutputStream teacherOut = new SerializableDataOutputStream(teacherBytes);
+
+        assertThrows(
+                IOException.class,
+                () -> CompressionHandshake.asTeacher(teacherIn, teacherOut, true),
+                "A teacher with compression enabled should reject a learner that has it disabled");
+    }
+
+    @Test
+    void learnerFailsIfOnlyLearnerHasCompressionEnabled() throws IOException {
+        // A teacher with compression disabled starts the synchronization without sending the handshake
+        final ByteArrayOutputStream teacherBytes = new ByteArrayOutputStream();
+        final SerializableDataOutputStream teacherOut = new SerializableDataOutputStream(teacherBytes);
+        assertFalse(CompressionHandshake.asTeacher(
+                new SerializableDataInputStream(new ByteArrayInputStream(new byte[0])), teacherOut, false));
+        teacherOut.writeLong(42L);
+        teacherOut.flush();
+
+        final SerializableDataInputStream learnerIn =
+                new SerializableDataInputStream(new ByteArrayInputStream(teacherBytes.toByteArray()));
+        final ByteArrayOutputStream learnerBytes = new ByteArrayOutputStream();
+
+        assertThrows(
+                IOException.class,
+                () -> CompressionHandshake.asLearner(learnerIn, new SerializableDataOutputStream(learnerBytes), true),
+                "A learner with compression enabled should reject a teacher that has it disabled");
+        assertEquals(0, learnerBytes.size(), "A learner should not reply to a teacher that has compression disabled");
+    }
+}
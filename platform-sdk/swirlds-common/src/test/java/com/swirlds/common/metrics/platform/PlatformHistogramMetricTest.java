@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.metrics.api.Metric.DataType.FLOAT;
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.STD_DEV;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.metrics.api.MetricType;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlatformHistogramMetricTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+    private static final String FORMAT = "FoRmAt";
+
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    @DisplayName("Constructor should store values")
+    void testConstructor() {
+        // when
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME)
+                .withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withFormat(FORMAT)
+                .withSignificantBits(7);
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(config);
+
+        // then
+        assertEquals(CATEGORY, metric.getCategory(), "The category was not set correctly");
+        assertEquals(NAME, metric.getName(), "The name was not set correctly");
+        assertEquals(DESCRIPTION, metric.getDescription(), "The description was not set correctly");
+        assertEquals(UNIT, metric.getUnit(), "The unit was not set correctly");
+        assertEquals(FORMAT, metric.getFormat(), "The format was not set correctly");
+        assertEquals(7, config.getSignificantBits(), "The significant bits were not set correctly");
+        assertEquals(MetricType.HISTOGRAM, metric.getMetricType(), "The metric type is wrong");
+        assertEquals(FLOAT, metric.getDataType(), "The data type is wrong");
+        assertEquals(0.0, metric.get(VALUE), EPSILON, "The value was not initialized correctly");
+        assertEquals(0.0, metric.get(P99), EPSILON, "The p99 was not initialized correctly");
+        assertThat(metric.getValueTypes()).containsExactly(VALUE, MAX, MIN, P50, P90, P99, P999);
+        assertThrows(IllegalArgumentException.class, () -> metric.get(STD_DEV));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new HistogramMetric.Config(CATEGORY, NAME).withSignificantBits(11));
+    }
+
+    @Test
+    void testSnapshotReportsValuesSincePreviousSnapshot() {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        for (int i = 1; i <= 1000; i++) {
+            metric.update(i * 1000L);
+        }
+
+        // when
+        final List<SnapshotEntry> first = metric.takeSnapshot();
+        metric.update(5L);
+        final List<SnapshotEntry> second = metric.takeSnapshot();
+
+        // then
+        assertThat(first.stream().map(SnapshotEntry::valueType)).containsExactlyElementsOf(metric.getValueTypes());
+        assertEquals(500_500.0, valueOf(first, VALUE), EPSILON, "The mean is wrong");
+        assertEquals(1_000.0, valueOf(first, MIN), EPSILON, "The minimum is wrong");
+        assertEquals(1_000_000.0, valueOf(first, MAX), EPSILON, "The maximum is wrong");
+        assertEquals(500_000.0, valueOf(first, P50), 500_000 * 0.0625, "The p50 is outside the error bound");
+        assertEquals(990_000.0, valueOf(first, P99), 990_000 * 0.0625, "The p99 is outside the error bound");
+        assertEquals(5.0, valueOf(second, VALUE), EPSILON, "The second snapshot should only see the new value");
+        assertEquals(5.0, valueOf(second, P999), EPSILON, "The second snapshot should only see the new value");
+        assertEquals(5.0, metric.get(MAX), EPSILON, "get() should return the value of the last snapshot");
+    }
+
+    @Test
+    void testConcurrentUpdatesAreAllCounted() throws InterruptedException {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        final int threads = 8;
+        final int updatesPerThread = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < updatesPerThread; i++) {
+                    metric.update(42L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        final List<SnapshotEntry> entries = metric.takeSnapshot();
+
+        // then
+        assertEquals(42.0, valueOf(entries, VALUE), EPSILON, "Every update should be counted exactly once");
+        assertEquals(42.0, valueOf(entries, MIN), EPSILON, "The minimum is wrong");
+        assertEquals(42.0, valueOf(entries, MAX), EPSILON, "The maximum is wrong");
+    }
+
+    @Test
+    void testReset() {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(100L);
+        metric.takeSnapshot();
+
+        // when
+        metric.reset();
+
+        // then
+        assertEquals(0.0, metric.get(VALUE), EPSILON, "The value was not reset");
+        assertEquals(0.0, metric.get(MAX), EPSILON, "The maximum was not reset");
+    }
+
+    private static double valueOf(final List<SnapshotEntry> entries, final HistogramMetric.ValueType valueType) {
+        return entries.stream()
+                .filter(entry -> entry.valueType() == valueType)
+                .map(entry -> (Double) entry.value())
+                .findAny()
+                .orElseThrow();
+    }
+}
@@ -22,7 +22,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.data.Offset.offset;
 
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.platform.PlatformHistogramMetric;
 import com.swirlds.common.metrics.platform.PlatformRunningAverageMetric;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.metrics.api.Metric;
@@ -145,6 +147,32 @@ class DistributionAdapterTest {
                 .isCloseTo(0.0, offset(EPSILON));
     }
 
+    @Test
+    void testUpdateGlobalHistogramMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        for (int i = 1; i <= 100; i++) {
+            metric.update(i);
+        }
+        final DistributionAdapter adapter = new DistributionAdapter(registry, metric, GLOBAL);
+
+        // when
+        adapter.update(Snapshot.of(metric), null);
+
+        // then
+        assertThat(registry.getSampleValue(MAPPING_NAME, GLOBAL_LABEL, new String[] {"mean"}))
+                .isCloseTo(50.5, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME, GLOBAL_LABEL, new String[] {"min"}))
+                .isCloseTo(1.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME, GLOBAL_LABEL, new String[] {"max"}))
+                .isCloseTo(100.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME, GLOBAL_LABEL, new String[] {"p50"}))
+                .isCloseTo(50.0, offset(2.0));
+        assertThat(registry.getSampleValue(MAPPING_NAME, GLOBAL_LABEL, new String[] {"p99"}))
+                .isCloseTo(99.0, offset(4.0));
+    }
+
     @Test
     void testUpdatePlatformMetric() {
         // given
@@ -39,8 +39,9 @@ public class LaggingAsyncOutputStream<T extends SelfSerializable> extends AsyncO
             final SerializableDataOutputStream out,
             final StandardWorkGroup workGroup,
             final long latencyMilliseconds,
-            final ReconnectConfig reconnectConfig) {
-        super(out, workGroup, reconnectConfig);
+            final ReconnectConfig reconnectConfig,
+            final boolean compressed) {
+        super(out, workGroup, reconnectConfig, compressed);
         this.messageTimes = new LinkedBlockingQueue<>();
         this.latencyMilliseconds = latencyMilliseconds;
     }
@@ -60,6 +60,7 @@ public class LaggingLearningSynchronizer extends LearningSynchronizer {
     @Override
     public <T extends SelfSerializable> AsyncOutputStream<T> buildOutputStream(
             final StandardWorkGroup workGroup, final SerializableDataOutputStream out) {
-        return new LaggingAsyncOutputStream<>(out, workGroup, latencyMilliseconds, reconnectConfig);
+        return new LaggingAsyncOutputStream<>(
+                out, workGroup, latencyMilliseconds, reconnectConfig, isAsyncStreamCompression());
     }
 }
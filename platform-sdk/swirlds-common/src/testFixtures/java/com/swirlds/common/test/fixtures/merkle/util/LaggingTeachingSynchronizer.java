@@ -67,6 +67,7 @@ public class LaggingTeachingSynchronizer extends TeachingSynchronizer {
     @Override
     public <T extends SelfSerializable> AsyncOutputStream<T> buildOutputStream(
             final StandardWorkGroup workGroup, final SerializableDataOutputStream out) {
-        return new LaggingAsyncOutputStream<>(out, workGroup, latencyMilliseconds, reconnectConfig);
+        return new LaggingAsyncOutputStream<>(
+                out, workGroup, latencyMilliseconds, reconnectConfig, isAsyncStreamCompression());
     }
 }
@@ -33,6 +33,7 @@ import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
 import com.swirlds.common.merkle.iterators.MerkleIterator;
 import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
+import com.swirlds.common.merkle.synchronization.ReconnectProgress;
 import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
@@ -1001,13 +1002,27 @@ public final class MerkleTestUtils {
     /**
      * Synchronize two trees and verify that the end result is the expected result.
      */
-    @SuppressWarnings("unchecked")
     public static <T extends MerkleNode> T testSynchronization(
             final MerkleNode startingTree,
             final MerkleNode desiredTree,
             final int latencyMilliseconds,
             final ReconnectConfig reconnectConfig)
             throws Exception {
+        return testSynchronization(startingTree, desiredTree, latencyMilliseconds, reconnectConfig, null);
+    }
+
+    /**
+     * Synchronize two trees and verify that the end result is the expected result. The learner reuses and updates
+     * the given progress of failed reconnect attempts. Progress is only used if there is no latency.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends MerkleNode> T testSynchronization(
+            final MerkleNode startingTree,
+            final MerkleNode desiredTree,
+            final int latencyMilliseconds,
+            final ReconnectConfig reconnectConfig,
+            final ReconnectProgress reconnectProgress)
+            throws Exception {
         try (PairedStreams streams = new PairedStreams()) {
 
             final LearningSynchronizer learner;
@@ -1022,7 +1037,8 @@ public final class MerkleTestUtils {
                                 startingTree,
                                 streams::disconnect,
                                 reconnectConfig,
-                                metrics) {
+                                metrics,
+                                reconnectProgress) {
 
                             @Override
                             protected StandardWorkGroup createStandardWorkGroup(
@@ -1241,6 +1257,15 @@ public final class MerkleTestUtils {
     public static <T extends MerkleNode> T hashAndTestSynchronization(
             final MerkleNode startingTree, final MerkleNode desiredTree, final ReconnectConfig reconnectConfig)
             throws Exception {
+        return hashAndTestSynchronization(startingTree, desiredTree, reconnectConfig, null);
+    }
+
+    public static <T extends MerkleNode> T hashAndTestSynchronization(
+            final MerkleNode startingTree,
+            final MerkleNode desiredTree,
+            final ReconnectConfig reconnectConfig,
+            final ReconnectProgress reconnectProgress)
+            throws Exception {
         System.out.println("------------");
         System.out.println("starting: " + startingTree);
         System.out.println("desired: " + desiredTree);
@@ -1251,7 +1276,7 @@ public final class MerkleTestUtils {
         if (desiredTree != null && desiredTree.getHash() == null) {
             MerkleCryptoFactory.getInstance().digestTreeSync(desiredTree);
         }
-        return testSynchronization(startingTree, desiredTree, 0, reconnectConfig);
+        return testSynchronization(startingTree, desiredTree, 0, reconnectConfig, reconnectProgress);
     }
 
     /**
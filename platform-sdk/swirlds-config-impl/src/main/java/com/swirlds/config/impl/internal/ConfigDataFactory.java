@@ -36,9 +36,23 @@ import java.util.stream.Collectors;
 /**
  * Internal factory for config data objects. See {@link Configuration#getConfigData(Class)} for a detailed description
  * on config data objects.
+ *
+ * <p>Everything this factory learns about a config data type by reflection (its constructor, and the name, type and
+ * raw default value of each of its properties) does not depend on the configuration, so it is computed only once per
+ * type and shared by all factories. Creating an instance then only needs to look up and convert the property values.
  */
 class ConfigDataFactory {
 
+    /**
+     * The reflective metadata of each config data type, computed on first use.
+     */
+    private static final ClassValue<RecordMetadata> RECORD_METADATA = new ClassValue<>() {
+        @Override
+        protected RecordMetadata computeValue(@NonNull final Class<?> type) {
+            return RecordMetadata.of(type);
+        }
+    };
+
     /**
      * The configuration that is internally used to fill the properties of the config data instances.
      */
@@ -60,57 +74,154 @@ class ConfigDataFactory {
             throws InvocationTargetException, InstantiationException, IllegalAccessException {
         Objects.requireNonNull(type, "type must not be null");
 
-        if (!type.isAnnotationPresent(ConfigData.class)) {
-            throw new IllegalArgumentException("Can not create config instance for '" + type + "' since "
-                    + ConfigData.class.getName() + "' " + "annotation is missing");
+        final RecordMetadata metadata = RECORD_METADATA.get(type);
+        final Object[] paramValues = new Object[metadata.components().size()];
+        for (int i = 0; i < paramValues.length; i++) {
+            paramValues[i] = getValueForComponent(metadata.components().get(i));
         }
-        if (!type.isRecord()) {
-            throw new IllegalArgumentException(
-                    "Can not create config instance for '" + type + "' since it is not record");
+        return (T) metadata.constructor().newInstance(paramValues);
+    }
+
+    @Nullable
+    private Object getValueForComponent(@NonNull final ComponentMetadata component) {
+        Objects.requireNonNull(component, "component must not be null");
+        return switch (component.kind()) {
+            case LIST -> getValues(component.propertyName(), component.elementType(), component.rawDefaultValue());
+            case SET -> getValueSet(component.propertyName(), component.elementType(), component.rawDefaultValue());
+            case SINGLE -> getValue(component.propertyName(), component.valueType(), component.rawDefaultValue());
+        };
+    }
+
+    @Nullable
+    private <T> List<T> getValues(
+            @NonNull final String name, @NonNull final Class<T> type, @Nullable final String rawDefaultValue) {
+        if (rawDefaultValue == null) {
+            return configuration.getValues(name, type);
         }
-        if (!ConfigReflectionUtils.isPublic(type)) {
-            throw new IllegalArgumentException(
-                    "Can not create config instance for '" + type + "' since it is not public");
+        final List<T> defaultValues = Objects.equals(ConfigProperty.NULL_DEFAULT_VALUE, rawDefaultValue)
+                ? null
+                : ConfigListUtils.createList(rawDefaultValue).stream()
+                        .map(value -> converterService.convert(value, type))
+                        .toList();
+        return configuration.getValues(name, type, defaultValues);
+    }
+
+    @Nullable
+    private <T> Set<T> getValueSet(
+            @NonNull final String name, @NonNull final Class<T> type, @Nullable final String rawDefaultValue) {
+        if (rawDefaultValue == null) {
+            return configuration.getValueSet(name, type);
         }
-        if (type.getConstructors().length != 1) {
-            throw new IllegalArgumentException(
-                    "Can not create config instance for '" + type + "' since it has not exactly 1 constructor");
+        final Set<T> defaultValues = Objects.equals(ConfigProperty.NULL_DEFAULT_VALUE, rawDefaultValue)
+                ? null
+                : ConfigListUtils.createList(rawDefaultValue).stream()
+                        .map(value -> converterService.convert(value, type))
+                        .collect(Collectors.toSet());
+        return configuration.getValueSet(name, type, defaultValues);
+    }
+
+    @Nullable
+    private <T> T getValue(
+            @NonNull final String name, @NonNull final Class<T> type, @Nullable final String rawDefaultValue) {
+        if (rawDefaultValue == null) {
+            return configuration.getValue(name, type);
         }
+        final T defaultValue = Objects.equals(ConfigProperty.NULL_DEFAULT_VALUE, rawDefaultValue)
+                ? null
+                : converterService.convert(rawDefaultValue, type);
+        return configuration.getValue(name, type, defaultValue);
+    }
 
-        final String namePrefix = getNamePrefix(type);
-        final Object[] paramValues = Arrays.stream(type.getRecordComponents())
-                .map(component -> getValueForRecordComponent(namePrefix, component))
-                .toArray(Object[]::new);
-        final Constructor<T> constructor = (Constructor<T>) type.getConstructors()[0];
-        return constructor.newInstance(paramValues);
+    /**
+     * How the value of a config data property is read from the configuration.
+     */
+    private enum ComponentKind {
+        SINGLE,
+        LIST,
+        SET
     }
 
-    @Nullable
-    private Object getValueForRecordComponent(
-            @NonNull final String namePrefix, @NonNull final RecordComponent component) {
-        Objects.requireNonNull(component, "component must not be null");
-        final String name = createPropertyName(namePrefix, component);
-        final Class<?> valueType = component.getType();
-        if (hasDefaultValue(component)) {
-            if (Objects.equals(List.class, component.getType())) {
-                final Class<?> genericType = getGenericListType(component);
-                return configuration.getValues(name, genericType, getDefaultValues(component));
+    /**
+     * The reflective metadata of a config data property.
+     *
+     * @param propertyName    the full name of the property
+     * @param kind            how the value of the property is read
+     * @param valueType       the type of the property
+     * @param elementType     the element type of a {@link List} or {@link Set} property, or {@code null}
+     * @param rawDefaultValue the raw default value of the property, or {@code null} if it has none
+     */
+    private record ComponentMetadata(
+            @NonNull String propertyName,
+            @NonNull ComponentKind kind,
+            @NonNull Class<?> valueType,
+            @Nullable Class<?> elementType,
+            @Nullable String rawDefaultValue) {
+
+        @NonNull
+        static ComponentMetadata of(@NonNull final String namePrefix, @NonNull final RecordComponent component) {
+            Objects.requireNonNull(component, "component must not be null");
+            final Class<?> valueType = component.getType();
+            final String rawDefaultValue = getRawDefaultValue(component).orElse(null);
+            if (Objects.equals(List.class, valueType)) {
+                return new ComponentMetadata(
+                        createPropertyName(namePrefix, component),
+                        ComponentKind.LIST,
+                        valueType,
+                        getGenericListType(component),
+                        rawDefaultValue);
             }
-            if (Objects.equals(Set.class, component.getType())) {
-                final Class<?> genericType = getGenericSetType(component);
-                return configuration.getValueSet(name, genericType, getDefaultValueSet(component));
+            if (Objects.equals(Set.class, valueType)) {
+                return new ComponentMetadata(
+                        createPropertyName(namePrefix, component),
+                        ComponentKind.SET,
+                        valueType,
+                        getGenericSetType(component),
+                        rawDefaultValue);
             }
-            return configuration.getValue(name, valueType, getDefaultValue(component));
-        } else {
-            if (Objects.equals(List.class, component.getType())) {
-                final Class<?> genericType = getGenericListType(component);
-                return configuration.getValues(name, genericType);
+            return new ComponentMetadata(
+                    createPropertyName(namePrefix, component), ComponentKind.SINGLE, valueType, null, rawDefaultValue);
+        }
+
+        @Override
+        @NonNull
+        public Class<?> elementType() {
+            return Objects.requireNonNull(elementType, "elementType must not be null");
+        }
+    }
+
+    /**
+     * The reflective metadata of a config data type.
+     *
+     * @param constructor the canonical constructor of the type
+     * @param components  the metadata of the properties of the type, in constructor parameter order
+     */
+    private record RecordMetadata(@NonNull Constructor<?> constructor, @NonNull List<ComponentMetadata> components) {
+
+        @NonNull
+        static RecordMetadata of(@NonNull final Class<?> type) {
+            Objects.requireNonNull(type, "type must not be null");
+            if (!type.isAnnotationPresent(ConfigData.class)) {
+                throw new IllegalArgumentException("Can not create config instance for '" + type + "' since "
+                        + ConfigData.class.getName() + "' " + "annotation is missing");
+            }
+            if (!type.isRecord()) {
+                throw new IllegalArgumentException(
+                        "Can not create config instance for '" + type + "' since it is not record");
+            }
+            if (!ConfigReflectionUtils.isPublic(type)) {
+                throw new IllegalArgumentException(
+                        "Can not create config instance for '" + type + "' since it is not public");
             }
-            if (Objects.equals(Set.class, component.getType())) {
-                final Class<?> genericType = getGenericSetType(component);
-                return configuration.getValueSet(name, genericType);
+            if (type.getConstructors().length != 1) {
+                throw new IllegalArgumentException(
+                        "Can not create config instance for '" + type + "' since it has not exactly 1 constructor");
             }
-            return configuration.getValue(name, valueType);
+
+            final String namePrefix = getNamePrefix(type);
+            final List<ComponentMetadata> components = Arrays.stream(type.getRecordComponents())
+                    .map(component -> ComponentMetadata.of(namePrefix, component))
+                    .toList();
+            return new RecordMetadata(type.getConstructors()[0], components);
         }
     }
 
@@ -121,6 +232,7 @@ class ConfigDataFactory {
         return Objects.equals(type, stringSetType.getRawType());
     }
 
+    @SuppressWarnings("unchecked")
     private static <T> Class<T> getGenericSetType(@NonNull final RecordComponent component) {
         if (!isGenericType(component, Set.class)) {
             throw new IllegalArgumentException("Only Set interface is supported");
@@ -144,61 +256,14 @@ class ConfigDataFactory {
         return cls;
     }
 
-    @Nullable
-    private <T> Set<T> getDefaultValueSet(@NonNull final RecordComponent component) {
-        Objects.requireNonNull(component, "component must not be null");
-        final Class<?> type = getGenericSetType(component);
-        final String rawValue = getRawValue(component);
-        if (Objects.equals(ConfigProperty.NULL_DEFAULT_VALUE, rawValue)) {
-            return null;
-        }
-        return (Set<T>) ConfigListUtils.createList(rawValue).stream()
-                .map(value -> converterService.convert(value, type))
-                .collect(Collectors.toSet());
-    }
-
-    @SuppressWarnings("unchecked")
-    @Nullable
-    private <T> List<T> getDefaultValues(@NonNull final RecordComponent component) {
-        Objects.requireNonNull(component, "component must not be null");
-        final Class<?> type = getGenericListType(component);
-        final String rawValue = getRawValue(component);
-        if (Objects.equals(ConfigProperty.NULL_DEFAULT_VALUE, rawValue)) {
-            return null;
-        }
-        return (List<T>) ConfigListUtils.createList(rawValue).stream()
-                .map(value -> converterService.convert(value, type))
-                .toList();
-    }
-
-    @NonNull
-    private String getRawValue(@NonNull final RecordComponent component) {
-        final Optional<String> rawDefaultValue = getRawDefaultValue(component);
-        if (rawDefaultValue.isEmpty()) {
-            throw new IllegalArgumentException("Default value not defined for parameter");
-        }
-        return rawDefaultValue.get();
-    }
-
     @NonNull
-    private static <T extends Record> String getNamePrefix(@NonNull final Class<T> type) {
+    private static String getNamePrefix(@NonNull final Class<?> type) {
         Objects.requireNonNull(type, "type must not be null");
         return Optional.ofNullable(type.getAnnotation(ConfigData.class))
                 .map(ConfigData::value)
                 .orElse("");
     }
 
-    @SuppressWarnings("unchecked")
-    @Nullable
-    private <T> T getDefaultValue(@NonNull final RecordComponent component) {
-        Objects.requireNonNull(component, "component must not be null");
-        final String rawValue = getRawValue(component);
-        if (Objects.equals(ConfigProperty.NULL_DEFAULT_VALUE, rawValue)) {
-            return null;
-        }
-        return (T) converterService.convert(rawValue, component.getType());
-    }
-
     @NonNull
     private static Optional<String> getRawDefaultValue(@NonNull final RecordComponent component) {
         Objects.requireNonNull(component, "component must not be null");
@@ -207,14 +272,6 @@ class ConfigDataFactory {
                 .filter(defaultValue -> !Objects.equals(ConfigProperty.UNDEFINED_DEFAULT_VALUE, defaultValue));
     }
 
-    private static boolean hasDefaultValue(@NonNull final RecordComponent component) {
-        Objects.requireNonNull(component, "component must not be null");
-        return Optional.ofNullable(component.getAnnotation(ConfigProperty.class))
-                .map(propertyAnnotation ->
-                        !Objects.equals(ConfigProperty.UNDEFINED_DEFAULT_VALUE, propertyAnnotation.defaultValue()))
-                .orElse(false);
-    }
-
     @NonNull
     private static String createPropertyName(@NonNull final String prefix, @NonNull final RecordComponent component) {
         Objects.requireNonNull(component, "component must not be null");
@@ -98,6 +98,9 @@ class ConfigDataService implements ConfigLifecycle {
     /**
      * Returns the instance of the given config data type. If the given type is not registered (see {@link
      * #addConfigDataType(Class)}) the method throws an {@link IllegalArgumentException}.
+     * <p>
+     * Every call is a {@link HashMap} lookup keyed by the record class; there is no generated index or other
+     * constant-time accessor for config data types.
      *
      * @param type the config data type
      * @param <T>  the config data type
@@ -107,10 +110,11 @@ class ConfigDataService implements ConfigLifecycle {
     <T extends Record> T getConfigData(@NonNull final Class<T> type) {
         Objects.requireNonNull(type, "type must not be null");
         throwIfNotInitialized();
-        if (!configDataCache.containsKey(type)) {
+        final Record configData = configDataCache.get(type);
+        if (configData == null) {
             throw new IllegalArgumentException("No config data record available of type '" + type + "'");
         }
-        return (T) configDataCache.get(type);
+        return (T) configData;
     }
 
     /**
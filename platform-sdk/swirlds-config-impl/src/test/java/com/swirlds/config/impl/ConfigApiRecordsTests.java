@@ -273,4 +273,29 @@ class ConfigApiRecordsTests {
         assertIterableEquals(List.of(), list);
         assertIterableEquals(Set.of(), set);
     }
+
+    @Test
+    void configurationsOfSameRecordTypeAreIndependent() {
+        // given
+        final Configuration first = ConfigurationBuilder.create()
+                .withSource(new SimpleConfigSource("network.port", 8080))
+                .withConfigDataType(NetworkConfig.class)
+                .build();
+        final Configuration second = ConfigurationBuilder.create()
+                .withSource(new SimpleConfigSource("network.port", 9090))
+                .withSource(new SimpleConfigSource("network.server", "example.net"))
+                .withConfigDataType(NetworkConfig.class)
+                .build();
+
+        // when
+        final NetworkConfig firstConfig = first.getConfigData(NetworkConfig.class);
+        final NetworkConfig secondConfig = second.getConfigData(NetworkConfig.class);
+
+        // then
+        assertEquals(8080, firstConfig.port());
+        assertEquals("localhost", firstConfig.server());
+        assertEquals(9090, secondConfig.port());
+        assertEquals("example.net", secondConfig.server());
+        assertIterableEquals(List.of(404, 500), secondConfig.errorCodes());
+    }
 }
@@ -34,6 +34,15 @@ public interface LoggingBenchmarkConfig<T> {
     @NonNull
     T configureFileLogging(final String logFile);
 
+    /**
+     * Create an asynchronous appender for File
+     * @param logFile
+     */
+    @NonNull
+    default T configureAsyncFileLogging(final String logFile) {
+        throw new UnsupportedOperationException("Asynchronous file logging is not configured for " + getClass());
+    }
+
     /**
      * Create an appender for Console
      */
@@ -16,6 +16,7 @@
 
 package com.swirlds.logging.benchmark.swirldslog;
 
+import static com.swirlds.logging.benchmark.config.Constants.ASYNC_FILE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_AND_FILE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.FILE_TYPE;
@@ -40,7 +41,7 @@ import org.openjdk.jmh.annotations.TearDown;
 @State(Scope.Benchmark)
 public class SwirldsLogBaseBenchmark {
 
-    @Param({CONSOLE_TYPE, FILE_TYPE, CONSOLE_AND_FILE_TYPE})
+    @Param({CONSOLE_TYPE, FILE_TYPE, ASYNC_FILE_TYPE, CONSOLE_AND_FILE_TYPE})
     public String loggingType;
 
     @Param({MODE_NOT_ROLLING, MODE_ROLLING})
@@ -58,6 +59,9 @@ public class SwirldsLogBaseBenchmark {
 
         if (Objects.equals(loggingType, FILE_TYPE)) {
             loggingSystem = config.configureFileLogging(LogFiles.provideLogFilePath(Constants.LOG4J2, FILE_TYPE, mode));
+        } else if (Objects.equals(loggingType, ASYNC_FILE_TYPE)) {
+            loggingSystem = config.configureAsyncFileLogging(
+                    LogFiles.provideLogFilePath(Constants.SWIRLDS, ASYNC_FILE_TYPE, mode));
         } else if (Objects.equals(loggingType, CONSOLE_TYPE)) {
             loggingSystem = config.configureConsoleLogging();
         } else if (Objects.equals(loggingType, CONSOLE_AND_FILE_TYPE)) {
@@ -51,6 +51,27 @@ public class RollingSwirldsLogConfig implements LoggingBenchmarkConfig<LoggingSy
         return configure(configuration);
     }
 
+    /**
+     * {@inheritDoc}
+     * @param logFile
+     */
+    public @NonNull LoggingSystem configureAsyncFileLogging(final String logFile) {
+        final Configuration configuration = ConfigurationBuilder.create()
+                .withConverter(new ConfigLevelConverter())
+                .withConverter(new MarkerStateConverter())
+                .withValue("logging.level", "trace")
+                .withValue("logging.handler.file.type", "asyncFile")
+                .withValue("logging.handler.file.enabled", "true")
+                .withValue("logging.handler.file.formatTimestamp", ConfigManagement.formatTimestamp() + "")
+                .withValue("logging.handler.file.level", "trace")
+                .withValue("logging.handler.file.file", logFile)
+                .withValue("logging.handler.file.file-rolling.maxFileSize", "500MB")
+                .withValue("logging.handler.file.file-rolling.maxFiles", "1")
+                .build();
+
+        return configure(configuration);
+    }
+
     /**
      * {@inheritDoc}
      */
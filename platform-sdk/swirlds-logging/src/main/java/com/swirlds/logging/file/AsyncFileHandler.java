@@ -0,0 +1,358 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.logging.file;
+
+import static com.swirlds.logging.api.extensions.handler.LogHandler.PROPERTY_HANDLER;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.extensions.handler.AbstractLogHandler;
+import com.swirlds.logging.api.internal.format.FormattedLinePrinter;
+import com.swirlds.logging.io.OutputStreamFactory;
+import com.swirlds.logging.utils.ConfigUtils;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link com.swirlds.logging.api.extensions.handler.LogHandler} that writes log events to a file asynchronously.
+ * <p>
+ * Logging threads only copy their events into a preallocated, lock-free ring buffer. A single background thread
+ * formats the events and writes them to a buffered file, with the same format and optional rolling as the
+ * {@link FileHandler}; so a logging thread never waits for the formatting, for the lock of the output stream or for
+ * the disk. The background thread flushes the file whenever it has written all buffered events.
+ * <p>
+ * When the ring buffer is full, the {@link OverflowPolicy} decides whether a logging thread waits for a free slot or
+ * drops its event. Dropped events are counted, see {@link #getDroppedCount()}. All handlers that are running are
+ * available from {@link #getActiveHandlers()}, so that the platform can report their queue depth and drops as metrics.
+ * <p>
+ * Next to the properties of the {@link FileHandler}, the handler can be configured with the following properties:
+ * <ul>
+ *     <li>{@code async.bufferSize} - The number of events the ring buffer can hold, rounded up to a power of two.
+ *     Defaults to {@value #DEFAULT_BUFFER_SIZE}.</li>
+ *     <li>{@code async.overflowPolicy} - The {@link OverflowPolicy} of the handler. Defaults to {@code BLOCK}.</li>
+ *     <li>{@code async.overflowLevel} - The least severe level that is not dropped with the
+ *     {@link OverflowPolicy#DROP_BELOW_LEVEL} policy. Defaults to {@code WARN}.</li>
+ * </ul>
+ */
+public class AsyncFileHandler extends AbstractLogHandler {
+
+    /**
+     * What a logging thread does with its event when the ring buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Waits until the background thread frees a slot.
+         */
+        BLOCK,
+        /**
+         * Drops events less severe than the configured overflow level; waits with all other events.
+         */
+        DROP_BELOW_LEVEL,
+        /**
+         * Drops the event.
+         */
+        DROP
+    }
+
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.BLOCK;
+    private static final Level DEFAULT_OVERFLOW_LEVEL = Level.WARN;
+    private static final String BUFFER_SIZE_PROPERTY = ".async.bufferSize";
+    private static final String OVERFLOW_POLICY_PROPERTY = ".async.overflowPolicy";
+    private static final String OVERFLOW_LEVEL_PROPERTY = ".async.overflowLevel";
+
+    private static final int EVENT_LOG_PRINTER_SIZE = 4 * 1024;
+    private static final long WRITER_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long PRODUCER_WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long STOP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    /**
+     * The handlers that have been created and not stopped yet.
+     */
+    private static final Set<AsyncFileHandler> ACTIVE_HANDLERS = ConcurrentHashMap.newKeySet();
+
+    private final LogEventRingBuffer buffer;
+    private final OutputStream outputStream;
+    private final FormattedLinePrinter format;
+    private final OverflowPolicy overflowPolicy;
+    private final Level overflowLevel;
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread writerThread;
+
+    /**
+     * Only used by the writer thread.
+     */
+    private final StringBuilder lineBuilder = new StringBuilder(EVENT_LOG_PRINTER_SIZE);
+
+    /**
+     * Only used by the writer thread.
+     */
+    private boolean unflushed = false;
+
+    private volatile boolean running = true;
+    private volatile boolean writerParked = false;
+
+    /**
+     * Creates a new asynchronous file handler and starts its writer thread.
+     *
+     * @param handlerName   the unique handler name
+     * @param configuration the configuration
+     * @throws IOException if the log file can not be created
+     */
+    public AsyncFileHandler(@NonNull final String handlerName, @NonNull final Configuration configuration)
+            throws IOException {
+        this(handlerName, configuration, createOutputStream(handlerName, configuration));
+    }
+
+    /**
+     * Creates a new asynchronous handler writing to the given stream and starts its writer thread.
+     *
+     * @param handlerName   the unique handler name
+     * @param configuration the configuration
+     * @param outputStream  the stream to write to, closed when the handler is stopped
+     */
+    AsyncFileHandler(
+            @NonNull final String handlerName,
+            @NonNull final Configuration configuration,
+            @NonNull final OutputStream outputStream) {
+        super(handlerName, configuration);
+
+        final String propertyPrefix = PROPERTY_HANDLER.formatted(handlerName);
+        this.buffer = new LogEventRingBuffer(ConfigUtils.configValueOrElse(
+                configuration, propertyPrefix + BUFFER_SIZE_PROPERTY, Integer.class, DEFAULT_BUFFER_SIZE));
+        this.overflowPolicy = enumValueOrElse(
+                configuration,
+                propertyPrefix + OVERFLOW_POLICY_PROPERTY,
+                OverflowPolicy.class,
+                DEFAULT_OVERFLOW_POLICY);
+        this.overflowLevel = enumValueOrElse(
+                configuration, propertyPrefix + OVERFLOW_LEVEL_PROPERTY, Level.class, DEFAULT_OVERFLOW_LEVEL);
+        this.format = FormattedLinePrinter.createForHandler(handlerName, configuration);
+        this.outputStream = Objects.requireNonNull(outputStream, "outputStream must not be null");
+        this.writerThread = new Thread(this::runWriter, "swirlds-logging-" + handlerName);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        ACTIVE_HANDLERS.add(this);
+    }
+
+    /**
+     * Copies the log event into the ring buffer for the writer thread. If the buffer is full, the event is dropped or
+     * the calling thread waits for a free slot, depending on the {@link OverflowPolicy}.
+     *
+     * @param event The log event to be printed.
+     */
+    @Override
+    public void handle(@NonNull final LogEvent event) {
+        if (!running) {
+            // FORWARDING the event to the emergency logger
+            EMERGENCY_LOGGER.log(event);
+            return;
+        }
+        if (!buffer.tryPublish(event)) {
+            if (overflowPolicy == OverflowPolicy.DROP
+                    || (overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL
+                            && !overflowLevel.enabledLoggingOfLevel(event.level()))) {
+                droppedCount.increment();
+                return;
+            }
+            while (!buffer.tryPublish(event)) {
+                // A writer thread that died will never free a slot
+                if (!running || !writerThread.isAlive()) {
+                    EMERGENCY_LOGGER.log(event);
+                    return;
+                }
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(PRODUCER_WAIT_PARK_NANOS);
+            }
+        }
+        if (writerParked) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Waits until the writer thread has written all events handled so far, then flushes the file.
+     */
+    @Override
+    public void flush() {
+        final long target = buffer.claimedSequence();
+        while (buffer.consumedSequence() < target && writerThread.isAlive()) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(PRODUCER_WAIT_PARK_NANOS);
+        }
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            EMERGENCY_LOGGER.log(Level.WARN, "Failed to flush to file output stream " + this.getName(), e);
+        }
+    }
+
+    /**
+     * Stops the handler, waits for the writer thread to write all buffered events and closes the file. Events
+     * handled afterwards are forwarded to the emergency logger.
+     */
+    @Override
+    public void stopAndFinalize() {
+        super.stopAndFinalize();
+        ACTIVE_HANDLERS.remove(this);
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writerThread.isAlive()) {
+            // Events published by threads that raced with stopping the writer
+            buffer.drainTo(this::write);
+        }
+        try {
+            outputStream.close();
+        } catch (final Exception exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to close file output stream", exception);
+        }
+    }
+
+    /**
+     * Returns the number of events in the ring buffer that have not been written yet.
+     *
+     * @return the queue depth of the handler
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * Returns the number of events the ring buffer can hold.
+     *
+     * @return the capacity of the ring buffer
+     */
+    public int getQueueCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns the number of events dropped because the ring buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Returns the handlers that have been created and not stopped yet.
+     *
+     * @return an unmodifiable view of the active handlers
+     */
+    @NonNull
+    public static Collection<AsyncFileHandler> getActiveHandlers() {
+        return Collections.unmodifiableSet(ACTIVE_HANDLERS);
+    }
+
+    private void runWriter() {
+        while (true) {
+            if (buffer.drainTo(this::write) > 0) {
+                continue;
+            }
+            flushIfNeeded();
+            if (!running && buffer.size() == 0) {
+                return;
+            }
+            writerParked = true;
+            if (buffer.size() == 0 && running) {
+                LockSupport.parkNanos(this, WRITER_IDLE_PARK_NANOS);
+            } else {
+                // A publisher has claimed a slot but not finished copying its event yet
+                Thread.onSpinWait();
+            }
+            writerParked = false;
+        }
+    }
+
+    private void write(@NonNull final LogEvent event) {
+        lineBuilder.setLength(0);
+        // A failure must only lose this event, since the writer thread is the only one consuming the buffer
+        try {
+            format.print(lineBuilder, event);
+            outputStream.write(lineBuilder.toString().getBytes(StandardCharsets.UTF_8));
+            unflushed = true;
+        } catch (final Exception exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write log event to file output stream", exception);
+            // FORWARDING the event to the emergency logger
+            EMERGENCY_LOGGER.log(event);
+        }
+        if (lineBuilder.capacity() > 16 * EVENT_LOG_PRINTER_SIZE) {
+            // Do not keep the memory of an exceptionally large event
+            lineBuilder.setLength(0);
+            lineBuilder.trimToSize();
+        }
+    }
+
+    private void flushIfNeeded() {
+        if (unflushed) {
+            unflushed = false;
+            try {
+                outputStream.flush();
+            } catch (IOException e) {
+                EMERGENCY_LOGGER.log(Level.WARN, "Failed to flush to file output stream " + this.getName(), e);
+            }
+        }
+    }
+
+    @NonNull
+    private static OutputStream createOutputStream(
+            @NonNull final String handlerName, @NonNull final Configuration configuration) throws IOException {
+        try {
+            return OutputStreamFactory.getInstance().bufferedOutputStream(configuration, handlerName);
+        } catch (IOException e) {
+            throw new IOException("Could not create AsyncFileHandler", e);
+        }
+    }
+
+    @NonNull
+    private static <E extends Enum<E>> E enumValueOrElse(
+            @NonNull final Configuration configuration,
+            @NonNull final String propertyName,
+            @NonNull final Class<E> type,
+            @NonNull final E orElseValue) {
+        final String value = configuration.getValue(propertyName, String.class, null);
+        if (value == null || value.isBlank()) {
+            return orElseValue;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            EMERGENCY_LOGGER.log(
+                    Level.WARN, "Invalid value '" + value + "' for " + propertyName + ", using " + orElseValue, e);
+            return orElseValue;
+        }
+    }
+}
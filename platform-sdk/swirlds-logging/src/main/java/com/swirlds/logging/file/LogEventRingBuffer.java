@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.logging.file;
+
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.extensions.event.LogMessage;
+import com.swirlds.logging.api.internal.event.MutableLogEvent;
+import com.swirlds.logging.api.internal.event.SimpleLogMessage;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free ring buffer of log events with any number of publishing threads and a single consuming thread.
+ * <p>
+ * The buffer preallocates one {@link MutableLogEvent} per slot and copies every published event into a slot, since
+ * the events a logger passes to its handlers are reused by the logging thread. The message of an event is formatted
+ * when it is published, so that later changes to the message parameters do not change what is logged.
+ * <p>
+ * A publisher claims the next sequence number with a CAS, copies the event into the slot of that sequence and then
+ * marks the slot as published with that sequence. The consumer handles the slots in sequence order as long as they
+ * are published, and releases each slot to publishers after it has been handled.
+ */
+final class LogEventRingBuffer {
+
+    /**
+     * The slots of the buffer, one preallocated event per slot.
+     */
+    private final MutableLogEvent[] slots;
+
+    /**
+     * The sequence number last published in each slot, or -1 if the slot has not been published yet.
+     */
+    private final AtomicLongArray publishedSequences;
+
+    /**
+     * The mask to map a sequence number to its slot index.
+     */
+    private final int mask;
+
+    /**
+     * The next sequence number to claim by a publisher.
+     */
+    private final AtomicLong claimed = new AtomicLong();
+
+    /**
+     * The next sequence number to handle by the consumer. Only the consumer updates it.
+     */
+    private final AtomicLong consumed = new AtomicLong();
+
+    /**
+     * Creates a new ring buffer.
+     *
+     * @param minCapacity the minimal number of events the buffer can hold; rounded up to a power of two
+     * @throws IllegalArgumentException if {@code minCapacity} is not positive or too large
+     */
+    LogEventRingBuffer(final int minCapacity) {
+        if (minCapacity <= 0 || minCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("minCapacity must be in (0, 2^30], but is " + minCapacity);
+        }
+        final int capacity = minCapacity == 1 ? 1 : Integer.highestOneBit(minCapacity - 1) << 1;
+        this.slots = new MutableLogEvent[capacity];
+        this.publishedSequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new MutableLogEvent();
+            publishedSequences.set(i, -1L);
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Tries to copy the given event into the buffer.
+     *
+     * @param event the event to publish
+     * @return true if the event has been published, false if the buffer is full
+     */
+    boolean tryPublish(@NonNull final LogEvent event) {
+        Objects.requireNonNull(event, "event must not be null");
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        final int index = (int) (sequence & mask);
+        slots[index].update(
+                event.level(),
+                event.loggerName(),
+                event.threadName(),
+                event.timestamp(),
+                snapshotOf(event.message()),
+                event.throwable(),
+                event.marker(),
+                event.context());
+        publishedSequences.set(index, sequence);
+        return true;
+    }
+
+    /**
+     * Passes all events published in sequence to the given consumer and releases their slots. Must only be called by
+     * the single consuming thread. The events passed to the consumer must not be used after the consumer returns.
+     *
+     * @param consumer the consumer of the events
+     * @return the number of events consumed
+     */
+    int drainTo(@NonNull final Consumer<LogEvent> consumer) {
+        long next = consumed.get();
+        int count = 0;
+        int index = (int) (next & mask);
+        while (publishedSequences.get(index) == next) {
+            consumer.accept(slots[index]);
+            consumed.set(++next);
+            count++;
+            index = (int) (next & mask);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of events claimed by publishers that have not been consumed yet.
+     *
+     * @return the number of events in the buffer
+     */
+    int size() {
+        final long consumedSequence = consumed.get();
+        return (int) Math.max(0L, claimed.get() - consumedSequence);
+    }
+
+    /**
+     * Returns the number of events the buffer can hold.
+     *
+     * @return the capacity of the buffer
+     */
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the sequence number the next claimed event will get; all events published so far have lower ones.
+     *
+     * @return the next sequence number to claim
+     */
+    long claimedSequence() {
+        return claimed.get();
+    }
+
+    /**
+     * Returns the sequence number of the next event to consume; all events with lower ones have been consumed.
+     *
+     * @return the next sequence number to consume
+     */
+    long consumedSequence() {
+        return consumed.get();
+    }
+
+    @NonNull
+    private static LogMessage snapshotOf(@NonNull final LogMessage message) {
+        return message instanceof SimpleLogMessage ? message : new SimpleLogMessage(message.getMessage());
+    }
+}
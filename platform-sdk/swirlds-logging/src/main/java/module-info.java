@@ -1,6 +1,7 @@
 import com.swirlds.logging.api.extensions.handler.LogHandlerFactory;
 import com.swirlds.logging.api.extensions.provider.LogProviderFactory;
 import com.swirlds.logging.console.ConsoleHandlerFactory;
+import com.swirlds.logging.file.AsyncFileHandlerFactory;
 import com.swirlds.logging.file.FileHandlerFactory;
 
 module com.swirlds.logging {
@@ -17,6 +18,8 @@ module com.swirlds.logging {
     exports com.swirlds.logging.api.internal.emergency to
             com.swirlds.logging.test.fixtures;
     exports com.swirlds.logging.api.internal.format;
+    exports com.swirlds.logging.file to
+            com.swirlds.platform.core;
     exports com.swirlds.logging.api.internal;
     exports com.swirlds.logging.api.internal.event;
     exports com.swirlds.logging.api.internal.configuration;
@@ -37,5 +40,6 @@ module com.swirlds.logging {
 
     provides LogHandlerFactory with
             ConsoleHandlerFactory,
-            FileHandlerFactory;
+            FileHandlerFactory,
+            AsyncFileHandlerFactory;
 }
@@ -0,0 +1,309 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.file;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.extensions.event.LogEventFactory;
+import com.swirlds.logging.api.internal.event.SimpleLogEventFactory;
+import com.swirlds.logging.file.AsyncFileHandler.OverflowPolicy;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class AsyncFileHandlerTest {
+
+    private static final String HANDLER_NAME = "asyncTest";
+
+    private final LogEventFactory eventFactory = new SimpleLogEventFactory();
+
+    @Test
+    void writesEventsInOrderAndFlushWaitsForThem() {
+        // given
+        final RecordingOutputStream out = new RecordingOutputStream();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, config(4, OverflowPolicy.BLOCK), out);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            handler.handle(event(Level.INFO, "message-" + i));
+        }
+        handler.flush();
+
+        // then
+        final String written = out.written();
+        int previous = -1;
+        for (int i = 0; i < 100; i++) {
+            final int index = written.indexOf("message-" + i + System.lineSeparator());
+            assertTrue(index > previous, "message-" + i + " should be written after the previous one");
+            previous = index;
+        }
+        assertTrue(out.flushes.get() > 0, "flush() flushes the stream");
+        assertEquals(0, handler.getQueueDepth());
+        assertEquals(0, handler.getDroppedCount());
+        handler.stopAndFinalize();
+    }
+
+    @Test
+    void handlerIsActiveUntilStopped() {
+        // given
+        final AsyncFileHandler handler =
+                new AsyncFileHandler(HANDLER_NAME, config(4, OverflowPolicy.BLOCK), new RecordingOutputStream());
+
+        // then
+        assertTrue(AsyncFileHandler.getActiveHandlers().contains(handler));
+        handler.stopAndFinalize();
+        assertFalse(AsyncFileHandler.getActiveHandlers().contains(handler));
+    }
+
+    @Test
+    void dropPolicyDropsEventsWhenBufferIsFull() throws Exception {
+        // given
+        final StallingOutputStream out = new StallingOutputStream();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, config(2, OverflowPolicy.DROP), out);
+        fillWhileWriterStalls(handler, out);
+
+        // when
+        handler.handle(event(Level.ERROR, "dropped-1"));
+        handler.handle(event(Level.INFO, "dropped-2"));
+        out.release();
+        handler.stopAndFinalize();
+
+        // then
+        assertEquals(2, handler.getDroppedCount());
+        assertTrue(out.written().contains("stalled"));
+        assertTrue(out.written().contains("buffered"));
+        assertFalse(out.written().contains("dropped"));
+    }
+
+    @Test
+    void dropBelowLevelPolicyOnlyDropsLessSevereEvents() throws Exception {
+        // given
+        final StallingOutputStream out = new StallingOutputStream();
+        final AsyncFileHandler handler =
+                new AsyncFileHandler(HANDLER_NAME, config(2, OverflowPolicy.DROP_BELOW_LEVEL), out);
+        fillWhileWriterStalls(handler, out);
+
+        // when
+        handler.handle(event(Level.INFO, "dropped"));
+        final CompletableFuture<Void> severe =
+                CompletableFuture.runAsync(() -> handler.handle(event(Level.WARN, "kept")));
+
+        // then
+        assertThrows(TimeoutException.class, () -> severe.get(200, MILLISECONDS), "WARN waits for a free slot");
+        out.release();
+        severe.get(10, SECONDS);
+        handler.stopAndFinalize();
+        assertEquals(1, handler.getDroppedCount());
+        assertTrue(out.written().contains("kept"));
+        assertFalse(out.written().contains("dropped"));
+    }
+
+    @Test
+    void blockPolicyWaitsForFreeSlot() throws Exception {
+        // given
+        final StallingOutputStream out = new StallingOutputStream();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, config(2, OverflowPolicy.BLOCK), out);
+        fillWhileWriterStalls(handler, out);
+
+        // when
+        final CompletableFuture<Void> blocked =
+                CompletableFuture.runAsync(() -> handler.handle(event(Level.TRACE, "kept")));
+
+        // then
+        assertThrows(TimeoutException.class, () -> blocked.get(200, MILLISECONDS), "Event waits for a free slot");
+        out.release();
+        blocked.get(10, SECONDS);
+        handler.stopAndFinalize();
+        assertEquals(0, handler.getDroppedCount());
+        final String written = out.written();
+        assertTrue(written.indexOf("stalled") < written.indexOf("buffered"));
+        assertTrue(written.indexOf("buffered") < written.indexOf("kept"));
+    }
+
+    @Test
+    void blockedEventIsNotStuckWhenWriterThreadDied() {
+        // given
+        final AtomicBoolean failed = new AtomicBoolean();
+        final RecordingOutputStream out = new RecordingOutputStream() {
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                if (failed.compareAndSet(false, true)) {
+                    // Not an Exception, so it kills the writer thread
+                    throw new WriterKillingError();
+                }
+                super.write(b, off, len);
+            }
+        };
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, config(2, OverflowPolicy.BLOCK), out);
+
+        // when
+        handler.handle(event(Level.INFO, "first"));
+        handler.handle(event(Level.INFO, "second"));
+
+        // then
+        assertTimeoutPreemptively(
+                Duration.ofSeconds(10),
+                () -> handler.handle(event(Level.INFO, "forwarded")),
+                "A full buffer without writer must not block forever");
+        // Stopping writes the events the dead writer left in the buffer
+        handler.stopAndFinalize();
+        assertTrue(out.written().contains("first"));
+        assertTrue(out.written().contains("second"));
+        assertFalse(out.written().contains("forwarded"));
+    }
+
+    @Test
+    void failingEventDoesNotStopWriter() {
+        // given
+        final RecordingOutputStream out = new RecordingOutputStream() {
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                if (new String(b, off, len, StandardCharsets.UTF_8).contains("poison")) {
+                    throw new IllegalStateException("intentional failure");
+                }
+                super.write(b, off, len);
+            }
+        };
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, config(4, OverflowPolicy.BLOCK), out);
+
+        // when
+        handler.handle(event(Level.INFO, "poison"));
+        handler.handle(event(Level.INFO, "after"));
+        handler.flush();
+
+        // then
+        assertTrue(out.written().contains("after"));
+        assertFalse(out.written().contains("poison"));
+        handler.stopAndFinalize();
+    }
+
+    @Test
+    void stopAndFinalizeDrainsBufferedEventsAndClosesStream() throws Exception {
+        // given
+        final StallingOutputStream out = new StallingOutputStream();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, config(2, OverflowPolicy.BLOCK), out);
+        fillWhileWriterStalls(handler, out);
+
+        // when
+        out.release();
+        handler.stopAndFinalize();
+        handler.handle(event(Level.ERROR, "after stop"));
+
+        // then
+        assertTrue(out.closed, "stream is closed");
+        assertEquals(0, handler.getQueueDepth());
+        assertTrue(out.written().contains("stalled"));
+        assertTrue(out.written().contains("buffered"));
+        assertFalse(out.written().contains("after stop"), "events after stop go to the emergency logger");
+    }
+
+    /**
+     * Stalls the writer thread in the stream while it writes its first event, then fills the rest of the buffer.
+     */
+    private void fillWhileWriterStalls(final AsyncFileHandler handler, final StallingOutputStream out)
+            throws InterruptedException {
+        handler.handle(event(Level.INFO, "stalled"));
+        assertTrue(out.stalled.await(10, SECONDS), "Writer thread should reach the stream");
+        // The stalled event still holds its slot
+        handler.handle(event(Level.INFO, "buffered"));
+        assertEquals(handler.getQueueCapacity(), handler.getQueueDepth());
+    }
+
+    private LogEvent event(final Level level, final String message) {
+        return eventFactory.createLogEvent(level, "logger", message);
+    }
+
+    private static Configuration config(final int bufferSize, final OverflowPolicy overflowPolicy) {
+        return new TestConfigBuilder()
+                .withValue("logging.handler." + HANDLER_NAME + ".async.bufferSize", bufferSize)
+                .withValue("logging.handler." + HANDLER_NAME + ".async.overflowPolicy", overflowPolicy.name())
+                .getOrCreateConfig();
+    }
+
+    private static class RecordingOutputStream extends OutputStream {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final AtomicInteger flushes = new AtomicInteger();
+        volatile boolean closed = false;
+
+        @Override
+        public void write(final int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            synchronized (bytes) {
+                bytes.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        String written() {
+            synchronized (bytes) {
+                return bytes.toString(StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private static final class StallingOutputStream extends RecordingOutputStream {
+        private final CountDownLatch stalled = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            stalled.countDown();
+            try {
+                released.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.write(b, off, len);
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+
+    private static final class WriterKillingError extends Error {}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.logging.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.extensions.event.LogEventFactory;
+import com.swirlds.logging.api.internal.event.ParameterizedLogMessage;
+import com.swirlds.logging.api.internal.event.SimpleLogEventFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LogEventRingBufferTest {
+
+    private final LogEventFactory eventFactory = new SimpleLogEventFactory();
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(1, new LogEventRingBuffer(1).capacity());
+        assertEquals(8, new LogEventRingBuffer(5).capacity());
+        assertEquals(8, new LogEventRingBuffer(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new LogEventRingBuffer(0));
+    }
+
+    @Test
+    void refusesEventsWhenFullAndFreesSlotsWhenDrained() {
+        // given
+        final LogEventRingBuffer buffer = new LogEventRingBuffer(2);
+
+        // when
+        assertTrue(buffer.tryPublish(eventFactory.createLogEvent(Level.INFO, "logger", "first")));
+        assertTrue(buffer.tryPublish(eventFactory.createLogEvent(Level.INFO, "logger", "second")));
+        final boolean publishedWhenFull =
+                buffer.tryPublish(eventFactory.createLogEvent(Level.INFO, "logger", "third"));
+        final List<String> messages = new ArrayList<>();
+        final int drained = buffer.drainTo(event -> messages.add(event.message().getMessage()));
+
+        // then
+        assertFalse(publishedWhenFull);
+        assertEquals(2, drained);
+        assertEquals(List.of("first", "second"), messages);
+        assertEquals(0, buffer.size());
+        assertTrue(buffer.tryPublish(eventFactory.createLogEvent(Level.INFO, "logger", "third")));
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    void copiesEventAndFormatsMessageWhenPublished() {
+        // given
+        final LogEventRingBuffer buffer = new LogEventRingBuffer(4);
+        final StringBuilder argument = new StringBuilder("before");
+        final LogEvent event = eventFactory.createLogEvent(
+                Level.WARN, "logger", new ParameterizedLogMessage("value {}", argument), null, null, Map.of());
+
+        // when
+        buffer.tryPublish(event);
+        argument.setLength(0);
+        argument.append("after");
+        final List<LogEvent> copies = new ArrayList<>();
+        buffer.drainTo(copies::add);
+
+        // then
+        assertEquals(1, copies.size());
+        assertEquals("value before", copies.get(0).message().getMessage());
+        assertEquals(Level.WARN, copies.get(0).level());
+        assertEquals("logger", copies.get(0).loggerName());
+        assertEquals(event.threadName(), copies.get(0).threadName());
+        assertEquals(event.timestamp(), copies.get(0).timestamp());
+    }
+
+    @Test
+    void consumesEventsOfConcurrentPublishersInOrderOfEachPublisher() throws InterruptedException {
+        // given
+        final int publishers = 4;
+        final int eventsPerPublisher = 10_000;
+        final LogEventRingBuffer buffer = new LogEventRingBuffer(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(publishers);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int p = 0; p < publishers; p++) {
+            final String loggerName = "publisher" + p;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < eventsPerPublisher; i++) {
+                    final LogEvent event = eventFactory.createLogEvent(Level.INFO, loggerName, Integer.toString(i));
+                    while (!buffer.tryPublish(event)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        final int[] nextExpected = new int[publishers];
+        int consumed = 0;
+        while (consumed < publishers * eventsPerPublisher) {
+            consumed += buffer.drainTo(event -> {
+                final int publisher = Integer.parseInt(event.loggerName().substring("publisher".length()));
+                assertEquals(nextExpected[publisher]++, Integer.parseInt(event.message().getMessage()));
+            });
+        }
+        executor.shutdown();
+
+        // then
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        for (int p = 0; p < publishers; p++) {
+            assertEquals(eventsPerPublisher, nextExpected[p]);
+        }
+        assertEquals(0, buffer.size());
+    }
+}
@@ -816,20 +816,31 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             // create snapshot dir if it doesn't exist
             Files.createDirectories(snapshotDirectory);
             final MerkleDbPaths snapshotDbPaths = new MerkleDbPaths(snapshotDirectory);
+            // in-memory indices and hashes may be written as deltas over their previous snapshot, whose files are
+            // kept in this data source's own storage directory, since the snapshot directory may be moved or deleted
+            final int maxSnapshotDeltaChainLength = database.getConfig().maxSnapshotDeltaChainLength();
+            final Path deltaBaseDirectory = dbPaths.snapshotDeltaBaseDirectory;
             // main snapshotting process in multiple-threads
             try {
                 final CountDownLatch countDownLatch = new CountDownLatch(7);
                 // write all data stores
                 runWithSnapshotExecutor(true, countDownLatch, "pathToDiskLocationInternalNodes", () -> {
-                    pathToDiskLocationInternalNodes.writeToFile(snapshotDbPaths.pathToDiskLocationInternalNodesFile);
+                    pathToDiskLocationInternalNodes.writeToFile(
+                            snapshotDbPaths.pathToDiskLocationInternalNodesFile,
+                            maxSnapshotDeltaChainLength,
+                            deltaBaseDirectory);
                     return true;
                 });
                 runWithSnapshotExecutor(true, countDownLatch, "pathToDiskLocationLeafNodes", () -> {
-                    pathToDiskLocationLeafNodes.writeToFile(snapshotDbPaths.pathToDiskLocationLeafNodesFile);
+                    pathToDiskLocationLeafNodes.writeToFile(
+                            snapshotDbPaths.pathToDiskLocationLeafNodesFile,
+                            maxSnapshotDeltaChainLength,
+                            deltaBaseDirectory);
                     return true;
                 });
                 runWithSnapshotExecutor(hashStoreRam != null, countDownLatch, "internalHashStoreRam", () -> {
-                    hashStoreRam.writeToFile(snapshotDbPaths.hashStoreRamFile);
+                    hashStoreRam.writeToFile(
+                            snapshotDbPaths.hashStoreRamFile, maxSnapshotDeltaChainLength, deltaBaseDirectory);
                     return true;
                 });
                 runWithSnapshotExecutor(hashStoreDisk != null, countDownLatch, "internalHashStoreDisk", () -> {
@@ -31,6 +31,7 @@ public class MerkleDbPaths {
     public final Path hashStoreDiskDirectory;
     public final Path keyToPathDirectory;
     public final Path pathToKeyValueDirectory;
+    public final Path snapshotDeltaBaseDirectory;
 
     /**
      * Create a set of all the sub-paths for stored data in a MerkleDb data source.
@@ -47,5 +48,6 @@ public class MerkleDbPaths {
         hashStoreDiskDirectory = storageDir.resolve("internalHashStoreDisk");
         keyToPathDirectory = storageDir.resolve("objectKeyToPath");
         pathToKeyValueDirectory = storageDir.resolve("pathToHashKeyValue");
+        snapshotDeltaBaseDirectory = storageDir.resolve("snapshotDeltaBase");
     }
 }
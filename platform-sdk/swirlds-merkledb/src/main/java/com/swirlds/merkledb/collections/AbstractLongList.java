@@ -27,6 +27,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -126,6 +127,9 @@ public abstract class AbstractLongList<C> implements LongList {
      */
     protected final long reservedBufferLength;
 
+    /** Tracks the chunks changed since the last incremental snapshot, null until the first one is written */
+    private volatile SnapshotDeltas snapshotDeltas;
+
     /**
      * Construct a new LongList with the specified number of longs per chunk and maximum number of
      * longs.
@@ -166,6 +170,7 @@ public abstract class AbstractLongList<C> implements LongList {
      * @throws IOException If there was a problem reading the file
      */
     protected AbstractLongList(final Path path, final long reservedBufferLength) throws IOException {
+        SnapshotDeltas.compact(path, AbstractLongList::readSnapshotLayout);
         final File file = path.toFile();
         this.reservedBufferLength = reservedBufferLength;
         if (!file.exists() || file.length() == 0) {
@@ -297,6 +302,7 @@ public abstract class AbstractLongList<C> implements LongList {
         final C chunk = createOrGetChunk(index);
         final int subIndex = toIntExact(index % numLongsPerChunk);
         putToChunk(chunk, subIndex, value);
+        markChunkDirty(toIntExact(index / numLongsPerChunk));
     }
 
     /**
@@ -334,6 +340,7 @@ public abstract class AbstractLongList<C> implements LongList {
         if (result) {
             // update the size if necessary
             size.getAndUpdate(oldSize -> index >= oldSize ? (index + 1) : oldSize);
+            markChunkDirty(chunkIndex);
         }
         return result;
     }
@@ -413,6 +420,108 @@ public abstract class AbstractLongList<C> implements LongList {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Chunks are tracked from the first call of this method on, so that call always writes a full file.
+     */
+    @Override
+    public void writeToFile(final Path file, final int maxDeltaChainLength, final Path baseDirectory)
+            throws IOException {
+        if (maxDeltaChainLength <= 0) {
+            writeToFile(file);
+            return;
+        }
+        if (snapshotDeltas == null) {
+            snapshotDeltas = new SnapshotDeltas(chunkList.length());
+        }
+        snapshotDeltas.writeSnapshot(new SnapshotDeltas.Source() {
+            @Override
+            public void writeFull(@NonNull final Path fullFile) throws IOException {
+                writeToFile(fullFile);
+            }
+
+            @NonNull
+            @Override
+            public ByteBuffer header() {
+                return headerBuffer();
+            }
+
+            @NonNull
+            @Override
+            public SnapshotDeltas.Layout layout() {
+                final long min = minValidIndex.get();
+                return min < 0
+                        ? new SnapshotDeltas.Layout(currentFileHeaderSize, 0, 0, Long.BYTES, numLongsPerChunk)
+                        : new SnapshotDeltas.Layout(currentFileHeaderSize, min, size(), Long.BYTES, numLongsPerChunk);
+            }
+
+            @Override
+            public void copyChunk(final int chunkIndex, @NonNull final ByteBuffer target) {
+                final C chunk = chunkList.get(chunkIndex);
+                if (chunk == null) {
+                    while (target.hasRemaining()) {
+                        target.putLong(IMPERMISSIBLE_VALUE);
+                    }
+                } else {
+                    copyChunkData(chunk, target);
+                }
+            }
+        }, file, maxDeltaChainLength, baseDirectory);
+    }
+
+    /**
+     * Copies all longs of a chunk into the target buffer, in native byte order as in the list files. The target
+     * has exactly the size of a chunk remaining.
+     *
+     * @param chunk the chunk to copy
+     * @param target the buffer to copy into
+     */
+    protected void copyChunkData(@NonNull final C chunk, @NonNull final ByteBuffer target) {
+        final ByteOrder order = target.order();
+        target.order(ByteOrder.nativeOrder());
+        for (int i = 0; i < numLongsPerChunk; i++) {
+            target.putLong(lookupInChunk(chunk, i));
+        }
+        target.order(order);
+    }
+
+    /**
+     * Records a change of the given chunk for the next incremental snapshot.
+     *
+     * @param chunkIndex the index of the changed chunk
+     */
+    private void markChunkDirty(final int chunkIndex) {
+        final SnapshotDeltas deltas = snapshotDeltas;
+        if (deltas != null) {
+            deltas.markDirty(chunkIndex);
+        }
+    }
+
+    /**
+     * Reads the layout of the longs in a list file, for compacting its snapshot deltas.
+     *
+     * @param fc the channel of the file
+     * @return the layout of the file
+     * @throws IOException if the header could not be read
+     */
+    private static SnapshotDeltas.Layout readSnapshotLayout(@NonNull final FileChannel fc) throws IOException {
+        final int formatVersion = readFromFileChannel(fc, VERSION_METADATA_SIZE).getInt();
+        if (formatVersion != MIN_VALID_INDEX_SUPPORT_VERSION) {
+            // Deltas are only ever written after a full file in the current format
+            throw new IOException("Cannot apply snapshot deltas to a file of format version " + formatVersion);
+        }
+        final ByteBuffer headerBuffer = readFromFileChannel(fc, FORMAT_METADATA_SIZE_V2);
+        final int numLongsPerChunk = headerBuffer.getInt();
+        headerBuffer.getLong(); // maxLongs
+        final long minValidIndex = headerBuffer.getLong();
+        final long numLongs = (fc.size() - FILE_HEADER_SIZE_V2) / Long.BYTES;
+        return minValidIndex < 0
+                ? new SnapshotDeltas.Layout(FILE_HEADER_SIZE_V2, 0, 0, Long.BYTES, numLongsPerChunk)
+                : new SnapshotDeltas.Layout(
+                        FILE_HEADER_SIZE_V2, minValidIndex, minValidIndex + numLongs, Long.BYTES, numLongsPerChunk);
+    }
+
     /**
      * Write or rewrite header in file
      *
@@ -420,6 +529,12 @@ public abstract class AbstractLongList<C> implements LongList {
      * @throws IOException If there was a problem writing header
      */
     protected final void writeHeader(final FileChannel fc) throws IOException {
+        // always write at start of file
+        MerkleDbFileUtils.completelyWrite(fc, headerBuffer(), 0);
+        fc.position(currentFileHeaderSize);
+    }
+
+    private ByteBuffer headerBuffer() {
         final ByteBuffer headerBuffer = ByteBuffer.allocate(currentFileHeaderSize);
         headerBuffer.rewind();
         headerBuffer.putInt(CURRENT_FILE_FORMAT_VERSION);
@@ -428,9 +543,7 @@ public abstract class AbstractLongList<C> implements LongList {
         headerBuffer.putLong(minValidIndex.get());
         // maxValidIndex is not written. On loading, it will be set automatically based on the size
         headerBuffer.flip();
-        // always write at start of file
-        MerkleDbFileUtils.completelyWrite(fc, headerBuffer, 0);
-        fc.position(currentFileHeaderSize);
+        return headerBuffer;
     }
 
     /**
@@ -516,6 +629,7 @@ public abstract class AbstractLongList<C> implements LongList {
             final C chunk = chunkList.get(i);
             if (chunk != null && chunkList.compareAndSet(i, chunk, null)) {
                 closeChunk(chunk);
+                markChunkDirty(i);
             }
         }
 
@@ -525,6 +639,7 @@ public abstract class AbstractLongList<C> implements LongList {
         C chunk = chunkList.get(firstChunkWithDataIndex);
         if (chunk != null && numberOfElementsToCleanUp > 0) {
             partialChunkCleanup(chunk, true, numberOfElementsToCleanUp);
+            markChunkDirty(firstChunkWithDataIndex);
         }
 
         // clean up chunk(s) reserved for buffer
@@ -532,6 +647,7 @@ public abstract class AbstractLongList<C> implements LongList {
             chunk = chunkList.get(i);
             if (chunk != null) {
                 partialChunkCleanup(chunk, true, numLongsPerChunk);
+                markChunkDirty(i);
             }
         }
     }
@@ -553,6 +669,7 @@ public abstract class AbstractLongList<C> implements LongList {
             final C chunk = chunkList.get(i);
             if (chunk != null && chunkList.compareAndSet(i, chunk, null)) {
                 closeChunk(chunk);
+                markChunkDirty(i);
             }
         }
 
@@ -562,6 +679,7 @@ public abstract class AbstractLongList<C> implements LongList {
         C chunk = chunkList.get(firstChunkWithDataIndex);
         if (chunk != null && numberOfEntriesToCleanUp > 0) {
             partialChunkCleanup(chunk, false, numberOfEntriesToCleanUp);
+            markChunkDirty(firstChunkWithDataIndex);
         }
 
         // clean up chunk(s) reserved for buffer
@@ -569,6 +687,7 @@ public abstract class AbstractLongList<C> implements LongList {
             chunk = chunkList.get(i);
             if (chunk != null) {
                 partialChunkCleanup(chunk, false, numLongsPerChunk);
+                markChunkDirty(i);
             }
         }
     }
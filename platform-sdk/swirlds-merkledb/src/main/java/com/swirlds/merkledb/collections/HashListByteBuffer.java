@@ -27,6 +27,7 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.merkledb.utilities.HashTools;
 import com.swirlds.merkledb.utilities.MemoryUtils;
 import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -120,6 +121,11 @@ public final class HashListByteBuffer implements HashList, OffHeapUser {
      */
     private final boolean offHeap;
 
+    /**
+     * Tracks the buffers changed since the last incremental snapshot, null until the first one is written.
+     */
+    private volatile SnapshotDeltas snapshotDeltas;
+
     /**
      * Create a new off-heap {@link HashListByteBuffer} with default number of hashes per buffer and max capacity.
      */
@@ -134,6 +140,7 @@ public final class HashListByteBuffer implements HashList, OffHeapUser {
      * 		If there was a problem reading the file
      */
     public HashListByteBuffer(Path file) throws IOException {
+        SnapshotDeltas.compact(file, HashListByteBuffer::readSnapshotLayout);
         try (FileChannel fc = FileChannel.open(file, StandardOpenOption.READ)) {
             // read header
             ByteBuffer headerBuffer = ByteBuffer.allocate(FILE_HEADER_SIZE);
@@ -246,6 +253,10 @@ public final class HashListByteBuffer implements HashList, OffHeapUser {
         numberOfHashesStored.updateAndGet(currentValue -> Math.max(currentValue, index + 1));
         // Get the right buffer
         hashToByteBuffer(hash, getBuffer(index));
+        final SnapshotDeltas deltas = snapshotDeltas;
+        if (deltas != null) {
+            deltas.markDirty((int) (index / numHashesPerBuffer));
+        }
     }
 
     /**
@@ -289,17 +300,7 @@ public final class HashListByteBuffer implements HashList, OffHeapUser {
         final int numOfBuffers = data.size();
         try (final FileChannel fc = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
             // write header
-            ByteBuffer headerBuffer = ByteBuffer.allocate(FILE_HEADER_SIZE);
-            headerBuffer.rewind();
-            headerBuffer.putInt(FILE_FORMAT_VERSION);
-            headerBuffer.putInt(numHashesPerBuffer);
-            headerBuffer.putLong(maxHashes);
-            headerBuffer.put((byte) (offHeap ? 1 : 0));
-            headerBuffer.putLong(maxIndexThatCanBeStored.get());
-            headerBuffer.putLong(numberOfHashesStored.get());
-            headerBuffer.putInt(numOfBuffers);
-            headerBuffer.flip();
-            MerkleDbFileUtils.completelyWrite(fc, headerBuffer);
+            MerkleDbFileUtils.completelyWrite(fc, headerBuffer(numOfBuffers));
             // write data
             for (int i = 0; i < numOfBuffers; i++) {
                 ByteBuffer buf = data.get(i).slice(); // slice so we don't mess with state of stored buffer
@@ -317,6 +318,87 @@ public final class HashListByteBuffer implements HashList, OffHeapUser {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Buffers are tracked from the first call of this method on, so that call always writes a full file.
+     */
+    @Override
+    public void writeToFile(final Path file, final int maxDeltaChainLength, final Path baseDirectory)
+            throws IOException {
+        if (maxDeltaChainLength <= 0) {
+            writeToFile(file);
+            return;
+        }
+        if (snapshotDeltas == null) {
+            snapshotDeltas = new SnapshotDeltas((maxHashes - 1) / numHashesPerBuffer + 1);
+        }
+        snapshotDeltas.writeSnapshot(
+                new SnapshotDeltas.Source() {
+                    @Override
+                    public void writeFull(@NonNull final Path fullFile) throws IOException {
+                        writeToFile(fullFile);
+                    }
+
+                    @NonNull
+                    @Override
+                    public ByteBuffer header() {
+                        return headerBuffer(data.size());
+                    }
+
+                    @NonNull
+                    @Override
+                    public SnapshotDeltas.Layout layout() {
+                        return new SnapshotDeltas.Layout(
+                                FILE_HEADER_SIZE, 0, size(), HASH_SIZE_BYTES, numHashesPerBuffer);
+                    }
+
+                    @Override
+                    public void copyChunk(final int chunkIndex, @NonNull final ByteBuffer target) {
+                        if (chunkIndex < data.size()) {
+                            // slice so we don't mess with state of stored buffer
+                            target.put(data.get(chunkIndex).slice(0, memoryBufferSize));
+                        }
+                    }
+                },
+                file,
+                maxDeltaChainLength,
+                baseDirectory);
+    }
+
+    private ByteBuffer headerBuffer(final int numOfBuffers) {
+        ByteBuffer headerBuffer = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        headerBuffer.rewind();
+        headerBuffer.putInt(FILE_FORMAT_VERSION);
+        headerBuffer.putInt(numHashesPerBuffer);
+        headerBuffer.putLong(maxHashes);
+        headerBuffer.put((byte) (offHeap ? 1 : 0));
+        headerBuffer.putLong(maxIndexThatCanBeStored.get());
+        headerBuffer.putLong(numberOfHashesStored.get());
+        headerBuffer.putInt(numOfBuffers);
+        headerBuffer.flip();
+        return headerBuffer;
+    }
+
+    /**
+     * Reads the layout of the hashes in a hash list file, for compacting its snapshot deltas.
+     */
+    private static SnapshotDeltas.Layout readSnapshotLayout(@NonNull final FileChannel fc) throws IOException {
+        final ByteBuffer headerBuffer = MerkleDbFileUtils.readFromFileChannel(fc, FILE_HEADER_SIZE);
+        final int formatVersion = headerBuffer.getInt();
+        if (formatVersion != FILE_FORMAT_VERSION) {
+            throw new IOException("Tried to read a file with incompatible file format version [" + formatVersion
+                    + "], expected [" + FILE_FORMAT_VERSION + "].");
+        }
+        final int numHashesPerBuffer = headerBuffer.getInt();
+        headerBuffer.getLong(); // maxHashes
+        headerBuffer.get(); // offHeap
+        headerBuffer.getLong(); // maxIndexThatCanBeStored
+        final long numberOfHashesStored = headerBuffer.getLong();
+        return new SnapshotDeltas.Layout(
+                FILE_HEADER_SIZE, 0, numberOfHashesStored, HASH_SIZE_BYTES, numHashesPerBuffer);
+    }
+
     /**
      * Get off-heap usage of this hash list, in bytes. It's calculated as the number of
      * currently allocated buffers * number of hashes in each buffer * hash size. Even if
@@ -118,6 +118,25 @@ public interface LongList extends CASableLongIndex, Closeable {
      */
     void writeToFile(Path file) throws IOException;
 
+    /**
+     * Write this LongList into a file, or only the chunks changed since the previous call of this method into a
+     * delta file next to it, linking in the files of the previous call. A chain of deltas is never longer than
+     * the given maximum, and is compacted into a single file when the list is loaded again. The files written are
+     * also kept as hard links in the given base directory, from where the next call links them in. By default, the
+     * full list is written.
+     *
+     * @param file The file to write into, it should not exist but its parent directory should exist
+     *             and be writable.
+     * @param maxDeltaChainLength the maximum number of deltas following a full file, or 0 to always write
+     *                            the full list
+     * @param baseDirectory the directory to keep the files of the last call in, on the same file system as
+     *                      {@code file}; no other list with the same file name may use it
+     * @throws IOException If there was a problem creating or writing to the files.
+     */
+    default void writeToFile(Path file, int maxDeltaChainLength, Path baseDirectory) throws IOException {
+        writeToFile(file);
+    }
+
     /**
      * Updates min and max valid indexes in this list. If both values are -1, this indicates
      * the list is empty.
@@ -313,6 +313,16 @@ public class LongListDisk extends AbstractLongList<Long> {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void copyChunkData(@NonNull final Long chunkOffset, @NonNull final ByteBuffer target) {
+        try {
+            MerkleDbFileUtils.completelyRead(currentFileChannel, target, chunkOffset);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      *  Flushes and closes the file chanel and clears the free chunks offset list.
      */
@@ -180,6 +180,13 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void copyChunkData(@NonNull final ByteBuffer chunk, @NonNull final ByteBuffer target) {
+        // Chunks are in native byte order already
+        target.put(chunk.slice(0, chunk.capacity()));
+    }
+
     /**
      * Lookup a long in a data chunk.
      *
@@ -0,0 +1,537 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb.collections;
+
+import static com.swirlds.logging.legacy.LogMarker.MERKLE_DB;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+
+import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Incremental snapshots for the chunked collections of this package, {@link AbstractLongList} and {@link
+ * HashListByteBuffer}. Their snapshot files are made of a header followed by a contiguous range of fixed size
+ * elements, and all their changes are made a chunk at a time.
+ *
+ * <p>A snapshot may be written as a delta over the previous snapshot of the same collection. The files of the
+ * previous snapshot are hard-linked into the new snapshot directory, and a delta file with the chunks changed since
+ * then is written next to them. Snapshot directories are usually moved or deleted by their owner once written, so
+ * the files of the last snapshot are also kept as hard links in a base directory given by the owner of the
+ * collection, from where they are linked into the next snapshot. The full file keeps its usual name, and the deltas
+ * are named {@code <full file name>.delta.<n>}, starting with 1. When a collection is loaded, the delta chain is
+ * first compacted into a single full file, so the loading code never sees the deltas.
+ *
+ * <p>A delta file consists of
+ * <ol>
+ *     <li>the format version (int) and the size (int) and bytes of the full file header at the time of the delta;</li>
+ *     <li>the first and end (exclusive) element indices (longs), the element size and elements per chunk (ints);</li>
+ *     <li>any number of chunks, each a chunk index (int) followed by all the bytes of the chunk;</li>
+ *     <li>a chunk index of -1.</li>
+ * </ol>
+ *
+ * <p>Instances track which chunks of a collection changed since its last snapshot. Changes may be reported from
+ * any thread, but snapshots must not be written concurrently.
+ */
+final class SnapshotDeltas {
+
+    private static final Logger logger = LogManager.getLogger(SnapshotDeltas.class);
+
+    /** The infix between the full file name and the number of a delta file */
+    static final String DELTA_INFIX = ".delta.";
+    /** The version of the delta file format */
+    private static final int DELTA_FORMAT_VERSION = 1;
+    /** Chunk index that terminates the list of chunks in a delta file */
+    private static final int END_OF_CHUNKS = -1;
+    /** If more than this fraction of the chunks in use changed, a full snapshot is written instead of a delta */
+    private static final double MAX_DIRTY_FRACTION = 0.5;
+
+    /**
+     * The layout of the elements in a snapshot file.
+     *
+     * @param headerSize the number of bytes before the first element
+     * @param firstElement the index of the first element in the file
+     * @param endElement the index after the last element in the file
+     * @param elementSize the number of bytes of each element
+     * @param elementsPerChunk the number of elements in each chunk
+     */
+    record Layout(int headerSize, long firstElement, long endElement, int elementSize, int elementsPerChunk) {
+        int chunkSize() {
+            return elementSize * elementsPerChunk;
+        }
+    }
+
+    /**
+     * Reads the layout of a full snapshot file.
+     */
+    @FunctionalInterface
+    interface LayoutReader {
+        /**
+         * Reads the layout of the full snapshot file opened as the given channel.
+         *
+         * @param fileChannel the channel of the file, positioned at its start
+         * @return the layout of the file
+         * @throws IOException if the header could not be read or is not supported
+         */
+        Layout read(@NonNull FileChannel fileChannel) throws IOException;
+    }
+
+    /**
+     * A collection that can be written as a full or incremental snapshot.
+     */
+    interface Source {
+        /**
+         * Writes the full snapshot file of the collection.
+         *
+         * @param file the file to write
+         * @throws IOException if the file could not be written
+         */
+        void writeFull(@NonNull Path file) throws IOException;
+
+        /**
+         * Returns the current header of the full snapshot file of the collection.
+         *
+         * @return the header, from position zero to its limit
+         */
+        @NonNull
+        ByteBuffer header();
+
+        /**
+         * Returns the current layout of the elements of the collection; its header size is ignored.
+         *
+         * @return the layout
+         */
+        @NonNull
+        Layout layout();
+
+        /**
+         * Copies all the bytes of the given chunk into the target buffer, which has exactly the chunk size remaining.
+         * A chunk that is not allocated is copied as zeros.
+         *
+         * @param chunkIndex the index of the chunk
+         * @param target the buffer to copy into
+         */
+        void copyChunk(int chunkIndex, @NonNull ByteBuffer target);
+    }
+
+    /**
+     * The files of the last snapshot written, full file first, as kept in the base directory, with the keys
+     * identifying each file on disk. The keys are used to check the files are still the ones written before linking
+     * them into a new snapshot.
+     */
+    private record Chain(@NonNull List<Path> files, @NonNull List<Object> fileKeys) {
+        static Chain of(@NonNull final Path fullFile) throws IOException {
+            return new Chain(List.of(fullFile), List.of(fileKeyOf(fullFile)));
+        }
+
+        int numDeltas() {
+            return files.size() - 1;
+        }
+
+        Chain withDelta(@NonNull final Path deltaFile) throws IOException {
+            final List<Path> newFiles = new ArrayList<>(files);
+            newFiles.add(deltaFile);
+            final List<Object> newKeys = new ArrayList<>(fileKeys);
+            newKeys.add(fileKeyOf(deltaFile));
+            return new Chain(newFiles, newKeys);
+        }
+
+        /**
+         * Hard-links all files of this chain next to the given full file, under the same file names.
+         *
+         * @param fullFile the full file of the new snapshot
+         * @return true if the files were linked, false otherwise
+         */
+        boolean linkTo(@NonNull final Path fullFile) {
+            if (!files.getFirst().getFileName().equals(fullFile.getFileName())) {
+                return false;
+            }
+            final List<Path> links = new ArrayList<>(files.size());
+            try {
+                for (int i = 0; i < files.size(); i++) {
+                    final Path file = files.get(i);
+                    if (!Objects.equals(fileKeyOf(file), fileKeys.get(i))) {
+                        throw new IOException("Snapshot file " + file + " was replaced");
+                    }
+                    final Path link = fullFile.resolveSibling(file.getFileName());
+                    Files.createLink(link, file);
+                    links.add(link);
+                }
+                return true;
+            } catch (final IOException | UnsupportedOperationException e) {
+                logger.info(
+                        MERKLE_DB.getMarker(),
+                        "Cannot link snapshot files {}, writing a full snapshot: {}",
+                        files,
+                        e.toString());
+                for (final Path link : links) {
+                    try {
+                        Files.deleteIfExists(link);
+                    } catch (final IOException ignore) {
+                        // The full snapshot overwrites the full file, and nothing reads stray deltas
+                    }
+                }
+                return false;
+            }
+        }
+
+        private static Object fileKeyOf(@NonNull final Path file) throws IOException {
+            final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            // File systems without file keys fall back to the modification time and size
+            return attributes.fileKey() != null
+                    ? attributes.fileKey()
+                    : List.of(attributes.lastModifiedTime(), attributes.size());
+        }
+    }
+
+    /** One bit per chunk, set if the chunk changed since the last snapshot */
+    private final AtomicLongArray dirtyChunks;
+    /** The files of the last snapshot, or null if no snapshot was written since the dirty chunks are tracked */
+    private volatile Chain lastSnapshot;
+
+    /**
+     * Creates a tracker for a collection of up to the given number of chunks.
+     *
+     * @param maxNumChunks the maximum number of chunks of the collection
+     */
+    SnapshotDeltas(final long maxNumChunks) {
+        dirtyChunks = new AtomicLongArray(toIntExact((maxNumChunks + Long.SIZE - 1) / Long.SIZE));
+    }
+
+    /**
+     * Records that the given chunk changed.
+     *
+     * @param chunkIndex the index of the chunk
+     */
+    void markDirty(final int chunkIndex) {
+        final int word = chunkIndex >>> 6;
+        final long bit = 1L << chunkIndex;
+        long current = dirtyChunks.get(word);
+        while ((current & bit) == 0) {
+            final long witness = dirtyChunks.compareAndExchange(word, current, current | bit);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the given collection, as a delta over the last snapshot if its files are still in the
+     * base directory, the delta chain is shorter than the given maximum, and not too many chunks changed.
+     * Otherwise, writes a full snapshot. The files of the snapshot are then kept in the base directory, as the base
+     * of the next delta.
+     *
+     * @param source the collection to write
+     * @param fullFile the full file of the snapshot to write; any deltas are written next to it
+     * @param maxDeltaChainLength the maximum number of deltas following a full file
+     * @param baseDirectory the directory to keep the files of the last snapshot in; it must be on the same file
+     *                      system as the snapshots, and must not be used by any other collection with the same
+     *                      full file name
+     * @throws IOException if the snapshot could not be written
+     */
+    void writeSnapshot(
+            @NonNull final Source source,
+            @NonNull final Path fullFile,
+            final int maxDeltaChainLength,
+            @NonNull final Path baseDirectory)
+            throws IOException {
+        final Chain previous = lastSnapshot;
+        // Whatever happens, the next snapshot may only be a delta over the one being written now
+        lastSnapshot = null;
+        final Layout layout = source.layout();
+        final boolean linked = previous != null
+                && previous.numDeltas() < maxDeltaChainLength
+                && layout.firstElement() < layout.endElement()
+                && countDirty() <= MAX_DIRTY_FRACTION * numChunksInUse(layout)
+                && previous.linkTo(fullFile);
+        if (!linked) {
+            // Changes made while the full file is written are seen again by the next delta
+            clearDirty();
+            source.writeFull(fullFile);
+            lastSnapshot = keepInBase(fullFile, null, baseDirectory);
+        } else {
+            final Path deltaFile = deltaFile(fullFile, previous.numDeltas() + 1);
+            writeDelta(source, layout, deltaFile);
+            lastSnapshot = keepInBase(deltaFile, previous, baseDirectory);
+        }
+    }
+
+    /**
+     * Hard-links a file just written into the base directory, as the last file of the chain the next delta is
+     * written over.
+     *
+     * @param file the full or delta file just written
+     * @param previous the chain the file is a delta of, or null if it is a full file
+     * @param baseDirectory the base directory
+     * @return the chain in the base directory, or null if the file could not be kept
+     */
+    @Nullable
+    private static Chain keepInBase(
+            @NonNull final Path file, @Nullable final Chain previous, @NonNull final Path baseDirectory) {
+        final Path kept = baseDirectory.resolve(file.getFileName());
+        try {
+            if (previous == null) {
+                // A full file starts a new chain, so the files of the old one are no longer needed
+                Files.deleteIfExists(kept);
+                int n = 1;
+                while (Files.deleteIfExists(deltaFile(kept, n))) {
+                    n++;
+                }
+                Files.createDirectories(baseDirectory);
+                Files.createLink(kept, file);
+                return Chain.of(kept);
+            }
+            Files.deleteIfExists(kept);
+            Files.createLink(kept, file);
+            return previous.withDelta(kept);
+        } catch (final IOException | UnsupportedOperationException e) {
+            logger.info(
+                    MERKLE_DB.getMarker(),
+                    "Cannot keep snapshot file {} in {}, the next snapshot is a full one: {}",
+                    file,
+                    baseDirectory,
+                    e.toString());
+            return null;
+        }
+    }
+
+    private void writeDelta(@NonNull final Source source, @NonNull final Layout layout, @NonNull final Path deltaFile)
+            throws IOException {
+        final ByteBuffer header = source.header();
+        final int chunkSize = layout.chunkSize();
+        final ByteBuffer metadata = ByteBuffer.allocate(Integer.BYTES * 2 + header.remaining() + Long.BYTES * 2
+                + Integer.BYTES * 2);
+        metadata.putInt(DELTA_FORMAT_VERSION);
+        metadata.putInt(header.remaining());
+        metadata.put(header);
+        metadata.putLong(layout.firstElement());
+        metadata.putLong(layout.endElement());
+        metadata.putInt(layout.elementSize());
+        metadata.putInt(layout.elementsPerChunk());
+        metadata.flip();
+        final ByteBuffer chunkIndex = ByteBuffer.allocate(Integer.BYTES);
+        final ByteBuffer chunk = ByteBuffer.allocate(chunkSize);
+        try (final FileChannel fc =
+                FileChannel.open(deltaFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            MerkleDbFileUtils.completelyWrite(fc, metadata);
+            final int firstChunk = toIntExact(layout.firstElement() / layout.elementsPerChunk());
+            final int endChunk = toIntExact((layout.endElement() - 1) / layout.elementsPerChunk() + 1);
+            for (int i = firstChunk; i < endChunk; i++) {
+                // The bit is cleared before the chunk is copied, so any concurrent change is in the next delta
+                if (!clearDirty(i)) {
+                    continue;
+                }
+                chunkIndex.clear().putInt(i).flip();
+                MerkleDbFileUtils.completelyWrite(fc, chunkIndex);
+                // Anything the source leaves out of the chunk is empty
+                Arrays.fill(chunk.array(), (byte) 0);
+                chunk.clear();
+                source.copyChunk(i, chunk);
+                chunk.clear();
+                MerkleDbFileUtils.completelyWrite(fc, chunk);
+            }
+            chunkIndex.clear().putInt(END_OF_CHUNKS).flip();
+            MerkleDbFileUtils.completelyWrite(fc, chunkIndex);
+            fc.force(true);
+        }
+    }
+
+    private int countDirty() {
+        int count = 0;
+        for (int i = 0; i < dirtyChunks.length(); i++) {
+            count += Long.bitCount(dirtyChunks.get(i));
+        }
+        return count;
+    }
+
+    private boolean clearDirty(final int chunkIndex) {
+        final long bit = 1L << chunkIndex;
+        return (dirtyChunks.getAndUpdate(chunkIndex >>> 6, w -> w & ~bit) & bit) != 0;
+    }
+
+    private void clearDirty() {
+        for (int i = 0; i < dirtyChunks.length(); i++) {
+            dirtyChunks.set(i, 0);
+        }
+    }
+
+    private static long numChunksInUse(@NonNull final Layout layout) {
+        return (layout.endElement() - 1) / layout.elementsPerChunk()
+                - layout.firstElement() / layout.elementsPerChunk()
+                + 1;
+    }
+
+    /**
+     * Returns the path of the delta file with the given number following the given full file.
+     *
+     * @param fullFile the full file
+     * @param number the number of the delta, starting with 1
+     * @return the path of the delta file
+     */
+    static Path deltaFile(@NonNull final Path fullFile, final int number) {
+        return fullFile.resolveSibling(fullFile.getFileName() + DELTA_INFIX + number);
+    }
+
+    /**
+     * If the given full file is followed by delta files, replaces it with a full file with the deltas applied and
+     * deletes the deltas. Only the directory entries are replaced, so other snapshots the files are hard-linked
+     * into are not affected.
+     *
+     * @param fullFile the full file
+     * @param layoutReader reads the layout of the full file
+     * @throws IOException if the files could not be read or written
+     */
+    static void compact(@NonNull final Path fullFile, @NonNull final LayoutReader layoutReader) throws IOException {
+        final List<Path> deltaFiles = new ArrayList<>();
+        for (int n = 1; Files.exists(deltaFile(fullFile, n)); n++) {
+            deltaFiles.add(deltaFile(fullFile, n));
+        }
+        if (deltaFiles.isEmpty()) {
+            return;
+        }
+        final Path compactedFile = fullFile.resolveSibling(fullFile.getFileName() + ".compacting");
+        final List<FileChannel> deltaChannels = new ArrayList<>(deltaFiles.size());
+        try (final FileChannel base = FileChannel.open(fullFile, StandardOpenOption.READ)) {
+            final Layout baseLayout = layoutReader.read(base);
+            // The latest copy of each chunk, as the delta channel and position of its bytes
+            final Map<Integer, ChunkLocation> chunks = new HashMap<>();
+            ByteBuffer header = null;
+            Layout layout = null;
+            for (final Path deltaFile : deltaFiles) {
+                final FileChannel delta = FileChannel.open(deltaFile, StandardOpenOption.READ);
+                deltaChannels.add(delta);
+                header = readDeltaHeader(delta, deltaFile);
+                layout = readDeltaLayout(delta, header.remaining());
+                if (layout.elementSize() != baseLayout.elementSize()
+                        || layout.elementsPerChunk() != baseLayout.elementsPerChunk()) {
+                    throw new IOException("Delta file " + deltaFile + " does not match the layout of " + fullFile);
+                }
+                readChunkLocations(delta, layout.chunkSize(), chunks);
+            }
+            Files.deleteIfExists(compactedFile);
+            try (final FileChannel out =
+                    FileChannel.open(compactedFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                MerkleDbFileUtils.completelyWrite(out, header);
+                writeCompactedElements(out, base, baseLayout, layout, chunks);
+                out.force(true);
+            }
+        } finally {
+            for (final FileChannel delta : deltaChannels) {
+                delta.close();
+            }
+        }
+        Files.move(compactedFile, fullFile, StandardCopyOption.REPLACE_EXISTING);
+        for (final Path deltaFile : deltaFiles) {
+            Files.delete(deltaFile);
+        }
+        logger.info(MERKLE_DB.getMarker(), "Compacted {} snapshot deltas into {}", deltaFiles.size(), fullFile);
+    }
+
+    private record ChunkLocation(@NonNull FileChannel channel, long position) {}
+
+    private static ByteBuffer readDeltaHeader(@NonNull final FileChannel delta, @NonNull final Path deltaFile)
+            throws IOException {
+        final ByteBuffer versionAndSize = MerkleDbFileUtils.readFromFileChannel(delta, Integer.BYTES * 2);
+        final int version = versionAndSize.getInt();
+        if (version != DELTA_FORMAT_VERSION) {
+            throw new IOException("Delta file " + deltaFile + " has unsupported format version " + version);
+        }
+        return MerkleDbFileUtils.readFromFileChannel(delta, versionAndSize.getInt());
+    }
+
+    private static Layout readDeltaLayout(@NonNull final FileChannel delta, final int headerSize) throws IOException {
+        final ByteBuffer buffer = MerkleDbFileUtils.readFromFileChannel(delta, Long.BYTES * 2 + Integer.BYTES * 2);
+        return new Layout(headerSize, buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt());
+    }
+
+    private static void readChunkLocations(
+            @NonNull final FileChannel delta, final int chunkSize, @NonNull final Map<Integer, ChunkLocation> chunks)
+            throws IOException {
+        while (true) {
+            if (delta.position() + Integer.BYTES > delta.size()) {
+                throw new IOException("Delta file is truncated");
+            }
+            final int chunkIndex =
+                    MerkleDbFileUtils.readFromFileChannel(delta, Integer.BYTES).getInt();
+            if (chunkIndex == END_OF_CHUNKS) {
+                return;
+            }
+            chunks.put(chunkIndex, new ChunkLocation(delta, delta.position()));
+            delta.position(delta.position() + chunkSize);
+        }
+    }
+
+    private static void writeCompactedElements(
+            @NonNull final FileChannel out,
+            @NonNull final FileChannel base,
+            @NonNull final Layout baseLayout,
+            @NonNull final Layout layout,
+            @NonNull final Map<Integer, ChunkLocation> chunks)
+            throws IOException {
+        if (layout.firstElement() >= layout.endElement()) {
+            return;
+        }
+        final int elementSize = layout.elementSize();
+        final int perChunk = layout.elementsPerChunk();
+        final ByteBuffer chunk = ByteBuffer.allocate(layout.chunkSize());
+        final int firstChunk = toIntExact(layout.firstElement() / perChunk);
+        final int endChunk = toIntExact((layout.endElement() - 1) / perChunk + 1);
+        for (int i = firstChunk; i < endChunk; i++) {
+            final long chunkStart = (long) i * perChunk;
+            final long chunkEnd = chunkStart + perChunk;
+            chunk.clear();
+            final ChunkLocation location = chunks.get(i);
+            if (location != null) {
+                MerkleDbFileUtils.completelyRead(location.channel(), chunk, location.position());
+            } else {
+                // An unchanged chunk, any part of it outside the full file is empty
+                Arrays.fill(chunk.array(), (byte) 0);
+                final long from = max(chunkStart, baseLayout.firstElement());
+                final long to = min(chunkEnd, baseLayout.endElement());
+                if (from < to) {
+                    chunk.position(toIntExact((from - chunkStart) * elementSize));
+                    chunk.limit(toIntExact((to - chunkStart) * elementSize));
+                    MerkleDbFileUtils.completelyRead(
+                            base, chunk, baseLayout.headerSize() + (from - baseLayout.firstElement()) * elementSize);
+                }
+            }
+            chunk.position(toIntExact((max(chunkStart, layout.firstElement()) - chunkStart) * elementSize));
+            chunk.limit(toIntExact((min(chunkEnd, layout.endElement()) - chunkStart) * elementSize));
+            MerkleDbFileUtils.completelyWrite(out, chunk);
+        }
+    }
+}
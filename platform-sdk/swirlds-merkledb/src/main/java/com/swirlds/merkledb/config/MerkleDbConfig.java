@@ -68,6 +68,12 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  *     Maximum number of file channels per file reader.
  * @param maxThreadsPerFileChannel
  *    Maximum number of threads per file channel.
+ * @param maxSnapshotDeltaChainLength
+ *      Maximum number of delta files written after a full file of an in-memory index or hash store in snapshots.
+ *      A delta only has the chunks changed since the previous snapshot, and the files of the previous snapshot are
+ *      hard-linked into the new one. The files of the last snapshot are also kept as hard links in the storage
+ *      directory of the table, so snapshot directories may be moved or deleted. Deltas are compacted when a snapshot
+ *      is loaded. If zero, full files are always written.
  */
 @ConfigData("merkleDb")
 public record MerkleDbConfig(
@@ -86,7 +92,8 @@ public record MerkleDbConfig(
         @ConfigProperty(defaultValue = "262144") int reservedBufferLengthForLeafList,
         @ConfigProperty(defaultValue = "1048576") int leafRecordCacheSize,
         @Min(1) @ConfigProperty(defaultValue = "8") int maxFileChannelsPerFileReader,
-        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel) {
+        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel,
+        @Min(0) @ConfigProperty(defaultValue = "0") int maxSnapshotDeltaChainLength) {
 
     static double UNIT_FRACTION_PERCENT = 100.0;
 
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb.collections;
+
+import static com.swirlds.merkledb.collections.SnapshotDeltas.deltaFile;
+import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.hash;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.io.utility.FileUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotDeltasTest {
+
+    private static final String LONG_LIST_FILE = "list.ll";
+    private static final String HASH_LIST_FILE = "hashes.hl";
+    private static final int LONGS_PER_CHUNK = 10;
+    private static final int NUM_LONGS = 100;
+
+    @TempDir
+    Path testDir;
+
+    @Test
+    void offHeapListOnlyWritesChangedChunksAsDelta() throws IOException {
+        try (final LongListOffHeap list = new LongListOffHeap(LONGS_PER_CHUNK, 1_000, 0)) {
+            fill(list);
+            final Path first = snapshotDir(1).resolve(LONG_LIST_FILE);
+            list.writeToFile(first, 3, baseDir());
+            assertFalse(Files.exists(deltaFile(first, 1)), "First snapshot should be a full file");
+
+            list.put(5, 1005);
+            list.put(95, 1095);
+            final Path second = snapshotDir(2).resolve(LONG_LIST_FILE);
+            list.writeToFile(second, 3, baseDir());
+
+            assertTrue(Files.exists(deltaFile(second, 1)), "Second snapshot should be a delta");
+            assertEquals(Files.size(first), Files.size(second), "Full file should be linked from the first snapshot");
+            assertTrue(
+                    Files.size(deltaFile(second, 1)) < 3L * LONGS_PER_CHUNK * Long.BYTES,
+                    "Delta should only contain the two changed chunks");
+
+            try (final LongListOffHeap loaded = new LongListOffHeap(second)) {
+                assertSameLongs(list, loaded);
+            }
+            assertFalse(Files.exists(deltaFile(second, 1)), "Deltas should be compacted on load");
+        }
+    }
+
+    @Test
+    void heapListAppliesDeltaChainWithShrunkValidRange() throws IOException {
+        try (final LongListHeap list = new LongListHeap(LONGS_PER_CHUNK, 1_000, 0)) {
+            fill(list);
+            list.writeToFile(snapshotDir(1).resolve(LONG_LIST_FILE), 3, baseDir());
+            list.put(42, 1042);
+            list.writeToFile(snapshotDir(2).resolve(LONG_LIST_FILE), 3, baseDir());
+            list.updateValidRange(15, NUM_LONGS - 1);
+            list.put(17, 1017);
+            final Path third = snapshotDir(3).resolve(LONG_LIST_FILE);
+            list.writeToFile(third, 3, baseDir());
+            assertTrue(Files.exists(deltaFile(third, 2)), "Third snapshot should have two deltas");
+
+            try (final LongListHeap loaded = new LongListHeap(third)) {
+                assertEquals(15, loaded.getMinValidIndex());
+                assertSameLongs(list, loaded);
+            }
+        }
+    }
+
+    @Test
+    void writesFullFileWhenChainIsAtMaxLength() throws IOException {
+        try (final LongListOffHeap list = new LongListOffHeap(LONGS_PER_CHUNK, 1_000, 0)) {
+            fill(list);
+            list.writeToFile(snapshotDir(1).resolve(LONG_LIST_FILE), 1, baseDir());
+            list.put(1, 1001);
+            list.writeToFile(snapshotDir(2).resolve(LONG_LIST_FILE), 1, baseDir());
+            list.put(2, 1002);
+            final Path third = snapshotDir(3).resolve(LONG_LIST_FILE);
+            list.writeToFile(third, 1, baseDir());
+
+            assertFalse(Files.exists(deltaFile(third, 1)), "Chain at max length should be replaced by a full file");
+            try (final LongListOffHeap loaded = new LongListOffHeap(third)) {
+                assertSameLongs(list, loaded);
+            }
+        }
+    }
+
+    @Test
+    void writesDeltaWhenPreviousSnapshotIsDeleted() throws IOException {
+        try (final LongListOffHeap list = new LongListOffHeap(LONGS_PER_CHUNK, 1_000, 0)) {
+            fill(list);
+            final Path first = snapshotDir(1);
+            list.writeToFile(first.resolve(LONG_LIST_FILE), 3, baseDir());
+            FileUtils.deleteDirectory(first);
+            list.put(1, 1001);
+            final Path second = snapshotDir(2).resolve(LONG_LIST_FILE);
+            list.writeToFile(second, 3, baseDir());
+
+            assertTrue(Files.exists(deltaFile(second, 1)), "The previous snapshot should be linked from the base");
+            try (final LongListOffHeap loaded = new LongListOffHeap(second)) {
+                assertSameLongs(list, loaded);
+            }
+        }
+    }
+
+    @Test
+    void writesFullFileWhenBaseIsGone() throws IOException {
+        try (final LongListOffHeap list = new LongListOffHeap(LONGS_PER_CHUNK, 1_000, 0)) {
+            fill(list);
+            list.writeToFile(snapshotDir(1).resolve(LONG_LIST_FILE), 3, baseDir());
+            FileUtils.deleteDirectory(baseDir());
+            list.put(1, 1001);
+            final Path second = snapshotDir(2).resolve(LONG_LIST_FILE);
+            list.writeToFile(second, 3, baseDir());
+
+            assertFalse(Files.exists(deltaFile(second, 1)), "Without a base a full file is written");
+            try (final LongListOffHeap loaded = new LongListOffHeap(second)) {
+                assertSameLongs(list, loaded);
+            }
+            list.put(2, 1002);
+            final Path third = snapshotDir(3).resolve(LONG_LIST_FILE);
+            list.writeToFile(third, 3, baseDir());
+            assertTrue(Files.exists(deltaFile(third, 1)), "The full file should be the base of the next delta");
+        }
+    }
+
+    @Test
+    void writesDeltaOverSnapshotMovedIntoPlace() throws IOException {
+        try (final LongListOffHeap list = new LongListOffHeap(LONGS_PER_CHUNK, 1_000, 0)) {
+            fill(list);
+            // Saved states are written into a temporary directory that is then renamed
+            final Path first = testDir.resolve("saved1");
+            FileUtils.executeAndRename(first, testDir.resolve("tmp1"), dir -> write(list, dir));
+            list.put(5, 1005);
+            final Path second = testDir.resolve("saved2");
+            FileUtils.executeAndRename(second, testDir.resolve("tmp2"), dir -> write(list, dir));
+            list.put(95, 1095);
+            final Path third = testDir.resolve("saved3");
+            FileUtils.executeAndRename(third, testDir.resolve("tmp3"), dir -> write(list, dir));
+
+            assertTrue(Files.exists(deltaFile(second.resolve(LONG_LIST_FILE), 1)), "Second save should be a delta");
+            assertTrue(Files.exists(deltaFile(third.resolve(LONG_LIST_FILE), 2)), "Third save should be a delta");
+            try (final LongListOffHeap loaded = new LongListOffHeap(third.resolve(LONG_LIST_FILE))) {
+                assertSameLongs(list, loaded);
+            }
+        }
+    }
+
+    @Test
+    void hashListWritesChangedBuffersAsDelta() throws IOException {
+        final HashListByteBuffer hashes = new HashListByteBuffer(10, 1_000, true);
+        try {
+            for (int i = 0; i < 95; i++) {
+                hashes.put(i, hash(i));
+            }
+            hashes.writeToFile(snapshotDir(1).resolve(HASH_LIST_FILE), 3, baseDir());
+            hashes.put(3, hash(1003));
+            hashes.put(97, hash(97));
+            final Path second = snapshotDir(2).resolve(HASH_LIST_FILE);
+            hashes.writeToFile(second, 3, baseDir());
+            assertTrue(Files.exists(deltaFile(second, 1)), "Second snapshot should be a delta");
+
+            final HashListByteBuffer loaded = new HashListByteBuffer(second);
+            try {
+                assertEquals(98, loaded.size());
+                for (int i = 0; i < 98; i++) {
+                    assertEquals(hashes.get(i), loaded.get(i), "Unexpected hash at " + i);
+                }
+            } finally {
+                loaded.close();
+            }
+        } finally {
+            hashes.close();
+        }
+    }
+
+    private void write(final LongList list, final Path dir) throws IOException {
+        list.writeToFile(dir.resolve(LONG_LIST_FILE), 3, baseDir());
+    }
+
+    private Path baseDir() {
+        return testDir.resolve("base");
+    }
+
+    private Path snapshotDir(final int number) throws IOException {
+        return Files.createDirectories(testDir.resolve("snapshot" + number));
+    }
+
+    private static void fill(final LongList list) {
+        list.updateValidRange(0, NUM_LONGS - 1);
+        for (int i = 0; i < NUM_LONGS; i++) {
+            list.put(i, i + 1);
+        }
+    }
+
+    private static void assertSameLongs(final LongList expected, final LongList actual) {
+        assertEquals(expected.size(), actual.size(), "Unexpected size");
+        for (int i = 0; i < NUM_LONGS; i++) {
+            assertEquals(expected.get(i), actual.get(i), "Unexpected value at " + i);
+        }
+    }
+}
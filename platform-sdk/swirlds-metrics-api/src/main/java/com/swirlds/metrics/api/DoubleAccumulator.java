@@ -110,6 +110,7 @@ public interface DoubleAccumulator extends Metric {
         private final @NonNull DoubleBinaryOperator accumulator;
         private final @Nullable DoubleSupplier initializer;
         private final double initialValue;
+        private final boolean striped;
 
         /**
          * Constructor of {@code DoubleAccumulator.Config}
@@ -128,6 +129,7 @@ public interface DoubleAccumulator extends Metric {
             this.accumulator = Double::max;
             this.initializer = null;
             this.initialValue = 0.0;
+            this.striped = false;
         }
 
         /**
@@ -142,6 +144,7 @@ public interface DoubleAccumulator extends Metric {
          * @param description metric description
          * @param unit        metric unit
          * @param accumulator accumulator for metric
+         * @param striped     whether the accumulator is striped
          * @throws NullPointerException     if one of the parameters is {@code null}
          * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
          */
@@ -153,12 +156,21 @@ public interface DoubleAccumulator extends Metric {
                 @NonNull final String format,
                 @NonNull final DoubleBinaryOperator accumulator,
                 @Nullable final DoubleSupplier initializer,
-                final double initialValue) {
+                final double initialValue,
+                final boolean striped) {
 
             super(category, name, description, unit, format);
             this.accumulator = Objects.requireNonNull(accumulator, "accumulator must not be null");
             this.initializer = initializer;
             this.initialValue = initialValue;
+            this.striped = striped;
+            if (striped && initializer != null) {
+                throw new IllegalArgumentException("a striped accumulator cannot have an initializer");
+            }
+            if (striped && Double.compare(accumulator.applyAsDouble(initialValue, initialValue), initialValue) != 0) {
+                throw new IllegalArgumentException(
+                        "a striped accumulator requires an initial value that is unchanged by the accumulator");
+            }
         }
 
         /**
@@ -175,7 +187,8 @@ public interface DoubleAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -192,7 +205,8 @@ public interface DoubleAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -212,7 +226,8 @@ public interface DoubleAccumulator extends Metric {
                     format,
                     getAccumulator(),
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -254,7 +269,8 @@ public interface DoubleAccumulator extends Metric {
                     getFormat(),
                     accumulator,
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -282,7 +298,8 @@ public interface DoubleAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     getInitializer(),
-                    initialValue);
+                    initialValue,
+                    isStriped());
         }
 
         /**
@@ -292,6 +309,7 @@ public interface DoubleAccumulator extends Metric {
          *
          * @param initializer the initializer
          * @return a new configuration-object with updated {@code initializer}
+         * @throws IllegalArgumentException if the accumulator is striped
          */
         @NonNull
         public DoubleAccumulator.Config withInitializer(@NonNull final DoubleSupplier initializer) {
@@ -303,7 +321,56 @@ public interface DoubleAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     Objects.requireNonNull(initializer, "initializer"),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
+        }
+
+        /**
+         * Getter of {@code striped}
+         *
+         * @return {@code true} if the accumulator is striped, {@code false} otherwise
+         */
+        public boolean isStriped() {
+            return striped;
+        }
+
+        /**
+         * Fluent-style setter of {@code striped}.
+         * <p>
+         * A striped accumulator accumulates updates of different threads in different cells, like a
+         * {@link java.util.concurrent.atomic.LongAdder}, and combines the cells when it is read. This removes the
+         * contention on a single value when many threads update the accumulator concurrently, at the cost of more
+         * memory and slower reads.
+         * <p>
+         * Since every cell starts at the {@code initialValue}, a striped accumulator requires an accumulator that is
+         * associative and commutative, and an {@code initialValue} that does not change the result when it is
+         * accumulated more than once, e.g. {@code Double::max} with any {@code initialValue}, or a sum with
+         * {@code initialValue} {@code 0.0}. A striped accumulator cannot have an {@code initializer}.
+         * <p>
+         * A sum with a non-zero {@code initialValue} would count the {@code initialValue} once per cell. To catch
+         * such mistakes, a striped configuration is rejected if accumulating the {@code initialValue} with itself
+         * changes it. This check cannot prove that the accumulator is associative and commutative, which remains
+         * the responsibility of the caller. Since the check is applied to every new configuration, set the
+         * {@code accumulator} and {@code initialValue} before making the accumulator striped.
+         *
+         * @param striped
+         * 		whether the accumulator is striped
+         * @return a new configuration-object with updated {@code striped}
+         * @throws IllegalArgumentException if {@code striped} is {@code true} and an {@code initializer} is set, or
+         * 		the {@code initialValue} changes when accumulated with itself
+         */
+        @NonNull
+        public DoubleAccumulator.Config withStriped(final boolean striped) {
+            return new DoubleAccumulator.Config(
+                    getCategory(),
+                    getName(),
+                    getDescription(),
+                    getUnit(),
+                    getFormat(),
+                    getAccumulator(),
+                    getInitializer(),
+                    getInitialValue(),
+                    striped);
         }
 
         /**
@@ -332,6 +399,7 @@ public interface DoubleAccumulator extends Metric {
             return new ToStringBuilder(this)
                     .appendSuper(super.toString())
                     .append("initialValue", initialValue)
+                    .append("striped", striped)
                     .toString();
         }
     }
@@ -111,6 +111,7 @@ public interface IntegerAccumulator extends Metric {
         private final @Nullable IntSupplier initializer;
 
         private final int initialValue;
+        private final boolean striped;
 
         /**
          * Constructor of {@code IntegerGauge.Config}
@@ -131,6 +132,7 @@ public interface IntegerAccumulator extends Metric {
             this.accumulator = Integer::max;
             this.initializer = null;
             this.initialValue = 0;
+            this.striped = false;
         }
 
         /**
@@ -147,6 +149,7 @@ public interface IntegerAccumulator extends Metric {
          * @param description metric description
          * @param unit        metric unit
          * @param accumulator accumulator for metric
+         * @param striped     whether the accumulator is striped
          * @throws NullPointerException     if one of the parameters is {@code null}
          * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
          */
@@ -158,12 +161,21 @@ public interface IntegerAccumulator extends Metric {
                 @NonNull final String format,
                 @NonNull final IntBinaryOperator accumulator,
                 final IntSupplier initializer,
-                final int initialValue) {
+                final int initialValue,
+                final boolean striped) {
 
             super(category, name, description, unit, format);
             this.accumulator = Objects.requireNonNull(accumulator, "accumulator must not be null");
             this.initializer = initializer;
             this.initialValue = initialValue;
+            this.striped = striped;
+            if (striped && initializer != null) {
+                throw new IllegalArgumentException("a striped accumulator cannot have an initializer");
+            }
+            if (striped && accumulator.applyAsInt(initialValue, initialValue) != initialValue) {
+                throw new IllegalArgumentException(
+                        "a striped accumulator requires an initial value that is unchanged by the accumulator");
+            }
         }
 
         /**
@@ -180,7 +192,8 @@ public interface IntegerAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -197,7 +210,8 @@ public interface IntegerAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -219,7 +233,8 @@ public interface IntegerAccumulator extends Metric {
                     format,
                     getAccumulator(),
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -252,7 +267,8 @@ public interface IntegerAccumulator extends Metric {
                     getFormat(),
                     accumulator,
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -273,6 +289,7 @@ public interface IntegerAccumulator extends Metric {
          * @param initializer
          * 		the initializer
          * @return a new configuration-object with updated {@code initializer}
+         * @throws IllegalArgumentException if the accumulator is striped
          */
         public IntegerAccumulator.Config withInitializer(final IntSupplier initializer) {
             return new IntegerAccumulator.Config(
@@ -283,7 +300,8 @@ public interface IntegerAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     Objects.requireNonNull(initializer, "initializer"),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -312,7 +330,56 @@ public interface IntegerAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     getInitializer(),
-                    initialValue);
+                    initialValue,
+                    isStriped());
+        }
+
+        /**
+         * Getter of {@code striped}
+         *
+         * @return {@code true} if the accumulator is striped, {@code false} otherwise
+         */
+        public boolean isStriped() {
+            return striped;
+        }
+
+        /**
+         * Fluent-style setter of {@code striped}.
+         * <p>
+         * A striped accumulator accumulates updates of different threads in different cells, like a
+         * {@link java.util.concurrent.atomic.LongAdder}, and combines the cells when it is read. This removes the
+         * contention on a single value when many threads update the accumulator concurrently, at the cost of more
+         * memory and slower reads.
+         * <p>
+         * Since every cell starts at the {@code initialValue}, a striped accumulator requires an accumulator that is
+         * associative and commutative, and an {@code initialValue} that does not change the result when it is
+         * accumulated more than once, e.g. {@code Integer::max} with any {@code initialValue}, or a sum with
+         * {@code initialValue} {@code 0}. A striped accumulator cannot have an {@code initializer}.
+         * <p>
+         * A sum with a non-zero {@code initialValue} would count the {@code initialValue} once per cell. To catch
+         * such mistakes, a striped configuration is rejected if accumulating the {@code initialValue} with itself
+         * changes it. This check cannot prove that the accumulator is associative and commutative, which remains
+         * the responsibility of the caller. Since the check is applied to every new configuration, set the
+         * {@code accumulator} and {@code initialValue} before making the accumulator striped.
+         *
+         * @param striped
+         * 		whether the accumulator is striped
+         * @return a new configuration-object with updated {@code striped}
+         * @throws IllegalArgumentException if {@code striped} is {@code true} and an {@code initializer} is set, or
+         * 		the {@code initialValue} changes when accumulated with itself
+         */
+        @NonNull
+        public IntegerAccumulator.Config withStriped(final boolean striped) {
+            return new IntegerAccumulator.Config(
+                    getCategory(),
+                    getName(),
+                    getDescription(),
+                    getUnit(),
+                    getFormat(),
+                    getAccumulator(),
+                    getInitializer(),
+                    getInitialValue(),
+                    striped);
         }
 
         /**
@@ -341,6 +408,7 @@ public interface IntegerAccumulator extends Metric {
             return new ToStringBuilder(this)
                     .appendSuper(super.toString())
                     .append("initialValue", initializer != null ? initializer.getAsInt() : initialValue)
+                    .append("striped", striped)
                     .toString();
         }
     }
@@ -111,6 +111,7 @@ public interface LongAccumulator extends Metric {
         private final @Nullable LongSupplier initializer;
 
         private final long initialValue;
+        private final boolean striped;
 
         /**
          * Constructor of {@code LongAccumulator.Config}
@@ -131,6 +132,7 @@ public interface LongAccumulator extends Metric {
             this.accumulator = Long::max;
             this.initializer = null;
             this.initialValue = 0L;
+            this.striped = false;
         }
 
         /**
@@ -148,6 +150,8 @@ public interface LongAccumulator extends Metric {
          * @param unit        metric unit
          * @param accumulator accumulator for metric
          * @param initializer initializer for metric
+         * @param initialValue initial value for metric
+         * @param striped     whether the accumulator is striped
          * @throws NullPointerException     if one of the parameters is {@code null}
          * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
          */
@@ -159,12 +163,21 @@ public interface LongAccumulator extends Metric {
                 @NonNull final String format,
                 @NonNull final LongBinaryOperator accumulator,
                 @Nullable final LongSupplier initializer,
-                final long initialValue) {
+                final long initialValue,
+                final boolean striped) {
 
             super(category, name, description, unit, format);
             this.accumulator = Objects.requireNonNull(accumulator, "accumulator must not be null");
             this.initializer = initializer;
             this.initialValue = initialValue;
+            this.striped = striped;
+            if (striped && initializer != null) {
+                throw new IllegalArgumentException("a striped accumulator cannot have an initializer");
+            }
+            if (striped && accumulator.applyAsLong(initialValue, initialValue) != initialValue) {
+                throw new IllegalArgumentException(
+                        "a striped accumulator requires an initial value that is unchanged by the accumulator");
+            }
         }
 
         /**
@@ -181,7 +194,8 @@ public interface LongAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -198,7 +212,8 @@ public interface LongAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -220,7 +235,8 @@ public interface LongAccumulator extends Metric {
                     format,
                     getAccumulator(),
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -263,7 +279,8 @@ public interface LongAccumulator extends Metric {
                     getFormat(),
                     accumulator,
                     getInitializer(),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -274,6 +291,7 @@ public interface LongAccumulator extends Metric {
          * @param initializer
          * 		the initializer
          * @return a new configuration-object with updated {@code initializer}
+         * @throws IllegalArgumentException if the accumulator is striped
          */
         @NonNull
         public LongAccumulator.Config withInitializer(@NonNull final LongSupplier initializer) {
@@ -285,7 +303,8 @@ public interface LongAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     Objects.requireNonNull(initializer, "initializer"),
-                    getInitialValue());
+                    getInitialValue(),
+                    isStriped());
         }
 
         /**
@@ -314,7 +333,56 @@ public interface LongAccumulator extends Metric {
                     getFormat(),
                     getAccumulator(),
                     getInitializer(),
-                    initialValue);
+                    initialValue,
+                    isStriped());
+        }
+
+        /**
+         * Getter of {@code striped}
+         *
+         * @return {@code true} if the accumulator is striped, {@code false} otherwise
+         */
+        public boolean isStriped() {
+            return striped;
+        }
+
+        /**
+         * Fluent-style setter of {@code striped}.
+         * <p>
+         * A striped accumulator accumulates updates of different threads in different cells, like a
+         * {@link java.util.concurrent.atomic.LongAdder}, and combines the cells when it is read. This removes the
+         * contention on a single value when many threads update the accumulator concurrently, at the cost of more
+         * memory and slower reads.
+         * <p>
+         * Since every cell starts at the {@code initialValue}, a striped accumulator requires an accumulator that is
+         * associative and commutative, and an {@code initialValue} that does not change the result when it is
+         * accumulated more than once, e.g. {@code Long::max} with any {@code initialValue}, or a sum with
+         * {@code initialValue} {@code 0L}. A striped accumulator cannot have an {@code initializer}.
+         * <p>
+         * A sum with a non-zero {@code initialValue} would count the {@code initialValue} once per cell. To catch
+         * such mistakes, a striped configuration is rejected if accumulating the {@code initialValue} with itself
+         * changes it. This check cannot prove that the accumulator is associative and commutative, which remains
+         * the responsibility of the caller. Since the check is applied to every new configuration, set the
+         * {@code accumulator} and {@code initialValue} before making the accumulator striped.
+         *
+         * @param striped
+         * 		whether the accumulator is striped
+         * @return a new configuration-object with updated {@code striped}
+         * @throws IllegalArgumentException if {@code striped} is {@code true} and an {@code initializer} is set, or
+         * 		the {@code initialValue} changes when accumulated with itself
+         */
+        @NonNull
+        public LongAccumulator.Config withStriped(final boolean striped) {
+            return new LongAccumulator.Config(
+                    getCategory(),
+                    getName(),
+                    getDescription(),
+                    getUnit(),
+                    getFormat(),
+                    getAccumulator(),
+                    getInitializer(),
+                    getInitialValue(),
+                    striped);
         }
 
         /**
@@ -343,6 +411,7 @@ public interface LongAccumulator extends Metric {
             return new ToStringBuilder(this)
                     .appendSuper(super.toString())
                     .append("initialValue", initialValue)
+                    .append("striped", striped)
                     .toString();
         }
     }
@@ -31,7 +31,11 @@ public interface Metric {
         VALUE,
         MAX,
         MIN,
-        STD_DEV
+        STD_DEV,
+        P50,
+        P90,
+        P99,
+        P999
     }
 
     enum DataType {
@@ -47,6 +47,11 @@ public enum MetricType {
      */
     SPEEDOMETER,
 
+    /**
+     * A histogram is a metric that represents the distribution of recorded values, e.g. latencies.
+     */
+    HISTOGRAM,
+
     /**
      * A stat entry is a flexible metric which behavior is defined by a provided operation.
      */
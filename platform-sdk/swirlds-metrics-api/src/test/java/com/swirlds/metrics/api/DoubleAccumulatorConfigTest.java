@@ -131,4 +131,42 @@ class DoubleAccumulatorConfigTest {
         // then
         assertThat(config.toString()).contains(CATEGORY, NAME, DESCRIPTION, UNIT, FORMAT, "3.1415");
     }
+
+    @Test
+    void testStriped() {
+        // given
+        final DoubleAccumulator.Config config = new DoubleAccumulator.Config(CATEGORY, NAME);
+
+        // when
+        final DoubleAccumulator.Config result =
+                config.withStriped(true).withInitialValue(Math.PI).withDescription(DESCRIPTION);
+
+        // then
+        assertThat(config.isStriped()).isFalse();
+        assertThat(result.isStriped()).isTrue();
+        assertThat(result.withStriped(false).isStriped()).isFalse();
+        assertThat(result.toString()).contains("striped");
+        assertThatThrownBy(() -> result.withInitializer(() -> Math.PI)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withInitializer(() -> Math.PI).withStriped(true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testStripedRejectsInitialValueChangedByAccumulator() {
+        // given
+        final DoubleAccumulator.Config config =
+                new DoubleAccumulator.Config(CATEGORY, NAME).withAccumulator(Double::sum);
+
+        // then
+        assertThatThrownBy(() -> config.withInitialValue(Math.PI).withStriped(true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withStriped(true).withInitialValue(Math.PI))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(config.withInitialValue(0.0).withStriped(true).isStriped()).isTrue();
+        assertThat(config.withInitialValue(Math.PI)
+                        .withAccumulator(Double::max)
+                        .withStriped(true)
+                        .isStriped())
+                .isTrue();
+    }
 }
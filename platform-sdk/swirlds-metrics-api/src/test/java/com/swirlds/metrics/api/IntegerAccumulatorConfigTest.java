@@ -145,4 +145,42 @@ class IntegerAccumulatorConfigTest {
         assertThat(config1.toString()).contains(CATEGORY, NAME, DESCRIPTION, UNIT, FORMAT, "42");
         assertThat(config2.toString()).contains(CATEGORY, NAME, DESCRIPTION, UNIT, FORMAT, "3");
     }
+
+    @Test
+    void testStriped() {
+        // given
+        final IntegerAccumulator.Config config = new IntegerAccumulator.Config(CATEGORY, NAME);
+
+        // when
+        final IntegerAccumulator.Config result =
+                config.withStriped(true).withInitialValue(42).withDescription(DESCRIPTION);
+
+        // then
+        assertThat(config.isStriped()).isFalse();
+        assertThat(result.isStriped()).isTrue();
+        assertThat(result.withStriped(false).isStriped()).isFalse();
+        assertThat(result.toString()).contains("striped");
+        assertThatThrownBy(() -> result.withInitializer(() -> 42)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withInitializer(() -> 42).withStriped(true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testStripedRejectsInitialValueChangedByAccumulator() {
+        // given
+        final IntegerAccumulator.Config config =
+                new IntegerAccumulator.Config(CATEGORY, NAME).withAccumulator(Integer::sum);
+
+        // then
+        assertThatThrownBy(() -> config.withInitialValue(42).withStriped(true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withStriped(true).withInitialValue(42))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(config.withInitialValue(0).withStriped(true).isStriped()).isTrue();
+        assertThat(config.withInitialValue(42)
+                        .withAccumulator(Integer::max)
+                        .withStriped(true)
+                        .isStriped())
+                .isTrue();
+    }
 }
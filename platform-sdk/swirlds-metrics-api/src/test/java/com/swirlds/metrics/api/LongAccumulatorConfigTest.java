@@ -128,4 +128,41 @@ class LongAccumulatorConfigTest {
         // then
         assertThat(config.toString()).contains(CATEGORY, NAME, DESCRIPTION, UNIT, FORMAT, "42");
     }
+
+    @Test
+    void testStriped() {
+        // given
+        final LongAccumulator.Config config = new LongAccumulator.Config(CATEGORY, NAME);
+
+        // when
+        final LongAccumulator.Config result =
+                config.withStriped(true).withInitialValue(42L).withDescription(DESCRIPTION);
+
+        // then
+        assertThat(config.isStriped()).isFalse();
+        assertThat(result.isStriped()).isTrue();
+        assertThat(result.withStriped(false).isStriped()).isFalse();
+        assertThat(result.toString()).contains("striped");
+        assertThatThrownBy(() -> result.withInitializer(() -> 42L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withInitializer(() -> 42L).withStriped(true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testStripedRejectsInitialValueChangedByAccumulator() {
+        // given
+        final LongAccumulator.Config config = new LongAccumulator.Config(CATEGORY, NAME).withAccumulator(Long::sum);
+
+        // then
+        assertThatThrownBy(() -> config.withInitialValue(42L).withStriped(true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withStriped(true).withInitialValue(42L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(config.withInitialValue(0L).withStriped(true).isStriped()).isTrue();
+        assertThat(config.withInitialValue(42L)
+                        .withAccumulator(Long::max)
+                        .withStriped(true)
+                        .isStriped())
+                .isTrue();
+    }
 }
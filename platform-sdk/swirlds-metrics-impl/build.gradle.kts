@@ -17,6 +17,7 @@
 plugins {
     id("com.hedera.gradle.platform")
     id("com.hedera.gradle.platform-publish")
+    id("com.hedera.gradle.feature.benchmark")
 }
 
 testModuleInfo {
@@ -24,3 +25,9 @@ testModuleInfo {
     requires("org.junit.jupiter.api")
     requires("org.mockito")
 }
+
+jmhModuleInfo {
+    requires("com.swirlds.metrics.api")
+    requires("com.swirlds.metrics.impl")
+    requires("jmh.core")
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.metrics.impl.benchmark;
+
+import com.swirlds.metrics.api.DoubleAccumulator;
+import com.swirlds.metrics.api.IntegerAccumulator;
+import com.swirlds.metrics.api.LongAccumulator;
+import com.swirlds.metrics.impl.DefaultDoubleAccumulator;
+import com.swirlds.metrics.impl.DefaultIntegerAccumulator;
+import com.swirlds.metrics.impl.DefaultLongAccumulator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of accumulators updated from 64 threads at once, with and without striping. Run with
+ * {@code -t} to compare other thread counts, e.g. {@code -t 1} for the uncontended cost of an update.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Threads(64)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccumulatorBenchmark {
+
+    @Param({"false", "true"})
+    public boolean striped;
+
+    private LongAccumulator longSum;
+    private LongAccumulator longMax;
+    private IntegerAccumulator integerMax;
+    private DoubleAccumulator doubleSum;
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+                .include(AccumulatorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        longSum = new DefaultLongAccumulator(new LongAccumulator.Config("benchmark", "longSum")
+                .withAccumulator(Long::sum)
+                .withStriped(striped));
+        longMax = new DefaultLongAccumulator(new LongAccumulator.Config("benchmark", "longMax").withStriped(striped));
+        integerMax = new DefaultIntegerAccumulator(
+                new IntegerAccumulator.Config("benchmark", "integerMax").withStriped(striped));
+        doubleSum = new DefaultDoubleAccumulator(new DoubleAccumulator.Config("benchmark", "doubleSum")
+                .withAccumulator(Double::sum)
+                .withStriped(striped));
+    }
+
+    @Benchmark
+    public void longSum() {
+        longSum.update(1L);
+    }
+
+    @Benchmark
+    public void longMax() {
+        longMax.update(System.nanoTime());
+    }
+
+    @Benchmark
+    public void integerMax() {
+        integerMax.update((int) System.nanoTime());
+    }
+
+    @Benchmark
+    public void doubleSum() {
+        doubleSum.update(1.0);
+    }
+
+    @Benchmark
+    public long longSumWithReads() {
+        longSum.update(1L);
+        return longSum.get();
+    }
+}
@@ -17,22 +17,31 @@
 package com.swirlds.metrics.impl;
 
 import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
 
 import com.swirlds.base.utility.ToStringBuilder;
 import com.swirlds.metrics.api.DoubleAccumulator;
 import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleSupplier;
+import java.util.function.LongBinaryOperator;
 
 /**
  * Platform-implementation of {@link DoubleAccumulator}
+ * <p>
+ * If the accumulator is {@link DoubleAccumulator.Config#isStriped() striped}, the raw bits of the value are kept in
+ * {@link StripedLongCells}, otherwise the value is kept in a single {@link AtomicDouble}.
  */
 public class DefaultDoubleAccumulator extends AbstractMetric implements DoubleAccumulator {
 
-    private final @NonNull AtomicDouble container;
+    private final @Nullable AtomicDouble container;
+    private final @Nullable StripedLongCells cells;
     private final @NonNull DoubleBinaryOperator accumulator;
+    private final @NonNull LongBinaryOperator cellAccumulator;
     private final @NonNull DoubleSupplier initializer;
 
     public DefaultDoubleAccumulator(@NonNull final Config config) {
@@ -42,7 +51,10 @@ public class DefaultDoubleAccumulator extends AbstractMetric implements DoubleAc
 
         this.accumulator = config.getAccumulator();
         this.initializer = configInitializer != null ? configInitializer : () -> initialValue;
-        this.container = new AtomicDouble(this.initializer.getAsDouble());
+        this.cellAccumulator = (left, right) ->
+                doubleToRawLongBits(accumulator.applyAsDouble(longBitsToDouble(left), longBitsToDouble(right)));
+        this.container = config.isStriped() ? null : new AtomicDouble(this.initializer.getAsDouble());
+        this.cells = config.isStriped() ? new StripedLongCells(doubleToRawLongBits(initialValue)) : null;
     }
 
     /**
@@ -59,7 +71,10 @@ public class DefaultDoubleAccumulator extends AbstractMetric implements DoubleAc
     @Override
     @NonNull
     public List<SnapshotEntry> takeSnapshot() {
-        return List.of(new SnapshotEntry(VALUE, container.getAndSet(initializer.getAsDouble())));
+        final double value = cells != null
+                ? longBitsToDouble(cells.getAndReset(cellAccumulator))
+                : container.getAndSet(initializer.getAsDouble());
+        return List.of(new SnapshotEntry(VALUE, value));
     }
 
     /**
@@ -67,7 +82,7 @@ public class DefaultDoubleAccumulator extends AbstractMetric implements DoubleAc
      */
     @Override
     public double get() {
-        return container.get();
+        return cells != null ? longBitsToDouble(cells.get(cellAccumulator)) : container.get();
     }
 
     /**
@@ -75,12 +90,20 @@ public class DefaultDoubleAccumulator extends AbstractMetric implements DoubleAc
      */
     @Override
     public void update(final double other) {
-        container.accumulateAndGet(other, accumulator);
+        if (cells != null) {
+            cells.accumulate(doubleToRawLongBits(other), cellAccumulator);
+        } else {
+            container.accumulateAndGet(other, accumulator);
+        }
     }
 
     @Override
     public void reset() {
-        container.set(initializer.getAsDouble());
+        if (cells != null) {
+            cells.reset();
+        } else {
+            container.set(initializer.getAsDouble());
+        }
     }
 
     /**
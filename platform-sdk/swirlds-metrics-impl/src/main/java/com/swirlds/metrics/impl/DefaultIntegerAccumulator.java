@@ -22,18 +22,25 @@ import com.swirlds.base.utility.ToStringBuilder;
 import com.swirlds.metrics.api.IntegerAccumulator;
 import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntSupplier;
+import java.util.function.LongBinaryOperator;
 
 /**
  * Platform-implementation of {@link IntegerAccumulator}
+ * <p>
+ * If the accumulator is {@link IntegerAccumulator.Config#isStriped() striped}, the value is kept in
+ * {@link StripedLongCells}, otherwise in a single {@link AtomicInteger}.
  */
 public class DefaultIntegerAccumulator extends AbstractMetric implements IntegerAccumulator {
 
-    private final AtomicInteger container;
+    private final @Nullable AtomicInteger container;
+    private final @Nullable StripedLongCells cells;
     private final IntBinaryOperator accumulator;
+    private final LongBinaryOperator cellAccumulator;
     private final IntSupplier initializer;
 
     public DefaultIntegerAccumulator(@NonNull final Config config) {
@@ -41,7 +48,9 @@ public class DefaultIntegerAccumulator extends AbstractMetric implements Integer
         this.accumulator = config.getAccumulator();
         final int initialValue = config.getInitialValue();
         this.initializer = config.getInitializer() != null ? config.getInitializer() : () -> initialValue;
-        this.container = new AtomicInteger(this.initializer.getAsInt());
+        this.cellAccumulator = (left, right) -> accumulator.applyAsInt((int) left, (int) right);
+        this.container = config.isStriped() ? null : new AtomicInteger(this.initializer.getAsInt());
+        this.cells = config.isStriped() ? new StripedLongCells(initialValue) : null;
     }
 
     /**
@@ -58,7 +67,9 @@ public class DefaultIntegerAccumulator extends AbstractMetric implements Integer
     @NonNull
     @Override
     public List<SnapshotEntry> takeSnapshot() {
-        return List.of(new SnapshotEntry(VALUE, container.getAndSet(initializer.getAsInt())));
+        final int value =
+                cells != null ? (int) cells.getAndReset(cellAccumulator) : container.getAndSet(initializer.getAsInt());
+        return List.of(new SnapshotEntry(VALUE, value));
     }
 
     /**
@@ -66,7 +77,7 @@ public class DefaultIntegerAccumulator extends AbstractMetric implements Integer
      */
     @Override
     public int get() {
-        return container.get();
+        return cells != null ? (int) cells.get(cellAccumulator) : container.get();
     }
 
     /**
@@ -74,7 +85,11 @@ public class DefaultIntegerAccumulator extends AbstractMetric implements Integer
      */
     @Override
     public void update(final int other) {
-        container.accumulateAndGet(other, accumulator);
+        if (cells != null) {
+            cells.accumulate(other, cellAccumulator);
+        } else {
+            container.accumulateAndGet(other, accumulator);
+        }
     }
 
     /**
@@ -82,7 +97,11 @@ public class DefaultIntegerAccumulator extends AbstractMetric implements Integer
      */
     @Override
     public void reset() {
-        container.set(initializer.getAsInt());
+        if (cells != null) {
+            cells.reset();
+        } else {
+            container.set(initializer.getAsInt());
+        }
     }
 
     /**
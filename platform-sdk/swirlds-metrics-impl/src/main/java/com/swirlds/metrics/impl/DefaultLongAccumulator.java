@@ -22,6 +22,7 @@ import com.swirlds.base.utility.ToStringBuilder;
 import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongBinaryOperator;
@@ -29,10 +30,14 @@ import java.util.function.LongSupplier;
 
 /**
  * Platform-implementation of {@link LongAccumulator}
+ * <p>
+ * If the accumulator is {@link LongAccumulator.Config#isStriped() striped}, the value is kept in
+ * {@link StripedLongCells}, otherwise in a single {@link AtomicLong}.
  */
 public class DefaultLongAccumulator extends AbstractMetric implements LongAccumulator {
 
-    private final AtomicLong container;
+    private final @Nullable AtomicLong container;
+    private final @Nullable StripedLongCells cells;
     private final LongBinaryOperator accumulator;
     private final LongSupplier initializer;
 
@@ -43,7 +48,8 @@ public class DefaultLongAccumulator extends AbstractMetric implements LongAccumu
 
         this.accumulator = config.getAccumulator();
         this.initializer = configInitializer != null ? configInitializer : () -> initialValue;
-        this.container = new AtomicLong(this.initializer.getAsLong());
+        this.container = config.isStriped() ? null : new AtomicLong(this.initializer.getAsLong());
+        this.cells = config.isStriped() ? new StripedLongCells(initialValue) : null;
     }
 
     /**
@@ -60,7 +66,9 @@ public class DefaultLongAccumulator extends AbstractMetric implements LongAccumu
     @NonNull
     @Override
     public List<SnapshotEntry> takeSnapshot() {
-        return List.of(new SnapshotEntry(VALUE, container.getAndSet(initializer.getAsLong())));
+        final long value =
+                cells != null ? cells.getAndReset(accumulator) : container.getAndSet(initializer.getAsLong());
+        return List.of(new SnapshotEntry(VALUE, value));
     }
 
     /**
@@ -68,7 +76,7 @@ public class DefaultLongAccumulator extends AbstractMetric implements LongAccumu
      */
     @Override
     public long get() {
-        return container.get();
+        return cells != null ? cells.get(accumulator) : container.get();
     }
 
     /**
@@ -76,7 +84,11 @@ public class DefaultLongAccumulator extends AbstractMetric implements LongAccumu
      */
     @Override
     public void update(final long other) {
-        container.accumulateAndGet(other, accumulator);
+        if (cells != null) {
+            cells.accumulate(other, accumulator);
+        } else {
+            container.accumulateAndGet(other, accumulator);
+        }
     }
 
     /**
@@ -84,7 +96,11 @@ public class DefaultLongAccumulator extends AbstractMetric implements LongAccumu
      */
     @Override
     public void reset() {
-        container.set(initializer.getAsLong());
+        if (cells != null) {
+            cells.reset();
+        } else {
+            container.set(initializer.getAsLong());
+        }
     }
 
     /**
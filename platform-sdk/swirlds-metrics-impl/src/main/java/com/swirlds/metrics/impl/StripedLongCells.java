@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.metrics.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * A set of {@code long} cells that many threads accumulate into, in the style of
+ * {@link java.util.concurrent.atomic.LongAdder}.
+ * <p>
+ * Each thread updates one of the cells, chosen by its thread id, so threads rarely contend on the same cell. Each
+ * cell sits on a cache line of its own, so updates of different cells do not invalidate each other either. The value
+ * of the cells is the combination of all cells with the accumulator.
+ * <p>
+ * This is only correct if the accumulator is associative and commutative, and if the identity is an identity of the
+ * accumulator, i.e. {@code accumulator(identity, x) == x} for all {@code x}. For example, {@code Long::sum} with
+ * identity {@code 0L}, or {@code Long::max} with identity {@code Long.MIN_VALUE}. With an idempotent accumulator like
+ * {@code Long::max}, any identity can be used, since combining it with itself again does not change the result.
+ */
+public class StripedLongCells {
+
+    /**
+     * The number of {@code long}s on a cache line. Only every {@code PADDING}-th element of the array is used.
+     */
+    private static final int PADDING = 8;
+
+    /**
+     * The maximum number of cells.
+     */
+    private static final int MAX_CELLS = 64;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+    private final long identity;
+
+    /**
+     * Creates new cells with one cell per available processor, up to {@value #MAX_CELLS} cells.
+     *
+     * @param identity
+     * 		the value of every cell when created or reset
+     */
+    public StripedLongCells(final long identity) {
+        this(identity, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates new cells.
+     *
+     * @param identity
+     * 		the value of every cell when created or reset
+     * @param parallelism
+     * 		the number of threads expected to update concurrently; the number of cells is the next power of two,
+     * 		up to {@value #MAX_CELLS}
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    public StripedLongCells(final long identity, final int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        final int size = Math.max(1, Integer.highestOneBit(Math.min(parallelism, MAX_CELLS) - 1) << 1);
+        this.cells = new AtomicLongArray(size * PADDING);
+        this.mask = size - 1;
+        this.identity = identity;
+        reset();
+    }
+
+    /**
+     * Returns the identity, i.e. the value of every cell when created or reset.
+     *
+     * @return the identity
+     */
+    public long getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Updates the cell of the current thread with the result of applying the accumulator to its value and the given
+     * value.
+     *
+     * @param value
+     * 		the update value
+     * @param accumulator
+     * 		the accumulator
+     */
+    public void accumulate(final long value, final LongBinaryOperator accumulator) {
+        final int index = indexOfCurrentThread();
+        long current = cells.get(index);
+        while (!cells.weakCompareAndSetVolatile(index, current, accumulator.applyAsLong(current, value))) {
+            current = cells.get(index);
+        }
+    }
+
+    /**
+     * Returns the combination of all cells. Updates that happen concurrently may or may not be included.
+     *
+     * @param accumulator
+     * 		the accumulator
+     * @return the combined value
+     */
+    public long get(final LongBinaryOperator accumulator) {
+        long result = identity;
+        for (int i = 0; i < cells.length(); i += PADDING) {
+            result = accumulator.applyAsLong(result, cells.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Resets all cells to the identity and returns the combination of their previous values. Each update is included
+     * either in the returned value or in the cells after the reset, never in both or neither.
+     *
+     * @param accumulator
+     * 		the accumulator
+     * @return the combined value before the reset
+     */
+    public long getAndReset(final LongBinaryOperator accumulator) {
+        long result = identity;
+        for (int i = 0; i < cells.length(); i += PADDING) {
+            result = accumulator.applyAsLong(result, cells.getAndSet(i, identity));
+        }
+        return result;
+    }
+
+    /**
+     * Resets all cells to the identity.
+     */
+    public void reset() {
+        for (int i = 0; i < cells.length(); i += PADDING) {
+            cells.set(i, identity);
+        }
+    }
+
+    private int indexOfCurrentThread() {
+        // Fibonacci hashing spreads consecutive thread ids over the cells
+        final long hash = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return ((int) (hash >>> 32) & mask) * PADDING;
+    }
+}
@@ -28,6 +28,7 @@ import com.swirlds.metrics.api.Metric;
 import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
 import com.swirlds.metrics.impl.DefaultDoubleAccumulator;
 import com.swirlds.metrics.impl.DefaultIntegerGauge;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,8 @@ class DefaultDoubleAccumulatorTest {
     private static final String DESCRIPTION = "DeScRiPtIoN";
     private static final String UNIT = "UnIt";
     private static final String FORMAT = "FoRmAt";
+    private static final int THREADS = 8;
+    private static final int UPDATES = 10_000;
     private static final double EPSILON = 1e-6;
 
     @Test
@@ -192,4 +195,57 @@ class DefaultDoubleAccumulatorTest {
         assertThat(accumulator.toString())
                 .contains(CATEGORY, NAME, DESCRIPTION, UNIT, FORMAT, Metric.DataType.FLOAT.toString(), "3.1415");
     }
+
+    @Test
+    void testStripedUpdatesFromManyThreads() throws InterruptedException {
+        // given
+        final DoubleAccumulator.Config config = new DoubleAccumulator.Config(CATEGORY, NAME)
+                .withAccumulator(Double::sum)
+                .withInitialValue(0.0)
+                .withStriped(true);
+        final DefaultDoubleAccumulator accumulator = new DefaultDoubleAccumulator(config);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < UPDATES; j++) {
+                    accumulator.update(1.0);
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals((double) THREADS * UPDATES, accumulator.get(), "All updates should be accumulated");
+        assertThat(accumulator.takeSnapshot()).containsExactly(new SnapshotEntry(VALUE, (double) THREADS * UPDATES));
+        assertEquals(0.0, accumulator.get(), "Value should be reset after the snapshot");
+    }
+
+    @Test
+    void testStripedSnapshotAndReset() {
+        // given
+        final DoubleAccumulator.Config config =
+                new DoubleAccumulator.Config(CATEGORY, NAME).withInitialValue(2.0).withStriped(true);
+        final DefaultDoubleAccumulator accumulator = new DefaultDoubleAccumulator(config);
+        accumulator.update(5.0);
+
+        // when
+        final List<SnapshotEntry> snapshot = accumulator.takeSnapshot();
+
+        // then
+        assertEquals(2.0, accumulator.getInitialValue(), "Initial value should be 2.0");
+        assertEquals(2.0, accumulator.get(), "Value should be 2.0");
+        assertThat(snapshot).containsExactly(new SnapshotEntry(VALUE, 5.0));
+
+        // when
+        accumulator.update(5.0);
+        accumulator.reset();
+
+        // then
+        assertEquals(2.0, accumulator.get(), "Value should be 2.0 after reset");
+    }
 }
@@ -28,6 +28,7 @@ import com.swirlds.metrics.api.Metric;
 import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
 import com.swirlds.metrics.impl.DefaultIntegerAccumulator;
 import com.swirlds.metrics.impl.DefaultIntegerGauge;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,8 @@ class DefaultIntegerAccumulatorTest {
     private static final String DESCRIPTION = "DeScRiPtIoN";
     private static final String UNIT = "UnIt";
     private static final String FORMAT = "FoRmAt";
+    private static final int THREADS = 8;
+    private static final int UPDATES = 10_000;
 
     @Test
     @DisplayName("Constructor should store values")
@@ -248,4 +251,57 @@ class DefaultIntegerAccumulatorTest {
         assertEquals(42, accumulator.get(), "Value should be 42");
         assertEquals(42, accumulator.get(VALUE), "Value should be 42");
     }
+
+    @Test
+    void testStripedUpdatesFromManyThreads() throws InterruptedException {
+        // given
+        final IntegerAccumulator.Config config = new IntegerAccumulator.Config(CATEGORY, NAME)
+                .withAccumulator(Integer::sum)
+                .withInitialValue(0)
+                .withStriped(true);
+        final DefaultIntegerAccumulator accumulator = new DefaultIntegerAccumulator(config);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < UPDATES; j++) {
+                    accumulator.update(1);
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(THREADS * UPDATES, accumulator.get(), "All updates should be accumulated");
+        assertThat(accumulator.takeSnapshot()).containsExactly(new SnapshotEntry(VALUE, THREADS * UPDATES));
+        assertEquals(0, accumulator.get(), "Value should be reset after the snapshot");
+    }
+
+    @Test
+    void testStripedSnapshotAndReset() {
+        // given
+        final IntegerAccumulator.Config config =
+                new IntegerAccumulator.Config(CATEGORY, NAME).withInitialValue(2).withStriped(true);
+        final DefaultIntegerAccumulator accumulator = new DefaultIntegerAccumulator(config);
+        accumulator.update(5);
+
+        // when
+        final List<SnapshotEntry> snapshot = accumulator.takeSnapshot();
+
+        // then
+        assertEquals(2, accumulator.getInitialValue(), "Initial value should be 2");
+        assertEquals(2, accumulator.get(), "Value should be 2");
+        assertThat(snapshot).containsExactly(new SnapshotEntry(VALUE, 5));
+
+        // when
+        accumulator.update(5);
+        accumulator.reset();
+
+        // then
+        assertEquals(2, accumulator.get(), "Value should be 2 after reset");
+    }
 }
@@ -28,6 +28,7 @@ import com.swirlds.metrics.api.Metric;
 import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
 import com.swirlds.metrics.impl.DefaultIntegerGauge;
 import com.swirlds.metrics.impl.DefaultLongAccumulator;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,8 @@ class DefaultLongAccumulatorTest {
     private static final String DESCRIPTION = "DeScRiPtIoN";
     private static final String UNIT = "UnIt";
     private static final String FORMAT = "FoRmAt";
+    private static final int THREADS = 8;
+    private static final int UPDATES = 10_000;
 
     @Test
     @DisplayName("Constructor should store values")
@@ -213,4 +216,57 @@ class DefaultLongAccumulatorTest {
         // then
         assertEquals(0L, accumulator.get(), "Value should be 0");
     }
+
+    @Test
+    void testStripedUpdatesFromManyThreads() throws InterruptedException {
+        // given
+        final LongAccumulator.Config config = new LongAccumulator.Config(CATEGORY, NAME)
+                .withAccumulator(Long::sum)
+                .withInitialValue(0L)
+                .withStriped(true);
+        final DefaultLongAccumulator accumulator = new DefaultLongAccumulator(config);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < UPDATES; j++) {
+                    accumulator.update(1L);
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals((long) THREADS * UPDATES, accumulator.get(), "All updates should be accumulated");
+        assertThat(accumulator.takeSnapshot()).containsExactly(new SnapshotEntry(VALUE, (long) THREADS * UPDATES));
+        assertEquals(0L, accumulator.get(), "Value should be reset after the snapshot");
+    }
+
+    @Test
+    void testStripedSnapshotAndReset() {
+        // given
+        final LongAccumulator.Config config =
+                new LongAccumulator.Config(CATEGORY, NAME).withInitialValue(2L).withStriped(true);
+        final DefaultLongAccumulator accumulator = new DefaultLongAccumulator(config);
+        accumulator.update(5L);
+
+        // when
+        final List<SnapshotEntry> snapshot = accumulator.takeSnapshot();
+
+        // then
+        assertEquals(2L, accumulator.getInitialValue(), "Initial value should be 2");
+        assertEquals(2L, accumulator.get(), "Value should be 2");
+        assertThat(snapshot).containsExactly(new SnapshotEntry(VALUE, 5L));
+
+        // when
+        accumulator.update(5L);
+        accumulator.reset();
+
+        // then
+        assertEquals(2L, accumulator.get(), "Value should be 2 after reset");
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.metrics.impl.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.swirlds.metrics.impl.StripedLongCells;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StripedLongCellsTest {
+
+    @Test
+    void testConstructorWithIllegalParameter() {
+        assertThatThrownBy(() -> new StripedLongCells(0L, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StripedLongCells(0L, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCellsStartAtIdentity() {
+        // given
+        final StripedLongCells cells = new StripedLongCells(42L, 4);
+
+        // then
+        assertThat(cells.getIdentity()).isEqualTo(42L);
+        assertThat(cells.get(Long::max)).isEqualTo(42L);
+        assertThat(cells.getAndReset(Long::max)).isEqualTo(42L);
+    }
+
+    @Test
+    void testAccumulateGetAndReset() {
+        // given
+        final StripedLongCells cells = new StripedLongCells(0L, 1);
+
+        // when
+        cells.accumulate(5L, Long::sum);
+        cells.accumulate(3L, Long::sum);
+
+        // then
+        assertThat(cells.get(Long::sum)).isEqualTo(8L);
+        assertThat(cells.getAndReset(Long::sum)).isEqualTo(8L);
+        assertThat(cells.get(Long::sum)).isZero();
+
+        // when
+        cells.accumulate(5L, Long::sum);
+        cells.reset();
+
+        // then
+        assertThat(cells.get(Long::sum)).isZero();
+    }
+
+    @Test
+    void testConcurrentUpdatesAreNeitherLostNorCountedTwice() throws InterruptedException {
+        // given
+        final int threadCount = 16;
+        final int updateCount = 100_000;
+        final StripedLongCells cells = new StripedLongCells(0L, threadCount);
+        final List<Long> snapshots = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < updateCount; j++) {
+                    cells.accumulate(1L, Long::sum);
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            snapshots.add(cells.getAndReset(Long::sum));
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        snapshots.add(cells.getAndReset(Long::sum));
+
+        // then
+        assertThat(snapshots.stream().mapToLong(Long::longValue).sum()).isEqualTo((long) threadCount * updateCount);
+    }
+}
@@ -53,6 +53,7 @@ import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.event.preconsensus.PcesFileTracker;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
 import com.swirlds.platform.eventhandling.EventConfig;
+import com.swirlds.platform.metrics.AsyncLoggingMetrics;
 import com.swirlds.platform.metrics.RuntimeMetrics;
 import com.swirlds.platform.pool.TransactionPoolNexus;
 import com.swirlds.platform.publisher.DefaultPlatformPublisher;
@@ -218,6 +219,7 @@ public class SwirldsPlatform implements Platform {
         registerAddressBookMetrics(platformContext.getMetrics(), currentAddressBook, selfId);
 
         RuntimeMetrics.setup(platformContext.getMetrics());
+        AsyncLoggingMetrics.setup(platformContext.getMetrics());
 
         keysAndCerts = blocks.keysAndCerts();
 
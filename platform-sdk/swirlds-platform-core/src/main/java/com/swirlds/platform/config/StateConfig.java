@@ -82,6 +82,15 @@ import java.time.Duration;
  *                                      resubmitted. Age is measured by taking the round number of the most recent round
  *                                      to reach consensus and subtracting the round that the signature transaction
  *                                      signs.
+ * @param maxCachedReadsPerKvState      The maximum number of values cached by each on-disk readable k/v state of an
+ *                                      immutable state (for example, the states shared by queries and the cache
+ *                                      warmer on the latest immutable state). Once reached, further values are read
+ *                                      through without being cached. Readable states of the mutable working state
+ *                                      are never bounded. A negative value disables the bound.
+ * @param signatureVerificationThreads  The number of threads used by the state signature collector to verify a batch
+ *                                      of state signatures concurrently, before adding the valid ones to their states.
+ *                                      If 0, one thread per available processor is used. If 1, signatures are
+ *                                      verified one at a time on the collector's own thread.
  */
 @ConfigData("state")
 public record StateConfig(
@@ -104,7 +113,9 @@ public record StateConfig(
         @ConfigProperty(defaultValue = "emergencyRecovery.yaml") String emergencyStateFileName,
         @ConfigProperty(defaultValue = "false") boolean deleteInvalidStateFiles,
         @ConfigProperty(defaultValue = "true") boolean validateInitialState,
-        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge) {
+        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge,
+        @ConfigProperty(defaultValue = "100000") int maxCachedReadsPerKvState,
+        @ConfigProperty(defaultValue = "0") int signatureVerificationThreads) {
 
     /**
      * Get the main class name that should be used for signed states.
@@ -121,6 +121,7 @@ public class SyncGossip implements ConnectionTracker, Gossip {
     private final NetworkTopology topology;
     private final NetworkMetrics networkMetrics;
     private final ReconnectHelper reconnectHelper;
+    private final ReconnectLearnerFactory reconnectLearnerFactory;
     private final StaticConnectionManagers connectionManagers;
     private final FallenBehindManagerImpl fallenBehindManager;
     private final SyncManagerImpl syncManager;
@@ -233,6 +234,8 @@ public class SyncGossip implements ConnectionTracker, Gossip {
             }
         };
 
+        reconnectLearnerFactory = new ReconnectLearnerFactory(
+                platformContext, threadManager, addressBook, reconnectConfig.asyncStreamTimeout(), reconnectMetrics);
         reconnectHelper = new ReconnectHelper(
                 this::pause,
                 clearAllPipelinesForReconnect::run,
@@ -243,12 +246,7 @@ public class SyncGossip implements ConnectionTracker, Gossip {
                     loadReconnectState.accept(state);
                     syncManager.resetFallenBehind();
                 },
-                new ReconnectLearnerFactory(
-                        platformContext,
-                        threadManager,
-                        addressBook,
-                        reconnectConfig.asyncStreamTimeout(),
-                        reconnectMetrics),
+                reconnectLearnerFactory,
                 stateConfig);
         this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
 
@@ -392,6 +390,8 @@ public class SyncGossip implements ConnectionTracker, Gossip {
         for (final StoppableThread thread : syncProtocolThreads) {
             thread.stop();
         }
+        // no reconnect can be in progress anymore, so subtrees kept from failed attempts can be released
+        reconnectLearnerFactory.clearReconnectProgress();
     }
 
     /**
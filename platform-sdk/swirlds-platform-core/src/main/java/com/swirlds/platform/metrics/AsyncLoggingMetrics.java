@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.swirlds.platform.metrics;
+
+import static com.swirlds.metrics.api.Metrics.INTERNAL_CATEGORY;
+
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.logging.file.AsyncFileHandler;
+import com.swirlds.metrics.api.Metrics;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Metrics of the {@link AsyncFileHandler}s of the logging system, summed over all handlers that are running
+ */
+public final class AsyncLoggingMetrics {
+
+    private static final FunctionGauge.Config<Integer> QUEUE_DEPTH_CONFIG = new FunctionGauge.Config<>(
+                    INTERNAL_CATEGORY, "asyncLogQueueDepth", Integer.class, AsyncLoggingMetrics::queueDepth)
+            .withDescription("the number of log events buffered by asynchronous log handlers and not written yet")
+            .withFormat("%d");
+
+    private static final FunctionGauge.Config<Long> DROPPED_CONFIG = new FunctionGauge.Config<>(
+                    INTERNAL_CATEGORY, "asyncLogDropped", Long.class, AsyncLoggingMetrics::droppedCount)
+            .withDescription("the number of log events dropped by asynchronous log handlers because of a full buffer")
+            .withFormat("%d");
+
+    private static final AtomicBoolean SETUP_STARTED = new AtomicBoolean();
+
+    private AsyncLoggingMetrics() {}
+
+    /**
+     * Setup all metrics related to asynchronous logging
+     *
+     * @param metrics
+     * 		a reference to the metrics-system
+     * @throws NullPointerException in case {@code metrics} parameter is {@code null}
+     */
+    public static void setup(final Metrics metrics) {
+        Objects.requireNonNull(metrics, "metrics must not be null");
+        if (SETUP_STARTED.compareAndSet(false, true)) {
+            metrics.getOrCreate(QUEUE_DEPTH_CONFIG);
+            metrics.getOrCreate(DROPPED_CONFIG);
+        }
+    }
+
+    private static int queueDepth() {
+        return AsyncFileHandler.getActiveHandlers().stream()
+                .mapToInt(AsyncFileHandler::getQueueDepth)
+                .sum();
+    }
+
+    private static long droppedCount() {
+        return AsyncFileHandler.getActiveHandlers().stream()
+                .mapToLong(AsyncFileHandler::getDroppedCount)
+                .sum();
+    }
+}
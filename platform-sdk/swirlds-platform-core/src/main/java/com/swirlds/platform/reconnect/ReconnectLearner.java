@@ -23,6 +23,7 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
+import com.swirlds.common.merkle.synchronization.ReconnectProgress;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.logging.legacy.payload.ReconnectDataUsagePayload;
@@ -38,6 +39,7 @@ import com.swirlds.platform.state.signed.SignedStateValidationData;
 import com.swirlds.platform.state.signed.SignedStateValidator;
 import com.swirlds.platform.system.address.AddressBook;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.net.SocketException;
 import java.time.Duration;
@@ -69,6 +71,11 @@ public class ReconnectLearner {
 
     private final ThreadManager threadManager;
 
+    /**
+     * Progress of previous failed attempts to reuse, or null if progress is not retained.
+     */
+    private final ReconnectProgress reconnectProgress;
+
     /**
      * @param threadManager
      * 		responsible for managing thread lifecycles
@@ -91,6 +98,42 @@ public class ReconnectLearner {
             @NonNull final MerkleRoot currentState,
             @NonNull final Duration reconnectSocketTimeout,
             @NonNull final ReconnectMetrics statistics) {
+        this(
+                platformContext,
+                threadManager,
+                connection,
+                addressBook,
+                currentState,
+                reconnectSocketTimeout,
+                statistics,
+                null);
+    }
+
+    /**
+     * @param threadManager
+     * 		responsible for managing thread lifecycles
+     * @param connection
+     * 		the connection to use for the reconnect
+     * @param addressBook
+     * 		the current address book
+     * @param currentState
+     * 		the most recent state from the learner
+     * @param reconnectSocketTimeout
+     * 		the amount of time that should be used for the socket timeout
+     * @param statistics
+     * 		reconnect metrics
+     * @param reconnectProgress
+     * 		the progress of previous failed attempts, or null if progress is not retained
+     */
+    public ReconnectLearner(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final ThreadManager threadManager,
+            @NonNull final Connection connection,
+            @NonNull final AddressBook addressBook,
+            @NonNull final MerkleRoot currentState,
+            @NonNull final Duration reconnectSocketTimeout,
+            @NonNull final ReconnectMetrics statistics,
+            @Nullable final ReconnectProgress reconnectProgress) {
 
         currentState.throwIfImmutable("Can not perform reconnect with immutable state");
         currentState.throwIfDestroyed("Can not perform reconnect with destroyed state");
@@ -102,6 +145,7 @@ public class ReconnectLearner {
         this.currentState = Objects.requireNonNull(currentState);
         this.reconnectSocketTimeout = Objects.requireNonNull(reconnectSocketTimeout);
         this.statistics = Objects.requireNonNull(statistics);
+        this.reconnectProgress = reconnectProgress;
 
         // Save some of the current state data for validation
         this.stateValidationData = new SignedStateValidationData(currentState.getReadablePlatformState(), addressBook);
@@ -199,7 +243,8 @@ public class ReconnectLearner {
                 currentState,
                 connection::disconnect,
                 reconnectConfig,
-                platformContext.getMetrics());
+                platformContext.getMetrics(),
+                reconnectProgress);
         synchronizer.synchronize();
 
         final MerkleRoot state = (MerkleRoot) synchronizer.getRoot();
@@ -17,6 +17,8 @@
 package com.swirlds.platform.reconnect;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.merkle.synchronization.ReconnectProgress;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.platform.metrics.ReconnectMetrics;
 import com.swirlds.platform.network.Connection;
@@ -35,6 +37,11 @@ public class ReconnectLearnerFactory {
     private final ReconnectMetrics statistics;
     private final ThreadManager threadManager;
     private final PlatformContext platformContext;
+    /**
+     * Progress of failed reconnect attempts, shared by all learners created by this factory. Null if progress is
+     * not retained.
+     */
+    private final ReconnectProgress reconnectProgress;
 
     /**
      * @param platformContext the platform context
@@ -54,6 +61,12 @@ public class ReconnectLearnerFactory {
         this.addressBook = Objects.requireNonNull(addressBook);
         this.reconnectSocketTimeout = Objects.requireNonNull(reconnectSocketTimeout);
         this.statistics = Objects.requireNonNull(statistics);
+        this.reconnectProgress = platformContext
+                        .getConfiguration()
+                        .getConfigData(ReconnectConfig.class)
+                        .resumeFromFailedAttempts()
+                ? new ReconnectProgress()
+                : null;
     }
 
     /**
@@ -65,6 +78,22 @@ public class ReconnectLearnerFactory {
      */
     public ReconnectLearner create(final Connection conn, final MerkleRoot workingState) {
         return new ReconnectLearner(
-                platformContext, threadManager, conn, addressBook, workingState, reconnectSocketTimeout, statistics);
+                platformContext,
+                threadManager,
+                conn,
+                addressBook,
+                workingState,
+                reconnectSocketTimeout,
+                statistics,
+                reconnectProgress);
+    }
+
+    /**
+     * Release all subtrees retained from failed reconnect attempts. Called when no more reconnects will be attempted.
+     */
+    public void clearReconnectProgress() {
+        if (reconnectProgress != null) {
+            reconnectProgress.clear();
+        }
     }
 }
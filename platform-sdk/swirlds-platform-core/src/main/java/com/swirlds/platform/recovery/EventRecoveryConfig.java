@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.recovery;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import java.time.Duration;
+
+/**
+ * Configuration for the event stream recovery workflow.
+ *
+ * @param readAheadFiles      the maximum number of event stream files read ahead of the round being applied. Files read
+ *                            ahead are decoded, hashed and verified in parallel. If 0 then each file is only read once
+ *                            the thread applying the rounds reaches it, on that thread: one event at a time if
+ *                            {@code verifyRunningHashes} is false, or else decoded and verified as a whole before its
+ *                            first event is applied.
+ * @param readAheadThreads    the number of threads reading files ahead. If 0 then the number of available processors
+ *                            is used.
+ * @param verifyRunningHashes if true then check that the running hash of the events of each complete event stream file
+ *                            matches the hash at the end of the file, and stop the recovery if it does not. Since the
+ *                            hash is at the end of the file, every file is decoded as a whole before any of its events
+ *                            are applied, so up to {@code readAheadFiles + 1} decoded files are held in memory. On by
+ *                            default; recovery did not verify running hashes before this option existed.
+ * @param snapshotPeriod      if positive then write a snapshot of the state after every this many rounds, in the
+ *                            {@code snapshots} directory of the resulting state directory
+ * @param progressLogPeriod   the minimum time between two log messages reporting the progress of the recovery
+ */
+@ConfigData("eventRecovery")
+public record EventRecoveryConfig(
+        @ConfigProperty(defaultValue = "8") int readAheadFiles,
+        @ConfigProperty(defaultValue = "0") int readAheadThreads,
+        @ConfigProperty(defaultValue = "true") boolean verifyRunningHashes,
+        @ConfigProperty(defaultValue = "0") long snapshotPeriod,
+        @ConfigProperty(defaultValue = "10s") Duration progressLogPeriod) {}
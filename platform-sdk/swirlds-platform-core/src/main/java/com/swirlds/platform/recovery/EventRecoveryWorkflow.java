@@ -17,6 +17,7 @@
 package com.swirlds.platform.recovery;
 
 import static com.swirlds.common.io.utility.FileUtils.getAbsolutePath;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 import static com.swirlds.platform.builder.PlatformBuildConstants.DEFAULT_CONFIG_FILE_NAME;
@@ -30,6 +31,7 @@ import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
 import com.swirlds.common.notification.NotificationEngine;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.common.stream.RunningHashCalculatorForStream;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.utility.CompareTo;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.ConfigurationBuilder;
@@ -47,9 +49,12 @@ import com.swirlds.platform.event.preconsensus.PcesFile;
 import com.swirlds.platform.event.preconsensus.PcesMutableFile;
 import com.swirlds.platform.eventhandling.EventConfig;
 import com.swirlds.platform.recovery.emergencyfile.EmergencyRecoveryFile;
+import com.swirlds.platform.recovery.internal.EventStreamMultiFileIterator;
 import com.swirlds.platform.recovery.internal.EventStreamRoundIterator;
+import com.swirlds.platform.recovery.internal.EventStreamRoundLowerBound;
 import com.swirlds.platform.recovery.internal.RecoveredState;
 import com.swirlds.platform.recovery.internal.RecoveryPlatform;
+import com.swirlds.platform.recovery.internal.RecoveryProgress;
 import com.swirlds.platform.recovery.internal.StreamedRound;
 import com.swirlds.platform.state.MerkleRoot;
 import com.swirlds.platform.state.PlatformStateAccessor;
@@ -69,6 +74,7 @@ import com.swirlds.platform.system.events.ConsensusEvent;
 import com.swirlds.platform.system.state.notifications.NewRecoveredStateListener;
 import com.swirlds.platform.system.state.notifications.NewRecoveredStateNotification;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -77,6 +83,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -162,22 +170,45 @@ public final class EventRecoveryWorkflow {
                     initialState.get().getRound());
             logger.info(STARTUP.getMarker(), "Loading event stream at {}", eventStreamDirectory);
 
-            final IOIterator<StreamedRound> roundIterator = new EventStreamRoundIterator(
-                    initialState.get().getAddressBook(),
-                    eventStreamDirectory,
-                    initialState.get().getRound() + 1,
-                    allowPartialRounds);
-
-            logger.info(STARTUP.getMarker(), "Reapplying transactions");
-
-            final RecoveredState recoveredState = reapplyTransactions(
-                    platformContext,
-                    initialState.getAndReserve("recoverState()"),
-                    appMain,
-                    roundIterator,
-                    finalRound,
-                    selfId,
-                    loadSigningKeys);
+            final EventRecoveryConfig recoveryConfig =
+                    platformContext.getConfiguration().getConfigData(EventRecoveryConfig.class);
+            final Path snapshotDirectory =
+                    recoveryConfig.snapshotPeriod() > 0 ? resultingStateDirectory.resolve("snapshots") : null;
+            final ExecutorService readAheadExecutor = createReadAheadExecutor(recoveryConfig);
+            final RecoveredState recoveredState;
+            try {
+                final EventStreamMultiFileIterator eventStream = new EventStreamMultiFileIterator(
+                        eventStreamDirectory,
+                        new EventStreamRoundLowerBound(initialState.get().getRound() + 1),
+                        readAheadExecutor,
+                        recoveryConfig.readAheadFiles(),
+                        recoveryConfig.verifyRunningHashes());
+                // Closing the round iterator also closes the event stream
+                try (final IOIterator<StreamedRound> roundIterator = new EventStreamRoundIterator(
+                        initialState.get().getAddressBook(), eventStream, allowPartialRounds)) {
+
+                    logger.info(STARTUP.getMarker(), "Reapplying transactions");
+
+                    recoveredState = reapplyTransactions(
+                            platformContext,
+                            initialState.getAndReserve("recoverState()"),
+                            appMain,
+                            roundIterator,
+                            finalRound,
+                            selfId,
+                            loadSigningKeys,
+                            new RecoveryProgress(
+                                    platformContext.getTime(),
+                                    recoveryConfig.progressLogPeriod(),
+                                    finalRound,
+                                    eventStream),
+                            snapshotDirectory);
+                }
+            } finally {
+                if (readAheadExecutor != null) {
+                    readAheadExecutor.shutdownNow();
+                }
+            }
 
             logger.info(
                     STARTUP.getMarker(),
@@ -221,6 +252,29 @@ public final class EventRecoveryWorkflow {
         }
     }
 
+    /**
+     * Create the executor reading event stream files ahead of the round being applied.
+     *
+     * @param recoveryConfig the recovery configuration
+     * @return the executor, or null if files are not read ahead
+     */
+    @Nullable
+    private static ExecutorService createReadAheadExecutor(@NonNull final EventRecoveryConfig recoveryConfig) {
+        if (recoveryConfig.readAheadFiles() <= 0) {
+            return null;
+        }
+        final int threads = recoveryConfig.readAheadThreads() > 0
+                ? recoveryConfig.readAheadThreads()
+                : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(
+                threads,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("event-recovery")
+                        .setThreadName("read-ahead")
+                        .setDaemon(true)
+                        .buildFactory());
+    }
+
     /**
      * Update the resulting emergency recovery file to contain the bootstrap timestamp.
      *
@@ -293,14 +347,66 @@ public final class EventRecoveryWorkflow {
             @NonNull final NodeId selfId,
             final boolean loadSigningKeys)
             throws IOException {
+        Objects.requireNonNull(platformContext, "platformContext must not be null");
+        return reapplyTransactions(
+                platformContext,
+                initialState,
+                appMain,
+                roundIterator,
+                finalRound,
+                selfId,
+                loadSigningKeys,
+                new RecoveryProgress(
+                        platformContext.getTime(),
+                        platformContext
+                                .getConfiguration()
+                                .getConfigData(EventRecoveryConfig.class)
+                                .progressLogPeriod(),
+                        finalRound,
+                        null),
+                null);
+    }
+
+    /**
+     * Apply transactions on top of a state to produce a new state, reporting the progress and optionally writing
+     * periodic snapshots of the state.
+     *
+     * @param platformContext   the platform context
+     * @param initialState      the starting signed state
+     * @param appMain           the {@link SwirldMain} for the app. Ignored if null.
+     * @param roundIterator     an iterator that walks over transactions
+     * @param finalRound        the last round to apply to the state (inclusive), will stop earlier if the event stream
+     *                          does not have events from the final round
+     * @param selfId            the self ID of the node
+     * @param loadSigningKeys   if true then load the signing keys
+     * @param progress          tracks and logs the progress of the recovery
+     * @param snapshotDirectory if not null then a snapshot of the state is written to a subdirectory of this directory
+     *                          after every {@link EventRecoveryConfig#snapshotPeriod()} rounds
+     * @return the resulting signed state
+     * @throws IOException if there is a problem reading from the event stream file or writing a snapshot
+     */
+    @NonNull
+    public static RecoveredState reapplyTransactions(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final ReservedSignedState initialState,
+            @NonNull final SwirldMain appMain,
+            @NonNull final IOIterator<StreamedRound> roundIterator,
+            final long finalRound,
+            @NonNull final NodeId selfId,
+            final boolean loadSigningKeys,
+            @NonNull final RecoveryProgress progress,
+            @Nullable final Path snapshotDirectory)
+            throws IOException {
 
         Objects.requireNonNull(platformContext, "platformContext must not be null");
         Objects.requireNonNull(initialState, "initialState must not be null");
         Objects.requireNonNull(appMain, "appMain must not be null");
         Objects.requireNonNull(roundIterator, "roundIterator must not be null");
         Objects.requireNonNull(selfId, "selfId must not be null");
+        Objects.requireNonNull(progress, "progress must not be null");
 
         final Configuration configuration = platformContext.getConfiguration();
+        final long snapshotPeriod = configuration.getConfigData(EventRecoveryConfig.class).snapshotPeriod();
 
         initialState.get().getState().throwIfImmutable("initial state must be mutable");
 
@@ -323,6 +429,7 @@ public final class EventRecoveryWorkflow {
 
         // Apply events to the state
         ConsensusEvent lastEvent = null;
+        ReservedSignedState pendingSnapshot = null;
         while (roundIterator.hasNext()
                 && (finalRound == -1 || roundIterator.peek().getRoundNum() <= finalRound)) {
             final StreamedRound round = roundIterator.next();
@@ -335,9 +442,24 @@ public final class EventRecoveryWorkflow {
 
             signedState = handleNextRound(
                     platformContext, signedState, round, configuration.getConfigData(ConsensusConfig.class));
+            if (pendingSnapshot != null) {
+                // The state of the previous round became immutable when it was copied for this round
+                writeSnapshot(platformContext, selfId, Objects.requireNonNull(snapshotDirectory), pendingSnapshot);
+                pendingSnapshot = null;
+            }
             platform.setLatestState(signedState.get());
             lastEvent = getLastEvent(round);
+            progress.roundApplied(round);
+
+            if (snapshotDirectory != null && snapshotPeriod > 0 && round.getRoundNum() % snapshotPeriod == 0) {
+                pendingSnapshot = signedState.getAndReserve("recovery snapshot");
+            }
+        }
+        if (pendingSnapshot != null) {
+            // The state of the final round is written by the caller
+            pendingSnapshot.close();
         }
+        progress.logSummary();
 
         logger.info(STARTUP.getMarker(), "Hashing resulting signed state");
         try {
@@ -359,6 +481,39 @@ public final class EventRecoveryWorkflow {
         return new RecoveredState(signedState, ((CesEvent) Objects.requireNonNull(lastEvent)).getPlatformEvent());
     }
 
+    /**
+     * Hash an immutable state and write it to a subdirectory of the snapshot directory named after its round. The
+     * reservation of the state is released.
+     *
+     * @param platformContext   the platform context
+     * @param selfId            the self ID of the node
+     * @param snapshotDirectory the directory containing all snapshots
+     * @param snapshot          the state to write
+     * @throws IOException if the state can't be written
+     */
+    private static void writeSnapshot(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final NodeId selfId,
+            @NonNull final Path snapshotDirectory,
+            @NonNull final ReservedSignedState snapshot)
+            throws IOException {
+        try (snapshot) {
+            final long round = snapshot.get().getRound();
+            logger.info(STARTUP.getMarker(), "Writing snapshot of round {}", round);
+            MerkleCryptoFactory.getInstance()
+                    .digestTreeAsync(snapshot.get().getState())
+                    .get();
+            final Path directory = snapshotDirectory.resolve(Long.toString(round));
+            Files.createDirectories(directory);
+            SignedStateFileWriter.writeSignedStateFilesToDirectory(platformContext, selfId, directory, snapshot.get());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("interrupted while attempting to hash a snapshot", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Apply a single round and generate a new state. The previous state is released.
      *
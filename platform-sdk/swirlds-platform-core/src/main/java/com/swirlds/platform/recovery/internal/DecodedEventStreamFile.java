@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.recovery.internal;
+
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.platform.system.events.CesEvent;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An event stream file that has been read into memory in full. Reading a file also hashes all of its events, so that
+ * the running hash of the stream can later be computed without serializing the events again, and optionally checks
+ * that the events lead from the start hash of the file to its end hash.
+ *
+ * <p>Files are decoded independently of each other, so several files can be decoded in parallel ahead of the events
+ * being consumed.
+ */
+public class DecodedEventStreamFile implements EventStreamFileIterator {
+
+    private final Hash startHash;
+    private final Hash endHash;
+    private final List<CesEvent> events;
+    private final long bytesRead;
+    private final boolean damaged;
+    private int position;
+
+    private DecodedEventStreamFile(
+            final Hash startHash,
+            final Hash endHash,
+            @NonNull final List<CesEvent> events,
+            final long bytesRead,
+            final boolean damaged) {
+        this.startHash = startHash;
+        this.endHash = endHash;
+        this.events = Objects.requireNonNull(events);
+        this.bytesRead = bytesRead;
+        this.damaged = damaged;
+    }
+
+    /**
+     * Read all events of an event stream file.
+     *
+     * @param objectStreamFile    the file
+     * @param toleratePartialFile if true then allow the event stream file to end abruptly (possibly mid-event), and
+     *                            return all events that are complete within the stream. If false then throw if the file
+     *                            is incomplete.
+     * @param verifyRunningHash   if true then throw if the running hash of the events does not match the end hash of
+     *                            the file. Damaged files have no end hash and are not verified.
+     * @return the decoded file
+     * @throws IOException if there is an error reading the file, or if the running hash does not match
+     */
+    @NonNull
+    public static DecodedEventStreamFile decode(
+            @NonNull final Path objectStreamFile, final boolean toleratePartialFile, final boolean verifyRunningHash)
+            throws IOException {
+        Objects.requireNonNull(objectStreamFile, "the file must not be null");
+        final Cryptography cryptography = CryptographyHolder.get();
+        try (final EventStreamSingleFileIterator iterator =
+                new EventStreamSingleFileIterator(objectStreamFile, toleratePartialFile)) {
+            final List<CesEvent> events = new ArrayList<>();
+            Hash runningHash = iterator.getStartHash();
+            while (iterator.hasNext()) {
+                final CesEvent event = iterator.next();
+                final Hash eventHash = cryptography.digestSync(event, DigestType.SHA_384, true);
+                if (verifyRunningHash && runningHash != null) {
+                    runningHash = cryptography.calcRunningHash(runningHash, eventHash, DigestType.SHA_384);
+                }
+                events.add(event);
+            }
+
+            final Hash endHash = iterator.getEndHash();
+            if (verifyRunningHash && endHash != null && !endHash.equals(runningHash)) {
+                throw new IOException("running hash of the events in `%s` is %s, but the file ends with %s"
+                        .formatted(objectStreamFile, runningHash, endHash));
+            }
+            return new DecodedEventStreamFile(
+                    iterator.getStartHash(), endHash, events, iterator.getBytesRead(), iterator.isDamaged());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        return position < events.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CesEvent peek() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return events.get(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CesEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return events.get(position++);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash getStartHash() {
+        return startHash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash getEndHash() {
+        return endHash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDamaged() {
+        return damaged;
+    }
+
+    /**
+     * Get the number of events in the file.
+     */
+    public int getEventCount() {
+        return events.size();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.recovery.internal;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.platform.system.events.CesEvent;
+
+/**
+ * An iterator over the events of a single event stream file.
+ */
+public interface EventStreamFileIterator extends IOIterator<CesEvent> {
+
+    /**
+     * Get the hash at the start of the event stream.
+     */
+    Hash getStartHash();
+
+    /**
+     * Get the hash at the end of the event stream, or null if it has not been read yet or the file is damaged.
+     */
+    Hash getEndHash();
+
+    /**
+     * Get the number of bytes read from the stream so far.
+     */
+    long getBytesRead();
+
+    /**
+     * Is this file damaged? A file can be damaged if the JVM is killed abruptly while data is being written, or if the
+     * file is closed before the final hash has been written.
+     *
+     * @return true if this file is damaged
+     */
+    boolean isDamaged();
+}
@@ -20,13 +20,21 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.platform.system.events.CesEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 /**
  * <p>
@@ -43,6 +51,13 @@ import java.util.Objects;
  * (if, for example, a node crashed while writing it). All complete events at the beginning of the file are returned by
  * this iterator.
  * </p>
+ *
+ * <p>
+ * Optionally, upcoming files are read ahead on the threads of an {@link Executor}. Each file is then read into memory
+ * in full, its events are hashed, and its running hash is checked against the hash at the end of the file, all in
+ * parallel with the events of earlier files being consumed. Files are still returned in order, and a problem with a
+ * file is still only reported when the file is reached.
+ * </p>
  */
 public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
 
@@ -51,9 +66,19 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
     private long byteCount;
     private Hash startHash;
     private final List<CesEvent> skippedEvents;
-    private EventStreamSingleFileIterator eventIterator;
+    private EventStreamFileIterator eventIterator;
     private long damagedFileCount = 0;
 
+    /** The executor reading files ahead, or null if files are read one event at a time when they are reached */
+    @Nullable
+    private final Executor readAheadExecutor;
+
+    private final int readAheadFiles;
+    private final boolean verifyRunningHashes;
+
+    /** The files being read ahead, in stream order */
+    private final Deque<PendingFile> pendingFiles = new ArrayDeque<>();
+
     /**
      * Create an iterator that walks over events in an event stream spanning multiple files, starting from the indicated
      * event stream bound.  The bound must occur in the event stream otherwise a NoSuchElementException will be thrown.
@@ -65,8 +90,35 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
      */
     public EventStreamMultiFileIterator(
             @NonNull final Iterator<Path> fileIterator, @NonNull final EventStreamLowerBound bound) throws IOException {
+        this(fileIterator, bound, null, 0, false);
+    }
+
+    /**
+     * Create an iterator that walks over events in an event stream spanning multiple files, starting from the indicated
+     * event stream bound, and that reads upcoming files ahead.  The bound must occur in the event stream otherwise a
+     * NoSuchElementException will be thrown.
+     *
+     * @param fileIterator        an iterator that returns ordered event stream files
+     * @param bound               the lower bound of the events in the event stream to be walked by this iterator.
+     * @param readAheadExecutor   the executor reading files ahead, or null to read files only when they are reached
+     * @param readAheadFiles      the maximum number of files read ahead at any time; ignored without an executor
+     * @param verifyRunningHashes if true then check that the running hash of the events of each complete file matches
+     *                            the hash at the end of the file
+     * @throws IOException            if there is a problem reading the event stream
+     * @throws NoSuchElementException if an event prior to or matching the bound can't be found
+     */
+    public EventStreamMultiFileIterator(
+            @NonNull final Iterator<Path> fileIterator,
+            @NonNull final EventStreamLowerBound bound,
+            @Nullable final Executor readAheadExecutor,
+            final int readAheadFiles,
+            final boolean verifyRunningHashes)
+            throws IOException {
         Objects.requireNonNull(bound, "the lower bound must not be null");
         this.fileIterator = Objects.requireNonNull(fileIterator, "the file iterator must not be null");
+        this.readAheadExecutor = readAheadFiles > 0 ? readAheadExecutor : null;
+        this.readAheadFiles = readAheadFiles;
+        this.verifyRunningHashes = verifyRunningHashes;
         this.startHash = null;
         this.skippedEvents = new ArrayList<>();
 
@@ -89,6 +141,35 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         this(new EventStreamPathIterator(eventStreamDirectory, bound), bound);
     }
 
+    /**
+     * Create an iterator that walks over all events in a given directory starting from a given event stream bound, and
+     * that reads upcoming files ahead. The bound must occur in the event stream otherwise a NoSuchElementException
+     * will be thrown.
+     *
+     * @param eventStreamDirectory the directory in question
+     * @param bound                the bound for the events in the event stream to be walked by this iterator
+     * @param readAheadExecutor    the executor reading files ahead, or null to read files only when they are reached
+     * @param readAheadFiles       the maximum number of files read ahead at any time; ignored without an executor
+     * @param verifyRunningHashes  if true then check that the running hash of the events of each complete file
+     *                             matches the hash at the end of the file
+     * @throws IOException            if there is a problem reading the event stream
+     * @throws NoSuchElementException if an event prior to or matching the bound can't be found
+     */
+    public EventStreamMultiFileIterator(
+            @NonNull final Path eventStreamDirectory,
+            @NonNull final EventStreamLowerBound bound,
+            @Nullable final Executor readAheadExecutor,
+            final int readAheadFiles,
+            final boolean verifyRunningHashes)
+            throws IOException {
+        this(
+                new EventStreamPathIterator(eventStreamDirectory, bound),
+                bound,
+                readAheadExecutor,
+                readAheadFiles,
+                verifyRunningHashes);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -97,6 +178,10 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         if (eventIterator != null) {
             eventIterator.close();
         }
+        for (final PendingFile pendingFile : pendingFiles) {
+            pendingFile.file().cancel(false);
+        }
+        pendingFiles.clear();
     }
 
     /**
@@ -105,16 +190,29 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
     @Override
     public boolean hasNext() throws IOException {
         if (eventIterator == null || !eventIterator.hasNext()) {
-            if (!fileIterator.hasNext()) {
+            if (pendingFiles.isEmpty() && !fileIterator.hasNext()) {
                 // No more files to open
                 return false;
             }
 
             final Hash previousHash = eventIterator == null ? null : eventIterator.getEndHash();
 
-            final Path nextFile = fileIterator.next();
+            final Path nextFile;
+            final EventStreamFileIterator nextEventIterator;
+            if (readAheadExecutor == null && !verifyRunningHashes) {
+                nextFile = fileIterator.next();
+                nextEventIterator = new EventStreamSingleFileIterator(nextFile, !fileIterator.hasNext());
+            } else {
+                readAhead();
+                final PendingFile pendingFile = pendingFiles.removeFirst();
+                nextFile = pendingFile.path();
+                nextEventIterator = awaitFile(pendingFile);
+                if (readAheadExecutor != null) {
+                    // Keep the executor busy while the events of this file are consumed
+                    readAhead();
+                }
+            }
             fileCount++;
-            final boolean toleratePartialFile = !fileIterator.hasNext();
             if (eventIterator != null) {
                 // if we are done with the previous file, close it
                 byteCount += eventIterator.getBytesRead();
@@ -123,7 +221,7 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
                     damagedFileCount++;
                 }
             }
-            eventIterator = new EventStreamSingleFileIterator(nextFile, toleratePartialFile);
+            eventIterator = nextEventIterator;
             if (startHash == null) {
                 // when opening the first file, save the starting hash
                 startHash = eventIterator.getStartHash();
@@ -159,6 +257,62 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         return eventIterator.next();
     }
 
+    /**
+     * Start reading files ahead until the maximum number of files is pending. Without an executor, the next file is
+     * read on the calling thread.
+     */
+    private void readAhead() {
+        final int maxPendingFiles = readAheadExecutor == null ? 1 : readAheadFiles;
+        while (pendingFiles.size() < maxPendingFiles && fileIterator.hasNext()) {
+            final Path file = fileIterator.next();
+            // Only the final file may end abruptly
+            final boolean toleratePartialFile = !fileIterator.hasNext();
+            final CompletableFuture<DecodedEventStreamFile> decodedFile;
+            if (readAheadExecutor == null) {
+                decodedFile = new CompletableFuture<>();
+                try {
+                    decodedFile.complete(DecodedEventStreamFile.decode(file, toleratePartialFile, verifyRunningHashes));
+                } catch (final IOException e) {
+                    decodedFile.completeExceptionally(e);
+                }
+            } else {
+                decodedFile = CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return DecodedEventStreamFile.decode(file, toleratePartialFile, verifyRunningHashes);
+                            } catch (final IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        },
+                        readAheadExecutor);
+            }
+            pendingFiles.addLast(new PendingFile(file, decodedFile));
+        }
+    }
+
+    /**
+     * Wait until a file read ahead is decoded.
+     *
+     * @param pendingFile the file
+     * @return the decoded file
+     * @throws IOException if the file could not be read
+     */
+    @NonNull
+    private static DecodedEventStreamFile awaitFile(@NonNull final PendingFile pendingFile) throws IOException {
+        try {
+            return pendingFile.file().get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while reading `%s`".formatted(pendingFile.path()));
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause() instanceof UncheckedIOException uioe ? uioe.getCause() : e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException("unable to read event stream file `%s`".formatted(pendingFile.path()), cause);
+        }
+    }
+
     /**
      * @return the running hash at the start of the first file
      */
@@ -190,6 +344,15 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         return byteCount + eventIterator.getBytesRead();
     }
 
+    /**
+     * Get the total number of files this iterator walks over, or -1 if it is unknown.
+     *
+     * @return the total number of files, or -1 if unknown
+     */
+    public long getTotalFileCount() {
+        return fileIterator instanceof final EventStreamPathIterator pathIterator ? pathIterator.getFileCount() : -1;
+    }
+
     /**
      * Get the number of files that are damaged.
      */
@@ -201,4 +364,12 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
 
         return damageCount;
     }
+
+    /**
+     * A file being read ahead.
+     *
+     * @param path the path of the file
+     * @param file the future completed with the decoded file
+     */
+    private record PendingFile(@NonNull Path path, @NonNull CompletableFuture<DecodedEventStreamFile> file) {}
 }
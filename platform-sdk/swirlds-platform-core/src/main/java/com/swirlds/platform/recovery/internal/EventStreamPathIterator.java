@@ -38,6 +38,7 @@ import java.util.stream.Stream;
 public class EventStreamPathIterator implements Iterator<Path> {
 
     private final Iterator<Path> iterator;
+    private final int fileCount;
 
     private static final String EVENT_FILE_EXTENSION = ".evts";
 
@@ -69,6 +70,7 @@ public class EventStreamPathIterator implements Iterator<Path> {
 
         if (eventStreamFiles.isEmpty()) {
             iterator = Collections.emptyIterator();
+            fileCount = 0;
             return;
         }
 
@@ -76,6 +78,7 @@ public class EventStreamPathIterator implements Iterator<Path> {
         if (bound == UNBOUNDED || bound.compareTo(firstEvent) == 0) {
             // We are attempting to get events from the beginning of the event stream.
             iterator = eventStreamFiles.iterator();
+            fileCount = eventStreamFiles.size();
         } else {
             final EventStreamLowerBound usedBound;
             if (bound instanceof final EventStreamRoundLowerBound roundBound) {
@@ -101,6 +104,7 @@ public class EventStreamPathIterator implements Iterator<Path> {
             iterator = eventStreamFiles
                     .subList(startingIndex, eventStreamFiles.size())
                     .iterator();
+            fileCount = eventStreamFiles.size() - startingIndex;
         }
     }
 
@@ -151,4 +155,13 @@ public class EventStreamPathIterator implements Iterator<Path> {
     public Path next() {
         return iterator.next();
     }
+
+    /**
+     * Get the total number of files returned by this iterator.
+     *
+     * @return the number of files
+     */
+    public int getFileCount() {
+        return fileCount;
+    }
 }
@@ -17,7 +17,6 @@
 package com.swirlds.platform.recovery.internal;
 
 import com.swirlds.common.crypto.Hash;
-import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.platform.system.events.CesEvent;
 import java.io.FileInputStream;
@@ -28,7 +27,7 @@ import java.util.NoSuchElementException;
 /**
  * An iterator that walks over events in a single event stream file.
  */
-public class EventStreamSingleFileIterator implements IOIterator<CesEvent> {
+public class EventStreamSingleFileIterator implements EventStreamFileIterator {
 
     private final ObjectStreamIterator<SelfSerializable> iterator;
 
@@ -148,32 +147,33 @@ public class EventStreamSingleFileIterator implements IOIterator<CesEvent> {
     }
 
     /**
-     * Get the hash at the start of the event stream.
+     * {@inheritDoc}
      */
+    @Override
     public Hash getStartHash() {
         return startHash;
     }
 
     /**
-     * Get the hash at the end of the event stream.
+     * {@inheritDoc}
      */
+    @Override
     public Hash getEndHash() {
         return endHash;
     }
 
     /**
-     * Get the number of bytes read from the stream so far.
+     * {@inheritDoc}
      */
+    @Override
     public long getBytesRead() {
         return iterator.getBytesRead();
     }
 
     /**
-     * Is this file damaged? A file can be damaged if the JVM is killed abruptly while data is being written, or if the
-     * file is closed before the final hash has been written.
-     *
-     * @return true if this file is damaged
+     * {@inheritDoc}
      */
+    @Override
     public boolean isDamaged() {
         return finished && endHash == null;
     }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.recovery.internal;
+
+import static com.swirlds.common.units.TimeUnit.UNIT_SECONDS;
+import static com.swirlds.logging.legacy.LogMarker.STARTUP;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.formatting.UnitFormat;
+import com.swirlds.common.formatting.UnitFormatter;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.Objects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Tracks the progress of an event stream recovery, and periodically logs its throughput and the estimated time until
+ * it completes.
+ *
+ * <p>The estimate is based on the number of rounds left if the recovery stops at a known final round, and otherwise
+ * on the number of event stream files left, if that is known.
+ */
+public class RecoveryProgress {
+
+    private static final Logger logger = LogManager.getLogger(RecoveryProgress.class);
+
+    private final Time time;
+    private final long logPeriodNanos;
+    private final long finalRound;
+
+    @Nullable
+    private final EventStreamMultiFileIterator eventStream;
+
+    private final long startNanos;
+    private long lastLogNanos;
+    private long firstRound = -1;
+    private long lastRound = -1;
+    private long roundCount;
+    private long eventCount;
+
+    /**
+     * Constructor.
+     *
+     * @param time        provides wall clock time
+     * @param logPeriod   the minimum time between two progress log messages
+     * @param finalRound  the last round that will be applied, or a negative number or {@link Long#MAX_VALUE} if the
+     *                    recovery applies all available rounds
+     * @param eventStream the event stream being recovered from, used to estimate the remaining time by the number of
+     *                    files left; may be null
+     */
+    public RecoveryProgress(
+            @NonNull final Time time,
+            @NonNull final Duration logPeriod,
+            final long finalRound,
+            @Nullable final EventStreamMultiFileIterator eventStream) {
+        this.time = Objects.requireNonNull(time);
+        this.logPeriodNanos = Objects.requireNonNull(logPeriod).toNanos();
+        this.finalRound = finalRound < 0 ? Long.MAX_VALUE : finalRound;
+        this.eventStream = eventStream;
+        this.startNanos = time.nanoTime();
+        this.lastLogNanos = startNanos;
+    }
+
+    /**
+     * Record that a round has been applied, and log the progress if the log period has passed.
+     *
+     * @param round the round
+     */
+    public void roundApplied(@NonNull final StreamedRound round) {
+        if (firstRound < 0) {
+            firstRound = round.getRoundNum();
+        }
+        lastRound = round.getRoundNum();
+        roundCount++;
+        eventCount += round.getEventCount();
+
+        final long now = time.nanoTime();
+        if (now - lastLogNanos >= logPeriodNanos) {
+            lastLogNanos = now;
+            logProgress(now);
+        }
+    }
+
+    /**
+     * Log a summary of the whole recovery.
+     */
+    public void logSummary() {
+        final double seconds = secondsSinceStart(time.nanoTime());
+        logger.info(
+                STARTUP.getMarker(),
+                "Applied {} rounds ({} to {}) with {} events in {}, {} rounds/s, {} events/s",
+                roundCount,
+                firstRound,
+                lastRound,
+                eventCount,
+                formatSeconds(seconds),
+                "%.1f".formatted(roundCount / seconds),
+                "%.1f".formatted(eventCount / seconds));
+    }
+
+    /**
+     * Get the estimated number of seconds until the recovery completes.
+     *
+     * @return the estimated number of seconds left, or a negative number if it can't be estimated
+     */
+    public double getEstimatedSecondsLeft() {
+        final double seconds = secondsSinceStart(time.nanoTime());
+        if (roundCount == 0 || seconds <= 0) {
+            return -1;
+        }
+        if (finalRound != Long.MAX_VALUE) {
+            return Math.max(0, finalRound - lastRound) * seconds / roundCount;
+        }
+        if (eventStream != null) {
+            final long totalFiles = eventStream.getTotalFileCount();
+            final long filesRead = eventStream.getFileCount();
+            if (totalFiles >= 0 && filesRead > 0) {
+                return Math.max(0, totalFiles - filesRead) * seconds / filesRead;
+            }
+        }
+        return -1;
+    }
+
+    private void logProgress(final long now) {
+        final double seconds = secondsSinceStart(now);
+        final double secondsLeft = getEstimatedSecondsLeft();
+        logger.info(
+                STARTUP.getMarker(),
+                "Recovery applied round {}, {} rounds/s, {} events/s, {} MB read, estimated time left: {}",
+                lastRound,
+                "%.1f".formatted(roundCount / seconds),
+                "%.1f".formatted(eventCount / seconds),
+                eventStream == null ? "?" : eventStream.getBytesRead() / (1024 * 1024),
+                secondsLeft < 0 ? "unknown" : formatSeconds(secondsLeft));
+    }
+
+    private double secondsSinceStart(final long now) {
+        return (now - startNanos) / 1_000_000_000.0;
+    }
+
+    @NonNull
+    private static String formatSeconds(final double seconds) {
+        return new UnitFormatter(Math.round(seconds), UNIT_SECONDS)
+                .setUnitFormat(UnitFormat.MULTI_SIMPLIFIED)
+                .render();
+    }
+}
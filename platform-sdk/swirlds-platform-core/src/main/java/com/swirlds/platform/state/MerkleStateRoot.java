@@ -41,6 +41,7 @@ import com.swirlds.common.utility.RuntimeObjectRecord;
 import com.swirlds.common.utility.RuntimeObjectRegistry;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.config.StateConfig;
 import com.swirlds.platform.state.service.PlatformStateService;
 import com.swirlds.platform.state.service.ReadablePlatformStateStore;
 import com.swirlds.platform.state.service.WritablePlatformStateStore;
@@ -71,6 +72,7 @@ import com.swirlds.state.spi.EmptyReadableStates;
 import com.swirlds.state.spi.KVChangeListener;
 import com.swirlds.state.spi.QueueChangeListener;
 import com.swirlds.state.spi.ReadableKVState;
+import com.swirlds.state.spi.ReadableKVStateBase;
 import com.swirlds.state.spi.ReadableQueueState;
 import com.swirlds.state.spi.ReadableSingletonState;
 import com.swirlds.state.spi.ReadableStates;
@@ -154,6 +156,12 @@ public class MerkleStateRoot extends PartialNaryMerkleInternal
 
     private Metrics metrics;
 
+    /**
+     * The maximum number of values cached by each on-disk readable k/v state created by this instance while it is
+     * immutable. Readable states of a mutable instance are never bounded, since the keys they read must be complete.
+     */
+    private int maxCachedReadsPerKvState = ReadableKVStateBase.UNBOUNDED;
+
     /**
      * Metrics for the snapshot creation process
      */
@@ -248,6 +256,11 @@ public class MerkleStateRoot extends PartialNaryMerkleInternal
         metrics = platformContext.getMetrics();
         merkleCryptography = platformContext.getMerkleCryptography();
         snapshotMetrics = new MerkleRootSnapshotMetrics(platformContext);
+        final int maxCachedReads = platformContext
+                .getConfiguration()
+                .getConfigData(StateConfig.class)
+                .maxCachedReadsPerKvState();
+        maxCachedReadsPerKvState = maxCachedReads < 0 ? ReadableKVStateBase.UNBOUNDED : maxCachedReads;
 
         // If we are initialized for event stream recovery, we have to register an
         // extra listener to make sure we call all the required Hedera lifecycles
@@ -289,6 +302,7 @@ public class MerkleStateRoot extends PartialNaryMerkleInternal
         this.versionFactory = from.versionFactory;
         this.preV054PlatformState = from.preV054PlatformState;
         this.platformStateInitChanges = from.platformStateInitChanges;
+        this.maxCachedReadsPerKvState = from.maxCachedReadsPerKvState;
         this.listeners.addAll(from.listeners);
 
         // Copy over the metadata
@@ -778,7 +792,8 @@ public class MerkleStateRoot extends PartialNaryMerkleInternal
                     extractStateKey(md),
                     md.onDiskKeyClassId(),
                     md.stateDefinition().keyCodec(),
-                    v);
+                    v,
+                    isImmutable() ? maxCachedReadsPerKvState : ReadableKVStateBase.UNBOUNDED);
         }
 
         @Override
@@ -985,6 +1000,16 @@ public class MerkleStateRoot extends PartialNaryMerkleInternal
                 public void mapDeleteChange(@NonNull final K key) {
                     listener.mapDeleteChange(stateId, key);
                 }
+
+                @Override
+                public void mapReadAccess(@NonNull final K key) {
+                    listener.mapReadAccess(stateId, key);
+                }
+
+                @Override
+                public boolean wantsReadAccesses() {
+                    return listener.wantsReadAccesses();
+                }
             });
         }
     }
@@ -21,6 +21,7 @@ import static java.util.stream.Collectors.toList;
 
 import com.hedera.hapi.platform.event.StateSignatureTransaction;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.Signature;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.platform.NodeId;
@@ -36,11 +37,15 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -53,6 +58,11 @@ import org.apache.logging.log4j.Logger;
  *     <li>fully signed</li>
  *     <li>too old</li>
  * </ul>
+ * <p>
+ * Each batch of signatures is verified before any of it is added to a state. The cryptographic checks of a batch run
+ * concurrently on a dedicated pool (see {@link StateConfig#signatureVerificationThreads()}), and their results are
+ * remembered per round, signer, state hash and signature, so a signature seen both before and after consensus is only
+ * verified once. The collector itself then only merges verified signatures into the states.
  */
 public class DefaultStateSignatureCollector implements StateSignatureCollector {
     private static final Logger logger = LogManager.getLogger(DefaultStateSignatureCollector.class);
@@ -66,6 +76,10 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     private final SequenceSet<SavedSignature> savedSignatures;
     /** A collection of signed state metrics */
     private final SignedStateMetrics signedStateMetrics;
+    /** The results of signatures already verified against incomplete states */
+    private final Map<VerificationKey, Boolean> verifiedSignatures = new HashMap<>();
+    /** The pool used to verify signatures concurrently, or null to verify them on the calling thread */
+    private final ForkJoinPool verificationPool;
 
     /**
      * Start empty, with no known signed states. A signed state is considered completed when it has signatures from a
@@ -81,6 +95,13 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
 
         this.savedSignatures =
                 new StandardSequenceSet<>(0, stateConfig.maxAgeOfFutureStateSignatures(), SavedSignature::round);
+
+        final int verificationThreads = stateConfig.signatureVerificationThreads() == 0
+                ? Runtime.getRuntime().availableProcessors()
+                : stateConfig.signatureVerificationThreads();
+        this.verificationPool = verificationThreads > 1
+                ? platformContext.getExecutorFactory().createForkJoinPool(verificationThreads)
+                : null;
     }
 
     /**
@@ -104,7 +125,9 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
         // find any signatures that have been saved
         final List<SavedSignature> signatures = savedSignatures.getEntriesWithSequenceNumber(signedState.getRound());
         savedSignatures.removeSequenceNumber(signedState.getRound());
-        signatures.forEach(ss -> addSignature(reservedSignedState, ss.memberId, ss.signature));
+        addSignatures(signatures.stream()
+                .map(ss -> new PendingSignature(reservedSignedState, ss.memberId, ss.signature))
+                .toList());
 
         lastStateRound = Math.max(lastStateRound, signedState.getRound());
         adjustSavedSignaturesWindow(signedState.getRound());
@@ -134,13 +157,17 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     public @Nullable List<ReservedSignedState> handlePreconsensusSignatures(
             @NonNull final List<ScopedSystemTransaction<StateSignatureTransaction>> transactions) {
         Objects.requireNonNull(transactions, "transactions");
-        return transactions.stream()
-                .map(this::handlePreconsensusSignature)
-                .filter(Objects::nonNull)
-                .collect(collectingAndThen(toList(), l -> l.isEmpty() ? null : l));
+        final List<PendingSignature> pending = new ArrayList<>(transactions.size());
+        for (final ScopedSystemTransaction<StateSignatureTransaction> transaction : transactions) {
+            final PendingSignature signature = handlePreconsensusSignature(transaction);
+            if (signature != null) {
+                pending.add(signature);
+            }
+        }
+        return addSignatures(pending);
     }
 
-    private @Nullable ReservedSignedState handlePreconsensusSignature(
+    private @Nullable PendingSignature handlePreconsensusSignature(
             @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction) {
 
         final long round = scopedTransaction.transaction().round();
@@ -160,7 +187,7 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
             savedSignatures.add(new SavedSignature(round, scopedTransaction.submitterId(), signature));
             return null;
         }
-        return addSignature(reservedState, scopedTransaction.submitterId(), signature);
+        return new PendingSignature(reservedState, scopedTransaction.submitterId(), signature);
     }
 
     /**
@@ -170,13 +197,17 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     public @Nullable List<ReservedSignedState> handlePostconsensusSignatures(
             @NonNull final List<ScopedSystemTransaction<StateSignatureTransaction>> transactions) {
         Objects.requireNonNull(transactions, "transactions");
-        return transactions.stream()
-                .map(this::handlePostconsensusSignature)
-                .filter(Objects::nonNull)
-                .collect(collectingAndThen(toList(), l -> l.isEmpty() ? null : l));
+        final List<PendingSignature> pending = new ArrayList<>(transactions.size());
+        for (final ScopedSystemTransaction<StateSignatureTransaction> transaction : transactions) {
+            final PendingSignature signature = handlePostconsensusSignature(transaction);
+            if (signature != null) {
+                pending.add(signature);
+            }
+        }
+        return addSignatures(pending);
     }
 
-    private @Nullable ReservedSignedState handlePostconsensusSignature(
+    private @Nullable PendingSignature handlePostconsensusSignature(
             @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction) {
         final long round = scopedTransaction.transaction().round();
 
@@ -188,7 +219,7 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
             return null;
         }
 
-        return addSignature(
+        return new PendingSignature(
                 reservedState,
                 scopedTransaction.submitterId(),
                 new Signature(
@@ -197,20 +228,74 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     }
 
     /**
-     * Add a new signature to a signed state.
+     * Verify a batch of signatures, and then add the valid ones to their signed states in order.
+     *
+     * @param pending the signatures to add
+     * @return the signed states completed by the signatures, or null if there are none
+     */
+    private @Nullable List<ReservedSignedState> addSignatures(@NonNull final List<PendingSignature> pending) {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        verifySignatures(pending);
+
+        final List<ReservedSignedState> completedStates = new ArrayList<>();
+        for (final PendingSignature signature : pending) {
+            final ReservedSignedState completed = addSignature(signature);
+            if (completed != null) {
+                completedStates.add(completed);
+            }
+        }
+        return completedStates.isEmpty() ? null : completedStates;
+    }
+
+    /**
+     * Verify every signature in the batch whose result is not yet known and could still matter, concurrently if a
+     * verification pool is configured, and remember the results.
+     *
+     * @param pending the signatures about to be added
+     */
+    private void verifySignatures(@NonNull final List<PendingSignature> pending) {
+        final Set<VerificationKey> keys = new HashSet<>();
+        final List<PendingSignature> toVerify = new ArrayList<>();
+        for (final PendingSignature signature : pending) {
+            final SignedState signedState = signature.state().get();
+            if (signedState.isComplete() || signedState.getSigSet().hasSignature(signature.nodeId())) {
+                // adding the signature will be a no-op, so there is no need to check it
+                continue;
+            }
+            final VerificationKey key = signature.verificationKey();
+            if (!verifiedSignatures.containsKey(key) && keys.add(key)) {
+                toVerify.add(signature);
+            }
+        }
+
+        if (verificationPool == null || toVerify.size() == 1) {
+            toVerify.forEach(signature -> verifiedSignatures.put(signature.verificationKey(), signature.verify()));
+            return;
+        }
+        final List<CompletableFuture<Boolean>> results = toVerify.stream()
+                .map(signature -> CompletableFuture.supplyAsync(signature::verify, verificationPool))
+                .toList();
+        for (int i = 0; i < toVerify.size(); i++) {
+            verifiedSignatures.put(toVerify.get(i).verificationKey(), results.get(i).join());
+        }
+    }
+
+    /**
+     * Add a new signature to a signed state, if it has been verified as valid.
      *
-     * @param reservedSignedState the state being signed
-     * @param nodeId              the ID of the signer
-     * @param signature           the signature on the state
+     * @param pending the signature and the state being signed
      * @return the signed state if it is now complete, otherwise null
      */
-    private @Nullable ReservedSignedState addSignature(
-            @NonNull final ReservedSignedState reservedSignedState,
-            @NonNull final NodeId nodeId,
-            @NonNull final Signature signature) {
-        final SignedState signedState = reservedSignedState.get();
+    private @Nullable ReservedSignedState addSignature(@NonNull final PendingSignature pending) {
+        final SignedState signedState = pending.state().get();
+        if (!Boolean.TRUE.equals(verifiedSignatures.get(pending.verificationKey()))) {
+            // either invalid, or not verified because it could not change the state
+            return null;
+        }
 
-        if (signedState.addSignature(nodeId, signature)) {
+        if (signedState.addVerifiedSignature(pending.nodeId(), pending.signature())) {
             // at this point the signed state is complete for the first time
             signedStateMetrics.getStatesSignedPerSecondMetric().cycle();
             signedStateMetrics
@@ -218,11 +303,21 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
                     .update(Duration.between(signedState.getCreationTimestamp(), Instant.now())
                             .toMillis());
 
+            forgetVerifiedSignatures(signedState.getRound());
             return incompleteStates.remove(signedState.getRound());
         }
         return null;
     }
 
+    /**
+     * Forget the verification results for the given round, once it no longer accepts signatures.
+     *
+     * @param round the round
+     */
+    private void forgetVerifiedSignatures(final long round) {
+        verifiedSignatures.keySet().removeIf(key -> key.round() == round);
+    }
+
     /**
      * Get the earliest round that is permitted to be stored in this data structure.
      *
@@ -249,6 +344,7 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
             final SignedState signedState = reservedSignedState.get();
             if (signedState.getRound() < earliestPermittedRound) {
                 signedStateMetrics.getTotalUnsignedStatesMetric().increment();
+                forgetVerifiedSignatures(signedState.getRound());
                 purgedStates.add(reservedSignedState);
                 iterator.remove();
             }
@@ -285,6 +381,7 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
             iterator.remove();
         }
         savedSignatures.clear();
+        verifiedSignatures.clear();
         lastStateRound = ConsensusConstants.ROUND_UNDEFINED;
     }
 
@@ -292,4 +389,36 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
      * A signature that was received when there was no state with a matching round.
      */
     private record SavedSignature(long round, @NonNull NodeId memberId, @NonNull Signature signature) {}
+
+    /**
+     * Identifies the verification of a signature from a node on the state with a given round and hash.
+     */
+    private record VerificationKey(
+            long round, @NonNull NodeId nodeId, @NonNull Hash hash, @NonNull Signature signature) {}
+
+    /**
+     * A signature on a state that is waiting to be added to it.
+     */
+    private record PendingSignature(
+            @NonNull ReservedSignedState state, @NonNull NodeId nodeId, @NonNull Signature signature) {
+
+        /**
+         * @return the key of this signature's verification result
+         */
+        @NonNull
+        VerificationKey verificationKey() {
+            final SignedState signedState = state.get();
+            return new VerificationKey(
+                    signedState.getRound(), nodeId, signedState.getState().getHash(), signature);
+        }
+
+        /**
+         * Check this signature against the state, possibly on another thread.
+         *
+         * @return true if the signature is valid
+         */
+        boolean verify() {
+            return state.get().isSignatureValid(nodeId, signature);
+        }
+    }
 }
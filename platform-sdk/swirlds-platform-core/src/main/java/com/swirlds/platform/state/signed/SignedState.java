@@ -587,7 +587,34 @@ public class SignedState implements SignedStateInfo {
      * state is either not complete or was previously complete prior to this signature
      */
     public boolean addSignature(@NonNull final NodeId nodeId, @NonNull final Signature signature) {
-        return addSignature(getAddressBook(), nodeId, signature);
+        return addSignature(getAddressBook(), nodeId, signature, false);
+    }
+
+    /**
+     * Add a signature to the sigset without checking it cryptographically. The caller must already have
+     * established that {@link #isSignatureValid(NodeId, Signature)} is true for it; this allows signatures to
+     * be verified concurrently, off the thread that adds them.
+     *
+     * @param nodeId    the ID of the signing node
+     * @param signature the signature to add, already verified
+     * @return true if the signed state is now complete as a result of the signature being added, false if the signed
+     * state is either not complete or was previously complete prior to this signature
+     */
+    public boolean addVerifiedSignature(@NonNull final NodeId nodeId, @NonNull final Signature signature) {
+        return addSignature(getAddressBook(), nodeId, signature, true);
+    }
+
+    /**
+     * Check if a signature from the given node is valid for this state, using the address book in the state. This
+     * only reads the state hash and address book, so it may be called from any thread once the state is hashed.
+     *
+     * @param nodeId    the ID of the signing node
+     * @param signature the signature to check
+     * @return true if the signature is valid, false otherwise
+     */
+    public boolean isSignatureValid(@NonNull final NodeId nodeId, @NonNull final Signature signature) {
+        final AddressBook addressBook = getAddressBook();
+        return isSignatureValid(addressBook.contains(nodeId) ? addressBook.getAddress(nodeId) : null, signature);
     }
 
     /**
@@ -619,11 +646,15 @@ public class SignedState implements SignedStateInfo {
      * @param addressBook use this address book to determine if the signature is valid or not
      * @param nodeId      the ID of the signing node
      * @param signature   the signature to add
+     * @param verified    true if the signature has already been verified against this state's hash
      * @return true if the signed state is now complete as a result of the signature being added, false if the signed
      * state is either not complete or was previously complete prior to this signature
      */
     private boolean addSignature(
-            @NonNull final AddressBook addressBook, @NonNull final NodeId nodeId, @NonNull final Signature signature) {
+            @NonNull final AddressBook addressBook,
+            @NonNull final NodeId nodeId,
+            @NonNull final Signature signature,
+            final boolean verified) {
         Objects.requireNonNull(addressBook, "addressBook");
         Objects.requireNonNull(nodeId, "nodeId");
         Objects.requireNonNull(signature, "signature");
@@ -639,7 +670,7 @@ public class SignedState implements SignedStateInfo {
         }
 
         final Address address = addressBook.getAddress(nodeId);
-        if (!isSignatureValid(address, signature)) {
+        if (verified ? address.getWeight() == 0 : !isSignatureValid(address, signature)) {
             return false;
         }
 
@@ -24,6 +24,7 @@ import static com.swirlds.platform.recovery.RecoveryTestUtils.truncateFile;
 import static com.swirlds.platform.recovery.RecoveryTestUtils.writeRandomEventStream;
 import static com.swirlds.platform.recovery.internal.EventStreamLowerBound.UNBOUNDED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -52,6 +53,8 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -111,6 +114,42 @@ class EventStreamMultiFileIteratorTest {
         }
     }
 
+    @Test
+    @DisplayName("Read All Events With Read Ahead Test")
+    void readAllEventsWithReadAheadTest() throws IOException, NoSuchAlgorithmException {
+        final Random random = getRandomPrintSeed();
+        final Path directory = LegacyTemporaryFileBuilder.buildTemporaryDirectory();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        final int durationInSeconds = 100;
+        final int secondsPerFile = 2;
+
+        final List<CesEvent> events = generateRandomEvents(random, 1L, Duration.ofSeconds(durationInSeconds), 1, 20);
+
+        writeRandomEventStream(random, directory, secondsPerFile, events);
+
+        try (final EventStreamMultiFileIterator iterator =
+                new EventStreamMultiFileIterator(directory, UNBOUNDED, executor, 3, true)) {
+
+            final List<CesEvent> deserializedEvents = new ArrayList<>();
+            iterator.forEachRemaining(deserializedEvents::add);
+
+            assertEquals(events.size(), deserializedEvents.size(), "unexpected number of events read");
+            assertEquals(iterator.getTotalFileCount(), iterator.getFileCount(), "all files should have been read");
+
+            for (int eventIndex = 0; eventIndex < events.size(); eventIndex++) {
+
+                final CesEvent event = deserializedEvents.get(eventIndex);
+                assertNotNull(event.getHash(), "events read ahead should already be hashed");
+                assertEventsAreEqual(event, events.get(eventIndex));
+            }
+
+        } finally {
+            executor.shutdownNow();
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
     @Test
     @DisplayName("Read Events Starting At Round Test")
     void readEventsStartingAtRoundTest() throws NoSuchAlgorithmException, IOException {
@@ -266,6 +305,34 @@ class EventStreamMultiFileIteratorTest {
         }
     }
 
+    @Test
+    @DisplayName("Truncate Middle File With Read Ahead Test")
+    void truncatedMiddleFileWithReadAheadTest() throws NoSuchAlgorithmException, IOException {
+        final Random random = getRandomPrintSeed();
+        final Path directory = LegacyTemporaryFileBuilder.buildTemporaryDirectory();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        final int durationInSeconds = 100;
+        final int secondsPerFile = 2;
+
+        final List<CesEvent> events = generateRandomEvents(random, 1L, Duration.ofSeconds(durationInSeconds), 1, 20);
+
+        writeRandomEventStream(random, directory, secondsPerFile, events);
+
+        final Path fileToTruncate = getMiddleEventStreamFile(directory);
+        truncateFile(fileToTruncate, false);
+
+        final List<CesEvent> deserializedEvents = new ArrayList<>();
+        try (final IOIterator<CesEvent> iterator =
+                new EventStreamMultiFileIterator(directory, UNBOUNDED, executor, 3, true)) {
+            assertThrows(IOException.class, () -> iterator.forEachRemaining(deserializedEvents::add));
+            assertTrue(events.size() > deserializedEvents.size(), "events after the damaged file should not be read");
+        } finally {
+            executor.shutdownNow();
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
     @Test
     @DisplayName("Truncate Middle File Test")
     void truncatedMiddleFileTest() throws NoSuchAlgorithmException, IOException {
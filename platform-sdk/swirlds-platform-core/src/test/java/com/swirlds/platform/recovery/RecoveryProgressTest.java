@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.recovery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.platform.recovery.internal.EventStreamMultiFileIterator;
+import com.swirlds.platform.recovery.internal.RecoveryProgress;
+import com.swirlds.platform.recovery.internal.StreamedRound;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RecoveryProgressTest {
+
+    private final FakeTime time = new FakeTime();
+
+    @Test
+    void estimatesTimeLeftFromRoundsUntilFinalRound() {
+        final RecoveryProgress progress = new RecoveryProgress(time, Duration.ofSeconds(10), 110, null);
+        assertEquals(-1, progress.getEstimatedSecondsLeft(), "nothing is known before the first round");
+
+        for (long round = 1; round <= 10; round++) {
+            time.tick(Duration.ofSeconds(1));
+            progress.roundApplied(round(round));
+        }
+
+        assertEquals(100.0, progress.getEstimatedSecondsLeft(), 0.001);
+    }
+
+    @Test
+    void estimatesTimeLeftFromFilesWithoutFinalRound() {
+        final EventStreamMultiFileIterator eventStream = mock(EventStreamMultiFileIterator.class);
+        when(eventStream.getTotalFileCount()).thenReturn(40L);
+        when(eventStream.getFileCount()).thenReturn(10L);
+        final RecoveryProgress progress = new RecoveryProgress(time, Duration.ofSeconds(10), -1, eventStream);
+
+        time.tick(Duration.ofSeconds(20));
+        progress.roundApplied(round(1));
+
+        assertEquals(60.0, progress.getEstimatedSecondsLeft(), 0.001);
+    }
+
+    @Test
+    void cannotEstimateWithoutFinalRoundOrFiles() {
+        final RecoveryProgress progress = new RecoveryProgress(time, Duration.ofSeconds(10), -1, null);
+
+        time.tick(Duration.ofSeconds(20));
+        progress.roundApplied(round(1));
+
+        assertEquals(-1, progress.getEstimatedSecondsLeft());
+    }
+
+    private static StreamedRound round(final long roundNum) {
+        final StreamedRound round = mock(StreamedRound.class);
+        when(round.getRoundNum()).thenReturn(roundNum);
+        when(round.getEventCount()).thenReturn(5);
+        return round;
+    }
+}
@@ -53,6 +53,7 @@ import com.swirlds.common.merkle.crypto.MerkleCryptographyFactory;
 import com.swirlds.common.metrics.noop.NoOpMetrics;
 import com.swirlds.config.api.ConfigurationBuilder;
 import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.platform.config.StateConfig;
 import com.swirlds.platform.state.service.PlatformStateService;
 import com.swirlds.platform.state.service.ReadablePlatformStateStore;
 import com.swirlds.platform.state.service.WritablePlatformStateStore;
@@ -1116,6 +1117,10 @@ class MerkleStateRootTest extends MerkleTestBase {
             when(platform.getContext()).thenReturn(platformContext);
             when(platformContext.getMerkleCryptography()).thenReturn(merkleCryptography);
             when(platformContext.getMetrics()).thenReturn(new NoOpMetrics());
+            when(platformContext.getConfiguration())
+                    .thenReturn(ConfigurationBuilder.create()
+                            .withConfigDataType(StateConfig.class)
+                            .build());
             stateRoot.init(platform, InitTrigger.GENESIS, mock(SoftwareVersion.class));
         }
 
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state.manager;
+
+import static com.swirlds.platform.test.fixtures.state.manager.SignatureVerificationTestUtils.buildFakeSignatureBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.platform.event.StateSignatureTransaction;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.components.transaction.system.ScopedSystemTransaction;
+import com.swirlds.platform.config.StateConfig_;
+import com.swirlds.platform.state.signed.DefaultStateSignatureCollector;
+import com.swirlds.platform.state.signed.ReservedSignedState;
+import com.swirlds.platform.state.signed.SignedState;
+import com.swirlds.platform.state.signed.SignedStateMetrics;
+import com.swirlds.platform.system.address.AddressBook;
+import com.swirlds.platform.test.fixtures.addressbook.RandomAddressBookBuilder;
+import com.swirlds.platform.test.fixtures.state.RandomSignedStateGenerator;
+import com.swirlds.platform.test.fixtures.state.manager.SignatureVerificationTestUtils;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the concurrent verification of signatures in {@link DefaultStateSignatureCollector}.
+ */
+class ConcurrentSignatureVerificationTest extends AbstractStateSignatureCollectorTest {
+
+    private final AddressBook addressBook = RandomAddressBookBuilder.create(random)
+            .withSize(4)
+            .withWeightDistributionStrategy(RandomAddressBookBuilder.WeightDistributionStrategy.BALANCED)
+            .build();
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private DefaultStateSignatureCollector buildCollector(final int verificationThreads) {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(StateConfig_.ROUNDS_TO_KEEP_FOR_SIGNING, roundsToKeepForSigning)
+                        .withValue(StateConfig_.MAX_AGE_OF_FUTURE_STATE_SIGNATURES, futureStateSignatureRounds)
+                        .withValue(StateConfig_.SIGNATURE_VERIFICATION_THREADS, verificationThreads)
+                        .getOrCreateConfig())
+                .build();
+        return new DefaultStateSignatureCollector(
+                platformContext, new SignedStateMetrics(platformContext.getMetrics()));
+    }
+
+    private SignedState buildState(final long round) {
+        return new RandomSignedStateGenerator(random)
+                .setAddressBook(addressBook)
+                .setRound(round)
+                .setSignatures(new HashMap<>())
+                .setSignatureVerifier((data, signature, publicKey) -> {
+                    verifications.incrementAndGet();
+                    return SignatureVerificationTestUtils.verifySignature(data, signature, publicKey);
+                })
+                .build();
+    }
+
+    private ScopedSystemTransaction<StateSignatureTransaction> signature(
+            final SignedState state, final int nodeIndex, final boolean valid) {
+        final NodeId nodeId = addressBook.getNodeId(nodeIndex);
+        final Bytes signature = valid
+                ? buildFakeSignatureBytes(addressBook.getAddress(nodeId).getSigPublicKey(), state.getState().getHash())
+                : Bytes.wrap(new byte[] {1, 2, 3});
+        return new ScopedSystemTransaction<>(
+                nodeId,
+                null,
+                StateSignatureTransaction.newBuilder()
+                        .round(state.getRound())
+                        .signature(signature)
+                        .hash(state.getState().getHash().getBytes())
+                        .build());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void signaturesSeenBeforeAndAfterConsensusAreVerifiedOnce(final int verificationThreads) {
+        final DefaultStateSignatureCollector collector = buildCollector(verificationThreads);
+        final SignedState state = buildState(1);
+        assertNull(collector.addReservedState(state.reserve("test")));
+        verifications.set(0);
+
+        final var firstTwo = List.of(signature(state, 0, true), signature(state, 1, true));
+        assertNull(collector.handlePreconsensusSignatures(firstTwo));
+        assertEquals(2, verifications.get());
+        assertEquals(2, state.getSigSet().size());
+
+        // the same signatures reaching consensus are already in the state
+        assertNull(collector.handlePostconsensusSignatures(firstTwo));
+        assertEquals(2, verifications.get());
+
+        final List<ReservedSignedState> completed =
+                collector.handlePreconsensusSignatures(List.of(signature(state, 2, true), signature(state, 3, true)));
+        assertEquals(1, completed.size());
+        assertSame(state, completed.get(0).get());
+        assertTrue(state.isComplete());
+        completed.forEach(ReservedSignedState::close);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void invalidSignaturesAreRejectedAndNotVerifiedAgain(final int verificationThreads) {
+        final DefaultStateSignatureCollector collector = buildCollector(verificationThreads);
+        final SignedState state = buildState(1);
+        assertNull(collector.addReservedState(state.reserve("test")));
+        verifications.set(0);
+
+        final var invalid = List.of(signature(state, 0, false), signature(state, 1, false));
+        assertNull(collector.handlePreconsensusSignatures(invalid));
+        assertNull(collector.handlePostconsensusSignatures(invalid));
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, state.getSigSet().size());
+        assertFalse(state.isComplete());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void earlySignaturesAreVerifiedWhenTheStateArrives(final int verificationThreads) {
+        final DefaultStateSignatureCollector collector = buildCollector(verificationThreads);
+        final SignedState previous = buildState(1);
+        assertNull(collector.addReservedState(previous.reserve("test")));
+        final SignedState state = buildState(2);
+
+        assertNull(collector.handlePreconsensusSignatures(List.of(
+                signature(state, 0, true), signature(state, 1, true), signature(state, 2, true))));
+
+        final List<ReservedSignedState> completed = collector.addReservedState(state.reserve("test"));
+        assertEquals(1, completed.size());
+        assertSame(state, completed.get(0).get());
+        assertEquals(3, state.getSigSet().size());
+        completed.forEach(ReservedSignedState::close);
+    }
+}
@@ -76,6 +76,24 @@ public interface StateChangeListener {
      */
     default <K> void mapDeleteChange(int stateId, @NonNull K key) {}
 
+    /**
+     * Save the read access of a key that was read, but not modified, since the last commit of a map.
+     *
+     * @param <K> The type of the key
+     * @param stateId The id of the map
+     * @param key The key read from the map
+     */
+    default <K> void mapReadAccess(int stateId, @NonNull K key) {}
+
+    /**
+     * Whether this listener wants {@link #mapReadAccess(int, Object)} calls for keys read but not modified.
+     *
+     * @return true if read accesses should be reported to this listener
+     */
+    default boolean wantsReadAccesses() {
+        return false;
+    }
+
     /**
      * Save the state change when a value is added to a queue
      *
@@ -57,7 +57,25 @@ public final class OnDiskReadableKVState<K, V> extends ReadableKVStateBase<K, V>
             final long keyClassId,
             @Nullable final Codec<K> keyCodec,
             @NonNull final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> virtualMap) {
-        super(stateKey);
+        this(stateKey, keyClassId, keyCodec, virtualMap, UNBOUNDED);
+    }
+
+    /**
+     * Create a new instance with a bounded read cache
+     *
+     * @param stateKey
+     * @param keyClassId
+     * @param keyCodec
+     * @param virtualMap the backing merkle structure to use
+     * @param maxCachedReads the maximum number of values to cache, or {@link #UNBOUNDED}
+     */
+    public OnDiskReadableKVState(
+            String stateKey,
+            final long keyClassId,
+            @Nullable final Codec<K> keyCodec,
+            @NonNull final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> virtualMap,
+            final int maxCachedReads) {
+        super(stateKey, maxCachedReads);
         this.keyClassId = keyClassId;
         this.keyCodec = keyCodec;
         this.virtualMap = requireNonNull(virtualMap);
@@ -92,8 +110,18 @@ public final class OnDiskReadableKVState<K, V> extends ReadableKVStateBase<K, V>
         return size;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If this state is attached to a {@link com.swirlds.state.spi.PrefetchCache}, the value is fully read and
+     * offered to the cache, instead of only loading it into the data source's caches.
+     */
     @Override
     public void warm(@NonNull final K key) {
+        if (prefetchCache() != null) {
+            super.warm(key);
+            return;
+        }
         final var k = new OnDiskKey<>(keyClassId, keyCodec, key);
         virtualMap.warm(k);
     }
@@ -40,4 +40,22 @@ public interface KVChangeListener<K, V> {
      * @param key The key removed from the map
      */
     void mapDeleteChange(@NonNull K key);
+
+    /**
+     * Called when a key that was read, but not modified, is committed along with the modifications
+     * made since the last commit. Only called if {@link #wantsReadAccesses()} returns {@code true}.
+     *
+     * @param key The key read from the map
+     */
+    default void mapReadAccess(@NonNull K key) {}
+
+    /**
+     * Whether this listener wants to be told about keys that were read but not modified. Reporting reads
+     * means walking every key read since the last commit, so listeners must opt in.
+     *
+     * @return true if {@link #mapReadAccess(Object)} should be called on commit
+     */
+    default boolean wantsReadAccesses() {
+        return false;
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.state.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A concurrent cache of values read ahead of time for a single k/v state, typically by background threads warming
+ * up the state for the transactions of a round.
+ *
+ * <p>Readable states attached to this cache {@link #offer(Object, Object) offer} every value they read from their
+ * data source. Writable states attached to this cache {@link #getOrRead(Object, Function) look up} values here
+ * before going to their data source, and {@link #invalidate(Object) invalidate} every key they commit. An
+ * invalidated key is never cached again, so a value offered by a slow reader can never hide a newer committed
+ * value, no matter how the reader and the committing thread interleave.
+ *
+ * <p>Once {@link #close() closed}, the cache neither accepts nor returns values.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class PrefetchCache<K, V> {
+    /** Marks a key that was read and not found */
+    private static final Object NOT_FOUND = new Object();
+    /** Marks a key that was committed since the cache was created */
+    private static final Object INVALIDATED = new Object();
+
+    private final ConcurrentMap<K, Object> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean closed = false;
+
+    /**
+     * Offers a value that was just read from the data source.
+     *
+     * @param key the key
+     * @param value the value read, or {@code null} if there is no value for the key
+     */
+    public void offer(@NonNull final K key, @Nullable final V value) {
+        requireNonNull(key);
+        if (!closed) {
+            entries.putIfAbsent(key, value == null ? NOT_FOUND : value);
+        }
+    }
+
+    /**
+     * Returns the prefetched value for the given key if there is one, or else reads it with the given reader.
+     *
+     * @param key the key
+     * @param reader reads the value from the data source on a miss
+     * @return the value, possibly null
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V getOrRead(@NonNull final K key, @NonNull final Function<K, V> reader) {
+        requireNonNull(key);
+        final var entry = closed ? null : entries.get(key);
+        if (entry == null || entry == INVALIDATED) {
+            misses.increment();
+            return reader.apply(key);
+        }
+        hits.increment();
+        return entry == NOT_FOUND ? null : (V) entry;
+    }
+
+    /**
+     * Invalidates the given key, because a new value is about to be committed for it.
+     *
+     * @param key the key
+     */
+    public void invalidate(@NonNull final K key) {
+        requireNonNull(key);
+        if (!closed) {
+            entries.put(key, INVALIDATED);
+        }
+    }
+
+    /**
+     * Closes this cache and releases all prefetched values.
+     */
+    public void close() {
+        closed = true;
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of lookups answered from this cache.
+     *
+     * @return the number of hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to go to the data source.
+     *
+     * @return the number of misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+}
@@ -44,15 +44,44 @@ public abstract class ReadableKVStateBase<K, V> implements ReadableKVState<K, V>
 
     private final Set<K> unmodifiableReadKeys = Collections.unmodifiableSet(readCache.keySet());
 
+    /**
+     * The maximum number of entries kept in {@link #readCache}, or {@link #UNBOUNDED} if every read is cached. Once
+     * the limit is reached, values are still read through from the data source but no longer cached.
+     */
+    private final int maxCachedReads;
+
+    /** If set, the cache of prefetched values this state shares with other readers of the same data source */
+    @Nullable
+    private volatile PrefetchCache<K, V> prefetchCache;
+
     private static final Object marker = new Object();
 
+    /** Value of {@code maxCachedReads} meaning that all reads are cached */
+    public static final int UNBOUNDED = -1;
+
     /**
      * Create a new StateBase.
      *
      * @param stateKey The state key. Cannot be null.
      */
     protected ReadableKVStateBase(@NonNull String stateKey) {
+        this(stateKey, UNBOUNDED);
+    }
+
+    /**
+     * Create a new StateBase with a read cache bounded to the given number of entries. A bounded cache is only
+     * suitable for states that are never used to validate read keys, such as readable states of an immutable
+     * state shared by many threads; after the bound is reached, {@link #readKeys()} is no longer complete.
+     *
+     * @param stateKey The state key. Cannot be null.
+     * @param maxCachedReads The maximum number of cached reads, or {@link #UNBOUNDED}
+     */
+    protected ReadableKVStateBase(@NonNull String stateKey, final int maxCachedReads) {
         this.stateKey = Objects.requireNonNull(stateKey);
+        if (maxCachedReads < 0 && maxCachedReads != UNBOUNDED) {
+            throw new IllegalArgumentException("maxCachedReads must be non-negative or UNBOUNDED");
+        }
+        this.maxCachedReads = maxCachedReads;
     }
 
     /** {@inheritDoc} */
@@ -69,12 +98,67 @@ public abstract class ReadableKVStateBase<K, V> implements ReadableKVState<K, V>
         // We need to cache the item because somebody may perform business logic basic on this
         // contains call, even if they never need the value itself!
         Objects.requireNonNull(key);
-        if (!hasBeenRead(key)) {
-            final var value = readFromDataSource(key);
-            markRead(key, value);
+        final var cached = readCache.get(key);
+        if (cached != null) {
+            return (cached == marker) ? null : cached;
+        }
+        final var value = readThroughPrefetchCache(key);
+        markRead(key, value);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If this readable state is attached to a {@link PrefetchCache}, the value is read and offered to the cache.
+     */
+    @Override
+    public void warm(@NonNull final K key) {
+        if (prefetchCache != null && !consumesPrefetchedValues()) {
+            get(key);
         }
-        final var value = readCache.get(key);
-        return (value == marker) ? null : value;
+    }
+
+    /**
+     * Attaches this state to a {@link PrefetchCache}, or detaches it if {@code null}. A readable state offers all
+     * values it reads from its data source to the cache; a {@link WritableKVStateBase} instead looks up values in
+     * the cache before reading from its data source.
+     *
+     * @param prefetchCache the cache to attach to, or {@code null}
+     */
+    public void setPrefetchCache(@Nullable final PrefetchCache<K, V> prefetchCache) {
+        this.prefetchCache = prefetchCache;
+    }
+
+    /**
+     * Gets the {@link PrefetchCache} this state is attached to, if any.
+     *
+     * @return the prefetch cache, or {@code null}
+     */
+    @Nullable
+    protected final PrefetchCache<K, V> prefetchCache() {
+        return prefetchCache;
+    }
+
+    /**
+     * Whether this state looks up values in its {@link PrefetchCache} rather than offering values to it.
+     *
+     * @return true if this state consumes prefetched values
+     */
+    protected boolean consumesPrefetchedValues() {
+        return false;
+    }
+
+    private V readThroughPrefetchCache(@NonNull final K key) {
+        final var cache = prefetchCache;
+        if (cache == null) {
+            return readFromDataSource(key);
+        } else if (consumesPrefetchedValues()) {
+            return cache.getOrRead(key, this::readFromDataSource);
+        }
+        final var value = readFromDataSource(key);
+        cache.offer(key, value);
+        return value;
     }
 
     /**
@@ -126,6 +210,9 @@ public abstract class ReadableKVStateBase<K, V> implements ReadableKVState<K, V>
      * @param value The value
      */
     protected final void markRead(@NonNull K key, @Nullable V value) {
+        if (maxCachedReads != UNBOUNDED && readCache.size() >= maxCachedReads) {
+            return;
+        }
         if (value == null) {
             readCache.put(key, (V) marker);
         } else {
@@ -60,11 +60,27 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
      * Flushes all changes into the underlying data store. This method should <strong>ONLY</strong>
      * be called by the code that created the {@link WritableKVStateBase} instance or owns it. Don't
      * cast and commit unless you own the instance!
+     *
+     * <p>Before the modifications are flushed, listeners that {@link KVChangeListener#wantsReadAccesses() opt in}
+     * are told about every key that was read but not modified since the last commit. When no listener opts in,
+     * the read keys are not walked at all.
      */
     public void commit() {
+        final var readListeners = readAccessListeners();
+        if (!readListeners.isEmpty()) {
+            for (final var key : readKeys()) {
+                if (!modifications.containsKey(key)) {
+                    readListeners.forEach(listener -> listener.mapReadAccess(key));
+                }
+            }
+        }
+        final var cache = prefetchCache();
         for (final var entry : modifications.entrySet()) {
             final var key = entry.getKey();
             final var value = entry.getValue();
+            if (cache != null) {
+                cache.invalidate(key);
+            }
             if (value == null) {
                 removeFromDataSource(key);
                 listeners.forEach(listener -> listener.mapDeleteChange(key));
@@ -76,6 +92,19 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
         reset();
     }
 
+    private List<KVChangeListener<K, V>> readAccessListeners() {
+        List<KVChangeListener<K, V>> readListeners = List.of();
+        for (final var listener : listeners) {
+            if (listener.wantsReadAccesses()) {
+                if (readListeners.isEmpty()) {
+                    readListeners = new ArrayList<>(listeners.size());
+                }
+                readListeners.add(listener);
+            }
+        }
+        return readListeners;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -88,6 +117,16 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
         modifications.clear();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A writable state is the consumer of prefetched values, and invalidates every key it commits.
+     */
+    @Override
+    protected final boolean consumesPrefetchedValues() {
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     @Nullable
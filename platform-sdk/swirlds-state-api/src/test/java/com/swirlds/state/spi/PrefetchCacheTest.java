@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.state.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.swirlds.state.test.fixtures.MapReadableKVState;
+import com.swirlds.state.test.fixtures.MapWritableKVState;
+import com.swirlds.state.test.fixtures.StateTestBase;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrefetchCacheTest extends StateTestBase {
+
+    @Test
+    @DisplayName("Offered values are returned without reading the data source")
+    void offeredValuesAreHits() {
+        final var cache = new PrefetchCache<String, String>();
+        final var reads = new AtomicInteger();
+        cache.offer(A_KEY, APPLE);
+        cache.offer(UNKNOWN_KEY, null);
+
+        assertThat(cache.getOrRead(A_KEY, k -> read(reads, k))).isEqualTo(APPLE);
+        assertThat(cache.getOrRead(UNKNOWN_KEY, k -> read(reads, k))).isNull();
+        assertThat(reads.get()).isZero();
+        assertThat(cache.hits()).isEqualTo(2);
+        assertThat(cache.misses()).isZero();
+    }
+
+    @Test
+    @DisplayName("Invalidated keys are never cached again")
+    void invalidatedKeysAreMisses() {
+        final var cache = new PrefetchCache<String, String>();
+        final var reads = new AtomicInteger();
+        cache.offer(A_KEY, APPLE);
+        cache.invalidate(A_KEY);
+        cache.offer(A_KEY, APPLE);
+
+        assertThat(cache.getOrRead(A_KEY, k -> read(reads, k))).isEqualTo("read " + A_KEY);
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A closed cache neither accepts nor returns values")
+    void closedCacheIsInert() {
+        final var cache = new PrefetchCache<String, String>();
+        final var reads = new AtomicInteger();
+        cache.offer(A_KEY, APPLE);
+        cache.close();
+        cache.offer(B_KEY, BANANA);
+
+        assertThat(cache.getOrRead(A_KEY, k -> read(reads, k))).isEqualTo("read " + A_KEY);
+        assertThat(cache.getOrRead(B_KEY, k -> read(reads, k))).isEqualTo("read " + B_KEY);
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Readable states offer their reads and writable states consume and invalidate them")
+    void statesShareValuesThroughTheCache() {
+        final Map<String, String> backingMap = new HashMap<>();
+        backingMap.put(A_KEY, APPLE);
+        final var readable = new MapReadableKVState<>(FRUIT_STATE_KEY, backingMap);
+        final var writable = new MapWritableKVState<>(FRUIT_STATE_KEY, backingMap);
+        final var cache = new PrefetchCache<String, String>();
+        readable.setPrefetchCache(cache);
+        writable.setPrefetchCache(cache);
+
+        assertThat(readable.get(A_KEY)).isEqualTo(APPLE);
+        assertThat(writable.get(A_KEY)).isEqualTo(APPLE);
+        assertThat(cache.hits()).isEqualTo(1);
+
+        writable.put(A_KEY, ACAI);
+        writable.commit();
+        readable.reset();
+        assertThat(readable.get(A_KEY)).isEqualTo(ACAI);
+        assertThat(writable.get(A_KEY)).isEqualTo(ACAI);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    private static String read(final AtomicInteger reads, final String key) {
+        reads.incrementAndGet();
+        return "read " + key;
+    }
+}
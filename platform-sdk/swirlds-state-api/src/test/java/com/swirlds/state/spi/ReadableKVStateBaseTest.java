@@ -37,7 +37,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.swirlds.state.test.fixtures.MapReadableKVState;
 import com.swirlds.state.test.fixtures.StateTestBase;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -158,6 +160,34 @@ public class ReadableKVStateBaseTest extends StateTestBase {
         assertThat(state.readKeys()).hasSize(2);
     }
 
+    @Test
+    @DisplayName("A bounded read cache still returns values read after the bound is reached")
+    void testBoundedReadCache() {
+        final var bounded = new ReadableKVStateBase<String, String>(FRUIT_STATE_KEY, 2) {
+            @Override
+            protected String readFromDataSource(@NonNull final String key) {
+                return backingMap.get(key);
+            }
+
+            @NonNull
+            @Override
+            protected Iterator<String> iterateFromDataSource() {
+                return backingMap.keySet().iterator();
+            }
+
+            @Override
+            public long size() {
+                return backingMap.size();
+            }
+        };
+
+        assertThat(bounded.get(A_KEY)).isEqualTo(APPLE);
+        assertThat(bounded.get(UNKNOWN_KEY)).isNull();
+        assertThat(bounded.get(C_KEY)).isEqualTo(CHERRY);
+        assertThat(bounded.get(C_KEY)).isEqualTo(CHERRY);
+        assertThat(bounded.readKeys()).containsExactlyInAnyOrder(A_KEY, UNKNOWN_KEY);
+    }
+
     @Test
     @DisplayName("Can iterate over all fruit")
     void testIteration() {
@@ -20,7 +20,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.swirlds.state.test.fixtures.MapWritableKVState;
@@ -137,6 +139,45 @@ public class WritableKVStateBaseTest extends ReadableKVStateBaseTest {
             inOrder.verify(firstListener).mapDeleteChange("G");
             inOrder.verify(secondListener).mapDeleteChange("G");
         }
+
+        @Test
+        @DisplayName("all listeners that opt in are notified of keys read but not modified")
+        void allAreNotifiedOfUnmodifiedReads() {
+            given(firstListener.wantsReadAccesses()).willReturn(true);
+            given(secondListener.wantsReadAccesses()).willReturn(true);
+            state.get("A");
+            state.getForModify("B");
+            state.put("B", "Blackberry");
+            state.commit();
+
+            verify(firstListener).mapReadAccess("A");
+            verify(secondListener).mapReadAccess("A");
+            verify(firstListener, never()).mapReadAccess("B");
+            verify(secondListener, never()).mapReadAccess("B");
+            verify(firstListener).mapUpdateChange("B", "Blackberry");
+        }
+
+        @Test
+        @DisplayName("listeners that do not opt in are never told about reads")
+        void onlyOptedInListenersAreNotifiedOfReads() {
+            given(secondListener.wantsReadAccesses()).willReturn(true);
+            state.get("A");
+            state.commit();
+
+            verify(firstListener, never()).mapReadAccess(any());
+            verify(secondListener).mapReadAccess("A");
+        }
+
+        @Test
+        @DisplayName("read keys are not walked when no listener opts in")
+        void readKeysNotWalkedWithoutOptedInListener() {
+            state.get("A");
+            state.commit();
+
+            verify(state, never()).readKeys();
+            verify(firstListener, never()).mapReadAccess(any());
+            verify(secondListener, never()).mapReadAccess(any());
+        }
     }
 
     @Nested
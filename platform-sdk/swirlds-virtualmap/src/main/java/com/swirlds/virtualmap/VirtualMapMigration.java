@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
 
 /**
  * A utility for migrating data within a virtual map from one format to another.
@@ -195,4 +196,80 @@ public final class VirtualMapMigration {
             throw new InterruptedException(throwable.get().toString());
         }
     }
+
+    /**
+     * Extract all key-value pairs from a virtual map, splitting the leaf paths into {@code threadCount}
+     * contiguous ranges that are read concurrently. Unlike {@link #extractVirtualMapDataC}, each range has
+     * its own handler, obtained from {@code rangeHandlers} by range index before any reading starts, and that
+     * handler is called from a single thread in ascending path order. This lets callers keep per-range output
+     * without any synchronization, and keeps each reader on a contiguous region of the data source files.
+     *
+     * @param threadManager
+     * 		responsible for creating and managing threads
+     * @param source
+     * 		a virtual map to read from, will not be modified by this method
+     * @param rangeHandlers
+     * 		supplies the handler for each range index in {@code [0, threadCount)}
+     * @param threadCount
+     * 		the number of ranges, and of threads used for reading from the original map
+     * @param <K>
+     * 		the type of the key
+     * @param <V>
+     * 		the type of the value
+     */
+    public static <K extends VirtualKey, V extends VirtualValue> void extractVirtualMapDataByPathRange(
+            final ThreadManager threadManager,
+            final VirtualMap<K, V> source,
+            final IntFunction<InterruptableConsumer<Pair<K, V>>> rangeHandlers,
+            final int threadCount)
+            throws InterruptedException {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("threadCount must be positive");
+        }
+
+        final long firstLeafPath = source.getState().getFirstLeafPath();
+        final long lastLeafPath = source.getState().getLastLeafPath();
+        if (firstLeafPath == Path.INVALID_PATH || lastLeafPath == Path.INVALID_PATH) {
+            return;
+        }
+
+        final RecordAccessor<K, V> recordAccessor = source.getRoot().getRecords();
+        final long leafCount = lastLeafPath - firstLeafPath + 1;
+
+        final List<Thread> threads = new ArrayList<>(threadCount);
+        final AtomicReference<Throwable> throwable = new AtomicReference<>();
+
+        for (int rangeIndex = 0; rangeIndex < threadCount; rangeIndex++) {
+            final long firstPath = firstLeafPath + leafCount * rangeIndex / threadCount;
+            final long endPath = firstLeafPath + leafCount * (rangeIndex + 1) / threadCount;
+            final InterruptableConsumer<Pair<K, V>> handler = rangeHandlers.apply(rangeIndex);
+
+            threads.add(new ThreadConfiguration(threadManager)
+                    .setComponent(COMPONENT_NAME)
+                    .setThreadName("range-reader-" + rangeIndex)
+                    .setInterruptableRunnable(() -> {
+                        try {
+                            for (long path = firstPath; path < endPath; path++) {
+                                final VirtualLeafRecord<K, V> leafRecord = recordAccessor.findLeafRecord(path, false);
+                                handler.accept(Pair.of(leafRecord.getKey(), leafRecord.getValue()));
+                            }
+                        } catch (final Throwable t) {
+                            if (throwable.compareAndSet(null, t)) {
+                                threads.forEach(Thread::interrupt);
+                            }
+                        }
+                    })
+                    .build(false));
+        }
+
+        // Start the readers only once all are built, since a failing reader interrupts all of them
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        if (throwable.get() != null) {
+            throw new InterruptedException(throwable.get().toString());
+        }
+    }
 }
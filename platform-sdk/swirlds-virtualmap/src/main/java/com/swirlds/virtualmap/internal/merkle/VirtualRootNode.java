@@ -1615,7 +1615,14 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         reconnectHashingStarted.set(true);
     }
 
-    public void endLearnerReconnect() {
+    /**
+     * Ends the learner side of a reconnect of this map: waits for the reconnected tree to be hashed, if its hashing
+     * was started, and then prepares the map for use.
+     *
+     * @return whether the reconnected tree was hashed; if not, the map must not be used as a reconnected copy
+     */
+    public boolean endLearnerReconnect() {
+        final boolean hashed;
         try {
             logger.info(RECONNECT.getMarker(), "call reconnectIterator.close()");
             reconnectIterator.close();
@@ -1623,8 +1630,10 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 // Only block on future if the hashing thread is known to have been started.
                 logger.info(RECONNECT.getMarker(), "call setHashPrivate()");
                 setHashPrivate(reconnectHashingFuture.get());
+                hashed = true;
             } else {
                 logger.warn(RECONNECT.getMarker(), "virtual map hashing thread was never started");
+                hashed = false;
             }
             nodeRemover = null;
             originalMap = null;
@@ -1642,6 +1651,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
             throw new MerkleSynchronizationException(message, e);
         }
         logger.info(RECONNECT.getMarker(), "endLearnerReconnect() complete");
+        return hashed;
     }
 
     /**
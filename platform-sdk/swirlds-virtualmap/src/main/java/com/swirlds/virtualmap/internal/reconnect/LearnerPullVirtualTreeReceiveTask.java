@@ -110,6 +110,7 @@ public class LearnerPullVirtualTreeReceiveTask {
                 finished = senderIsFinished.get();
                 responseExpected = expectedResponses.get() > 0;
             }
+            view.allResponsesReceived();
             logger.debug(RECONNECT.getMarker(), "Learner receive done");
         } catch (final Exception ex) {
             throw new MerkleSynchronizationException("Exception in the learner's receiving task", ex);
@@ -29,6 +29,7 @@ import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.CompressedBatchInputStream;
 import com.swirlds.common.merkle.synchronization.task.ExpectedLesson;
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
@@ -106,6 +107,22 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     private boolean firstNodeResponse = true;
 
+    /**
+     * Set by the receiving task once all responses from the teacher were received.
+     */
+    private volatile boolean allResponsesReceived;
+
+    /**
+     * Set once all responses were received, and the reconnect of the learner's tree was ended after hashing it.
+     */
+    private volatile boolean reconnectComplete;
+
+    /**
+     * The stream decompressing responses from the teacher, or null if responses are not compressed. Released when
+     * this view is closed by the receiving task.
+     */
+    private CompressedBatchInputStream compressedIn;
+
     /**
      * Create a new {@link LearnerPullVirtualTreeView}.
      *
@@ -159,8 +176,15 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
         final CountDownLatch rootResponseReceived = new CountDownLatch(1);
         final AtomicLong expectedResponses = new AtomicLong(0);
 
+        final SerializableDataInputStream in;
+        if (learningSynchronizer.isAsyncStreamCompression()) {
+            compressedIn = new CompressedBatchInputStream(inputStream);
+            in = new SerializableDataInputStream(compressedIn);
+        } else {
+            in = inputStream;
+        }
         final LearnerPullVirtualTreeReceiveTask learnerReceiveTask = new LearnerPullVirtualTreeReceiveTask(
-                workGroup, inputStream, this, senderIsFinished, expectedResponses, rootResponseReceived);
+                workGroup, in, this, senderIsFinished, expectedResponses, rootResponseReceived);
         learnerReceiveTask.exec();
         reconstructedRoot.set(0L);
         assert traversalOrder != null;
@@ -335,8 +359,27 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     @Override
     public void close() {
+        if (compressedIn != null) {
+            compressedIn.close();
+        }
         nodeRemover.allNodesReceived();
-        root.endLearnerReconnect();
+        final boolean hashed = root.endLearnerReconnect();
+        reconnectComplete = allResponsesReceived && hashed;
+    }
+
+    /**
+     * Called by the receiving task when the teacher has sent responses to all requests.
+     */
+    void allResponsesReceived() {
+        allResponsesReceived = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReconnectComplete() {
+        return reconnectComplete;
     }
 
     /**
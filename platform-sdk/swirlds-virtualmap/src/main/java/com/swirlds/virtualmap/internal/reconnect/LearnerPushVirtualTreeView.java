@@ -117,6 +117,11 @@ public final class LearnerPushVirtualTreeView<K extends VirtualKey, V extends Vi
 
     private final ReconnectMapStats mapStats;
 
+    /**
+     * Set once all lessons were received, and the reconnect of the learner's tree was ended after hashing it.
+     */
+    private volatile boolean reconnectComplete;
+
     /**
      * Create a new {@link LearnerPushVirtualTreeView}.
      *
@@ -158,7 +163,12 @@ public final class LearnerPushVirtualTreeView<K extends VirtualKey, V extends Vi
             final MerkleDataOutputStream outputStream,
             final Queue<MerkleNode> rootsToReceive,
             final AtomicReference<Long> reconstructedRoot) {
-        in = new AsyncInputStream<>(inputStream, workGroup, () -> new Lesson<>(this), reconnectConfig);
+        in = new AsyncInputStream<>(
+                inputStream,
+                workGroup,
+                () -> new Lesson<>(this),
+                reconnectConfig,
+                learningSynchronizer.isAsyncStreamCompression());
         in.start();
         final AsyncOutputStream<QueryResponse> out = learningSynchronizer.buildOutputStream(workGroup, outputStream);
         out.start();
@@ -170,9 +180,18 @@ public final class LearnerPushVirtualTreeView<K extends VirtualKey, V extends Vi
 
     @Override
     public void abort() {
+        reconnectComplete = false;
         in.abort();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReconnectComplete() {
+        return reconnectComplete;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -299,10 +318,13 @@ public final class LearnerPushVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     @Override
     public void close() {
+        // The view is closed even if the learner thread failed, in which case lessons are still expected
+        final boolean allLessonsReceived = !hasNextExpectedLesson();
         logger.info(RECONNECT.getMarker(), "call nodeRemover.allNodesReceived()");
         nodeRemover.allNodesReceived();
         logger.info(RECONNECT.getMarker(), "call root.endLearnerReconnect()");
-        root.endLearnerReconnect();
+        final boolean hashed = root.endLearnerReconnect();
+        reconnectComplete = allLessonsReceived && hashed;
         logger.info(RECONNECT.getMarker(), "close() complete");
     }
 
@@ -20,6 +20,7 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import java.io.IOException;
 
 /**
@@ -32,7 +33,7 @@ import java.io.IOException;
  * com.swirlds.virtualmap.datasource.VirtualLeafRecord} for the node is included in the end of the
  * response.
  */
-@SuppressWarnings("rawtypes")
+@SuppressWarnings({"rawtypes", "unchecked"})
 public class PullVirtualTreeResponse implements SelfSerializable {
 
     private static final long CLASS_ID = 0xecfbef49a90334e3L;
@@ -56,12 +57,20 @@ public class PullVirtualTreeResponse implements SelfSerializable {
 
     private Hash teacherHash;
 
+    // Only used on the teacher side. If true, the leaf record to send, if any, was loaded when
+    // the response was created, and the response doesn't need to load anything when serialized
+    private final boolean leafRecordLoaded;
+
+    private final VirtualLeafRecord leafRecord;
+
     /**
      * Zero-arg constructor for constructable registry.
      */
     public PullVirtualTreeResponse() {
         teacherView = null;
         learnerView = null;
+        leafRecordLoaded = false;
+        leafRecord = null;
     }
 
     /**
@@ -79,6 +88,30 @@ public class PullVirtualTreeResponse implements SelfSerializable {
         assert learnerHash != null;
         this.teacherHash = teacherHash;
         // teacherHash may be null (in case the tree is empty)
+        this.leafRecordLoaded = false;
+        this.leafRecord = null;
+    }
+
+    /**
+     * This constructor is used by the teacher to create new responses with a preloaded leaf record.
+     *
+     * @param leafRecord the leaf record to send, as returned by {@link TeacherPullVirtualTreeView#loadLeafRecord},
+     *                   or null if no leaf record is sent for the path
+     */
+    public PullVirtualTreeResponse(
+            final TeacherPullVirtualTreeView teacherView,
+            final long path,
+            final Hash learnerHash,
+            final Hash teacherHash,
+            final VirtualLeafRecord leafRecord) {
+        this.teacherView = teacherView;
+        this.learnerView = null;
+        this.path = path;
+        this.learnerHash = learnerHash;
+        assert learnerHash != null;
+        this.teacherHash = teacherHash;
+        this.leafRecordLoaded = true;
+        this.leafRecord = leafRecord;
     }
 
     /**
@@ -90,6 +123,19 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     public PullVirtualTreeResponse(final LearnerPullVirtualTreeView learnerTreeView) {
         this.teacherView = null;
         this.learnerView = learnerTreeView;
+        this.leafRecordLoaded = false;
+        this.leafRecord = null;
+    }
+
+    /**
+     * Checks if a node is clean, i.e. whether the learner already has the teacher's node.
+     *
+     * @param learnerHash the node hash on the learner side
+     * @param teacherHash the node hash on the teacher side, may be null if the tree is empty
+     * @return true if the node is clean
+     */
+    static boolean isClean(final Hash learnerHash, final Hash teacherHash) {
+        return (teacherHash == null) || teacherHash.equals(learnerHash);
     }
 
     /**
@@ -99,9 +145,13 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     public void serialize(final SerializableDataOutputStream out) throws IOException {
         assert teacherView != null;
         out.writeLong(path);
-        final boolean isClean = (teacherHash == null) || teacherHash.equals(learnerHash);
+        final boolean isClean = isClean(learnerHash, teacherHash);
         out.write(isClean ? 0 : 1);
-        teacherView.writeNode(out, path, isClean);
+        if (leafRecordLoaded) {
+            teacherView.writeNode(out, path, isClean, leafRecord);
+        } else {
+            teacherView.writeNode(out, path, isClean);
+        }
     }
 
     /**
@@ -30,6 +30,8 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.common.utility.throttle.RateLimiter;
 import com.swirlds.virtualmap.internal.Path;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -39,6 +41,11 @@ import org.apache.logging.log4j.Logger;
  * streams serialize objects to the underlying output streams in a separate thread. This is
  * where the provided hash from the learner is compared with the corresponding hash on the
  * teacher.
+ *
+ * <p>Loading node hashes and leaf records from the teacher's data source may be spread across
+ * multiple load lanes, see {@link ReconnectConfig#pullTeacherLoadLanes()}. Requests are dealt
+ * to the lanes round-robin, and a separate task collects the loaded responses from the lanes in
+ * the same order, so the learner receives responses in exactly the order of its requests.
  */
 public class TeacherPullVirtualTreeReceiveTask {
 
@@ -46,6 +53,20 @@ public class TeacherPullVirtualTreeReceiveTask {
 
     private static final String NAME = "reconnect-teacher-receiver";
 
+    private static final String LANE_NAME = "reconnect-teacher-loader";
+
+    private static final String SENDER_NAME = "reconnect-teacher-sender";
+
+    /**
+     * Marks the end of requests in a lane's request queue.
+     */
+    private static final PullVirtualTreeRequest END_OF_REQUESTS = new PullVirtualTreeRequest();
+
+    /**
+     * Marks the end of responses in a lane's response queue.
+     */
+    private static final PullVirtualTreeResponse END_OF_RESPONSES = new PullVirtualTreeResponse();
+
     private final StandardWorkGroup workGroup;
     private final SerializableDataInputStream in;
     private final AsyncOutputStream<PullVirtualTreeResponse> out;
@@ -54,6 +75,11 @@ public class TeacherPullVirtualTreeReceiveTask {
     private final RateLimiter rateLimiter;
     private final int sleepNanos;
 
+    /**
+     * Load lanes, or null if all nodes are loaded on the receiving thread.
+     */
+    private final LoadLane[] lanes;
+
     /**
      * Create new thread that will send data lessons and queries for a subtree.
      *
@@ -84,13 +110,32 @@ public class TeacherPullVirtualTreeReceiveTask {
             rateLimiter = null;
             sleepNanos = -1;
         }
+
+        final int numLanes = reconnectConfig.pullTeacherLoadLanes();
+        if (numLanes > 1) {
+            final int laneCapacity = Math.max(1, reconnectConfig.asyncStreamBufferSize() / numLanes);
+            lanes = new LoadLane[numLanes];
+            for (int i = 0; i < numLanes; i++) {
+                lanes[i] = new LoadLane(laneCapacity);
+            }
+        } else {
+            lanes = null;
+        }
     }
 
     /**
      * Start the thread that sends lessons and queries to the learner.
      */
     void exec() {
-        workGroup.execute(NAME, this::run);
+        if (lanes == null) {
+            workGroup.execute(NAME, this::run);
+        } else {
+            for (final LoadLane lane : lanes) {
+                workGroup.execute(LANE_NAME, lane::run);
+            }
+            workGroup.execute(SENDER_NAME, this::sendLaneResponses);
+            workGroup.execute(NAME, this::dispatchToLanes);
+        }
     }
 
     /**
@@ -106,6 +151,48 @@ public class TeacherPullVirtualTreeReceiveTask {
         }
     }
 
+    /**
+     * Read the next request from the learner.
+     *
+     * @return the request, or null if the learner has no more requests
+     * @throws Exception if an I/O error occurs
+     */
+    private PullVirtualTreeRequest readRequest() throws Exception {
+        final PullVirtualTreeRequest request = new PullVirtualTreeRequest();
+        request.deserialize(in, 0);
+        logger.debug(RECONNECT.getMarker(), "Teacher receive path: " + request.getPath());
+        if (request.getPath() == Path.INVALID_PATH) {
+            logger.info(RECONNECT.getMarker(), "Teacher receiver is complete as requested by the learner");
+            return null;
+        }
+        return request;
+    }
+
+    /**
+     * Load the teacher's side of a response to the given request.
+     *
+     * @param request the learner request
+     * @param preloadLeaf if true, the leaf record to send, if any, is loaded now rather than
+     *                    when the response is serialized
+     * @return the response
+     * @throws MerkleSerializationException if the request path is invalid
+     */
+    private PullVirtualTreeResponse loadResponse(final PullVirtualTreeRequest request, final boolean preloadLeaf)
+            throws MerkleSerializationException {
+        final long path = request.getPath();
+        final Hash learnerHash = request.getHash();
+        final Hash teacherHash = view.loadHash(path);
+        // The only valid scenario, when teacherHash may be null, is the empty tree
+        if ((teacherHash == null) && (path != 0)) {
+            throw new MerkleSerializationException("Cannot load node hash (bad request from learner?), path = " + path);
+        }
+        if (!preloadLeaf) {
+            return new PullVirtualTreeResponse(view, path, learnerHash, teacherHash);
+        }
+        final boolean isClean = PullVirtualTreeResponse.isClean(learnerHash, teacherHash);
+        return new PullVirtualTreeResponse(view, path, learnerHash, teacherHash, view.loadLeafRecord(path, isClean));
+    }
+
     /**
      * This thread is responsible for sending lessons (and nested queries) to the learner.
      */
@@ -113,23 +200,11 @@ public class TeacherPullVirtualTreeReceiveTask {
         try (out) {
             while (true) {
                 rateLimit();
-                final PullVirtualTreeRequest request = new PullVirtualTreeRequest();
-                request.deserialize(in, 0);
-                logger.debug(RECONNECT.getMarker(), "Teacher receive path: " + request.getPath());
-                if (request.getPath() == Path.INVALID_PATH) {
-                    logger.info(RECONNECT.getMarker(), "Teacher receiver is complete as requested by the learner");
+                final PullVirtualTreeRequest request = readRequest();
+                if (request == null) {
                     break;
                 }
-                final long path = request.getPath();
-                final Hash learnerHash = request.getHash();
-                final Hash teacherHash = view.loadHash(path);
-                // The only valid scenario, when teacherHash may be null, is the empty tree
-                if ((teacherHash == null) && (path != 0)) {
-                    throw new MerkleSerializationException(
-                            "Cannot load node hash (bad request from learner?), path = " + path);
-                }
-                final PullVirtualTreeResponse response =
-                        new PullVirtualTreeResponse(view, path, learnerHash, teacherHash);
+                final PullVirtualTreeResponse response = loadResponse(request, false);
                 // All real work is done in the async output thread. This call just registers a response
                 // and returns immediately
                 out.sendAsync(response);
@@ -142,4 +217,90 @@ public class TeacherPullVirtualTreeReceiveTask {
             throw new MerkleSynchronizationException("Exception in the teacher's receiving task", ex);
         }
     }
+
+    /**
+     * This thread reads requests from the learner and deals them to the load lanes round-robin.
+     */
+    private void dispatchToLanes() {
+        try {
+            int lane = 0;
+            while (true) {
+                rateLimit();
+                final PullVirtualTreeRequest request = readRequest();
+                if (request == null) {
+                    break;
+                }
+                lanes[lane].requests.put(request);
+                lane = (lane + 1) % lanes.length;
+            }
+            for (final LoadLane loadLane : lanes) {
+                loadLane.requests.put(END_OF_REQUESTS);
+            }
+            logger.debug(RECONNECT.getMarker(), "Teacher receive done");
+        } catch (final InterruptedException ex) {
+            logger.warn(RECONNECT.getMarker(), "Teacher's receiving task is interrupted");
+            Thread.currentThread().interrupt();
+        } catch (final Exception ex) {
+            throw new MerkleSynchronizationException("Exception in the teacher's receiving task", ex);
+        }
+    }
+
+    /**
+     * This thread collects loaded responses from the load lanes, in the order the requests were
+     * dealt to them, and registers them with the async output stream.
+     */
+    private void sendLaneResponses() {
+        try (out) {
+            int lane = 0;
+            while (true) {
+                final PullVirtualTreeResponse response = lanes[lane].responses.take();
+                if (response == END_OF_RESPONSES) {
+                    // Requests are dealt round-robin, so all other lanes are at their end, too
+                    break;
+                }
+                out.sendAsync(response);
+                lane = (lane + 1) % lanes.length;
+            }
+            logger.debug(RECONNECT.getMarker(), "Teacher send done");
+        } catch (final InterruptedException ex) {
+            logger.warn(RECONNECT.getMarker(), "Teacher's sending task is interrupted");
+            Thread.currentThread().interrupt();
+        } catch (final Exception ex) {
+            throw new MerkleSynchronizationException("Exception in the teacher's sending task", ex);
+        }
+    }
+
+    /**
+     * A load lane. Loads responses for the requests in its request queue, and puts them to its
+     * response queue in the same order. Both queues are bounded, so a lane that falls behind
+     * eventually blocks the dispatching of further requests.
+     */
+    private final class LoadLane {
+
+        private final BlockingQueue<PullVirtualTreeRequest> requests;
+        private final BlockingQueue<PullVirtualTreeResponse> responses;
+
+        LoadLane(final int capacity) {
+            requests = new ArrayBlockingQueue<>(capacity);
+            responses = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void run() {
+            try {
+                while (true) {
+                    final PullVirtualTreeRequest request = requests.take();
+                    if (request == END_OF_REQUESTS) {
+                        responses.put(END_OF_RESPONSES);
+                        break;
+                    }
+                    responses.put(loadResponse(request, true));
+                }
+            } catch (final InterruptedException ex) {
+                logger.warn(RECONNECT.getMarker(), "Teacher's loading task is interrupted");
+                Thread.currentThread().interrupt();
+            } catch (final Exception ex) {
+                throw new MerkleSynchronizationException("Exception in the teacher's loading task", ex);
+            }
+        }
+    }
 }
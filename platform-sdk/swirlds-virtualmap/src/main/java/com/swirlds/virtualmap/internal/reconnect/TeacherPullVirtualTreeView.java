@@ -23,10 +23,12 @@ import com.swirlds.base.time.Time;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.CompressedBatchInputStream;
 import com.swirlds.common.merkle.synchronization.task.TeacherSubtree;
 import com.swirlds.common.merkle.synchronization.views.TeacherTreeView;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
@@ -34,6 +36,7 @@ import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.RecordAccessor;
 import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
@@ -77,6 +80,12 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     private final CountDownLatch ready = new CountDownLatch(1);
 
+    /**
+     * The stream decompressing requests from the learner, or null if requests are not compressed. Released when
+     * this view is closed.
+     */
+    private CompressedBatchInputStream compressedIn;
+
     /**
      * Create a new {@link TeacherPullVirtualTreeView}.
      *
@@ -121,8 +130,15 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
                 teachingSynchronizer.buildOutputStream(workGroup, outputStream);
         out.start();
 
+        final SerializableDataInputStream in;
+        if (teachingSynchronizer.isAsyncStreamCompression()) {
+            compressedIn = new CompressedBatchInputStream(inputStream);
+            in = new SerializableDataInputStream(compressedIn);
+        } else {
+            in = inputStream;
+        }
         final TeacherPullVirtualTreeReceiveTask teacherReceiveTask =
-                new TeacherPullVirtualTreeReceiveTask(time, reconnectConfig, workGroup, inputStream, out, this);
+                new TeacherPullVirtualTreeReceiveTask(time, reconnectConfig, workGroup, in, out, this);
         teacherReceiveTask.exec();
     }
 
@@ -151,11 +167,54 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
             out.writeLong(reconnectState.getFirstLeafPath());
             out.writeLong(reconnectState.getLastLeafPath());
         }
-        if (!isClean && isLeaf(path) && (reconnectState.getFirstLeafPath() > 0)) {
+        if (isLeafRecordSent(path, isClean)) {
             out.writeSerializable(records.findLeafRecord(path, false), false);
         }
     }
 
+    /**
+     * Writes the virtual node identified by a given path to the output stream, the same way as
+     * {@link #writeNode(SerializableDataOutputStream, long, boolean)} does, but with a leaf record
+     * loaded in advance by {@link #loadLeafRecord(long, boolean)}.
+     *
+     * @param out the output stream
+     * @param path the virtual path
+     * @param isClean indicates if the virtual node on the learner side matches what's on the teacher
+     * @param leafRecord the preloaded leaf record, or null if no leaf record is sent for the path
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeNode(
+            final SerializableDataOutputStream out,
+            final long path,
+            final boolean isClean,
+            final VirtualLeafRecord<K, V> leafRecord)
+            throws IOException {
+        checkValidNode(path, reconnectState);
+        if (path == 0) {
+            out.writeLong(reconnectState.getFirstLeafPath());
+            out.writeLong(reconnectState.getLastLeafPath());
+        }
+        if (isLeafRecordSent(path, isClean)) {
+            out.writeSerializable(leafRecord, false);
+        }
+    }
+
+    /**
+     * Loads the leaf record that is written for the virtual node identified by a given path, if any.
+     * This allows loading leaf records on a different thread than the one serializing them.
+     *
+     * @param path the virtual path
+     * @param isClean indicates if the virtual node on the learner side matches what's on the teacher
+     * @return the leaf record, or null if no leaf record is written for the node
+     */
+    public VirtualLeafRecord<K, V> loadLeafRecord(final long path, final boolean isClean) {
+        return isLeafRecordSent(path, isClean) ? records.findLeafRecord(path, false) : null;
+    }
+
+    private boolean isLeafRecordSent(final long path, final boolean isClean) {
+        return !isClean && isLeaf(path) && (reconnectState.getFirstLeafPath() > 0);
+    }
+
     /**
      * Read the virtual node hash identified by a given path.
      *
@@ -280,6 +339,9 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     @Override
     public void close() {
+        if (compressedIn != null) {
+            compressedIn.close();
+        }
         try {
             waitUntilReady();
             records.getDataSource().close();
@@ -184,8 +184,12 @@ public final class TeacherPushVirtualTreeView<K extends VirtualKey, V extends Vi
             final MerkleDataInputStream inputStream,
             final MerkleDataOutputStream outputStream,
             final Queue<TeacherSubtree> subtrees) {
-        final AsyncInputStream<QueryResponse> in =
-                new AsyncInputStream<>(inputStream, workGroup, QueryResponse::new, reconnectConfig);
+        final AsyncInputStream<QueryResponse> in = new AsyncInputStream<>(
+                inputStream,
+                workGroup,
+                QueryResponse::new,
+                reconnectConfig,
+                teachingSynchronizer.isAsyncStreamCompression());
         in.start();
         final AsyncOutputStream<Lesson<Long>> out = teachingSynchronizer.buildOutputStream(workGroup, outputStream);
         out.start();
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import com.swirlds.virtualmap.test.fixtures.VirtualMapTestUtils;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class VirtualMapMigrationTest {
+
+    private static final int SIZE = 97;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 8, SIZE, SIZE + 10})
+    @DisplayName("Each range handler gets exactly its contiguous range of leaf paths, in path order")
+    void extractByPathRangeSplitsLeavesIntoContiguousRanges(final int threadCount) throws InterruptedException {
+        final VirtualMap<TestKey, TestValue> map = VirtualMapTestUtils.createMap("extractByPathRange");
+        for (int i = 0; i < SIZE; i++) {
+            map.put(new TestKey(i), new TestValue(i));
+        }
+        final VirtualMap<TestKey, TestValue> copy = map.copy();
+        try {
+            final long firstLeafPath = map.getState().getFirstLeafPath();
+            final long lastLeafPath = map.getState().getLastLeafPath();
+            final long leafCount = lastLeafPath - firstLeafPath + 1;
+            assertEquals(SIZE, leafCount, "Every entry should be a leaf");
+
+            final List<List<TestKey>> extracted = new ArrayList<>();
+            final List<Integer> requestedRanges = new ArrayList<>();
+            VirtualMapMigration.extractVirtualMapDataByPathRange(
+                    getStaticThreadManager(),
+                    map,
+                    rangeIndex -> {
+                        requestedRanges.add(rangeIndex);
+                        final List<TestKey> keys = new ArrayList<>();
+                        extracted.add(keys);
+                        return pair -> {
+                            assertEquals(
+                                    map.get(pair.key()).value(), pair.value().value(), "Key and value do not match");
+                            keys.add(pair.key());
+                        };
+                    },
+                    threadCount);
+
+            assertEquals(threadCount, requestedRanges.size(), "One handler per range");
+            final Set<TestKey> seen = new HashSet<>();
+            int largest = 0;
+            int smallest = Integer.MAX_VALUE;
+            for (int rangeIndex = 0; rangeIndex < threadCount; rangeIndex++) {
+                assertEquals(rangeIndex, requestedRanges.get(rangeIndex), "Handlers are requested by range index");
+                final long firstPath = firstLeafPath + leafCount * rangeIndex / threadCount;
+                final long endPath = firstLeafPath + leafCount * (rangeIndex + 1) / threadCount;
+                final List<TestKey> expected = new ArrayList<>();
+                for (long path = firstPath; path < endPath; path++) {
+                    expected.add(map.getRoot().getRecords().findLeafRecord(path, false).getKey());
+                }
+                final List<TestKey> actual = extracted.get(rangeIndex);
+                assertEquals(expected, actual, "Range " + rangeIndex + " should hold exactly its paths, in order");
+                actual.forEach(key -> assertTrue(seen.add(key), "Key " + key + " extracted twice"));
+                largest = Math.max(largest, actual.size());
+                smallest = Math.min(smallest, actual.size());
+            }
+            assertEquals(SIZE, seen.size(), "Every leaf should be extracted");
+            assertTrue(largest - smallest <= 1, "Ranges should differ in size by at most one leaf");
+        } finally {
+            map.release();
+            copy.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Extracting an empty map requests no handlers")
+    void extractByPathRangeOfEmptyMap() throws InterruptedException {
+        final VirtualMap<TestKey, TestValue> map = VirtualMapTestUtils.createMap("extractByPathRangeEmpty");
+        try {
+            VirtualMapMigration.extractVirtualMapDataByPathRange(
+                    getStaticThreadManager(),
+                    map,
+                    rangeIndex -> {
+                        fail("No handler should be requested for an empty map");
+                        return null;
+                    },
+                    4);
+        } finally {
+            map.release();
+        }
+    }
+
+    @Test
+    @DisplayName("A failing handler fails the extraction")
+    void extractByPathRangeRethrowsHandlerFailure() {
+        final VirtualMap<TestKey, TestValue> map = VirtualMapTestUtils.createMap("extractByPathRangeFailure");
+        for (int i = 0; i < SIZE; i++) {
+            map.put(new TestKey(i), new TestValue(i));
+        }
+        try {
+            assertThrows(
+                    InterruptedException.class,
+                    () -> VirtualMapMigration.extractVirtualMapDataByPathRange(
+                            getStaticThreadManager(),
+                            map,
+                            rangeIndex -> pair -> {
+                                if (rangeIndex == 1) {
+                                    throw new IllegalStateException("intentional failure");
+                                }
+                            },
+                            3),
+                    "A handler failure should be rethrown");
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> VirtualMapMigration.extractVirtualMapDataByPathRange(
+                            getStaticThreadManager(), map, rangeIndex -> pair -> {}, 0),
+                    "The thread count must be positive");
+        } finally {
+            map.release();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.exceptions.MerkleSerializationException;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig_;
+import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.internal.Path;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TeacherPullVirtualTreeReceiveTaskTest {
+
+    private static final int REQUEST_COUNT = 40;
+
+    private final TeacherPullVirtualTreeView<?, ?> view = mock(TeacherPullVirtualTreeView.class);
+
+    @SuppressWarnings("unchecked")
+    private final AsyncOutputStream<PullVirtualTreeResponse> out = mock(AsyncOutputStream.class);
+
+    private final List<Long> sentPaths = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final StandardWorkGroup workGroup =
+            new StandardWorkGroup(getStaticThreadManager(), "test-teacher-receive", null, ex -> {
+                failure.compareAndSet(null, ex);
+                return true;
+            });
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4})
+    @DisplayName("Responses are sent in request order")
+    void responsesAreSentInRequestOrder(final int lanes) throws Exception {
+        when(view.loadHash(anyLong())).thenAnswer(invocation -> hash(invocation.<Long>getArgument(0)));
+        recordSentPaths();
+
+        runTask(lanes);
+
+        assertFalse(workGroup.hasExceptions(), "No task should fail");
+        assertEquals(allRequestedPaths(), sentPaths, "Responses must be sent in request order");
+        verify(out).close();
+    }
+
+    @Test
+    @DisplayName("Responses loaded out of order are sent in request order")
+    void outOfOrderLoadsAreSentInRequestOrder() throws Exception {
+        final CountDownLatch laterLoaded = new CountDownLatch(1);
+        final List<Long> loadedPaths = Collections.synchronizedList(new ArrayList<>());
+        when(view.loadHash(anyLong())).thenAnswer(invocation -> {
+            final long path = invocation.<Long>getArgument(0);
+            if (path == 0) {
+                // The first lane only completes its first load after the fourth lane completed its first one
+                assertTrue(laterLoaded.await(10, SECONDS), "Path 3 should be loaded while path 0 is pending");
+            }
+            loadedPaths.add(path);
+            if (path == 3) {
+                laterLoaded.countDown();
+            }
+            return hash(path);
+        });
+        recordSentPaths();
+
+        runTask(4);
+
+        assertFalse(workGroup.hasExceptions(), "No task should fail");
+        assertTrue(
+                loadedPaths.indexOf(3L) < loadedPaths.indexOf(0L), "Path 3 should have been loaded before path 0");
+        assertEquals(allRequestedPaths(), sentPaths, "Responses must be sent in request order");
+        verify(out).close();
+    }
+
+    @Test
+    @DisplayName("A failing lane fails the work group and stops sending")
+    void failingLaneIsPropagated() throws Exception {
+        final long badPath = 5;
+        // A missing teacher hash for a non-root path is a bad request from the learner
+        when(view.loadHash(anyLong()))
+                .thenAnswer(invocation -> invocation.<Long>getArgument(0) == badPath
+                        ? null
+                        : hash(invocation.<Long>getArgument(0)));
+        recordSentPaths();
+
+        runTask(4);
+
+        assertTrue(workGroup.hasExceptions(), "The failing lane should be reported to the work group");
+        Throwable cause = failure.get();
+        while (cause != null && !(cause instanceof MerkleSerializationException)) {
+            cause = cause.getCause();
+        }
+        assertTrue(cause != null, "The lane's failure should be the cause of the reported exception");
+        assertTrue(sentPaths.size() <= badPath, "Nothing at or after the failed path may be sent");
+        assertEquals(LongStream.range(0, sentPaths.size()).boxed().toList(), sentPaths, "Sent responses in order");
+        verify(out).close();
+    }
+
+    private void recordSentPaths() throws InterruptedException {
+        doAnswer(invocation -> {
+                    sentPaths.add(invocation.<PullVirtualTreeResponse>getArgument(0).getPath());
+                    return null;
+                })
+                .when(out)
+                .sendAsync(any());
+    }
+
+    private void runTask(final int lanes) throws IOException, InterruptedException {
+        final ReconnectConfig reconnectConfig = new TestConfigBuilder()
+                .withValue(ReconnectConfig_.PULL_TEACHER_LOAD_LANES, lanes)
+                .withValue(ReconnectConfig_.ASYNC_STREAM_BUFFER_SIZE, 400)
+                .getOrCreateConfig()
+                .getConfigData(ReconnectConfig.class);
+        final TeacherPullVirtualTreeReceiveTask task = new TeacherPullVirtualTreeReceiveTask(
+                Time.getCurrent(), reconnectConfig, workGroup, learnerRequests(), out, view);
+        task.exec();
+        workGroup.waitForTermination();
+    }
+
+    private static SerializableDataInputStream learnerRequests() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream requests = new SerializableDataOutputStream(bytes)) {
+            for (final long path : allRequestedPaths()) {
+                new PullVirtualTreeRequest(path, hash(path)).serialize(requests);
+            }
+            new PullVirtualTreeRequest(Path.INVALID_PATH, null).serialize(requests);
+        }
+        return new SerializableDataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    private static List<Long> allRequestedPaths() {
+        return LongStream.range(0, REQUEST_COUNT).boxed().toList();
+    }
+
+    private static Hash hash(final long path) {
+        final byte[] bytes = new byte[DigestType.SHA_384.digestLength()];
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[i] = (byte) (path >>> (8 * i));
+        }
+        return new Hash(bytes, DigestType.SHA_384);
+    }
+}
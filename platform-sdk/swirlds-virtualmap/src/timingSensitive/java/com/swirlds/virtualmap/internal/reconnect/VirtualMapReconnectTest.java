@@ -18,16 +18,22 @@ package com.swirlds.virtualmap.internal.reconnect;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.ReconnectProgress;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
 import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
 import com.swirlds.virtualmap.VirtualMap;
 import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
 import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
 import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestKeySerializer;
 import com.swirlds.virtualmap.test.fixtures.TestValue;
+import com.swirlds.virtualmap.test.fixtures.TestValueSerializer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -245,6 +251,72 @@ class VirtualMapReconnectTest extends VirtualMapReconnectTestBase {
         assertDoesNotThrow(() -> reconnectMultipleTimes(5), "Should not throw a Exception");
     }
 
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("A map aborted mid-stream is not reused, a completed map is, and the next attempt succeeds")
+    void abortedReconnectOnlyRetainsCompletedMaps() throws Exception {
+        for (int i = 0; i < 1_000; i++) {
+            teacherMap.put(new TestKey(i), new TestValue(i));
+        }
+        for (int i = 500; i < 1_500; i++) {
+            learnerMap.put(new TestKey(i), new TestValue(i));
+        }
+        // The learner's map breaks half way through the first attempt
+        learnerBuilder.setNumCallsBeforeThrow(500);
+        learnerBuilder.setNumTimesToBreak(1);
+
+        // Another map, received before the broken one, that always completes
+        final VirtualMap<TestKey, TestValue> teacherOtherMap = new VirtualMap<>(
+                "TeacherOther", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, createBuilder());
+        final VirtualMap<TestKey, TestValue> learnerOtherMap = new VirtualMap<>(
+                "LearnerOther", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, createBuilder());
+        for (int i = 0; i < 100; i++) {
+            teacherOtherMap.put(new TestKey(i), new TestValue(i + 1));
+            learnerOtherMap.put(new TestKey(i), new TestValue(i));
+        }
+
+        final MerkleInternal teacherTree = createTreeForMap(teacherMap);
+        teacherTree.getChild(1).asInternal().setChild(2, teacherOtherMap);
+        final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
+        final VirtualMap<TestKey, TestValue> otherCopy = teacherOtherMap.copy();
+        final MerkleInternal learnerTree = createTreeForMap(learnerMap);
+        learnerTree.getChild(1).asInternal().setChild(2, learnerOtherMap);
+        final MerkleNode learnerOtherRoot = learnerOtherMap.getRight();
+
+        final ReconnectProgress progress = new ReconnectProgress();
+        try {
+            assertThrows(
+                    Exception.class,
+                    () -> MerkleTestUtils.hashAndTestSynchronization(
+                            learnerTree, teacherTree, reconnectConfig, progress),
+                    "The first attempt should fail");
+            assertEquals(1, progress.size(), "Only the completely received map should be retained");
+            assertNotNull(
+                    progress.getRetained(learnerOtherRoot.getRoute()), "The completed map should be retained");
+
+            final DummyMerkleInternal afterSyncLearnerTree =
+                    MerkleTestUtils.hashAndTestSynchronization(learnerTree, teacherTree, reconnectConfig, progress);
+            final DummyMerkleInternal node = afterSyncLearnerTree.getChild(1);
+            final VirtualMap<TestKey, TestValue> afterMap = node.getChild(3);
+            final VirtualMap<TestKey, TestValue> afterOtherMap = node.getChild(2);
+            for (int i = 0; i < 1_000; i++) {
+                assertEquals(new TestValue(i), afterMap.get(new TestKey(i)), "Wrong value after reconnect");
+            }
+            assertNull(afterMap.get(new TestKey(1_200)), "Learner-only keys should be gone after reconnect");
+            for (int i = 0; i < 100; i++) {
+                assertEquals(new TestValue(i + 1), afterOtherMap.get(new TestKey(i)), "Wrong value after reconnect");
+            }
+            assertEquals(0, progress.size(), "Retained maps should be released once reconnect succeeds");
+            afterSyncLearnerTree.release();
+        } finally {
+            progress.clear();
+            teacherTree.release();
+            learnerTree.release();
+            copy.release();
+            otherCopy.release();
+        }
+    }
+
     @Test
     @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
     void deleteAlreadyDeletedAccount() throws Exception {